@@ -0,0 +1,68 @@
+// Prueba de carga k6: alta de órdenes + consultas de estado.
+//
+// Uso:
+//   k6 run -e VUS=1000 load-test/payment-orders.js
+//   k6 run -e VUS=5000 -e DURATION=2m -e BASE_URL=http://localhost:8080 load-test/payment-orders.js
+//
+// Cada usuario virtual crea una orden y consulta su estado STATUS_READS veces, que es la
+// proporción lectura/escritura habitual del servicio. Comparar el resumen (http_reqs/s,
+// p(95), p(99) y tasa de 503) entre VIRTUAL_THREADS_ENABLED=false y =true.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const STATUS_READS = parseInt(__ENV.STATUS_READS || '4', 10);
+
+export const options = {
+  scenarios: {
+    clients: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: __ENV.RAMP_UP || '30s', target: parseInt(__ENV.VUS || '1000', 10) },
+        { duration: __ENV.DURATION || '1m', target: parseInt(__ENV.VUS || '1000', 10) },
+        { duration: '10s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    'http_req_failed{expected_response:true}': ['rate<0.01'],
+  },
+};
+
+function tomorrow() {
+  const date = new Date(Date.now() + 24 * 60 * 60 * 1000);
+  return date.toISOString().slice(0, 10);
+}
+
+export default function () {
+  const body = JSON.stringify({
+    externalReference: `EXT-${__VU}-${__ITER}`,
+    debtorAccount: { iban: 'EC123456789012345678' },
+    creditorAccount: { iban: 'EC987654321098765432' },
+    instructedAmount: { amount: 150.75, currency: 'USD' },
+    remittanceInformation: 'Factura 001-123',
+    requestedExecutionDate: tomorrow(),
+  });
+
+  const created = http.post(`${BASE_URL}/payment-initiation/payment-orders`, body, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { endpoint: 'initiate' },
+    responseCallback: http.expectedStatuses(201, 503),
+  });
+  check(created, { 'initiate 201': (r) => r.status === 201 });
+  if (created.status !== 201) {
+    return;
+  }
+
+  const paymentOrderId = created.json('paymentOrderId');
+  for (let i = 0; i < STATUS_READS; i++) {
+    const status = http.get(`${BASE_URL}/payment-initiation/payment-orders/${paymentOrderId}/status`, {
+      tags: { endpoint: 'status' },
+      responseCallback: http.expectedStatuses(200, 503),
+    });
+    check(status, { 'status 200': (r) => r.status === 200 });
+  }
+}
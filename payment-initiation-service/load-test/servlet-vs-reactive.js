@@ -0,0 +1,112 @@
+// Prueba de carga k6: modo servlet (Tomcat + JDBC) frente a modo reactivo (Netty + R2DBC).
+//
+// Uso (dos instancias arrancadas a la vez, una por modo):
+//   ./gradlew bootRun
+//   SERVER_PORT=8081 SPRING_PROFILES_ACTIVE=reactive PAYMENT_NODE_ID=1 ./gradlew bootRun
+//   k6 run -e VUS=1000 load-test/servlet-vs-reactive.js
+//   k6 run -e VUS=5000 -e SERVLET_URL=http://host-a:8080 -e REACTIVE_URL=http://host-b:8080 load-test/servlet-vs-reactive.js
+//
+// Los dos escenarios se ejecutan uno detrás de otro con la misma carga (alta, consulta de la orden
+// y consultas de estado) y cada petición lleva la etiqueta mode. El resumen muestra http_reqs,
+// http_req_duration p95/p99 y la tasa de errores de cada modo por separado.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const TARGETS = {
+  servlet: __ENV.SERVLET_URL || 'http://localhost:8080',
+  reactive: __ENV.REACTIVE_URL || 'http://localhost:8081',
+};
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const RAMP_UP = __ENV.RAMP_UP || '30s';
+const DURATION = __ENV.DURATION || '1m';
+const STATUS_READS = parseInt(__ENV.STATUS_READS || '4', 10);
+
+// Duración total de un escenario, para arrancar el segundo cuando termina el primero
+const SCENARIO_LENGTH = `${seconds(RAMP_UP) + seconds(DURATION) + 20}s`;
+
+function seconds(duration) {
+  const match = /^(\d+)(s|m)$/.exec(duration);
+  return parseInt(match[1], 10) * (match[2] === 'm' ? 60 : 1);
+}
+
+function scenario(mode, startTime) {
+  return {
+    executor: 'ramping-vus',
+    exec: mode,
+    startTime,
+    startVUs: 0,
+    stages: [
+      { duration: RAMP_UP, target: VUS },
+      { duration: DURATION, target: VUS },
+      { duration: '10s', target: 0 },
+    ],
+    gracefulRampDown: '10s',
+    tags: { mode },
+  };
+}
+
+export const options = {
+  scenarios: {
+    servlet: scenario('servlet', '0s'),
+    reactive: scenario('reactive', SCENARIO_LENGTH),
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // Un umbral por modo para que el resumen desglose las métricas de cada uno
+  thresholds: {
+    'http_req_failed{mode:servlet}': ['rate<0.01'],
+    'http_req_failed{mode:reactive}': ['rate<0.01'],
+    'http_req_duration{mode:servlet}': ['p(99)>=0'],
+    'http_req_duration{mode:reactive}': ['p(99)>=0'],
+    'http_reqs{mode:servlet}': ['count>=0'],
+    'http_reqs{mode:reactive}': ['count>=0'],
+  },
+};
+
+function tomorrow() {
+  const date = new Date(Date.now() + 24 * 60 * 60 * 1000);
+  return date.toISOString().slice(0, 10);
+}
+
+function run(mode) {
+  const baseUrl = TARGETS[mode];
+  const body = JSON.stringify({
+    externalReference: `EXT-${mode}-${__VU}-${__ITER}`,
+    debtorAccount: { iban: 'EC123456789012345678' },
+    creditorAccount: { iban: 'EC987654321098765432' },
+    instructedAmount: { amount: 150.75, currency: 'USD' },
+    remittanceInformation: 'Factura 001-123',
+    requestedExecutionDate: tomorrow(),
+  });
+
+  const created = http.post(`${baseUrl}/payment-initiation/payment-orders`, body, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { endpoint: 'initiate' },
+    responseCallback: http.expectedStatuses(201, 503),
+  });
+  check(created, { 'initiate 201': (r) => r.status === 201 });
+  if (created.status !== 201) {
+    return;
+  }
+
+  const paymentOrderId = created.json('paymentOrderId');
+  const order = http.get(`${baseUrl}/payment-initiation/payment-orders/${paymentOrderId}`, {
+    tags: { endpoint: 'retrieve' },
+    responseCallback: http.expectedStatuses(200, 503),
+  });
+  check(order, { 'retrieve 200': (r) => r.status === 200 });
+  for (let i = 0; i < STATUS_READS; i++) {
+    const status = http.get(`${baseUrl}/payment-initiation/payment-orders/${paymentOrderId}/status`, {
+      tags: { endpoint: 'status' },
+      responseCallback: http.expectedStatuses(200, 503),
+    });
+    check(status, { 'status 200': (r) => r.status === 200 });
+  }
+}
+
+export function servlet() {
+  run('servlet');
+}
+
+export function reactive() {
+  run('reactive');
+}
@@ -0,0 +1,63 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.model.CreditorAccount;
+import com.bank.paymentinitiation.generated.model.DebtorAccount;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+
+/**
+ * Datos de prueba compartidos por los benchmarks.
+ * 
+ * <p>Reproduce el mismo payload que usan los tests y la colección de Postman,
+ * para que los números medidos correspondan al tráfico real del servicio.
+ */
+final class BenchmarkFixtures {
+
+    static final String REFERENCE = "PO-1234567890123456";
+
+    private BenchmarkFixtures() {
+    }
+
+    static InitiatePaymentOrderRequest request() {
+        InitiatePaymentOrderRequest request = new InitiatePaymentOrderRequest();
+        request.setExternalReference("EXT-1");
+        request.setDebtorAccount(new DebtorAccount("EC123456789012345678"));
+        request.setCreditorAccount(new CreditorAccount("EC987654321098765432"));
+        request.setInstructedAmount(new com.bank.paymentinitiation.generated.model.PaymentAmount(
+                new BigDecimal("150.75"),
+                com.bank.paymentinitiation.generated.model.PaymentAmount.CurrencyEnum.USD));
+        request.setRemittanceInformation("Factura 001-123");
+        request.setRequestedExecutionDate(LocalDate.now().plusDays(1));
+        return request;
+    }
+
+    static PaymentOrder newOrder(final String reference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-" + reference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+
+    static PaymentOrder initiatedOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        return newOrder(REFERENCE).toBuilder()
+                .status(PaymentStatus.INITIATED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank.paymentinitiation.PaymentInitiationServiceApplication;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+/**
+ * Benchmark end-to-end de la iniciación contra H2 en memoria.
+ * 
+ * <p>Levanta el contexto de Spring completo (sin servidor web) una vez por trial y mide:
+ * <ul>
+ *   <li>initiate: el caso de uso completo (initiate + validate + INSERT)</li>
+ *   <li>saveUpsert: el camino de persistencia previo (SELECT por referencia + merge + INSERT),
+ *       como referencia para comparar con el camino de solo inserción</li>
+ * </ul>
+ * 
+ * <p>Cada invocación usa una referencia distinta para no chocar con la restricción de unicidad.
+ */
+@State(Scope.Benchmark)
+public class InitiatePaymentOrderServiceBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong(1_000_000_000_000_000L);
+
+    private ConfigurableApplicationContext context;
+    private InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+    private PaymentOrderRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PaymentInitiationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.root=WARN")
+                .run();
+        initiatePaymentOrderUseCase = context.getBean(InitiatePaymentOrderUseCase.class);
+        repository = context.getBean(PaymentOrderRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaymentOrder initiate() {
+        return initiatePaymentOrderUseCase.initiate(
+                BenchmarkFixtures.newOrder("PO-" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public PaymentOrder saveUpsert() {
+        PaymentOrder order = BenchmarkFixtures.newOrder("PO-" + sequence.incrementAndGet()).initiate();
+        return repository.save(order);
+    }
+}
@@ -0,0 +1,143 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import com.bank.paymentinitiation.adapter.in.soap.LegacyPaymentOrderSoapCodec;
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest;
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.SubmitPaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+/**
+ * Benchmark del adaptador SOAP legacy con los XML de Prueba-tecnica-Java-migracion/legacy/samples.
+ *
+ * <p>Cada petición de ejemplo se envuelve en un envelope SOAP 1.1 y se mide:
+ * <ul>
+ *   <li>readSubmit / readStatus: lectura StAX de LegacyPaymentOrderSoapCodec</li>
+ *   <li>readSubmitDom: la misma lectura construyendo un árbol DOM, como referencia</li>
+ *   <li>writeSubmitResponse / writeStatusResponse: escritura en streaming de las respuestas</li>
+ * </ul>
+ *
+ * <p>Los ejemplos se leen de {@code ../Prueba-tecnica-Java-migracion/legacy/samples} (el directorio
+ * de trabajo de {@code ./gradlew jmh} es el del proyecto); otra ruta con {@code -Dlegacy.samples=...}.
+ */
+@State(Scope.Benchmark)
+public class LegacySoapCodecBenchmark {
+
+    private static final String SAMPLES = "../Prueba-tecnica-Java-migracion/legacy/samples";
+
+    private LegacyPaymentOrderSoapCodec codec;
+    private DocumentBuilderFactory documentBuilderFactory;
+    private byte[] submitRequest;
+    private byte[] statusRequest;
+    private PaymentOrder submittedOrder;
+    private PaymentOrderStatusSnapshot statusSnapshot;
+
+    @Setup
+    public void setUp() throws IOException, ParserConfigurationException {
+        codec = new LegacyPaymentOrderSoapCodec();
+        documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        documentBuilderFactory.setNamespaceAware(true);
+        documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+
+        Path samples = Path.of(System.getProperty("legacy.samples", SAMPLES));
+        submitRequest = envelope(samples.resolve("SubmitPaymentOrderRequest.xml"));
+        statusRequest = envelope(samples.resolve("GetPaymentOrderStatusRequest.xml"));
+        submittedOrder = BenchmarkFixtures.initiatedOrder();
+        statusSnapshot = new PaymentOrderStatusSnapshot(BenchmarkFixtures.REFERENCE, PaymentStatus.COMPLETED,
+                LocalDateTime.now(), 3L);
+    }
+
+    private static byte[] envelope(final Path sample) throws IOException {
+        String payload = Files.readString(sample, StandardCharsets.UTF_8).strip();
+        return ("<soapenv:Envelope xmlns:soapenv=\"" + LegacyPaymentOrderSoapCodec.SOAP_ENVELOPE_NS + "\">"
+                + "<soapenv:Header/><soapenv:Body>" + payload + "</soapenv:Body></soapenv:Envelope>")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public LegacySoapRequest readSubmit() throws XMLStreamException {
+        return codec.read(new ByteArrayInputStream(submitRequest));
+    }
+
+    @Benchmark
+    public LegacySoapRequest readStatus() throws XMLStreamException {
+        return codec.read(new ByteArrayInputStream(statusRequest));
+    }
+
+    @Benchmark
+    public LegacySoapRequest readSubmitDom() throws ParserConfigurationException, SAXException, IOException {
+        DocumentBuilder builder = documentBuilderFactory.newDocumentBuilder();
+        Document document = builder.parse(new ByteArrayInputStream(submitRequest));
+        Element payload = (Element) document.getElementsByTagNameNS(LegacyPaymentOrderSoapCodec.LEGACY_NS,
+                "SubmitPaymentOrderRequest").item(0);
+        return new SubmitPaymentOrder(
+                text(payload, "externalId"),
+                text(payload, "debtorIban"),
+                text(payload, "creditorIban"),
+                new BigDecimal(text(payload, "amount")),
+                text(payload, "currency"),
+                text(payload, "remittanceInfo"),
+                LocalDate.parse(text(payload, "requestedExecutionDate")));
+    }
+
+    private static String text(final Element parent, final String localName) {
+        return parent.getElementsByTagNameNS("*", localName).item(0).getTextContent().trim();
+    }
+
+    @Benchmark
+    public void writeSubmitResponse(final Blackhole blackhole) throws XMLStreamException {
+        codec.writeSubmitResponse(submittedOrder, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void writeStatusResponse(final Blackhole blackhole) throws XMLStreamException {
+        codec.writeStatusResponse(statusSnapshot, new BlackholeOutputStream(blackhole));
+    }
+
+    /**
+     * Cuerpo de respuesta que descarta los bytes en el Blackhole: mide la serialización sin copiarla.
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(final int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+
+/**
+ * Benchmark del agregado PaymentOrder: initiate() y validate().
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderBenchmark {
+
+    private PaymentOrder newOrder;
+    private PaymentOrder initiatedOrder;
+
+    @Setup
+    public void setUp() {
+        newOrder = BenchmarkFixtures.newOrder(BenchmarkFixtures.REFERENCE);
+        initiatedOrder = BenchmarkFixtures.initiatedOrder();
+    }
+
+    @Benchmark
+    public PaymentOrder initiate() {
+        return newOrder.initiate();
+    }
+
+    @Benchmark
+    public PaymentOrder validate() {
+        initiatedOrder.validate();
+        return initiatedOrder;
+    }
+
+    @Benchmark
+    public PaymentOrder initiateAndValidate() {
+        PaymentOrder initiated = newOrder.initiate();
+        initiated.validate();
+        return initiated;
+    }
+}
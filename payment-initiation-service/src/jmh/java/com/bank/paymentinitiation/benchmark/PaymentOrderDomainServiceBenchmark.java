@@ -0,0 +1,37 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+
+/**
+ * Benchmark del servicio de dominio: generación de referencias y reglas de negocio.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderDomainServiceBenchmark {
+
+    private PaymentOrderDomainService domainService;
+    private PaymentOrder initiatedOrder;
+
+    @Setup
+    public void setUp() {
+        domainService = new PaymentOrderDomainService(new SnowflakeReferenceGenerator(0));
+        initiatedOrder = BenchmarkFixtures.initiatedOrder();
+    }
+
+    @Benchmark
+    public String generateReference() {
+        return domainService.generateReference();
+    }
+
+    @Benchmark
+    public PaymentOrder validate() {
+        domainService.validate(initiatedOrder);
+        return initiatedOrder;
+    }
+}
@@ -0,0 +1,201 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank.paymentinitiation.PaymentInitiationServiceApplication;
+import com.bank.paymentinitiation.adapter.in.grpc.PaymentOrderGrpcServer;
+import com.bank.paymentinitiation.generated.grpc.CreditorAccount;
+import com.bank.paymentinitiation.generated.grpc.DebtorAccount;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrdersResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentAmount;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrdersGrpc;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderStatusRequest;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Benchmark end-to-end del adaptador gRPC frente al REST, sobre la misma instancia.
+ *
+ * <p>Levanta el contexto completo con Tomcat y el servidor gRPC en puertos libres una vez por trial
+ * y mide, por loopback y con una conexión reutilizada por cliente:
+ * <ul>
+ *   <li>restInitiate / grpcInitiate: alta de una orden (JSON sobre HTTP/1.1 frente a protobuf sobre HTTP/2)</li>
+ *   <li>restRetrieveStatus / grpcRetrieveStatus: consulta de estado, el camino más frecuente</li>
+ *   <li>restBatch / grpcStream: alta de {@value #BATCH_SIZE} órdenes con POST :batch frente a un
+ *       stream InitiatePaymentOrders</li>
+ * </ul>
+ *
+ * <p>Los dos adaptadores llaman a los mismos casos de uso contra H2 en memoria, así que la diferencia
+ * es el coste de transporte, parseo y serialización. Cada alta usa un externalReference distinto.
+ * Con {@code -t} (hilos de JMH) se ve además el efecto de multiplexar en una sola conexión HTTP/2.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderGrpcBenchmark {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String ORDER_JSON = """
+            {"externalReference":"%s","debtorAccount":{"iban":"EC123456789012345678"},\
+            "creditorAccount":{"iban":"EC987654321098765432"},\
+            "instructedAmount":{"amount":150.75,"currency":"USD"},\
+            "remittanceInformation":"Factura 001-123","requestedExecutionDate":"%s"}""";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ManagedChannel channel;
+    private PaymentOrdersGrpc.PaymentOrdersBlockingStub blockingStub;
+    private PaymentOrdersGrpc.PaymentOrdersStub asyncStub;
+    private String baseUrl;
+    private String executionDate;
+    private InitiatePaymentOrderRequest grpcRequest;
+    private String paymentOrderId;
+    private URI statusUri;
+    private RetrievePaymentOrderStatusRequest grpcStatusRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PaymentInitiationServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                // Como argumentos: las propiedades por defecto no ganan a application.yml
+                .run(
+                        "--server.port=0",
+                        "--payment.grpc.enabled=true",
+                        "--payment.grpc.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:jmhgrpc;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--logging.level.root=WARN");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/payment-initiation/payment-orders";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        channel = ManagedChannelBuilder.forAddress("localhost", context.getBean(PaymentOrderGrpcServer.class).getPort())
+                .usePlaintext()
+                .build();
+        blockingStub = PaymentOrdersGrpc.newBlockingStub(channel);
+        asyncStub = PaymentOrdersGrpc.newStub(channel);
+
+        executionDate = LocalDate.now().plusDays(1).toString();
+        grpcRequest = InitiatePaymentOrderRequest.newBuilder()
+                .setDebtorAccount(DebtorAccount.newBuilder().setIban("EC123456789012345678"))
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban("EC987654321098765432"))
+                .setInstructedAmount(PaymentAmount.newBuilder().setAmount("150.75").setCurrency("USD"))
+                .setRemittanceInformation("Factura 001-123")
+                .setRequestedExecutionDate(executionDate)
+                .build();
+
+        paymentOrderId = grpcInitiate().getPaymentOrderId();
+        statusUri = URI.create(baseUrl + "/" + paymentOrderId + "/status");
+        grpcStatusRequest = RetrievePaymentOrderStatusRequest.newBuilder().setPaymentOrderId(paymentOrderId).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public String restInitiate() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(orderJson()))
+                .build(), 201);
+    }
+
+    @Benchmark
+    public InitiatePaymentOrderResponse grpcInitiate() {
+        return blockingStub.initiatePaymentOrder(grpcRequest.toBuilder()
+                .setExternalReference(nextExternalReference())
+                .build());
+    }
+
+    @Benchmark
+    public String restRetrieveStatus() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(statusUri).GET().build(), 200);
+    }
+
+    @Benchmark
+    public PaymentOrderStatusResponse grpcRetrieveStatus() {
+        return blockingStub.retrievePaymentOrderStatus(grpcStatusRequest);
+    }
+
+    @Benchmark
+    public String restBatch() throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder("{\"paymentOrders\":[");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append(orderJson());
+        }
+        body.append("]}");
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + ":batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), 200);
+    }
+
+    @Benchmark
+    public InitiatePaymentOrdersResponse grpcStream() throws InterruptedException, ExecutionException {
+        CompletableFuture<InitiatePaymentOrdersResponse> response = new CompletableFuture<>();
+        StreamObserver<InitiatePaymentOrderRequest> requests = asyncStub.initiatePaymentOrders(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(final InitiatePaymentOrdersResponse value) {
+                        response.complete(value);
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        response.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        // La respuesta llega en onNext
+                    }
+                });
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.onNext(grpcRequest.toBuilder().setExternalReference(nextExternalReference()).build());
+        }
+        requests.onCompleted();
+        return response.get();
+    }
+
+    private String send(final HttpRequest request, final int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Unexpected HTTP " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private String orderJson() {
+        return ORDER_JSON.formatted(nextExternalReference(), executionDate);
+    }
+
+    private String nextExternalReference() {
+        return "EXT-JMH-" + sequence.incrementAndGet();
+    }
+}
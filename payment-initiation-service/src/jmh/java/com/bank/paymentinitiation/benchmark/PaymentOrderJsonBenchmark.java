@@ -0,0 +1,93 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank.paymentinitiation.adapter.in.rest.json.PaymentOrderJsonModule;
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapperImpl;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Benchmark de la serialización JSON de las respuestas de consulta.
+ * 
+ * <p>Compara, con la configuración de Jackson de Spring Boot:
+ * <ul>
+ *   <li>reflection: ObjectMapper sin PaymentOrderJsonModule, resolviendo el writer en cada llamada
+ *       (como MappingJackson2HttpMessageConverter)</li>
+ *   <li>handWritten: ObjectWriter precalculado con los serializadores de PaymentOrderJsonModule
+ *       (como PaymentOrderJsonHttpMessageConverter)</li>
+ * </ul>
+ * 
+ * <p>Se escribe sobre un buffer reutilizado, así que {@code -prof gc} muestra solo lo que asigna la
+ * serialización.
+ */
+@State(Scope.Thread)
+public class PaymentOrderJsonBenchmark {
+
+    private ObjectMapper reflective;
+    private ObjectWriter retrieveWriter;
+    private ObjectWriter statusWriter;
+    private RetrievePaymentOrderResponse retrieveResponse;
+    private PaymentOrderStatusResponse statusResponse;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        reflective = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new PaymentOrderJsonModule())
+                .build();
+        retrieveWriter = handWritten.writerFor(RetrievePaymentOrderResponse.class);
+        statusWriter = handWritten.writerFor(PaymentOrderStatusResponse.class);
+
+        PaymentOrderRestMapper mapper = new PaymentOrderRestMapperImpl();
+        PaymentOrder order = BenchmarkFixtures.initiatedOrder();
+        retrieveResponse = mapper.toRetrieveResponse(order);
+        statusResponse = mapper.toStatusResponse(PaymentOrderStatusSnapshot.of(order));
+        out = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public int retrieveReflection() throws IOException {
+        out.reset();
+        reflective.writeValue(out, retrieveResponse);
+        return out.size();
+    }
+
+    @Benchmark
+    public int retrieveHandWritten() throws IOException {
+        out.reset();
+        retrieveWriter.writeValue(out, retrieveResponse);
+        return out.size();
+    }
+
+    @Benchmark
+    public int statusReflection() throws IOException {
+        out.reset();
+        reflective.writeValue(out, statusResponse);
+        return out.size();
+    }
+
+    @Benchmark
+    public int statusHandWritten() throws IOException {
+        out.reset();
+        statusWriter.writeValue(out, statusResponse);
+        return out.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import com.bank.paymentinitiation.adapter.in.rest.GlobalExceptionHandler;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmark del camino 404 de una consulta por una referencia inexistente: lanzar la excepción y
+ * convertirla en ProblemDetail.
+ * 
+ * <p>{@code withStackTrace} reproduce la excepción con traza de pila y mensaje concatenado al
+ * lanzarla; {@code stackless} usa {@link PaymentOrderNotFoundException#forReference(String)},
+ * como los servicios de consulta.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderNotFoundBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private String reference;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        reference = BenchmarkFixtures.REFERENCE;
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> withStackTrace() {
+        try {
+            return find(() -> new PaymentOrderNotFoundException(
+                    "Payment order not found with reference: " + reference));
+        } catch (PaymentOrderNotFoundException ex) {
+            return handler.handlePaymentOrderNotFoundException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> stackless() {
+        try {
+            return find(() -> PaymentOrderNotFoundException.forReference(reference));
+        } catch (PaymentOrderNotFoundException ex) {
+            return handler.handlePaymentOrderNotFoundException(ex);
+        }
+    }
+
+    // Fuera de línea, como la consulta real: el JIT no puede fusionar el throw con el catch
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private ResponseEntity<ProblemDetail> find(final Supplier<PaymentOrderNotFoundException> notFound) {
+        return Optional.<ResponseEntity<ProblemDetail>>empty().orElseThrow(notFound);
+    }
+}
@@ -0,0 +1,39 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapperImpl;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+
+/**
+ * Benchmark del mapeo entre el agregado PaymentOrder y PaymentOrderEntity.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderPersistenceMapperBenchmark {
+
+    private PaymentOrderPersistenceMapper mapper;
+    private PaymentOrder initiatedOrder;
+    private PaymentOrderEntity entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new PaymentOrderPersistenceMapperImpl();
+        initiatedOrder = BenchmarkFixtures.initiatedOrder();
+        entity = mapper.toEntity(initiatedOrder);
+    }
+
+    @Benchmark
+    public PaymentOrderEntity toEntity() {
+        return mapper.toEntity(initiatedOrder);
+    }
+
+    @Benchmark
+    public PaymentOrder toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
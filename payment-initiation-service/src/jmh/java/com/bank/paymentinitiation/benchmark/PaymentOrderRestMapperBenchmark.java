@@ -0,0 +1,40 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapperImpl;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+
+/**
+ * Benchmark del mapeo REST de entrada y salida de la iniciación.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderRestMapperBenchmark {
+
+    private PaymentOrderRestMapper mapper;
+    private InitiatePaymentOrderRequest request;
+    private PaymentOrder initiatedOrder;
+
+    @Setup
+    public void setUp() {
+        mapper = new PaymentOrderRestMapperImpl();
+        request = BenchmarkFixtures.request();
+        initiatedOrder = BenchmarkFixtures.initiatedOrder();
+    }
+
+    @Benchmark
+    public PaymentOrder toDomain() {
+        return mapper.toDomain(request, BenchmarkFixtures.REFERENCE);
+    }
+
+    @Benchmark
+    public InitiatePaymentOrderResponse toInitiateResponse() {
+        return mapper.toInitiateResponse(initiatedOrder);
+    }
+}
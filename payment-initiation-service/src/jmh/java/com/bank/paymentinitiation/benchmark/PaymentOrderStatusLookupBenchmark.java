@@ -0,0 +1,64 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank.paymentinitiation.PaymentInitiationServiceApplication;
+import com.bank.paymentinitiation.adapter.out.persistence.PaymentOrderRepositoryAdapter;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+
+/**
+ * Benchmark de la consulta de estado contra H2 en memoria, sin caché.
+ * 
+ * <p>Compara, sobre el adaptador JPA:
+ * <ul>
+ *   <li>fullOrder: cargar la entidad completa y mapearla a PaymentOrder (camino previo)</li>
+ *   <li>statusProjection: la proyección de tres columnas mapeada a PaymentOrderStatusSnapshot</li>
+ * </ul>
+ * 
+ * <p>Con {@code -prof gc} se ve la diferencia de bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+public class PaymentOrderStatusLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PaymentOrderRepositoryAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PaymentInitiationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-status;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "payment.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        adapter = context.getBean(PaymentOrderRepositoryAdapter.class);
+        adapter.insert(BenchmarkFixtures.initiatedOrder());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<PaymentOrder> fullOrder() {
+        return adapter.findByReference(BenchmarkFixtures.REFERENCE);
+    }
+
+    @Benchmark
+    public Optional<PaymentOrderStatusSnapshot> statusProjection() {
+        return adapter.findStatusByReference(BenchmarkFixtures.REFERENCE);
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.paymentinitiation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.bank.paymentinitiation.adapter.out.persistence.id.UuidV7;
+
+/**
+ * Benchmark del throughput sostenido de inserción según la estrategia de clave primaria UUID.
+ *
+ * <p>Precarga la tabla con {@code rows} filas (por defecto 10M) con la misma estrategia y mide
+ * inserciones en lotes JDBC de {@value #BATCH_SIZE} filas sobre ella:
+ * <ul>
+ *   <li>random: UUID v4 (UUID.randomUUID, el antiguo {@code @GeneratedValue})</li>
+ *   <li>v7: UUID v7 ordenado por tiempo (UuidV7, el actual {@code @TimeOrderedUuid})</li>
+ * </ul>
+ *
+ * <p>Usa una base H2 en fichero y JDBC directo, para que lo medido sea el mantenimiento del índice
+ * de la clave primaria y no la capa JPA. La precarga de 10M filas tarda varios minutos; para una
+ * comparación rápida: {@code ./gradlew jmh -PjmhIncludes=PrimaryKeyInsertBenchmark} con un
+ * {@code rows} menor.
+ */
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT = "INSERT INTO payment_orders_pk (id, payment_order_reference, created_at) "
+            + "VALUES (?, ?, ?)";
+
+    @Param({"random", "v7"})
+    public String strategy;
+
+    @Param({"10000000"})
+    public long rows;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        ids = "v7".equals(strategy) ? UuidV7::next : UUID::randomUUID;
+        directory = Files.createTempDirectory("jmh-pk");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("pk") + ";CACHE_SIZE=65536");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE payment_orders_pk (id UUID PRIMARY KEY, "
+                    + "payment_order_reference VARCHAR(100) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        }
+        insert = connection.prepareStatement(INSERT);
+        // Precarga con la misma estrategia: el índice tiene la forma que tendría en producción
+        while (sequence < rows) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        insert.close();
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "PO-" + sequence++);
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        return sequence;
+    }
+}
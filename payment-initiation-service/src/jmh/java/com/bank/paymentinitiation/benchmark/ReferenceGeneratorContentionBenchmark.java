@@ -0,0 +1,40 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+
+/**
+ * Benchmark de contención: generación de referencias desde todos los cores a la vez.
+ * 
+ * <p>Compara el generador Snowflake con la implementación anterior
+ * ({@code String.format} + {@code Math.random()}), reproducida aquí como línea base.
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class ReferenceGeneratorContentionBenchmark {
+
+    private SnowflakeReferenceGenerator snowflake;
+
+    @Setup
+    public void setUp() {
+        snowflake = new SnowflakeReferenceGenerator(0);
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextReference();
+    }
+
+    @Benchmark
+    public String legacyFormatAndRandom() {
+        long timestamp = System.currentTimeMillis();
+        long random = (long) (Math.random() * 1000000);
+        String numericId = String.format("%010d%06d", timestamp % 10000000000L, random);
+        return "PO-" + numericId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.paymentinitiation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapperImpl;
+import com.bank.paymentinitiation.adapter.metrics.TimedMethodInterceptor;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmark del coste que añade la medición con {@code @Timed} a una llamada del camino caliente.
+ * 
+ * <p>Compara la misma llamada al mapper REST sin proxy y a través del proxy con
+ * TimedMethodInterceptor, tal como lo monta PaymentMetricsConfig.
+ */
+@State(Scope.Benchmark)
+public class TimedMethodInterceptorBenchmark {
+
+    private PaymentOrderRestMapper plainMapper;
+    private PaymentOrderRestMapper timedMapper;
+    private PaymentOrder initiatedOrder;
+
+    @Setup
+    public void setUp() {
+        plainMapper = new PaymentOrderRestMapperImpl();
+        ProxyFactory factory = new ProxyFactory(new PaymentOrderRestMapperImpl());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Timed.class, true),
+                new TimedMethodInterceptor(SimpleMeterRegistry::new)));
+        timedMapper = (PaymentOrderRestMapper) factory.getProxy();
+        initiatedOrder = BenchmarkFixtures.initiatedOrder();
+    }
+
+    @Benchmark
+    public InitiatePaymentOrderResponse plain() {
+        return plainMapper.toInitiateResponse(initiatedOrder);
+    }
+
+    @Benchmark
+    public InitiatePaymentOrderResponse timed() {
+        return timedMapper.toInitiateResponse(initiatedOrder);
+    }
+}
@@ -0,0 +1,74 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Traducción de las excepciones de los casos de uso a Status de gRPC, el equivalente de
+ * GlobalExceptionHandler para este adaptador.
+ *
+ * <p>Cada error incrementa el contador {@code payment.grpc.errors} con los tags {@code exception}
+ * (tipo de la excepción) y {@code code} (código gRPC de la respuesta).
+ */
+@Slf4j
+final class PaymentOrderGrpcErrors {
+
+    static final String ERROR_COUNTER = "payment.grpc.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    PaymentOrderGrpcErrors(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Convierte una excepción en el error de la llamada.
+     *
+     * @param ex la excepción lanzada por el caso de uso o por el mapeo de la petición
+     * @return la excepción con el Status que recibe el cliente
+     */
+    StatusRuntimeException toStatus(final RuntimeException ex) {
+        Status status = switch (ex) {
+            case PaymentOrderNotFoundException notFound -> Status.NOT_FOUND.withDescription(notFound.getMessage());
+            case InvalidPaymentException invalid -> Status.INVALID_ARGUMENT.withDescription(invalid.getMessage());
+            case InvalidPaymentOrderQueryException invalid ->
+                    Status.INVALID_ARGUMENT.withDescription(invalid.getMessage());
+            case IllegalArgumentException invalid -> Status.INVALID_ARGUMENT.withDescription(invalid.getMessage());
+            case DuplicatePaymentOrderException duplicate ->
+                    Status.ALREADY_EXISTS.withDescription(duplicate.getMessage());
+            case CannotCreateTransactionException unavailable ->
+                    Status.UNAVAILABLE.withDescription("Database temporarily unavailable, please retry");
+            case DataAccessResourceFailureException unavailable ->
+                    Status.UNAVAILABLE.withDescription("Database temporarily unavailable, please retry");
+            case StatusRuntimeException grpc -> grpc.getStatus();
+            default -> {
+                log.error("Unexpected error in gRPC call", ex);
+                yield Status.INTERNAL.withDescription("An unexpected error occurred: " + ex.getMessage());
+            }
+        };
+        countError(ex, status);
+        return status.asRuntimeException();
+    }
+
+    private void countError(final RuntimeException ex, final Status status) {
+        // Cada tipo de excepción se traduce siempre al mismo código, así que el tipo basta como clave
+        errorCounters.computeIfAbsent(ex.getClass(), type -> meterRegistry.counter(ERROR_COUNTER,
+                "exception", type.getSimpleName(), "code", status.getCode().name()))
+                .increment();
+    }
+}
@@ -0,0 +1,207 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.generated.grpc.BatchPaymentOrderResult;
+import com.bank.paymentinitiation.generated.grpc.CreditorAccount;
+import com.bank.paymentinitiation.generated.grpc.DebtorAccount;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentStatus;
+import com.bank.paymentinitiation.generated.grpc.ProblemDetail;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.PaymentAmount.CurrencyEnum;
+import com.google.protobuf.Timestamp;
+
+/**
+ * Conversión entre los mensajes protobuf de payment_orders.proto y el modelo de dominio.
+ *
+ * <p>Escrita a mano: MapStruct no encaja con los builders de protobuf. Como en el endpoint SOAP,
+ * las peticiones se convierten directamente al dominio, sin pasar por los DTOs REST. Las reglas de
+ * openapi.yaml que el dominio no comprueba (campos obligatorios, longitudes, importe mínimo y monedas
+ * admitidas) se validan aquí, para que una petición inválida se rechace igual que en REST y no llegue
+ * a la base de datos. Las monedas salen del enum generado desde openapi.yaml, así que no se desalinean.
+ */
+final class PaymentOrderGrpcMapper {
+
+    static final int MAX_EXTERNAL_REFERENCE_LENGTH = 100;
+    static final int MIN_IBAN_LENGTH = 15;
+    static final int MAX_IBAN_LENGTH = 34;
+    static final int MAX_REMITTANCE_INFORMATION_LENGTH = 500;
+    static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+
+    private PaymentOrderGrpcMapper() {
+    }
+
+    /**
+     * Convierte la petición de alta en una orden de pago del dominio.
+     *
+     * @param request               la petición
+     * @param paymentOrderReference la referencia asignada a la orden
+     * @return la orden de pago, pendiente de iniciar
+     * @throws IllegalArgumentException si algún campo falta o no cumple el contrato
+     */
+    static PaymentOrder toDomain(final InitiatePaymentOrderRequest request, final String paymentOrderReference) {
+        String externalReference = require("external_reference", request.getExternalReference(),
+                1, MAX_EXTERNAL_REFERENCE_LENGTH);
+        String debtorIban = require("debtor_account.iban", request.getDebtorAccount().getIban(),
+                MIN_IBAN_LENGTH, MAX_IBAN_LENGTH);
+        String creditorIban = require("creditor_account.iban", request.getCreditorAccount().getIban(),
+                MIN_IBAN_LENGTH, MAX_IBAN_LENGTH);
+        if (request.getRemittanceInformation().length() > MAX_REMITTANCE_INFORMATION_LENGTH) {
+            throw new IllegalArgumentException("remittance_information: size must be between 0 and "
+                    + MAX_REMITTANCE_INFORMATION_LENGTH);
+        }
+
+        PaymentOrder.PaymentOrderBuilder order = PaymentOrder.builder()
+                .paymentOrderReference(paymentOrderReference)
+                .externalReference(new ExternalReference(externalReference))
+                .payerReference(new PayerReference(debtorIban))
+                .payeeReference(new PayeeReference(creditorIban))
+                .instructedAmount(PaymentAmount.of(
+                        toAmount(request.getInstructedAmount().getAmount()),
+                        toCurrency(request.getInstructedAmount().getCurrency())))
+                .remittanceInformation(request.getRemittanceInformation().isEmpty()
+                        ? null : request.getRemittanceInformation())
+                .requestedExecutionDate(toDate(request.getRequestedExecutionDate()));
+        // Sin idempotency_key, el external_reference identifica los reintentos (como sin cabecera en REST)
+        if (!request.getIdempotencyKey().isEmpty()) {
+            order.idempotencyKey(IdempotencyKey.ofClientKey(request.getIdempotencyKey()));
+        }
+        return order.build();
+    }
+
+    static InitiatePaymentOrderResponse toInitiateResponse(final PaymentOrder order) {
+        return InitiatePaymentOrderResponse.newBuilder()
+                .setPaymentOrderId(order.getPaymentOrderReference())
+                .setStatus(toStatus(order.getStatus()))
+                .build();
+    }
+
+    static RetrievePaymentOrderResponse toRetrieveResponse(final PaymentOrder order) {
+        RetrievePaymentOrderResponse.Builder response = RetrievePaymentOrderResponse.newBuilder()
+                .setPaymentOrderId(order.getPaymentOrderReference())
+                .setExternalReference(order.getExternalReference().getValue())
+                .setDebtorAccount(DebtorAccount.newBuilder().setIban(order.getPayerReference().getValue()))
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban(order.getPayeeReference().getValue()))
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount(order.getInstructedAmount().getValue().toPlainString())
+                        .setCurrency(order.getInstructedAmount().getCurrency()))
+                .setRequestedExecutionDate(order.getRequestedExecutionDate().toString())
+                .setStatus(toStatus(order.getStatus()));
+        if (order.getRemittanceInformation() != null) {
+            response.setRemittanceInformation(order.getRemittanceInformation());
+        }
+        if (order.getUpdatedAt() != null) {
+            response.setLastUpdate(toTimestamp(order.getUpdatedAt()));
+        }
+        return response.build();
+    }
+
+    static PaymentOrderStatusResponse toStatusResponse(final PaymentOrderStatusSnapshot snapshot) {
+        PaymentOrderStatusResponse.Builder response = PaymentOrderStatusResponse.newBuilder()
+                .setPaymentOrderId(snapshot.getPaymentOrderReference())
+                .setStatus(toStatus(snapshot.getStatus()));
+        if (snapshot.getUpdatedAt() != null) {
+            response.setLastUpdate(toTimestamp(snapshot.getUpdatedAt()));
+        }
+        return response.build();
+    }
+
+    /**
+     * Convierte el resultado de una orden de InitiatePaymentOrders, con los mismos errores que el
+     * lote REST: 400 si se rechazó y 500 si su bloque no se pudo persistir.
+     *
+     * @param index  la posición de la orden en el stream
+     * @param result el resultado de la orden
+     * @return el resultado con payment_order_id y status, o con el error
+     */
+    static BatchPaymentOrderResult toBatchResult(final int index, final PaymentOrderInitiationResult result) {
+        BatchPaymentOrderResult.Builder item = BatchPaymentOrderResult.newBuilder().setIndex(index);
+        switch (result.getOutcome()) {
+            case INITIATED -> item
+                    .setPaymentOrderId(result.getPaymentOrder().getPaymentOrderReference())
+                    .setStatus(toStatus(result.getPaymentOrder().getStatus()));
+            case REJECTED -> item.setError(problem("Invalid Payment Order", 400, result.getFailureReason()));
+            default -> item.setError(problem("Internal Server Error", 500, result.getFailureReason()));
+        }
+        return item.build();
+    }
+
+    static PaymentStatus toStatus(final com.bank.paymentinitiation.domain.model.PaymentStatus status) {
+        return PaymentStatus.valueOf(status.name());
+    }
+
+    static Timestamp toTimestamp(final LocalDateTime dateTime) {
+        // Igual que en REST: las fechas del dominio están en UTC
+        return Timestamp.newBuilder()
+                .setSeconds(dateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(dateTime.getNano())
+                .build();
+    }
+
+    private static ProblemDetail problem(final String title, final int status, final String detail) {
+        ProblemDetail.Builder problem = ProblemDetail.newBuilder()
+                .setType("about:blank")
+                .setTitle(title)
+                .setStatus(status);
+        if (detail != null) {
+            problem.setDetail(detail);
+        }
+        return problem.build();
+    }
+
+    private static String require(final String field, final String value, final int min, final int max) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException(field + ": must not be blank");
+        }
+        if (value.length() < min || value.length() > max) {
+            throw new IllegalArgumentException(field + ": size must be between " + min + " and " + max);
+        }
+        return value;
+    }
+
+    private static BigDecimal toAmount(final String amount) {
+        BigDecimal value;
+        try {
+            value = new BigDecimal(require("instructed_amount.amount", amount, 1, Integer.MAX_VALUE));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("instructed_amount.amount: invalid decimal '" + amount + "'");
+        }
+        if (value.compareTo(MIN_AMOUNT) < 0) {
+            throw new IllegalArgumentException("instructed_amount.amount: must be greater than or equal to "
+                    + MIN_AMOUNT);
+        }
+        return value;
+    }
+
+    private static String toCurrency(final String currency) {
+        String code = require("instructed_amount.currency", currency, 3, 3);
+        try {
+            return CurrencyEnum.fromValue(code).getValue();
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("instructed_amount.currency: unsupported currency '" + code + "'");
+        }
+    }
+
+    private static LocalDate toDate(final String date) {
+        try {
+            return LocalDate.parse(require("requested_execution_date", date, 1, Integer.MAX_VALUE));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("requested_execution_date: invalid date '" + date + "'");
+        }
+    }
+}
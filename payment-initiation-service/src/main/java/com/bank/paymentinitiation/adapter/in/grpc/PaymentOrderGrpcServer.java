@@ -0,0 +1,79 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * El servidor gRPC, que arranca y se detiene con el contexto.
+ *
+ * <p>Al parar, termina con UNAVAILABLE las llamadas WatchPaymentOrderStatus (no acaban por sí
+ * solas), deja de aceptar llamadas nuevas y espera {@code shutdownTimeout} a las que están en curso
+ * antes de cancelarlas. Después cierra el executor de las llamadas.
+ */
+@Slf4j
+public class PaymentOrderGrpcServer implements SmartLifecycle {
+
+    private final Server server;
+    private final ExecutorService executor;
+    private final PaymentOrderGrpcStatusWatches watches;
+    private final Duration shutdownTimeout;
+
+    private volatile boolean running;
+
+    public PaymentOrderGrpcServer(final Server server, final ExecutorService executor,
+                                  final PaymentOrderGrpcStatusWatches watches, final Duration shutdownTimeout) {
+        this.server = server;
+        this.executor = executor;
+        this.watches = watches;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            server.start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start the gRPC server", ex);
+        }
+        running = true;
+        log.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        watches.closeAll();
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retorna el puerto en el que escucha el servidor (el real si se configuró el puerto 0).
+     *
+     * @return el puerto
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
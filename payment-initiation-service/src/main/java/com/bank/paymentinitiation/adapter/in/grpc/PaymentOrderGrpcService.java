@@ -0,0 +1,239 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.generated.grpc.BatchPaymentOrderResult;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrdersResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrdersGrpc;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.grpc.WatchPaymentOrderStatusRequest;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adaptador de entrada gRPC: implementa el servicio PaymentOrders de payment_orders.proto.
+ *
+ * <p>Este adaptador:
+ * <ul>
+ *   <li>Genera la referencia de cada orden, como PaymentOrdersController</li>
+ *   <li>Convierte los mensajes protobuf al dominio con PaymentOrderGrpcMapper</li>
+ *   <li>Invoca los mismos casos de uso que REST (domain.port.in)</li>
+ *   <li>Traduce las excepciones a Status de gRPC con PaymentOrderGrpcErrors</li>
+ * </ul>
+ *
+ * <p>InitiatePaymentOrders acumula las órdenes del stream y llama a initiateAll cada
+ * {@code chunkSize} órdenes, así que un stream largo se persiste a medida que llega y la memoria
+ * retenida es un bloque más el resultado de cada orden. Una orden inválida se rechaza en su
+ * resultado sin cortar el stream. Si el cliente cancela, los bloques ya persistidos se quedan.
+ *
+ * <p>Los métodos se ejecutan en el executor del servidor (hilos virtuales, ver PaymentGrpcConfig):
+ * las llamadas a los casos de uso bloquean como en un controlador REST.
+ */
+public class PaymentOrderGrpcService extends PaymentOrdersGrpc.PaymentOrdersImplBase {
+
+    private final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+    private final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+    private final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+    private final PaymentOrderReferenceGenerator referenceGenerator;
+    private final PaymentOrderGrpcStatusWatches watches;
+    private final PaymentOrderGrpcErrors errors;
+    private final int chunkSize;
+    private final int maxStreamOrders;
+
+    public PaymentOrderGrpcService(final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase,
+                                   final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase,
+                                   final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase,
+                                   final PaymentOrderReferenceGenerator referenceGenerator,
+                                   final PaymentOrderGrpcStatusWatches watches,
+                                   final MeterRegistry meterRegistry,
+                                   final int chunkSize,
+                                   final int maxStreamOrders) {
+        this.initiatePaymentOrderUseCase = initiatePaymentOrderUseCase;
+        this.retrievePaymentOrderUseCase = retrievePaymentOrderUseCase;
+        this.retrievePaymentOrderStatusUseCase = retrievePaymentOrderStatusUseCase;
+        this.referenceGenerator = referenceGenerator;
+        this.watches = watches;
+        this.errors = new PaymentOrderGrpcErrors(meterRegistry);
+        this.chunkSize = chunkSize;
+        this.maxStreamOrders = maxStreamOrders;
+    }
+
+    @Override
+    public void initiatePaymentOrder(final InitiatePaymentOrderRequest request,
+            final StreamObserver<InitiatePaymentOrderResponse> responseObserver) {
+        PaymentOrder initiatedOrder;
+        try {
+            // Un reintento con la misma clave devuelve la orden original
+            initiatedOrder = initiatePaymentOrderUseCase.initiate(
+                    PaymentOrderGrpcMapper.toDomain(request, referenceGenerator.generate()));
+        } catch (RuntimeException ex) {
+            responseObserver.onError(errors.toStatus(ex));
+            return;
+        }
+        responseObserver.onNext(PaymentOrderGrpcMapper.toInitiateResponse(initiatedOrder));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<InitiatePaymentOrderRequest> initiatePaymentOrders(
+            final StreamObserver<InitiatePaymentOrdersResponse> responseObserver) {
+        return new InitiatePaymentOrdersCall(responseObserver);
+    }
+
+    @Override
+    public void retrievePaymentOrder(final RetrievePaymentOrderRequest request,
+            final StreamObserver<RetrievePaymentOrderResponse> responseObserver) {
+        RetrievePaymentOrderResponse response;
+        try {
+            response = PaymentOrderGrpcMapper.toRetrieveResponse(
+                    retrievePaymentOrderUseCase.retrieve(request.getPaymentOrderId()));
+        } catch (RuntimeException ex) {
+            responseObserver.onError(errors.toStatus(ex));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void retrievePaymentOrderStatus(final RetrievePaymentOrderStatusRequest request,
+            final StreamObserver<PaymentOrderStatusResponse> responseObserver) {
+        PaymentOrderStatusResponse response;
+        try {
+            // Solo referencia, estado y última actualización; no carga la orden completa
+            response = PaymentOrderGrpcMapper.toStatusResponse(
+                    retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(request.getPaymentOrderId()));
+        } catch (RuntimeException ex) {
+            responseObserver.onError(errors.toStatus(ex));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void watchPaymentOrderStatus(final WatchPaymentOrderStatusRequest request,
+            final StreamObserver<PaymentOrderStatusResponse> responseObserver) {
+        try {
+            watches.open(request.getPaymentOrderIdsList(),
+                    (ServerCallStreamObserver<PaymentOrderStatusResponse>) responseObserver);
+        } catch (RuntimeException ex) {
+            responseObserver.onError(errors.toStatus(ex));
+        }
+    }
+
+    /**
+     * Una llamada InitiatePaymentOrders. gRPC entrega los mensajes de una llamada de uno en uno, así
+     * que el estado no necesita sincronización; mientras se persiste un bloque no se leen más
+     * mensajes y el control de flujo de HTTP/2 frena al cliente.
+     */
+    private final class InitiatePaymentOrdersCall implements StreamObserver<InitiatePaymentOrderRequest> {
+
+        private final StreamObserver<InitiatePaymentOrdersResponse> responseObserver;
+        private final List<BatchPaymentOrderResult> results = new ArrayList<>();
+        private final List<PaymentOrder> chunk = new ArrayList<>(chunkSize);
+        private final List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        private int succeeded;
+        private boolean done;
+
+        InitiatePaymentOrdersCall(final StreamObserver<InitiatePaymentOrdersResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(final InitiatePaymentOrderRequest request) {
+            if (done) {
+                return;
+            }
+            int index = results.size();
+            if (index == maxStreamOrders) {
+                fail(Status.RESOURCE_EXHAUSTED.withDescription("Cannot initiate more than " + maxStreamOrders
+                        + " payment orders per call").asRuntimeException());
+                return;
+            }
+            results.add(null);
+            try {
+                chunk.add(PaymentOrderGrpcMapper.toDomain(request, referenceGenerator.generate()));
+                chunkIndexes.add(index);
+            } catch (IllegalArgumentException ex) {
+                results.set(index, PaymentOrderGrpcMapper.toBatchResult(index,
+                        PaymentOrderInitiationResult.rejected(index, ex.getMessage())));
+                return;
+            }
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            // El cliente canceló o se desconectó: los bloques ya persistidos se quedan
+            done = true;
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            flush();
+            if (done) {
+                return;
+            }
+            done = true;
+            responseObserver.onNext(InitiatePaymentOrdersResponse.newBuilder()
+                    .setSucceeded(succeeded)
+                    .setFailed(results.size() - succeeded)
+                    .addAllResults(results)
+                    .build());
+            responseObserver.onCompleted();
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<PaymentOrderInitiationResult> initiated;
+            try {
+                // Validación en una pasada + inserciones por bloques, como el lote REST
+                initiated = initiatePaymentOrderUseCase.initiateAll(chunk);
+            } catch (RuntimeException ex) {
+                fail(errors.toStatus(ex));
+                return;
+            }
+            for (PaymentOrderInitiationResult result : initiated) {
+                int index = chunkIndexes.get(result.getIndex());
+                results.set(index, PaymentOrderGrpcMapper.toBatchResult(index, result));
+                if (result.isInitiated()) {
+                    succeeded++;
+                }
+            }
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+
+        private void fail(final RuntimeException error) {
+            done = true;
+            chunk.clear();
+            chunkIndexes.clear();
+            responseObserver.onError(error);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.in.WatchPaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Las llamadas WatchPaymentOrderStatus abiertas en esta instancia.
+ *
+ * <p>Es el equivalente de PaymentOrderStatusStreams para gRPC, sobre el mismo
+ * WatchPaymentOrderStatusUseCase. No hay latido: lo sustituyen los PING HTTP/2 del servidor
+ * ({@code payment.grpc.keep-alive-time}). {@link #refresh()} (programado por PaymentGrpcConfig) relee
+ * el estado de las órdenes observadas para entregar los cambios hechos fuera de esta instancia. Al
+ * parar la aplicación las llamadas terminan con UNAVAILABLE y los clientes se reconectan a otra
+ * instancia.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentOrderGrpcStatusWatches {
+
+    private final WatchPaymentOrderStatusUseCase watchPaymentOrderStatusUseCase;
+    private final Set<PaymentOrderStatusWatchCall> calls = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Abre una llamada con el estado actual de las órdenes y sus cambios posteriores.
+     *
+     * @param paymentOrderReferences las referencias de las órdenes
+     * @param observer               el observer de la llamada
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException
+     *         si no hay referencias o hay más de las permitidas por suscripción
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException
+     *         si alguna orden no existe
+     */
+    void open(final Collection<String> paymentOrderReferences,
+            final ServerCallStreamObserver<PaymentOrderStatusResponse> observer) {
+        PaymentOrderStatusWatchCall call = new PaymentOrderStatusWatchCall(observer, paymentOrderReferences,
+                this::release);
+
+        // Validar y leer el estado actual antes de enviar nada: un error termina la llamada con su Status
+        List<PaymentOrderStatusSnapshot> current;
+        try {
+            current = watchPaymentOrderStatusUseCase.watch(call.references(), call);
+        } catch (RuntimeException ex) {
+            call.close(null);
+            throw ex;
+        }
+        calls.add(call);
+        if (call.isClosed()) {
+            // Se canceló antes de registrarse
+            calls.remove(call);
+        }
+
+        // El estado actual es el primer mensaje; los cambios ya recibidos más recientes prevalecen
+        current.forEach(call);
+    }
+
+    /**
+     * Entrega a las llamadas abiertas los cambios hechos fuera de esta instancia.
+     */
+    public void refresh() {
+        if (calls.isEmpty()) {
+            return;
+        }
+        try {
+            watchPaymentOrderStatusUseCase.refresh();
+        } catch (RuntimeException ex) {
+            // La siguiente relectura lo vuelve a intentar
+            log.warn("Could not refresh watched payment order statuses", ex);
+        }
+    }
+
+    /**
+     * Retorna el número de llamadas abiertas.
+     *
+     * @return llamadas abiertas
+     */
+    public int size() {
+        return calls.size();
+    }
+
+    /**
+     * Termina todas las llamadas abiertas con UNAVAILABLE, para que los clientes se reconecten.
+     */
+    public void closeAll() {
+        Status shuttingDown = Status.UNAVAILABLE.withDescription("Server is shutting down");
+        List.copyOf(calls).forEach(call -> call.close(shuttingDown));
+    }
+
+    private void release(final PaymentOrderStatusWatchCall call) {
+        calls.remove(call);
+        watchPaymentOrderStatusUseCase.unwatch(call.references(), call);
+    }
+}
@@ -0,0 +1,124 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+/**
+ * Una llamada WatchPaymentOrderStatus que observa el estado de una o varias órdenes de pago.
+ *
+ * <p>Igual que PaymentOrderStatusStream en SSE, guarda solo el último estado pendiente de cada orden
+ * y descarta los repetidos o anteriores al último conocido. La diferencia es el envío: onNext de gRPC
+ * no bloquea, así que {@link #accept} escribe directamente mientras el transporte acepte mensajes
+ * ({@code isReady}); si el cliente lee despacio, los estados esperan en el buffer hasta que gRPC
+ * vuelva a avisar con el onReadyHandler.
+ *
+ * <p>Una orden deja de observarse tras enviar un estado final; cuando todas lo alcanzan, la llamada
+ * se completa. Si el cliente la cancela (o vence su deadline) se deja de observar sin responder.
+ */
+final class PaymentOrderStatusWatchCall implements Consumer<PaymentOrderStatusSnapshot> {
+
+    private final ServerCallStreamObserver<PaymentOrderStatusResponse> observer;
+    private final List<String> references;
+    private final Consumer<PaymentOrderStatusWatchCall> onClose;
+
+    // Estado protegido por el monitor de la instancia, que también serializa todas las llamadas al
+    // observer (onNext, onCompleted y onError)
+    private final Set<String> open;
+    private final Map<String, PaymentOrderStatusSnapshot> latest = new HashMap<>();
+    private final Map<String, PaymentOrderStatusSnapshot> pending = new LinkedHashMap<>();
+    private boolean closed;
+
+    PaymentOrderStatusWatchCall(final ServerCallStreamObserver<PaymentOrderStatusResponse> observer,
+            final Collection<String> references, final Consumer<PaymentOrderStatusWatchCall> onClose) {
+        this.observer = observer;
+        this.references = List.copyOf(new LinkedHashSet<>(references));
+        this.onClose = onClose;
+        this.open = new LinkedHashSet<>(this.references);
+        // Los handlers se registran durante la invocación del método, antes de cualquier onNext
+        observer.setOnCancelHandler(() -> close(null));
+        observer.setOnReadyHandler(this::drain);
+    }
+
+    List<String> references() {
+        return references;
+    }
+
+    @Override
+    public void accept(final PaymentOrderStatusSnapshot snapshot) {
+        synchronized (this) {
+            String reference = snapshot.getPaymentOrderReference();
+            if (closed || !open.contains(reference) || !snapshot.supersedes(latest.get(reference))) {
+                return;
+            }
+            latest.put(reference, snapshot);
+            pending.put(reference, snapshot);
+        }
+        drain();
+    }
+
+    /**
+     * Deja de observar y libera la llamada; es idempotente.
+     *
+     * @param status el Status con el que termina la llamada, o null si el cliente ya la canceló
+     */
+    void close(final Status status) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+            // Dentro del monitor: StreamObserver no es thread-safe y drain() llama a onNext con él
+            if (status != null && status.isOk()) {
+                observer.onCompleted();
+            } else if (status != null) {
+                observer.onError(status.asRuntimeException());
+            }
+        }
+        onClose.accept(this);
+    }
+
+    synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void drain() {
+        boolean done = false;
+        synchronized (this) {
+            while (!closed && !pending.isEmpty() && observer.isReady()) {
+                Iterator<PaymentOrderStatusSnapshot> next = pending.values().iterator();
+                PaymentOrderStatusSnapshot snapshot = next.next();
+                next.remove();
+                observer.onNext(PaymentOrderGrpcMapper.toStatusResponse(snapshot));
+                if (snapshot.getStatus().isFinal()) {
+                    open.remove(snapshot.getPaymentOrderReference());
+                    pending.remove(snapshot.getPaymentOrderReference());
+                    if (open.isEmpty()) {
+                        done = true;
+                        break;
+                    }
+                }
+            }
+        }
+        if (done) {
+            close(Status.OK);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Adaptador de entrada gRPC para clientes internos de alto volumen (payment.grpc.enabled).
+ * 
+ * <p>Este paquete expone el servicio PaymentOrders de src/main/proto/payment_orders.proto:
+ * <ul>
+ *   <li>PaymentOrderGrpcService: Alta (unaria y por stream del cliente), consultas y observación de estados</li>
+ *   <li>PaymentOrderGrpcMapper: Conversión entre mensajes protobuf y el modelo de dominio</li>
+ *   <li>PaymentOrderGrpcErrors: Traducción de excepciones a Status de gRPC</li>
+ *   <li>PaymentOrderGrpcStatusWatches / PaymentOrderStatusWatchCall: Las llamadas de observación abiertas</li>
+ *   <li>PaymentOrderGrpcServer: El servidor, con el ciclo de vida del contexto</li>
+ * </ul>
+ * 
+ * <p>Como los controladores REST, solo invocan casos de uso (domain.port.in); los mensajes y stubs
+ * los genera protoc en com.bank.paymentinitiation.generated.grpc.
+ */
+package com.bank.paymentinitiation.adapter.in.grpc;
@@ -0,0 +1,140 @@
+package com.bank.paymentinitiation.adapter.in.reactive;
+
+import com.bank.paymentinitiation.adapter.in.rest.PaymentOrderConditionalGet;
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.in.ReactiveInitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.ReactiveRetrievePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.ReactiveRetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador WebFlux con las tres operaciones principales de PaymentOrdersApi en el modo reactivo.
+ * 
+ * <p>Mismas rutas, cabeceras, validaciones y DTOs (generados por OpenAPI) que PaymentOrdersController,
+ * pero ningún método bloquea: devuelven Mono y la persistencia va por R2DBC
+ * (ReactivePaymentOrderRepository). Los errores los traduce GlobalExceptionHandler, como en el modo
+ * servlet.
+ * 
+ * <p>Solo existe con el perfil reactive ({@code spring.main.web-application-type=reactive}); en ese
+ * modo no se publican el resto de operaciones (lote, listado, exportación, cambio de estado, SSE,
+ * SOAP) ni la iniciación asíncrona.
+ */
+@RestController
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePaymentOrdersController {
+
+    static final String PAYMENT_ORDERS_PATH = "/payment-initiation/payment-orders";
+    static final String PAYMENT_ORDER_PATH = PAYMENT_ORDERS_PATH + "/{paymentOrderId}";
+    static final String PAYMENT_ORDER_STATUS_PATH = PAYMENT_ORDER_PATH + "/status";
+
+    private static final String PAYMENT_ORDER_ID_PATTERN = "^PO-[0-9]+$";
+
+    private final ReactiveInitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+    private final ReactiveRetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+    private final ReactiveRetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+    private final PaymentOrderRestMapper mapper;
+    private final PaymentOrderReferenceGenerator referenceGenerator;
+
+    /**
+     * POST /payment-initiation/payment-orders: inicia una orden de pago (201, o la original si es un reintento).
+     *
+     * @param request        la orden a iniciar
+     * @param idempotencyKey clave de idempotencia del cliente (opcional)
+     * @return la respuesta 201 CREATED
+     */
+    @PostMapping(path = PAYMENT_ORDERS_PATH, consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public Mono<ResponseEntity<InitiatePaymentOrderResponse>> initiatePaymentOrder(
+            @Valid @RequestBody final InitiatePaymentOrderRequest request,
+            @Size(min = 1, max = 255) @RequestHeader(value = "Idempotency-Key", required = false)
+            final String idempotencyKey) {
+        // Mapear DTO → dominio con una referencia nueva y la clave de idempotencia del cliente, si la envió
+        PaymentOrder domainOrder = mapper.toDomain(request, referenceGenerator.generate());
+        if (idempotencyKey != null) {
+            domainOrder = domainOrder.toBuilder()
+                    .idempotencyKey(IdempotencyKey.ofClientKey(idempotencyKey))
+                    .build();
+        }
+
+        // Llamar al caso de uso y retornar HTTP 201 CREATED
+        return initiatePaymentOrderUseCase.initiate(domainOrder)
+                .map(initiatedOrder -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(mapper.toInitiateResponse(initiatedOrder)));
+    }
+
+    /**
+     * GET /payment-initiation/payment-orders/{paymentOrderId}: consulta una orden (admite GET condicional).
+     *
+     * @param paymentOrderId  la referencia de la orden
+     * @param ifNoneMatch     cabecera If-None-Match (opcional)
+     * @param ifModifiedSince cabecera If-Modified-Since (opcional)
+     * @return la respuesta 200 OK con ETag y Last-Modified, o 304 NOT MODIFIED
+     */
+    @GetMapping(path = PAYMENT_ORDER_PATH,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public Mono<ResponseEntity<RetrievePaymentOrderResponse>> retrievePaymentOrder(
+            @Pattern(regexp = PAYMENT_ORDER_ID_PATTERN) @PathVariable("paymentOrderId") final String paymentOrderId,
+            @RequestHeader(value = "If-None-Match", required = false) final String ifNoneMatch,
+            @RequestHeader(value = "If-Modified-Since", required = false) final String ifModifiedSince) {
+        Mono<ResponseEntity<RetrievePaymentOrderResponse>> retrieve = retrievePaymentOrderUseCase
+                .retrieve(paymentOrderId)
+                .map(domainOrder -> PaymentOrderConditionalGet.ok(PaymentOrderStatusSnapshot.of(domainOrder))
+                        .body(mapper.toRetrieveResponse(domainOrder)));
+        if (!PaymentOrderConditionalGet.isConditional(ifNoneMatch, ifModifiedSince)) {
+            return retrieve;
+        }
+
+        // GET condicional: comparar con la versión actual antes de cargar la orden completa
+        return retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)
+                .flatMap(current -> PaymentOrderConditionalGet.isNotModified(ifNoneMatch, ifModifiedSince, current)
+                        ? Mono.just(PaymentOrderConditionalGet.<RetrievePaymentOrderResponse>notModified(current))
+                        : retrieve);
+    }
+
+    /**
+     * GET /payment-initiation/payment-orders/{paymentOrderId}/status: consulta el estado de una orden.
+     *
+     * @param paymentOrderId  la referencia de la orden
+     * @param ifNoneMatch     cabecera If-None-Match (opcional)
+     * @param ifModifiedSince cabecera If-Modified-Since (opcional)
+     * @return la respuesta 200 OK con ETag y Last-Modified, o 304 NOT MODIFIED
+     */
+    @GetMapping(path = PAYMENT_ORDER_STATUS_PATH,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public Mono<ResponseEntity<PaymentOrderStatusResponse>> retrievePaymentOrderStatus(
+            @Pattern(regexp = PAYMENT_ORDER_ID_PATTERN) @PathVariable("paymentOrderId") final String paymentOrderId,
+            @RequestHeader(value = "If-None-Match", required = false) final String ifNoneMatch,
+            @RequestHeader(value = "If-Modified-Since", required = false) final String ifModifiedSince) {
+        // Solo referencia, estado y última actualización; 304 sin cuerpo si no ha cambiado
+        return retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)
+                .map(statusSnapshot -> PaymentOrderConditionalGet.isNotModified(
+                        ifNoneMatch, ifModifiedSince, statusSnapshot)
+                        ? PaymentOrderConditionalGet.<PaymentOrderStatusResponse>notModified(statusSnapshot)
+                        : PaymentOrderConditionalGet.ok(statusSnapshot).body(mapper.toStatusResponse(statusSnapshot)));
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Adaptadores de entrada WebFlux del modo reactivo (perfil reactive).
+ * 
+ * <p>ReactivePaymentOrdersController publica la iniciación y las consultas de orden y de estado con
+ * el mismo contrato que PaymentOrdersController, sobre los casos de uso reactivos
+ * (ReactiveInitiatePaymentOrderUseCase, ReactiveRetrievePaymentOrderUseCase y
+ * ReactiveRetrievePaymentOrderStatusUseCase).
+ */
+package com.bank.paymentinitiation.adapter.in.reactive;
@@ -1,15 +1,35 @@
 package com.bank.paymentinitiation.adapter.in.rest;
 
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
 import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentStatusTransitionException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
 import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
+import jakarta.validation.ConstraintViolationException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -19,10 +39,28 @@ import java.util.stream.Collectors;
  * siguiendo el estándar RFC 7807 (Problem Details for HTTP APIs).
  * 
  * <p>Todas las respuestas de error usan content-type `application/problem+json`.
+ * 
+ * <p>Cada error manejado incrementa el contador {@code payment.api.errors} con los tags
+ * {@code exception} (tipo de la excepción) y {@code status} (código HTTP de la respuesta).
+ * 
+ * <p>Los 404 y 400 de dominio son el camino de error más frecuente (p. ej. barridos de
+ * referencias inexistentes), así que su manejo evita trabajo por respuesta: las excepciones llegan
+ * sin traza de pila, el mensaje se construye una sola vez al leerlo y el contador de cada tipo de
+ * excepción se resuelve una vez y se reutiliza.
+ * 
+ * <p>También traduce los errores de ReactivePaymentOrdersController en el modo reactivo: WebFlux
+ * lanza WebExchangeBindException y ServerWebInputException donde Spring MVC lanza
+ * MethodArgumentNotValidException y HttpMessageNotReadableException.
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    static final String ERROR_COUNTER = "payment.api.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
     /**
      * Maneja PaymentOrderNotFoundException (orden de pago no encontrada).
      *
@@ -35,6 +73,7 @@ public class GlobalExceptionHandler {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND, ex.getMessage());
         problemDetail.setTitle("Payment Order Not Found");
+        countError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
     }
 
@@ -50,6 +89,146 @@ public class GlobalExceptionHandler {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.BAD_REQUEST, ex.getMessage());
         problemDetail.setTitle("Invalid Payment Order");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja InvalidPaymentOrderQueryException (filtros o cursor de listado inválidos).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(InvalidPaymentOrderQueryException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidPaymentOrderQueryException(
+            final InvalidPaymentOrderQueryException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Payment Order Query");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja MethodArgumentTypeMismatchException (parámetro de consulta con formato inválido,
+     * p. ej. una fecha o un estado desconocido).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleMethodArgumentTypeMismatchException(
+            final MethodArgumentTypeMismatchException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "': " + ex.getValue());
+        problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja MissingServletRequestParameterException (falta un parámetro de consulta obligatorio,
+     * p. ej. el rango de fechas de una exportación).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ProblemDetail> handleMissingServletRequestParameterException(
+            final MissingServletRequestParameterException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, "Missing required parameter '" + ex.getParameterName() + "'");
+        problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja DuplicatePaymentOrderException (la orden choca con una existente).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 409 CONFLICT
+     */
+    @ExceptionHandler(DuplicatePaymentOrderException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicatePaymentOrderException(
+            final DuplicatePaymentOrderException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setTitle("Duplicate Payment Order");
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    /**
+     * Maneja InvalidPaymentStatusTransitionException (cambio de estado no permitido desde el
+     * estado actual de la orden).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 409 CONFLICT
+     */
+    @ExceptionHandler(InvalidPaymentStatusTransitionException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidPaymentStatusTransitionException(
+            final InvalidPaymentStatusTransitionException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setTitle("Invalid Status Transition");
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    /**
+     * Maneja PaymentOrderConflictException (otra escritura concurrente se adelantó y se agotaron
+     * los reintentos).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 409 CONFLICT
+     */
+    @ExceptionHandler(PaymentOrderConflictException.class)
+    public ResponseEntity<ProblemDetail> handlePaymentOrderConflictException(
+            final PaymentOrderConflictException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setTitle("Concurrent Status Change");
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    /**
+     * Maneja OptimisticLockingFailureException (versión obsoleta detectada por JPA fuera de los
+     * caminos que ya la traducen a PaymentOrderConflictException).
+     * 
+     * <p>No se expone el mensaje de Hibernate: solo que la orden cambió y conviene reintentar.
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 409 CONFLICT
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(
+            final OptimisticLockingFailureException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, "The payment order was modified concurrently, please retry");
+        problemDetail.setTitle("Concurrent Status Change");
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    /**
+     * Maneja ConstraintViolationException (validación de parámetros de cabecera o ruta fallida).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ProblemDetail> handleConstraintViolationException(
+            final ConstraintViolationException ex) {
+        String detail = ex.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, detail.isEmpty() ? "Validation failed" : detail);
+        problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
@@ -72,6 +251,7 @@ public class GlobalExceptionHandler {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.BAD_REQUEST, detail.isEmpty() ? "Validation failed" : detail);
         problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
@@ -99,9 +279,87 @@ public class GlobalExceptionHandler {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.BAD_REQUEST, detail);
         problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja WebExchangeBindException (validación de @Valid fallida en el modo reactivo).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleWebExchangeBindException(final WebExchangeBindException ex) {
+        String detail = ex.getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, detail.isEmpty() ? "Validation failed" : detail);
+        problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
+    /**
+     * Maneja ServerWebInputException (cuerpo ilegible, cabecera o parámetro inválido en el modo reactivo).
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 400 BAD REQUEST
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ProblemDetail> handleServerWebInputException(final ServerWebInputException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST,
+                ex.getReason() != null ? ex.getReason() : "Request body is not readable or has invalid format");
+        problemDetail.setTitle("Bad Request");
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    /**
+     * Maneja la falta de conexión a base de datos (pool o bulkhead agotados).
+     * 
+     * <p>Es una condición transitoria de sobrecarga: se responde 503 con Retry-After para que
+     * el cliente reintente en lugar de tratarlo como un error del servidor.
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 503 SERVICE UNAVAILABLE
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ProblemDetail> handleDatabaseUnavailableException(final RuntimeException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is temporarily overloaded, please retry");
+        problemDetail.setTitle("Service Unavailable");
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
+
+    /**
+     * Maneja PaymentOrderQueueFullException (cola de la iniciación asíncrona llena).
+     * 
+     * <p>Es contrapresión: la etapa de escritura no da abasto y el cliente debe reintentar más tarde.
+     *
+     * @param ex la excepción
+     * @return ResponseEntity con ProblemDetail y status 429 TOO MANY REQUESTS
+     */
+    @ExceptionHandler(PaymentOrderQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handlePaymentOrderQueueFullException(
+            final PaymentOrderQueueFullException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ex.getMessage());
+        problemDetail.setTitle("Too Many Requests");
+        countError(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
+
     /**
      * Maneja excepciones genéricas no manejadas (errores inesperados).
      *
@@ -114,7 +372,14 @@ public class GlobalExceptionHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "An unexpected error occurred: " + ex.getMessage());
         problemDetail.setTitle("Internal Server Error");
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
     }
-}
 
+    private void countError(final Exception ex, final HttpStatus status) {
+        // Cada tipo de excepción llega siempre al mismo handler, así que el tipo basta como clave
+        errorCounters.computeIfAbsent(ex.getClass(), type -> meterRegistry.counter(ERROR_COUNTER,
+                "exception", type.getSimpleName(), "status", String.valueOf(status.value())))
+                .increment();
+    }
+}
@@ -0,0 +1,129 @@
+package com.bank.paymentinitiation.adapter.in.rest;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+
+/**
+ * Validadores HTTP de una orden de pago y evaluación de los GET condicionales (RFC 9110).
+ *
+ * <p>El ETag es fuerte y se deriva de la versión y de updatedAt, que cambian juntos en cada cambio
+ * de estado (el resto de la orden es inmutable). Last-Modified es updatedAt en UTC, con la precisión
+ * de segundos de HTTP. Ambos se calculan desde PaymentOrderStatusSnapshot, así que la comparación
+ * no necesita cargar la orden completa.
+ *
+ * <p>Las respuestas llevan {@code Cache-Control: no-cache}: un cliente o proxy puede guardarlas,
+ * pero debe revalidarlas en cada consulta.
+ *
+ * <p>Es pública para que ReactivePaymentOrdersController (modo reactivo) responda con los mismos
+ * validadores: ResponseEntity sirve igual en Spring MVC y en WebFlux.
+ */
+public final class PaymentOrderConditionalGet {
+
+    private PaymentOrderConditionalGet() {
+    }
+
+    /**
+     * Indica si la petición trae alguna condición que evaluar.
+     *
+     * @param ifNoneMatch     cabecera If-None-Match
+     * @param ifModifiedSince cabecera If-Modified-Since
+     * @return true si hay alguna de las dos
+     */
+    public static boolean isConditional(final String ifNoneMatch, final String ifModifiedSince) {
+        return ifNoneMatch != null || ifModifiedSince != null;
+    }
+
+    /**
+     * Evalúa las condiciones contra el estado actual de la orden.
+     *
+     * <p>Como indica la RFC, If-Modified-Since solo se evalúa si no hay If-None-Match; una fecha
+     * mal formada se ignora.
+     *
+     * @param ifNoneMatch     cabecera If-None-Match (lista de ETags o {@code *})
+     * @param ifModifiedSince cabecera If-Modified-Since (fecha HTTP)
+     * @param current         el estado actual de la orden
+     * @return true si se puede responder 304
+     */
+    public static boolean isNotModified(final String ifNoneMatch, final String ifModifiedSince,
+            final PaymentOrderStatusSnapshot current) {
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, eTag(current));
+        }
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toEpochSecond();
+                return lastModified(current) / 1000 <= since;
+            } catch (DateTimeParseException ex) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Respuesta 304 con los validadores actuales.
+     *
+     * @param current el estado actual de la orden
+     * @param <T>     tipo del cuerpo (no se envía)
+     * @return ResponseEntity 304 NOT MODIFIED
+     */
+    public static <T> ResponseEntity<T> notModified(final PaymentOrderStatusSnapshot current) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current).build();
+    }
+
+    /**
+     * Respuesta 200 con los validadores de la orden devuelta.
+     *
+     * @param current el estado de la orden devuelta
+     * @return builder 200 OK con ETag, Last-Modified y Cache-Control
+     */
+    public static ResponseEntity.BodyBuilder ok(final PaymentOrderStatusSnapshot current) {
+        return withValidators(ResponseEntity.ok(), current);
+    }
+
+    static String eTag(final PaymentOrderStatusSnapshot snapshot) {
+        long version = Objects.requireNonNullElse(snapshot.getVersion(), 0L);
+        return "\"" + version + "-" + Long.toHexString(lastModified(snapshot)) + "\"";
+    }
+
+    static long lastModified(final PaymentOrderStatusSnapshot snapshot) {
+        return snapshot.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(final ResponseEntity.BodyBuilder builder,
+            final PaymentOrderStatusSnapshot current) {
+        return builder.eTag(eTag(current))
+                .lastModified(lastModified(current))
+                .cacheControl(CacheControl.noCache());
+    }
+
+    /**
+     * Compara con comparación débil, la que exige If-None-Match: un proxy que comprime la respuesta
+     * puede haber convertido el ETag en {@code W/"..."}.
+     */
+    private static boolean matches(final String ifNoneMatch, final String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
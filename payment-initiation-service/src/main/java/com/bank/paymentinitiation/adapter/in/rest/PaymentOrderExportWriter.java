@@ -0,0 +1,147 @@
+package com.bank.paymentinitiation.adapter.in.rest;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializa una exportación de órdenes de pago directamente sobre el cuerpo de la respuesta.
+ * 
+ * <p>Cada orden se convierte con PaymentOrderRestMapper (el mismo DTO que la consulta de una
+ * orden) y se escribe en cuanto llega, sin acumular la exportación en memoria:
+ * <ul>
+ *   <li>NDJSON: un RetrievePaymentOrderResponse por línea, con el ObjectMapper de la aplicación</li>
+ *   <li>CSV (RFC 4180): cabecera fija y una fila por orden, con los mismos campos</li>
+ * </ul>
+ *
+ * <p>Los dos formatos escriben en un buffer y vuelcan el cuerpo por bloques, no por orden: NDJSON con
+ * un único SequenceWriter (sin FLUSH_AFTER_WRITE_VALUE) y CSV con un BufferedWriter.
+ */
+@Component
+public class PaymentOrderExportWriter {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    static final String CSV_HEADER = "paymentOrderId,externalReference,debtorIban,creditorIban,amount,currency,"
+            + "remittanceInformation,requestedExecutionDate,status,lastUpdate";
+
+    private final PaymentOrderRestMapper mapper;
+    private final ObjectWriter jsonWriter;
+
+    public PaymentOrderExportWriter(final PaymentOrderRestMapper mapper, final ObjectMapper objectMapper) {
+        this.mapper = mapper;
+        // El stream de la respuesta lo cierra Spring: el ObjectWriter no debe cerrarlo tras cada línea
+        this.jsonWriter = objectMapper.writerFor(RetrievePaymentOrderResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Escribe la exportación como NDJSON.
+     *
+     * @param export la exportación a recorrer
+     * @param out el cuerpo de la respuesta
+     * @return el número de órdenes escritas
+     * @throws IOException si falla la escritura
+     */
+    public long writeNdjson(final PaymentOrderExport export, final OutputStream out) throws IOException {
+        long count;
+        // Un único generador para toda la exportación; el separador va entre documentos
+        try (SequenceWriter lines = jsonWriter.writeValues(out)) {
+            count = export.writeTo(order -> {
+                try {
+                    lines.write(mapper.toRetrieveResponse(order));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (count > 0) {
+            out.write('\n'); // Cada línea, también la última, termina en salto de línea
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Escribe la exportación como CSV, con una fila de cabecera.
+     *
+     * @param export la exportación a recorrer
+     * @param out el cuerpo de la respuesta
+     * @return el número de órdenes escritas
+     * @throws IOException si falla la escritura
+     */
+    public long writeCsv(final PaymentOrderExport export, final OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            long count = export.writeTo(order -> {
+                try {
+                    writeCsvRow(writer, mapper.toRetrieveResponse(order));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+            return count;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void writeCsvRow(final Writer writer, final RetrievePaymentOrderResponse row) throws IOException {
+        writer.write(csv(row.getPaymentOrderId()));
+        writer.write(',');
+        writer.write(csv(row.getExternalReference()));
+        writer.write(',');
+        writer.write(csv(row.getDebtorAccount().getIban()));
+        writer.write(',');
+        writer.write(csv(row.getCreditorAccount().getIban()));
+        writer.write(',');
+        writer.write(row.getInstructedAmount().getAmount().toPlainString());
+        writer.write(',');
+        writer.write(row.getInstructedAmount().getCurrency().getValue());
+        writer.write(',');
+        writer.write(csv(row.getRemittanceInformation()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getRequestedExecutionDate()));
+        writer.write(',');
+        writer.write(row.getStatus().getValue());
+        writer.write(',');
+        writer.write(String.valueOf(row.getLastUpdate()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escapa un campo de texto según RFC 4180 (entre comillas si contiene separador, comillas o saltos).
+     */
+    static String csv(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
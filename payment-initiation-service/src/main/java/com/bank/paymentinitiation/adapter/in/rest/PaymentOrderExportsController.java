@@ -0,0 +1,86 @@
+package com.bank.paymentinitiation.adapter.in.rest;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.port.in.ExportPaymentOrdersUseCase;
+import com.bank.paymentinitiation.generated.api.PaymentOrderExportsApi;
+import com.bank.paymentinitiation.generated.model.PaymentStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Controlador REST que implementa PaymentOrderExportsApi (generada por OpenAPI).
+ * 
+ * <p>Este controlador:
+ * <ul>
+ *   <li>Valida los filtros antes de empezar a escribir (un error posterior ya no puede ser un 400)</li>
+ *   <li>Elige NDJSON o CSV según la cabecera Accept (NDJSON por defecto)</li>
+ *   <li>Devuelve un StreamingResponseBody: las órdenes se escriben en un hilo de la petición
+ *       asíncrona mientras se leen de la base de datos</li>
+ * </ul>
+ * 
+ * <p>Solo en el modo servlet: la exportación escribe en streaming sobre la respuesta de Spring MVC.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PaymentOrderExportsController implements PaymentOrderExportsApi {
+
+    private final ExportPaymentOrdersUseCase exportPaymentOrdersUseCase;
+    private final PaymentOrderRestMapper mapper;
+    private final PaymentOrderExportWriter exportWriter;
+    private final HttpServletRequest request;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportPaymentOrders(
+            final OffsetDateTime createdFrom, final OffsetDateTime createdTo, final PaymentStatus status) {
+        // Validar filtros y preparar la exportación (todavía no se lee ninguna fila)
+        PaymentOrderExport export = exportPaymentOrdersUseCase.export(
+                mapper.toSearchCriteria(status, null, null, null, null, createdFrom, createdTo));
+
+        // Elegir formato y escribir en streaming
+        boolean csv = prefersCsv(request.getHeader(HttpHeaders.ACCEPT));
+        StreamingResponseBody body = csv
+                ? out -> exportWriter.writeCsv(export, out)
+                : out -> exportWriter.writeNdjson(export, out);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? PaymentOrderExportWriter.TEXT_CSV : PaymentOrderExportWriter.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "payment-orders.csv" : "payment-orders.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Indica si el cliente pide CSV: el primer tipo concreto de Accept compatible con un formato
+     * de exportación decide; sin Accept o con comodines se usa NDJSON.
+     */
+    static boolean prefersCsv(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(PaymentOrderExportWriter.TEXT_CSV)) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(PaymentOrderExportWriter.APPLICATION_NDJSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -2,20 +2,40 @@ package com.bank.paymentinitiation.adapter.in.rest;
 
 import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
 import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.IngestPaymentOrderUseCase;
 import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.ListPaymentOrdersUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
 import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
 import com.bank.paymentinitiation.generated.api.PaymentOrdersApi;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusResponse;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchRequest;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderListResponse;
 import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
 import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
-import jakarta.validation.Valid;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * Controlador REST que implementa PaymentOrdersApi (generada por OpenAPI).
@@ -27,26 +47,59 @@ import jakarta.validation.Valid;
  *   <li>Mapea entre DTOs REST y modelo de dominio</li>
  *   <li>Retorna respuestas HTTP apropiadas</li>
  * </ul>
+ * 
+ * <p>Con la iniciación asíncrona activa (payment.ingestion.enabled) POST /payment-orders encola la
+ * orden en IngestPaymentOrderUseCase y responde 202 Accepted en lugar de 201 Created.
+ * 
+ * <p>Las consultas de una orden y de su estado admiten GET condicional (If-None-Match /
+ * If-Modified-Since) con ETag y Last-Modified; ver PaymentOrderConditionalGet.
+ * 
+ * <p>Las anotaciones de validación (@Valid, @Size, @Pattern) se declaran solo en PaymentOrdersApi:
+ * Bean Validation no permite redefinirlas en el método que la implementa.
+ * 
+ * <p>Solo se carga en el modo servlet; con el perfil reactive las tres operaciones principales las
+ * atiende ReactivePaymentOrdersController.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class PaymentOrdersController implements PaymentOrdersApi {
 
+    private static final String STATUS_PATH = "/payment-initiation/payment-orders/%s/status";
+
     private final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
     private final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+    private final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+    private final ListPaymentOrdersUseCase listPaymentOrdersUseCase;
+    private final ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
     private final PaymentOrderRestMapper mapper;
     private final PaymentOrderReferenceGenerator referenceGenerator;
+    private final ObjectProvider<IngestPaymentOrderUseCase> ingestPaymentOrderUseCase;
 
     @Override
     public ResponseEntity<InitiatePaymentOrderResponse> initiatePaymentOrder(
-            @Valid final InitiatePaymentOrderRequest request) {
+            final InitiatePaymentOrderRequest request, final String idempotencyKey) {
         // Generar paymentOrderReference
         String paymentOrderReference = referenceGenerator.generate();
 
-        // Mapear DTO → dominio
+        // Mapear DTO → dominio (con la clave de idempotencia del cliente, si la envió)
         PaymentOrder domainOrder = mapper.toDomain(request, paymentOrderReference);
-
-        // Llamar al caso de uso
+        if (idempotencyKey != null) {
+            domainOrder = domainOrder.toBuilder()
+                    .idempotencyKey(IdempotencyKey.ofClientKey(idempotencyKey))
+                    .build();
+        }
+
+        // Iniciación asíncrona: 202 en cuanto la orden está en el journal, sin esperar a la base de datos
+        IngestPaymentOrderUseCase ingestion = ingestPaymentOrderUseCase.getIfAvailable();
+        if (ingestion != null) {
+            PaymentOrder acceptedOrder = ingestion.enqueue(domainOrder);
+            return ResponseEntity.accepted()
+                    .location(URI.create(STATUS_PATH.formatted(acceptedOrder.getPaymentOrderReference())))
+                    .body(mapper.toInitiateResponse(acceptedOrder));
+        }
+
+        // Llamar al caso de uso (un reintento devuelve la orden original)
         PaymentOrder initiatedOrder = initiatePaymentOrderUseCase.initiate(domainOrder);
 
         // Mapear dominio → DTO de respuesta
@@ -56,30 +109,103 @@ public class PaymentOrdersController implements PaymentOrdersApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    public ResponseEntity<InitiatePaymentOrdersBatchResponse> initiatePaymentOrdersBatch(
+            final InitiatePaymentOrdersBatchRequest request) {
+        // Mapear cada DTO → dominio con su propia paymentOrderReference
+        List<PaymentOrder> domainOrders = request.getPaymentOrders().stream()
+                .map(item -> mapper.toDomain(item, referenceGenerator.generate()))
+                .toList();
+
+        // Llamar al caso de uso por lote (validación en una pasada + inserciones por bloques)
+        List<PaymentOrderInitiationResult> results = initiatePaymentOrderUseCase.initiateAll(domainOrders);
+
+        // Retornar respuesta HTTP 200 OK con el resultado de cada orden
+        return ResponseEntity.ok(mapper.toBatchResponse(results));
+    }
+
+    @Override
+    public ResponseEntity<ChangePaymentOrdersStatusResponse> changePaymentOrdersStatus(
+            final ChangePaymentOrdersStatusRequest request) {
+        // Llamar al caso de uso por lote (validación en una pasada + UPDATE en bloque por transición)
+        List<PaymentOrderStatusChangeResult> results =
+                changePaymentOrderStatusUseCase.changeStatusAll(mapper.toStatusChanges(request));
+
+        // Retornar respuesta HTTP 200 OK con el resultado de cada cambio
+        return ResponseEntity.ok(mapper.toStatusChangeResponse(results));
+    }
+
     @Override
     public ResponseEntity<RetrievePaymentOrderResponse> retrievePaymentOrder(
-            final String paymentOrderId) {
+            final String paymentOrderId, final String ifNoneMatch, final String ifModifiedSince) {
+        // GET condicional: comparar con la versión actual antes de cargar la orden completa
+        if (PaymentOrderConditionalGet.isConditional(ifNoneMatch, ifModifiedSince)) {
+            PaymentOrderStatusSnapshot current =
+                    retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId);
+            if (PaymentOrderConditionalGet.isNotModified(ifNoneMatch, ifModifiedSince, current)) {
+                return PaymentOrderConditionalGet.notModified(current);
+            }
+        }
+
         // Llamar al caso de uso
         PaymentOrder domainOrder = retrievePaymentOrderUseCase.retrieve(paymentOrderId);
 
         // Mapear dominio → DTO de respuesta
         RetrievePaymentOrderResponse response = mapper.toRetrieveResponse(domainOrder);
 
-        // Retornar respuesta HTTP 200 OK
-        return ResponseEntity.ok(response);
+        // Retornar respuesta HTTP 200 OK con los validadores de la orden devuelta
+        return PaymentOrderConditionalGet.ok(PaymentOrderStatusSnapshot.of(domainOrder)).body(response);
     }
 
     @Override
     public ResponseEntity<PaymentOrderStatusResponse> retrievePaymentOrderStatus(
-            final String paymentOrderId) {
-        // Llamar al caso de uso (necesita orden completa para mapear paymentOrderReference y lastUpdated)
-        PaymentOrder domainOrder = retrievePaymentOrderUseCase.retrieve(paymentOrderId);
+            final String paymentOrderId, final String ifNoneMatch, final String ifModifiedSince) {
+        // Llamar al caso de uso (solo referencia, estado y última actualización; no carga la orden completa)
+        PaymentOrderStatusSnapshot statusSnapshot =
+                retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId);
+
+        // GET condicional: 304 sin cuerpo si no ha cambiado
+        if (PaymentOrderConditionalGet.isNotModified(ifNoneMatch, ifModifiedSince, statusSnapshot)) {
+            return PaymentOrderConditionalGet.notModified(statusSnapshot);
+        }
 
         // Mapear dominio → DTO de respuesta
-        PaymentOrderStatusResponse response = mapper.toStatusResponse(domainOrder);
+        PaymentOrderStatusResponse response = mapper.toStatusResponse(statusSnapshot);
 
         // Retornar respuesta HTTP 200 OK
-        return ResponseEntity.ok(response);
+        return PaymentOrderConditionalGet.ok(statusSnapshot).body(response);
     }
-}
 
+    @Override
+    public ResponseEntity<PaymentOrderStatusResponse> changePaymentOrderStatus(
+            final String paymentOrderId, final ChangePaymentOrderStatusRequest request) {
+        // Llamar al caso de uso (compare-and-set sobre estado y versión; 409 si se agotan los reintentos)
+        PaymentOrderStatusSnapshot statusSnapshot = changePaymentOrderStatusUseCase.changeStatus(
+                paymentOrderId, mapper.toTargetStatus(request));
+
+        // Retornar respuesta HTTP 200 OK con el estado resultante
+        return ResponseEntity.ok(mapper.toStatusResponse(statusSnapshot));
+    }
+
+    @Override
+    public ResponseEntity<PaymentOrderListResponse> listPaymentOrders(
+            final com.bank.paymentinitiation.generated.model.PaymentStatus status,
+            final String debtorIban,
+            final String creditorIban,
+            final LocalDate requestedExecutionDateFrom,
+            final LocalDate requestedExecutionDateTo,
+            final OffsetDateTime createdFrom,
+            final OffsetDateTime createdTo,
+            final Integer limit,
+            final String cursor) {
+        // Mapear filtros y cursor opaco → dominio
+        PaymentOrderPage page = listPaymentOrdersUseCase.list(
+                mapper.toSearchCriteria(status, debtorIban, creditorIban,
+                        requestedExecutionDateFrom, requestedExecutionDateTo, createdFrom, createdTo),
+                mapper.toCursor(cursor),
+                limit);
+
+        // Retornar respuesta HTTP 200 OK con la página y el cursor de la siguiente
+        return ResponseEntity.ok(mapper.toListResponse(page));
+    }
+}
@@ -0,0 +1,135 @@
+package com.bank.paymentinitiation.adapter.in.rest.json;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Escribe fechas ISO-8601 con el mismo texto que JavaTimeModule (ISO_LOCAL_DATE e
+ * ISO_OFFSET_DATE_TIME), pero sin pasar por DateTimeFormatter.
+ *
+ * <p>Los dígitos salen de una tabla precalculada de pares 00-99 y se escriben sobre un char[] que
+ * el generador copia directamente, sin crear el String intermedio. El camino rápido cubre los años
+ * 0-9999 y, para OffsetDateTime, el offset UTC (el que usa PaymentOrderRestMapper); el resto se
+ * delega en DateTimeFormatter. Con WRITE_DATES_AS_TIMESTAMPS activo (Spring Boot lo desactiva) se
+ * usa el serializador de JavaTimeModule.
+ */
+final class JsonDates {
+
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ
+    private static final int MAX_DATE_TIME_LENGTH = 30;
+    private static final int DATE_LENGTH = 10;
+    private static final int MAX_YEAR = 9999;
+
+    private JsonDates() {
+    }
+
+    /**
+     * Escribe una fecha como {@code yyyy-MM-dd}, o null.
+     *
+     * @param gen      el generador
+     * @param provider el proveedor de serializadores
+     * @param value    la fecha
+     * @throws IOException si falla la escritura
+     */
+    static void writeDate(final JsonGenerator gen, final SerializerProvider provider, final LocalDate value)
+            throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+        } else if (value.getYear() < 0 || value.getYear() > MAX_YEAR) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(value));
+        } else {
+            char[] buffer = new char[DATE_LENGTH];
+            writeDate(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            gen.writeString(buffer, 0, DATE_LENGTH);
+        }
+    }
+
+    /**
+     * Escribe una fecha y hora con offset como {@code yyyy-MM-ddTHH:mm:ss[.fracción]Z}, o null.
+     *
+     * <p>Como ISO_OFFSET_DATE_TIME, los segundos se escriben siempre y la fracción solo si no es
+     * cero, sin ceros finales.
+     *
+     * @param gen      el generador
+     * @param provider el proveedor de serializadores
+     * @param value    la fecha y hora
+     * @throws IOException si falla la escritura
+     */
+    static void writeDateTime(final JsonGenerator gen, final SerializerProvider provider, final OffsetDateTime value)
+            throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+            return;
+        }
+        int year = value.getYear();
+        if (!ZoneOffset.UTC.equals(value.getOffset()) || year < 0 || year > MAX_YEAR) {
+            gen.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        writeDate(buffer, year, value.getMonthValue(), value.getDayOfMonth());
+        buffer[10] = 'T';
+        writePair(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        writePair(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        writePair(buffer, 17, value.getSecond());
+        int length = writeFraction(buffer, 19, value.getNano());
+        buffer[length++] = 'Z';
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void writeDate(final char[] buffer, final int year, final int month, final int day) {
+        writePair(buffer, 0, year / 100);
+        writePair(buffer, 2, year % 100);
+        buffer[4] = '-';
+        writePair(buffer, 5, month);
+        buffer[7] = '-';
+        writePair(buffer, 8, day);
+    }
+
+    private static int writeFraction(final char[] buffer, final int offset, final int nanos) {
+        if (nanos == 0) {
+            return offset;
+        }
+        // Nueve dígitos y se recortan los ceros finales
+        int position = offset;
+        buffer[position++] = '.';
+        int divisor = 100_000_000;
+        int remainder = nanos;
+        while (remainder > 0) {
+            buffer[position++] = (char) ('0' + remainder / divisor);
+            remainder %= divisor;
+            divisor /= 10;
+        }
+        return position;
+    }
+
+    private static void writePair(final char[] buffer, final int offset, final int value) {
+        buffer[offset] = DIGIT_TENS[value];
+        buffer[offset + 1] = DIGIT_ONES[value];
+    }
+}
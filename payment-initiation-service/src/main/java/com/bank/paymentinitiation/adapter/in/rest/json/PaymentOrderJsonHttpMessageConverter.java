@@ -0,0 +1,98 @@
+package com.bank.paymentinitiation.adapter.in.rest.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
+/**
+ * Conversor JSON de Spring MVC con ObjectWriter y ObjectReader precalculados para los DTOs del
+ * camino caliente.
+ *
+ * <p>MappingJackson2HttpMessageConverter crea en cada petición un ObjectWriter (o ObjectReader) y
+ * resuelve de nuevo el tipo y su serializador raíz. Este conversor los prepara una vez para
+ * InitiatePaymentOrderResponse, RetrievePaymentOrderResponse, PaymentOrderStatusResponse (escritura)
+ * e InitiatePaymentOrderRequest (lectura); con esos tipos, y en UTF-8, los usa directamente. Para
+ * cualquier otro tipo, vista Jackson o juego de caracteres se comporta como el conversor base, y los
+ * errores se traducen a las mismas excepciones (y por tanto al mismo 400 de GlobalExceptionHandler).
+ *
+ * <p>Al ser un bean de tipo MappingJackson2HttpMessageConverter, Spring Boot lo usa en lugar del
+ * conversor JSON por defecto (ver PaymentJsonConfig).
+ */
+public class PaymentOrderJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<Class<?>, ObjectWriter> writers;
+    private final ObjectReader initiateRequestReader;
+
+    public PaymentOrderJsonHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper);
+        // Spring cierra el cuerpo de la respuesta: el ObjectWriter solo debe volcarlo
+        this.writers = Map.of(
+                InitiatePaymentOrderResponse.class, writerFor(objectMapper, InitiatePaymentOrderResponse.class),
+                RetrievePaymentOrderResponse.class, writerFor(objectMapper, RetrievePaymentOrderResponse.class),
+                PaymentOrderStatusResponse.class, writerFor(objectMapper, PaymentOrderStatusResponse.class));
+        this.initiateRequestReader = objectMapper.readerFor(InitiatePaymentOrderRequest.class);
+    }
+
+    private static ObjectWriter writerFor(final ObjectMapper objectMapper, final Class<?> type) {
+        return objectMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage)
+            throws IOException {
+        if (type != InitiatePaymentOrderRequest.class || !isUtf8(inputMessage.getHeaders().getContentType())) {
+            return super.read(type, contextClass, inputMessage);
+        }
+        try {
+            return initiateRequestReader.readValue(inputMessage.getBody());
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+            throws IOException {
+        ObjectWriter writer = object == null ? null : writers.get(object.getClass());
+        if (writer == null || !isUtf8(outputMessage.getHeaders().getContentType())) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        try {
+            writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private static boolean isUtf8(final MediaType contentType) {
+        Charset charset = contentType == null ? null : contentType.getCharset();
+        return charset == null || StandardCharsets.UTF_8.equals(charset);
+    }
+}
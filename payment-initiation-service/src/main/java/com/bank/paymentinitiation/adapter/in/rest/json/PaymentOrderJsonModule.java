@@ -0,0 +1,168 @@
+package com.bank.paymentinitiation.adapter.in.rest.json;
+
+import java.io.IOException;
+
+import com.bank.paymentinitiation.generated.model.CreditorAccount;
+import com.bank.paymentinitiation.generated.model.DebtorAccount;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.PaymentAmount;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Módulo Jackson con serializadores escritos a mano para los DTOs de respuesta más frecuentes.
+ *
+ * <p>Sustituyen al BeanSerializer (que recorre las propiedades por reflexión y resuelve un
+ * serializador por campo) por escrituras directas sobre el JsonGenerator:
+ * <ul>
+ *   <li>Los nombres de campo son SerializedString precalculados (ya escapados y codificados)</li>
+ *   <li>Las fechas se escriben con JsonDates, sin DateTimeFormatter</li>
+ *   <li>Los enums se escriben con su valor de contrato (getValue), como hace su @JsonValue</li>
+ * </ul>
+ *
+ * <p>El JSON resultante es idéntico al de la serialización por reflexión con la configuración de
+ * Spring Boot (campos en el orden del contrato, null explícito y fechas ISO-8601). Si el contrato OpenAPI cambia
+ * estos DTOs, hay que actualizar aquí los campos: PaymentOrderJsonModuleTest compara ambas salidas.
+ *
+ * <p>Spring Boot registra el módulo en el ObjectMapper de la aplicación al ser un bean (ver
+ * PaymentJsonConfig), así que se usa también en los eventos SSE y en la exportación NDJSON.
+ */
+public class PaymentOrderJsonModule extends SimpleModule {
+
+    private static final SerializableString PAYMENT_ORDER_ID = new SerializedString("paymentOrderId");
+    private static final SerializableString EXTERNAL_REFERENCE = new SerializedString("externalReference");
+    private static final SerializableString DEBTOR_ACCOUNT = new SerializedString("debtorAccount");
+    private static final SerializableString CREDITOR_ACCOUNT = new SerializedString("creditorAccount");
+    private static final SerializableString IBAN = new SerializedString("iban");
+    private static final SerializableString INSTRUCTED_AMOUNT = new SerializedString("instructedAmount");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString CURRENCY = new SerializedString("currency");
+    private static final SerializableString REMITTANCE_INFORMATION = new SerializedString("remittanceInformation");
+    private static final SerializableString REQUESTED_EXECUTION_DATE =
+            new SerializedString("requestedExecutionDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString LAST_UPDATE = new SerializedString("lastUpdate");
+
+    public PaymentOrderJsonModule() {
+        super(PaymentOrderJsonModule.class.getSimpleName());
+        addSerializer(InitiatePaymentOrderResponse.class, new InitiatePaymentOrderResponseSerializer());
+        addSerializer(RetrievePaymentOrderResponse.class, new RetrievePaymentOrderResponseSerializer());
+        addSerializer(PaymentOrderStatusResponse.class, new PaymentOrderStatusResponseSerializer());
+    }
+
+    private static final class InitiatePaymentOrderResponseSerializer
+            extends StdSerializer<InitiatePaymentOrderResponse> {
+
+        InitiatePaymentOrderResponseSerializer() {
+            super(InitiatePaymentOrderResponse.class);
+        }
+
+        @Override
+        public void serialize(final InitiatePaymentOrderResponse value, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, PAYMENT_ORDER_ID, value.getPaymentOrderId());
+            writeStatus(gen, value.getStatus());
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class RetrievePaymentOrderResponseSerializer
+            extends StdSerializer<RetrievePaymentOrderResponse> {
+
+        RetrievePaymentOrderResponseSerializer() {
+            super(RetrievePaymentOrderResponse.class);
+        }
+
+        @Override
+        public void serialize(final RetrievePaymentOrderResponse value, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, PAYMENT_ORDER_ID, value.getPaymentOrderId());
+            writeString(gen, EXTERNAL_REFERENCE, value.getExternalReference());
+            DebtorAccount debtorAccount = value.getDebtorAccount();
+            writeAccount(gen, DEBTOR_ACCOUNT, debtorAccount == null ? null : debtorAccount.getIban(),
+                    debtorAccount != null);
+            CreditorAccount creditorAccount = value.getCreditorAccount();
+            writeAccount(gen, CREDITOR_ACCOUNT, creditorAccount == null ? null : creditorAccount.getIban(),
+                    creditorAccount != null);
+            writeAmount(gen, value.getInstructedAmount());
+            writeString(gen, REMITTANCE_INFORMATION, value.getRemittanceInformation());
+            gen.writeFieldName(REQUESTED_EXECUTION_DATE);
+            JsonDates.writeDate(gen, provider, value.getRequestedExecutionDate());
+            writeStatus(gen, value.getStatus());
+            gen.writeFieldName(LAST_UPDATE);
+            JsonDates.writeDateTime(gen, provider, value.getLastUpdate());
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PaymentOrderStatusResponseSerializer
+            extends StdSerializer<PaymentOrderStatusResponse> {
+
+        PaymentOrderStatusResponseSerializer() {
+            super(PaymentOrderStatusResponse.class);
+        }
+
+        @Override
+        public void serialize(final PaymentOrderStatusResponse value, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, PAYMENT_ORDER_ID, value.getPaymentOrderId());
+            writeStatus(gen, value.getStatus());
+            gen.writeFieldName(LAST_UPDATE);
+            JsonDates.writeDateTime(gen, provider, value.getLastUpdate());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(final JsonGenerator gen, final SerializableString name, final String value)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeStatus(final JsonGenerator gen, final PaymentStatus status) throws IOException {
+        writeString(gen, STATUS, status == null ? null : status.getValue());
+    }
+
+    private static void writeAccount(final JsonGenerator gen, final SerializableString name, final String iban,
+            final boolean present) throws IOException {
+        gen.writeFieldName(name);
+        if (!present) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeString(gen, IBAN, iban);
+        gen.writeEndObject();
+    }
+
+    private static void writeAmount(final JsonGenerator gen, final PaymentAmount amount) throws IOException {
+        gen.writeFieldName(INSTRUCTED_AMOUNT);
+        if (amount == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(AMOUNT);
+        if (amount.getAmount() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(amount.getAmount());
+        }
+        writeString(gen, CURRENCY, amount.getCurrency() == null ? null : amount.getCurrency().getValue());
+        gen.writeEndObject();
+    }
+}
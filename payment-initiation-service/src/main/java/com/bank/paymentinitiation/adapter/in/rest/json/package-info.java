@@ -0,0 +1,15 @@
+/**
+ * Serialización JSON de los DTOs REST más frecuentes sin reflexión.
+ * 
+ * <p>Este paquete contiene:
+ * <ul>
+ *   <li>PaymentOrderJsonModule: Módulo Jackson con los serializadores escritos a mano de
+ *       InitiatePaymentOrderResponse, RetrievePaymentOrderResponse y PaymentOrderStatusResponse</li>
+ *   <li>PaymentOrderJsonHttpMessageConverter: Conversor JSON de Spring MVC con ObjectWriter y
+ *       ObjectReader precalculados para esos DTOs</li>
+ *   <li>JsonDates: Escritura de fechas ISO-8601 sin DateTimeFormatter</li>
+ * </ul>
+ * 
+ * <p>La salida es idéntica, byte a byte, a la serialización por reflexión de Jackson.
+ */
+package com.bank.paymentinitiation.adapter.in.rest.json;
@@ -1,25 +1,47 @@
 package com.bank.paymentinitiation.adapter.in.rest.mapper;
 
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.model.BatchPaymentOrderResult;
+import com.bank.paymentinitiation.generated.model.BatchPaymentOrderStatusResult;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusResponse;
 import com.bank.paymentinitiation.generated.model.CreditorAccount;
 import com.bank.paymentinitiation.generated.model.DebtorAccount;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderListResponse;
 import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
 import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import io.micrometer.core.annotation.Timed;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 
 /**
  * Mapper MapStruct para convertir entre DTOs REST (generados por OpenAPI) y PaymentOrder (dominio).
@@ -31,9 +53,12 @@ import java.time.ZoneOffset;
  *   <li>PaymentAmount (generado) ↔ PaymentAmount (dominio)</li>
  *   <li>Account objects ↔ Reference value objects</li>
  *   <li>LocalDateTime ↔ OffsetDateTime</li>
+ *   <li>Filtros de listado ↔ PaymentOrderSearchCriteria y PaymentOrderCursor ↔ cursor opaco</li>
+ *   <li>Lotes de cambios de estado ↔ PaymentOrderStatusChange y PaymentOrderStatusChangeResult</li>
  * </ul>
  */
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+@Timed(value = "payment.mapper", histogram = true)
 public interface PaymentOrderRestMapper {
 
     /**
@@ -56,6 +81,8 @@ public interface PaymentOrderRestMapper {
     @Mapping(target = "status", ignore = true) // Se establece en initiate()
     @Mapping(target = "createdAt", ignore = true) // Se establece en initiate()
     @Mapping(target = "updatedAt", ignore = true) // Se establece en initiate()
+    @Mapping(target = "idempotencyKey", ignore = true) // Viene de la cabecera Idempotency-Key
+    @Mapping(target = "version", ignore = true) // Lo asigna la persistencia
     PaymentOrder toDomain(InitiatePaymentOrderRequest request, String paymentOrderReference);
 
     /**
@@ -96,6 +123,225 @@ public interface PaymentOrderRestMapper {
     @Mapping(target = "lastUpdate", source = "updatedAt", qualifiedByName = "localDateTimeToOffsetDateTime")
     PaymentOrderStatusResponse toStatusResponse(PaymentOrder domain);
 
+    /**
+     * Convierte la vista de estado del dominio a PaymentOrderStatusResponse.
+     *
+     * @param snapshot la vista de estado (referencia, estado y última actualización)
+     * @return el DTO de response
+     */
+    @Mapping(target = "paymentOrderId", source = "paymentOrderReference")
+    @Mapping(target = "status", expression = "java(com.bank.paymentinitiation.generated.model.PaymentStatus.fromValue(snapshot.getStatus().name()))")
+    @Mapping(target = "lastUpdate", source = "updatedAt", qualifiedByName = "localDateTimeToOffsetDateTime")
+    PaymentOrderStatusResponse toStatusResponse(PaymentOrderStatusSnapshot snapshot);
+
+    /**
+     * Convierte los resultados de una iniciación por lote a InitiatePaymentOrdersBatchResponse.
+     * 
+     * <p>Las órdenes rechazadas se reportan con un ProblemDetail 400 y las que no se pudieron
+     * persistir con un ProblemDetail 500, igual que en la iniciación individual.
+     *
+     * @param results los resultados del lote, en el orden de la solicitud
+     * @return el DTO de response
+     */
+    default InitiatePaymentOrdersBatchResponse toBatchResponse(List<PaymentOrderInitiationResult> results) {
+        List<BatchPaymentOrderResult> items = results.stream()
+                .map(this::toBatchResult)
+                .toList();
+        int succeeded = (int) results.stream().filter(PaymentOrderInitiationResult::isInitiated).count();
+        return new InitiatePaymentOrdersBatchResponse(succeeded, results.size() - succeeded, items);
+    }
+
+    /**
+     * Convierte el resultado de una orden del lote a BatchPaymentOrderResult.
+     *
+     * @param result el resultado de la orden
+     * @return el DTO con paymentOrderId y status, o con el error si no se inició
+     */
+    default BatchPaymentOrderResult toBatchResult(PaymentOrderInitiationResult result) {
+        BatchPaymentOrderResult item = new BatchPaymentOrderResult(result.getIndex());
+        switch (result.getOutcome()) {
+            case INITIATED -> item
+                    .paymentOrderId(result.getPaymentOrder().getPaymentOrderReference())
+                    .status(com.bank.paymentinitiation.generated.model.PaymentStatus.fromValue(
+                            result.getPaymentOrder().getStatus().name()));
+            case REJECTED -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Invalid Payment Order", 400).detail(result.getFailureReason()));
+            default -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Internal Server Error", 500).detail(result.getFailureReason()));
+        }
+        return item;
+    }
+
+    /**
+     * Extrae el estado destino de un cambio de estado individual.
+     *
+     * @param request el DTO de request
+     * @return el estado destino del dominio
+     */
+    default PaymentStatus toTargetStatus(ChangePaymentOrderStatusRequest request) {
+        return PaymentStatus.valueOf(request.getStatus().getValue());
+    }
+
+    /**
+     * Convierte un lote de cambios de estado a los cambios del dominio.
+     *
+     * @param request el DTO de request
+     * @return los cambios, en el orden de la solicitud
+     */
+    default List<PaymentOrderStatusChange> toStatusChanges(ChangePaymentOrdersStatusRequest request) {
+        return request.getChanges().stream()
+                .map(change -> new PaymentOrderStatusChange(
+                        change.getPaymentOrderId(), PaymentStatus.valueOf(change.getStatus().getValue())))
+                .toList();
+    }
+
+    /**
+     * Convierte los resultados de un lote de cambios de estado a ChangePaymentOrdersStatusResponse.
+     *
+     * @param results los resultados del lote, en el orden de la solicitud
+     * @return el DTO de response
+     */
+    default ChangePaymentOrdersStatusResponse toStatusChangeResponse(List<PaymentOrderStatusChangeResult> results) {
+        List<BatchPaymentOrderStatusResult> items = results.stream()
+                .map(this::toStatusChangeResult)
+                .toList();
+        int succeeded = (int) results.stream().filter(PaymentOrderStatusChangeResult::isSuccessful).count();
+        return new ChangePaymentOrdersStatusResponse(succeeded, results.size() - succeeded, items);
+    }
+
+    /**
+     * Convierte el resultado de un cambio del lote a BatchPaymentOrderStatusResult.
+     * 
+     * <p>Los errores se reportan con el ProblemDetail que tendría la operación individual:
+     * 404 si la orden no existe, 409 si la transición no es válida o el estado cambió entre
+     * medias y 500 si el bloque no se pudo actualizar.
+     *
+     * @param result el resultado del cambio
+     * @return el DTO con los estados anterior y actual, y el error si no se aplicó
+     */
+    default BatchPaymentOrderStatusResult toStatusChangeResult(PaymentOrderStatusChangeResult result) {
+        BatchPaymentOrderStatusResult item = new BatchPaymentOrderStatusResult(
+                result.getIndex(), result.getPaymentOrderReference())
+                .previousStatus(toGeneratedStatus(result.getPreviousStatus()))
+                .status(toGeneratedStatus(result.getStatus()));
+        switch (result.getOutcome()) {
+            case NOT_FOUND -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Payment Order Not Found", 404).detail(result.getFailureReason()));
+            case REJECTED -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Invalid Status Transition", 409).detail(result.getFailureReason()));
+            case CONFLICT -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Concurrent Status Change", 409).detail(result.getFailureReason()));
+            case FAILED -> item.error(new com.bank.paymentinitiation.generated.model.ProblemDetail(
+                    URI.create("about:blank"), "Internal Server Error", 500).detail(result.getFailureReason()));
+            default -> {
+                // CHANGED / UNCHANGED: sin error
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Convierte PaymentStatus del dominio al generado.
+     *
+     * @param status el estado del dominio, o null
+     * @return el estado generado, o null
+     */
+    default com.bank.paymentinitiation.generated.model.PaymentStatus toGeneratedStatus(PaymentStatus status) {
+        return status == null ? null : com.bank.paymentinitiation.generated.model.PaymentStatus.fromValue(status.name());
+    }
+
+    /**
+     * Convierte los filtros de consulta del listado a PaymentOrderSearchCriteria.
+     * 
+     * <p>Las fechas de creación se normalizan a UTC, la zona en la que se guardan.
+     *
+     * @param status el estado (opcional)
+     * @param debtorIban el IBAN de la cuenta deudora (opcional)
+     * @param creditorIban el IBAN de la cuenta acreedora (opcional)
+     * @param requestedExecutionDateFrom la fecha de ejecución mínima (opcional)
+     * @param requestedExecutionDateTo la fecha de ejecución máxima (opcional)
+     * @param createdFrom la fecha de creación mínima (opcional)
+     * @param createdTo la fecha de creación máxima, exclusive (opcional)
+     * @return los filtros del dominio
+     */
+    default PaymentOrderSearchCriteria toSearchCriteria(
+            com.bank.paymentinitiation.generated.model.PaymentStatus status, String debtorIban, String creditorIban,
+            LocalDate requestedExecutionDateFrom, LocalDate requestedExecutionDateTo,
+            OffsetDateTime createdFrom, OffsetDateTime createdTo) {
+        return PaymentOrderSearchCriteria.builder()
+                .status(status == null ? null : PaymentStatus.valueOf(status.getValue()))
+                .payerReference(debtorIban == null ? null : new PayerReference(debtorIban))
+                .payeeReference(creditorIban == null ? null : new PayeeReference(creditorIban))
+                .requestedExecutionDateFrom(requestedExecutionDateFrom)
+                .requestedExecutionDateTo(requestedExecutionDateTo)
+                .createdFrom(offsetDateTimeToLocalDateTime(createdFrom))
+                .createdTo(offsetDateTimeToLocalDateTime(createdTo))
+                .build();
+    }
+
+    /**
+     * Convierte una página del dominio a PaymentOrderListResponse.
+     *
+     * @param page la página de órdenes
+     * @return el DTO con las órdenes y el cursor de la página siguiente (ausente si no la hay)
+     */
+    default PaymentOrderListResponse toListResponse(PaymentOrderPage page) {
+        List<RetrievePaymentOrderResponse> items = page.getItems().stream()
+                .map(this::toRetrieveResponse)
+                .toList();
+        return new PaymentOrderListResponse(items)
+                .nextCursor(page.hasNext() ? toCursorToken(page.getNextCursor()) : null);
+    }
+
+    /**
+     * Codifica un cursor como texto opaco (Base64 URL-safe de "createdAt|paymentOrderReference").
+     *
+     * @param cursor el cursor del dominio
+     * @return el cursor opaco
+     */
+    default String toCursorToken(PaymentOrderCursor cursor) {
+        String raw = cursor.getCreatedAt() + "|" + cursor.getPaymentOrderReference();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor opaco generado por {@link #toCursorToken(PaymentOrderCursor)}.
+     *
+     * @param token el cursor opaco, o null
+     * @return el cursor del dominio, o null si no se envió
+     * @throws InvalidPaymentOrderQueryException si el cursor no es válido
+     */
+    default PaymentOrderCursor toCursor(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new InvalidPaymentOrderQueryException("Invalid cursor: " + token);
+            }
+            return new PaymentOrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidPaymentOrderQueryException("Invalid cursor: " + token, ex);
+        }
+    }
+
+    /**
+     * Convierte OffsetDateTime a LocalDateTime en UTC.
+     *
+     * @param offsetDateTime el OffsetDateTime a convertir
+     * @return el LocalDateTime equivalente en UTC
+     */
+    @Named("offsetDateTimeToLocalDateTime")
+    default LocalDateTime offsetDateTimeToLocalDateTime(OffsetDateTime offsetDateTime) {
+        if (offsetDateTime == null) {
+            return null;
+        }
+        return offsetDateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
     /**
      * Convierte LocalDateTime a OffsetDateTime usando UTC como zona horaria.
      *
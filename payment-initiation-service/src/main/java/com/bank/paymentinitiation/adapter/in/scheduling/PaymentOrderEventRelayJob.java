@@ -0,0 +1,23 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import com.bank.paymentinitiation.domain.port.in.RelayPaymentOrderEventsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de entrada programado: ejecuta periódicamente el relé de la bandeja de salida.
+ * 
+ * <p>La periodicidad la fija PaymentOutboxConfig. Si una ejecución falla, el planificador
+ * registra el error y la siguiente vuelve a intentarlo con los mismos eventos.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOrderEventRelayJob implements Runnable {
+
+    private final RelayPaymentOrderEventsUseCase relayPaymentOrderEventsUseCase;
+
+    @Override
+    public void run() {
+        relayPaymentOrderEventsUseCase.relayPending();
+    }
+}
@@ -0,0 +1,100 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.context.SmartLifecycle;
+
+import com.bank.paymentinitiation.domain.port.in.IngestPaymentOrderUseCase;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador de entrada: la etapa de escritura de la iniciación asíncrona.
+ *
+ * <p>Un único hilo llama a {@link IngestPaymentOrderUseCase#drain} en bucle, que persiste la cola en
+ * micro-lotes. Si un lote falla, espera {@code retryBackoff} y lo reintenta; mientras tanto la cola
+ * se llena y las peticiones nuevas reciben 429.
+ *
+ * <p>Al arrancar persiste antes las órdenes del journal que no llegaron a la base de datos. Su fase
+ * es anterior a la del servidor web: arranca antes de recibir peticiones y se detiene después de
+ * que el servidor deje de aceptarlas, vaciando la cola.
+ */
+@Slf4j
+public class PaymentOrderIngestionWriter implements SmartLifecycle {
+
+    static final int PHASE = 0;
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final IngestPaymentOrderUseCase ingestPaymentOrderUseCase;
+    private final Duration pollTimeout;
+    private final Duration retryBackoff;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PaymentOrderIngestionWriter(final IngestPaymentOrderUseCase ingestPaymentOrderUseCase,
+                                       final Duration pollTimeout,
+                                       final Duration retryBackoff) {
+        this.ingestPaymentOrderUseCase = ingestPaymentOrderUseCase;
+        this.pollTimeout = pollTimeout;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Override
+    public synchronized void start() {
+        int recovered = ingestPaymentOrderUseCase.recover();
+        if (recovered > 0) {
+            log.info("Persisted {} payment orders recovered from the ingestion journal", recovered);
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("payment-ingestion-writer").start(this::drainWhileRunning);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        try {
+            thread.join(STOP_TIMEOUT);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // Lo que quede en la cola: sin esperar, hasta vaciarla o al primer fallo (queda en el journal)
+        try {
+            while (ingestPaymentOrderUseCase.drain(Duration.ZERO) > 0) {
+                // Siguiente micro-lote
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Payment ingestion queue not fully drained on shutdown; the journal keeps the rest", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainWhileRunning() {
+        while (running) {
+            try {
+                ingestPaymentOrderUseCase.drain(pollTimeout);
+            } catch (RuntimeException ex) {
+                log.warn("Could not persist payment order batch, retrying in {}", retryBackoff, ex);
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(retryBackoff);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import java.time.LocalDate;
+
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de entrada programado: libera las órdenes cuya fecha de ejecución solicitada ya llegó.
+ * 
+ * <p>La periodicidad la fija PaymentLifecycleConfig. Las órdenes que un barrido no alcanza a
+ * liberar (por el máximo de bloques por ejecución) siguen vencidas y las toma el siguiente.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOrderStatusSweepJob implements Runnable {
+
+    private final ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
+
+    @Override
+    public void run() {
+        changePaymentOrderStatusUseCase.releaseDueOrders(LocalDate.now());
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Adaptadores de entrada programados.
+ * 
+ * <p>Este paquete contiene las tareas que el planificador de Spring ejecuta periódicamente:
+ * <ul>
+ *   <li>PaymentOrderEventRelayJob: Publica los eventos pendientes de la bandeja de salida</li>
+ *   <li>PaymentOrderStatusSweepJob: Pasa a PENDING las órdenes cuya fecha de ejecución ya llegó</li>
+ * </ul>
+ * 
+ * <p>Y la etapa de escritura de la iniciación asíncrona, con su propio hilo:
+ * <ul>
+ *   <li>PaymentOrderIngestionWriter: Persiste en micro-lotes las órdenes aceptadas con 202</li>
+ * </ul>
+ * 
+ * <p>Como los controladores REST, solo invocan casos de uso (domain.port.in).
+ */
+package com.bank.paymentinitiation.adapter.in.scheduling;
@@ -0,0 +1,294 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.stereotype.Component;
+
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.GetPaymentOrderStatus;
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.SubmitPaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+/**
+ * Lee y escribe los mensajes SOAP 1.1 del servicio legacy PaymentOrderService.wsdl con StAX.
+ *
+ * <p>La lectura recorre el envelope una sola vez con un XMLStreamReader, sin construir un árbol DOM:
+ * <ul>
+ *   <li>Acepta el envelope completo (se ignora el Header) o directamente el elemento del payload,
+ *       como en los ejemplos de legacy/samples</li>
+ *   <li>La operación se decide por el elemento del payload; los campos se reconocen por nombre
+ *       local y en cualquier orden, y se ignoran los elementos desconocidos</li>
+ *   <li>No admite DTD ni entidades externas (XXE, expansión de entidades)</li>
+ * </ul>
+ *
+ * <p>Las respuestas se escriben con un XMLStreamWriter directamente sobre el cuerpo de la
+ * respuesta. Los estados del dominio se traducen a los del legacy según el mapeo de ai/decisions.md:
+ * INITIATED → ACCEPTED y COMPLETED → SETTLED; el resto conserva su nombre BIAN.
+ */
+@Component
+public class LegacyPaymentOrderSoapCodec {
+
+    public static final String SOAP_ENVELOPE_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    public static final String LEGACY_NS = "http://legacy.bank/payments";
+
+    static final String SUBMIT_REQUEST = "SubmitPaymentOrderRequest";
+    static final String SUBMIT_RESPONSE = "SubmitPaymentOrderResponse";
+    static final String STATUS_REQUEST = "GetPaymentOrderStatusRequest";
+    static final String STATUS_RESPONSE = "GetPaymentOrderStatusResponse";
+
+    private static final String SOAP_PREFIX = "soap";
+    private static final String ENCODING = "UTF-8";
+
+    private final XMLInputFactory inputFactory;
+    private final XMLOutputFactory outputFactory;
+
+    public LegacyPaymentOrderSoapCodec() {
+        // Las factorías son seguras entre hilos una vez configuradas: se crean una sola vez
+        this.inputFactory = XMLInputFactory.newFactory();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        this.outputFactory = XMLOutputFactory.newFactory();
+    }
+
+    /**
+     * Lee la operación de un envelope SOAP (o de un payload sin envelope).
+     *
+     * @param in el cuerpo de la petición; no se cierra
+     * @return la operación solicitada
+     * @throws XMLStreamException si el XML está mal formado o contiene una DTD
+     * @throws MalformedSoapRequestException si el XML no corresponde a una operación del WSDL
+     */
+    public LegacySoapRequest read(final InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        try {
+            reader.nextTag();
+            if ("Envelope".equals(reader.getLocalName())) {
+                if (!SOAP_ENVELOPE_NS.equals(reader.getNamespaceURI())) {
+                    throw new MalformedSoapRequestException(MalformedSoapRequestException.VERSION_MISMATCH,
+                            "Unsupported SOAP envelope namespace: " + reader.getNamespaceURI());
+                }
+                reader.nextTag();
+                if (isSoapElement(reader, "Header")) {
+                    skipElement(reader);
+                    reader.nextTag();
+                }
+                if (!isSoapElement(reader, "Body")) {
+                    throw new MalformedSoapRequestException("Missing SOAP Body");
+                }
+                if (reader.nextTag() != XMLStreamConstants.START_ELEMENT) {
+                    throw new MalformedSoapRequestException("Empty SOAP Body");
+                }
+            }
+            return readPayload(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Escribe la respuesta de SubmitPaymentOrder.
+     *
+     * @param order la orden iniciada
+     * @param out   el cuerpo de la respuesta; no se cierra
+     * @throws XMLStreamException si falla la escritura
+     */
+    public void writeSubmitResponse(final PaymentOrder order, final OutputStream out) throws XMLStreamException {
+        XMLStreamWriter writer = startEnvelope(out);
+        startPayload(writer, SUBMIT_RESPONSE);
+        writeElement(writer, "paymentOrderId", order.getPaymentOrderReference());
+        writeElement(writer, "status", legacyStatus(order.getStatus()));
+        writer.writeEndElement();
+        endEnvelope(writer);
+    }
+
+    /**
+     * Escribe la respuesta de GetPaymentOrderStatus.
+     *
+     * @param snapshot la vista de estado de la orden
+     * @param out      el cuerpo de la respuesta; no se cierra
+     * @throws XMLStreamException si falla la escritura
+     */
+    public void writeStatusResponse(final PaymentOrderStatusSnapshot snapshot, final OutputStream out)
+            throws XMLStreamException {
+        XMLStreamWriter writer = startEnvelope(out);
+        startPayload(writer, STATUS_RESPONSE);
+        writeElement(writer, "paymentOrderId", snapshot.getPaymentOrderReference());
+        writeElement(writer, "status", legacyStatus(snapshot.getStatus()));
+        writeElement(writer, "lastUpdate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                snapshot.getUpdatedAt().atOffset(ZoneOffset.UTC)));
+        writer.writeEndElement();
+        endEnvelope(writer);
+    }
+
+    /**
+     * Escribe un SOAP 1.1 Fault.
+     *
+     * @param faultCode   el faultcode sin prefijo ({@code Client}, {@code Server}, {@code VersionMismatch})
+     * @param faultString el mensaje del fault
+     * @param out         el cuerpo de la respuesta; no se cierra
+     * @throws XMLStreamException si falla la escritura
+     */
+    public void writeFault(final String faultCode, final String faultString, final OutputStream out)
+            throws XMLStreamException {
+        XMLStreamWriter writer = startEnvelope(out);
+        writer.writeStartElement(SOAP_PREFIX, "Fault", SOAP_ENVELOPE_NS);
+        writeElement(writer, "faultcode", SOAP_PREFIX + ":" + faultCode);
+        writeElement(writer, "faultstring", faultString == null ? "" : faultString);
+        writer.writeEndElement();
+        endEnvelope(writer);
+    }
+
+    /**
+     * Traduce un estado del dominio al vocabulario del servicio legacy.
+     *
+     * @param status el estado del dominio
+     * @return ACCEPTED, SETTLED o el nombre BIAN del resto de estados
+     */
+    static String legacyStatus(final PaymentStatus status) {
+        return switch (status) {
+            case INITIATED -> "ACCEPTED";
+            case COMPLETED -> "SETTLED";
+            default -> status.name();
+        };
+    }
+
+    private LegacySoapRequest readPayload(final XMLStreamReader reader) throws XMLStreamException {
+        if (!LEGACY_NS.equals(reader.getNamespaceURI())) {
+            throw new MalformedSoapRequestException("Unknown operation: {" + reader.getNamespaceURI() + "}"
+                    + reader.getLocalName());
+        }
+        return switch (reader.getLocalName()) {
+            case SUBMIT_REQUEST -> readSubmit(reader);
+            case STATUS_REQUEST -> readStatus(reader);
+            default -> throw new MalformedSoapRequestException("Unknown operation: " + reader.getLocalName());
+        };
+    }
+
+    private static SubmitPaymentOrder readSubmit(final XMLStreamReader reader) throws XMLStreamException {
+        String externalId = null;
+        String debtorIban = null;
+        String creditorIban = null;
+        String amount = null;
+        String currency = null;
+        String remittanceInfo = null;
+        String requestedExecutionDate = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "externalId" -> externalId = reader.getElementText().trim();
+                case "debtorIban" -> debtorIban = reader.getElementText().trim();
+                case "creditorIban" -> creditorIban = reader.getElementText().trim();
+                case "amount" -> amount = reader.getElementText().trim();
+                case "currency" -> currency = reader.getElementText().trim();
+                case "remittanceInfo" -> remittanceInfo = reader.getElementText();
+                case "requestedExecutionDate" -> requestedExecutionDate = reader.getElementText().trim();
+                default -> skipElement(reader);
+            }
+        }
+        return new SubmitPaymentOrder(
+                required(externalId, "externalId"),
+                required(debtorIban, "debtorIban"),
+                required(creditorIban, "creditorIban"),
+                decimal(required(amount, "amount")),
+                required(currency, "currency"),
+                remittanceInfo,
+                date(required(requestedExecutionDate, "requestedExecutionDate")));
+    }
+
+    private static GetPaymentOrderStatus readStatus(final XMLStreamReader reader) throws XMLStreamException {
+        String paymentOrderId = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("paymentOrderId".equals(reader.getLocalName())) {
+                paymentOrderId = reader.getElementText().trim();
+            } else {
+                skipElement(reader);
+            }
+        }
+        return new GetPaymentOrderStatus(required(paymentOrderId, "paymentOrderId"));
+    }
+
+    private static String required(final String value, final String element) {
+        if (value == null || value.isEmpty()) {
+            throw new MalformedSoapRequestException("Missing element '" + element + "'");
+        }
+        return value;
+    }
+
+    private static BigDecimal decimal(final String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new MalformedSoapRequestException("Invalid xsd:decimal for 'amount': " + value);
+        }
+    }
+
+    private static LocalDate date(final String value) {
+        try {
+            // xsd:date admite zona horaria opcional (2025-10-31Z, 2025-10-31-05:00)
+            return LocalDate.parse(value, DateTimeFormatter.ISO_DATE);
+        } catch (DateTimeParseException ex) {
+            throw new MalformedSoapRequestException("Invalid xsd:date for 'requestedExecutionDate': " + value);
+        }
+    }
+
+    private static boolean isSoapElement(final XMLStreamReader reader, final String localName) {
+        return reader.isStartElement() && localName.equals(reader.getLocalName())
+                && SOAP_ENVELOPE_NS.equals(reader.getNamespaceURI());
+    }
+
+    // Deja el reader en el END_ELEMENT del elemento actual, sea cual sea su contenido
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private XMLStreamWriter startEnvelope(final OutputStream out) throws XMLStreamException {
+        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+        writer.writeStartDocument(ENCODING, "1.0");
+        writer.writeStartElement(SOAP_PREFIX, "Envelope", SOAP_ENVELOPE_NS);
+        writer.writeNamespace(SOAP_PREFIX, SOAP_ENVELOPE_NS);
+        writer.writeStartElement(SOAP_PREFIX, "Body", SOAP_ENVELOPE_NS);
+        return writer;
+    }
+
+    private static void startPayload(final XMLStreamWriter writer, final String localName) throws XMLStreamException {
+        writer.writeStartElement("", localName, LEGACY_NS);
+        writer.writeDefaultNamespace(LEGACY_NS);
+    }
+
+    private static void writeElement(final XMLStreamWriter writer, final String localName, final String text)
+            throws XMLStreamException {
+        writer.writeStartElement(localName);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void endEnvelope(final XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeEndElement(); // Body
+        writer.writeEndElement(); // Envelope
+        writer.writeEndDocument();
+        writer.flush();
+        writer.close(); // No cierra el OutputStream subyacente
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+
+/**
+ * Operación del servicio SOAP legacy (PaymentOrderService.wsdl) leída de un envelope.
+ */
+public sealed interface LegacySoapRequest {
+
+    /**
+     * SubmitPaymentOrderRequest: alta de una orden de pago.
+     *
+     * @param externalId             referencia externa del cliente
+     * @param debtorIban             IBAN del deudor
+     * @param creditorIban           IBAN del acreedor
+     * @param amount                 monto
+     * @param currency               moneda
+     * @param remittanceInfo         concepto (opcional)
+     * @param requestedExecutionDate fecha de ejecución solicitada
+     */
+    record SubmitPaymentOrder(String externalId, String debtorIban, String creditorIban, BigDecimal amount,
+                              String currency, String remittanceInfo, LocalDate requestedExecutionDate)
+            implements LegacySoapRequest {
+
+        /**
+         * Convierte la petición en una orden de pago del dominio.
+         *
+         * @param paymentOrderReference la referencia asignada a la orden
+         * @return la orden de pago, pendiente de iniciar
+         * @throws IllegalArgumentException si algún valor no cumple las invariantes del dominio
+         */
+        public PaymentOrder toDomain(final String paymentOrderReference) {
+            return PaymentOrder.builder()
+                    .paymentOrderReference(paymentOrderReference)
+                    .externalReference(new ExternalReference(externalId))
+                    .payerReference(new PayerReference(debtorIban))
+                    .payeeReference(new PayeeReference(creditorIban))
+                    .instructedAmount(PaymentAmount.of(amount, currency))
+                    .remittanceInformation(remittanceInfo)
+                    .requestedExecutionDate(requestedExecutionDate)
+                    .build();
+        }
+    }
+
+    /**
+     * GetPaymentOrderStatusRequest: consulta del estado de una orden de pago.
+     *
+     * @param paymentOrderId la referencia de la orden
+     */
+    record GetPaymentOrderStatus(String paymentOrderId) implements LegacySoapRequest {
+    }
+}
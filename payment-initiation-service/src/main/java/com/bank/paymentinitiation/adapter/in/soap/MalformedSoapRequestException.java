@@ -0,0 +1,29 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+/**
+ * Excepción lanzada cuando un envelope SOAP es XML válido pero no corresponde a ninguna operación
+ * del WSDL legacy o le faltan elementos obligatorios.
+ *
+ * <p>Lleva el faultcode SOAP 1.1 con el que se responde: {@code Client} o {@code VersionMismatch}
+ * (envelope de otra versión de SOAP).
+ */
+public class MalformedSoapRequestException extends RuntimeException {
+
+    static final String CLIENT = "Client";
+    static final String VERSION_MISMATCH = "VersionMismatch";
+
+    private final String faultCode;
+
+    public MalformedSoapRequestException(final String message) {
+        this(CLIENT, message);
+    }
+
+    MalformedSoapRequestException(final String faultCode, final String message) {
+        super(message);
+        this.faultCode = faultCode;
+    }
+
+    public String getFaultCode() {
+        return faultCode;
+    }
+}
@@ -0,0 +1,128 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLStreamException;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.GetPaymentOrderStatus;
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.SubmitPaymentOrder;
+import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Endpoint SOAP 1.1 del servicio legacy PaymentOrderService.wsdl (binding document/literal).
+ *
+ * <p>Este endpoint:
+ * <ul>
+ *   <li>Recibe los envelopes en {@value #PATH} y los lee en streaming con LegacyPaymentOrderSoapCodec</li>
+ *   <li>Invoca directamente InitiatePaymentOrderUseCase (SubmitPaymentOrder) y
+ *       RetrievePaymentOrderStatusUseCase (GetPaymentOrderStatus), sin pasar por los DTOs REST</li>
+ *   <li>Escribe la respuesta o el SOAP Fault directamente sobre el cuerpo de la respuesta</li>
+ * </ul>
+ *
+ * <p>La operación se decide por el elemento del payload, así que la cabecera SOAPAction no es
+ * necesaria. Los errores se devuelven como SOAP Fault con HTTP 500 (SOAP 1.1): {@code soap:Client}
+ * para peticiones inválidas u órdenes inexistentes y {@code soap:Server} para el resto. Los
+ * {@code @ExceptionHandler} de este controlador tienen prioridad sobre GlobalExceptionHandler.
+ *
+ * <p>Solo en el modo servlet (el perfil reactive no publica el endpoint SOAP).
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PaymentOrderSoapEndpoint {
+
+    public static final String PATH = "/legacy/payments";
+
+    static final String CONTENT_TYPE = MediaType.TEXT_XML_VALUE + ";charset=UTF-8";
+    static final String SERVER = "Server";
+
+    private final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+    private final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+    private final PaymentOrderReferenceGenerator referenceGenerator;
+    private final LegacyPaymentOrderSoapCodec codec;
+
+    /**
+     * Atiende una operación SOAP.
+     *
+     * @param body     el envelope
+     * @param response la respuesta HTTP
+     * @throws IOException        si falla la lectura o la escritura
+     * @throws XMLStreamException si el envelope está mal formado o falla la escritura
+     */
+    @PostMapping(path = PATH, consumes = MediaType.TEXT_XML_VALUE)
+    public void handle(final InputStream body, final HttpServletResponse response)
+            throws IOException, XMLStreamException {
+        LegacySoapRequest request = codec.read(body);
+        switch (request) {
+            case SubmitPaymentOrder submit -> {
+                // Igual que en REST: la referencia se genera en el adaptador de entrada
+                PaymentOrder initiated = initiatePaymentOrderUseCase.initiate(
+                        submit.toDomain(referenceGenerator.generate()));
+                response.setContentType(CONTENT_TYPE);
+                codec.writeSubmitResponse(initiated, response.getOutputStream());
+            }
+            case GetPaymentOrderStatus status -> {
+                var snapshot = retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(status.paymentOrderId());
+                response.setContentType(CONTENT_TYPE);
+                codec.writeStatusResponse(snapshot, response.getOutputStream());
+            }
+        }
+    }
+
+    /**
+     * Maneja un envelope que no corresponde a ninguna operación del WSDL.
+     */
+    @ExceptionHandler(MalformedSoapRequestException.class)
+    public void handleMalformedRequest(final MalformedSoapRequestException ex, final HttpServletResponse response)
+            throws IOException, XMLStreamException {
+        writeFault(response, ex.getFaultCode(), ex.getMessage());
+    }
+
+    /**
+     * Maneja XML mal formado, valores que no cumplen las invariantes del dominio, reglas de negocio
+     * y órdenes inexistentes: el error es del cliente.
+     */
+    @ExceptionHandler({XMLStreamException.class, IllegalArgumentException.class, InvalidPaymentException.class,
+            PaymentOrderNotFoundException.class, DuplicatePaymentOrderException.class})
+    public void handleClientError(final Exception ex, final HttpServletResponse response)
+            throws IOException, XMLStreamException {
+        writeFault(response, MalformedSoapRequestException.CLIENT, ex.getMessage());
+    }
+
+    /**
+     * Maneja cualquier otra excepción sin exponer su detalle.
+     */
+    @ExceptionHandler(Exception.class)
+    public void handleServerError(final Exception ex, final HttpServletResponse response)
+            throws IOException, XMLStreamException {
+        log.error("Unexpected error processing SOAP request", ex);
+        writeFault(response, SERVER, "An unexpected error occurred");
+    }
+
+    private void writeFault(final HttpServletResponse response, final String faultCode, final String faultString)
+            throws IOException, XMLStreamException {
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        response.setContentType(CONTENT_TYPE);
+        codec.writeFault(faultCode, faultString, response.getOutputStream());
+    }
+}
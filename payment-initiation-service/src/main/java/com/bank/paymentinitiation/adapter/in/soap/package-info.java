@@ -0,0 +1,14 @@
+/**
+ * Adaptadores de entrada SOAP para los clientes del servicio legacy.
+ * 
+ * <p>Este paquete expone las operaciones de PaymentOrderService.wsdl (SubmitPaymentOrder y
+ * GetPaymentOrderStatus) sin traductor intermedio:
+ * <ul>
+ *   <li>PaymentOrderSoapEndpoint: Recibe los envelopes SOAP 1.1 e invoca los casos de uso</li>
+ *   <li>LegacyPaymentOrderSoapCodec: Lee y escribe los mensajes con StAX, en streaming y sin DOM</li>
+ *   <li>LegacySoapRequest: Las operaciones leídas de un envelope</li>
+ * </ul>
+ * 
+ * <p>Como los controladores REST, solo invocan casos de uso (domain.port.in).
+ */
+package com.bank.paymentinitiation.adapter.in.soap;
@@ -0,0 +1,202 @@
+package com.bank.paymentinitiation.adapter.in.sse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+
+/**
+ * Una conexión SSE que observa el estado de una o varias órdenes de pago.
+ *
+ * <p>{@link #accept} se invoca desde el hilo que confirmó el cambio, así que no escribe: deja el
+ * estado en un buffer y, si no hay ya una escritura en curso, la lanza en el executor. El buffer
+ * guarda solo el último estado pendiente de cada orden, por lo que nunca supera el número de
+ * órdenes observadas aunque el cliente lea despacio. Los estados repetidos o anteriores al último
+ * conocido se descartan (la relectura periódica y el aviso del repositorio pueden coincidir).
+ *
+ * <p>Una orden deja de observarse tras enviar un estado final; cuando todas lo alcanzan, el stream
+ * se completa.
+ */
+final class PaymentOrderStatusStream implements Consumer<PaymentOrderStatusSnapshot> {
+
+    static final String STATUS_EVENT = "status";
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SseEmitter emitter;
+    private final List<String> references;
+    private final PaymentOrderRestMapper mapper;
+    private final Executor executor;
+    private final Consumer<PaymentOrderStatusStream> onClose;
+
+    // Estado protegido por el monitor de la instancia
+    private final Set<String> open;
+    private final Map<String, PaymentOrderStatusSnapshot> latest = new HashMap<>();
+    private final Map<String, PaymentOrderStatusSnapshot> pending = new LinkedHashMap<>();
+    private boolean heartbeatDue;
+    private boolean writing;
+    private boolean closed;
+
+    PaymentOrderStatusStream(final SseEmitter emitter, final Collection<String> references,
+            final PaymentOrderRestMapper mapper, final Executor executor,
+            final Consumer<PaymentOrderStatusStream> onClose) {
+        this.emitter = emitter;
+        this.references = List.copyOf(new LinkedHashSet<>(references));
+        this.mapper = mapper;
+        this.executor = executor;
+        this.onClose = onClose;
+        this.open = new LinkedHashSet<>(this.references);
+    }
+
+    List<String> references() {
+        return references;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    @Override
+    public void accept(final PaymentOrderStatusSnapshot snapshot) {
+        synchronized (this) {
+            String reference = snapshot.getPaymentOrderReference();
+            if (closed || !open.contains(reference) || isStale(latest.get(reference), snapshot)) {
+                return;
+            }
+            latest.put(reference, snapshot);
+            pending.put(reference, snapshot);
+            if (!scheduleWrite()) {
+                return;
+            }
+        }
+        submitWrite();
+    }
+
+    /**
+     * Pide enviar un comentario de latido, salvo que ya haya una escritura en curso (que mantiene
+     * viva la conexión por sí misma).
+     */
+    void heartbeat() {
+        synchronized (this) {
+            if (closed || writing) {
+                return;
+            }
+            heartbeatDue = true;
+            scheduleWrite();
+        }
+        submitWrite();
+    }
+
+    /**
+     * Deja de observar y libera la conexión; es idempotente.
+     *
+     * @param complete si además se completa la respuesta (en un timeout o al parar la aplicación)
+     */
+    void close(final boolean complete) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClose.accept(this);
+        if (complete) {
+            emitter.complete();
+        }
+    }
+
+    synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private boolean scheduleWrite() {
+        if (writing) {
+            return false;
+        }
+        writing = true;
+        return true;
+    }
+
+    private void submitWrite() {
+        try {
+            executor.execute(this::write);
+        } catch (RejectedExecutionException ex) {
+            // El executor ya se ha parado: la aplicación se está deteniendo
+            close(true);
+        }
+    }
+
+    private void write() {
+        try {
+            while (true) {
+                List<PaymentOrderStatusSnapshot> batch;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (closed || pending.isEmpty() && !heartbeatDue) {
+                        writing = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    heartbeat = heartbeatDue && batch.isEmpty();
+                    heartbeatDue = false;
+                }
+                if (heartbeat) {
+                    emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                }
+                for (PaymentOrderStatusSnapshot snapshot : batch) {
+                    send(snapshot);
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // El cliente se ha desconectado o la respuesta ya se completó
+            synchronized (this) {
+                writing = false;
+            }
+            close(false);
+        }
+    }
+
+    private void send(final PaymentOrderStatusSnapshot snapshot) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(STATUS_EVENT)
+                .data(mapper.toStatusResponse(snapshot), MediaType.APPLICATION_JSON));
+        if (snapshot.getStatus().isFinal()) {
+            boolean done;
+            synchronized (this) {
+                open.remove(snapshot.getPaymentOrderReference());
+                pending.remove(snapshot.getPaymentOrderReference());
+                done = open.isEmpty();
+            }
+            if (done) {
+                close(true);
+            }
+        }
+    }
+
+    /**
+     * Indica si el estado no aporta nada respecto al último aceptado (ver
+     * PaymentOrderStatusSnapshot.supersedes).
+     */
+    static boolean isStale(final PaymentOrderStatusSnapshot last, final PaymentOrderStatusSnapshot snapshot) {
+        return !snapshot.supersedes(last);
+    }
+}
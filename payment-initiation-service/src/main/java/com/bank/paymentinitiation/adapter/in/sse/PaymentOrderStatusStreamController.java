@@ -0,0 +1,61 @@
+package com.bank.paymentinitiation.adapter.in.sse;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controlador de los streams de estado (Server-Sent Events).
+ *
+ * <p>Cada evento {@code status} lleva el mismo JSON que GET /payment-orders/{id}/status. El primero
+ * de cada orden es su estado actual y los siguientes, sus cambios; una orden en estado final no
+ * envía más eventos y, cuando todas lo están, el servidor cierra el stream. Entre eventos se envía
+ * un comentario de latido cada {@code payment.status-stream.heartbeat-interval}.
+ *
+ * <p>No está en el contrato OpenAPI: el generador no puede expresar una respuesta SseEmitter. Los
+ * errores previos a abrir el stream (orden inexistente, demasiadas órdenes) los resuelve
+ * GlobalExceptionHandler como en el resto del API.
+ *
+ * <p>Solo en el modo servlet: SseEmitter es de Spring MVC.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PaymentOrderStatusStreamController {
+
+    public static final String PATH = "/payment-initiation/payment-orders/{paymentOrderId}/status/stream";
+    public static final String MULTI_PATH = "/payment-initiation/payment-orders:statusStream";
+
+    private final PaymentOrderStatusStreams streams;
+
+    /**
+     * Observa el estado de una orden de pago.
+     *
+     * @param paymentOrderId la referencia de la orden
+     * @return el stream de eventos
+     */
+    @GetMapping(path = PATH, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPaymentOrderStatus(@PathVariable("paymentOrderId") final String paymentOrderId) {
+        return streams.open(List.of(paymentOrderId));
+    }
+
+    /**
+     * Observa el estado de varias órdenes de pago en una sola conexión.
+     *
+     * @param paymentOrderIds las referencias de las órdenes (parámetro repetido o separado por comas)
+     * @return el stream de eventos
+     */
+    @GetMapping(path = MULTI_PATH, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPaymentOrderStatuses(
+            @RequestParam("paymentOrderId") final List<String> paymentOrderIds) {
+        return streams.open(paymentOrderIds);
+    }
+}
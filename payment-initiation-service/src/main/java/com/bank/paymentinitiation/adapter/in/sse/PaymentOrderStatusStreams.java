@@ -0,0 +1,113 @@
+package com.bank.paymentinitiation.adapter.in.sse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.config.PaymentStatusStreamProperties;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.in.WatchPaymentOrderStatusUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Las conexiones SSE abiertas en esta instancia.
+ *
+ * <p>Las escrituras de cada conexión se hacen en hilos virtuales, para que un cliente lento solo
+ * retenga su propio hilo. {@link #heartbeat()} (programado por PaymentStatusStreamConfig) envía
+ * un latido a cada conexión y relee el estado de las órdenes observadas. Al parar la aplicación
+ * se completan todas las conexiones; los clientes se reconectan a otra instancia.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOrderStatusStreams implements DisposableBean {
+
+    private final WatchPaymentOrderStatusUseCase watchPaymentOrderStatusUseCase;
+    private final PaymentOrderRestMapper mapper;
+    private final PaymentStatusStreamProperties properties;
+    private final Set<PaymentOrderStatusStream> streams = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Abre un stream con el estado actual de las órdenes y sus cambios posteriores.
+     *
+     * @param paymentOrderReferences las referencias de las órdenes
+     * @return el emisor SSE de la conexión
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException
+     *         si no hay referencias o hay más de las permitidas por conexión
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException
+     *         si alguna orden no existe
+     */
+    public SseEmitter open(final Collection<String> paymentOrderReferences) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        PaymentOrderStatusStream stream = new PaymentOrderStatusStream(
+                emitter, paymentOrderReferences, mapper, executor, this::release);
+
+        // Validar y leer el estado actual antes de abrir: un error llega al cliente como ProblemDetail
+        List<PaymentOrderStatusSnapshot> current;
+        try {
+            current = watchPaymentOrderStatusUseCase.watch(stream.references(), stream);
+        } catch (RuntimeException ex) {
+            stream.close(false);
+            throw ex;
+        }
+        streams.add(stream);
+        if (stream.isClosed()) {
+            // Se cerró (todas las órdenes en estado final) antes de registrarse
+            streams.remove(stream);
+        }
+        emitter.onCompletion(() -> stream.close(false));
+        emitter.onTimeout(() -> stream.close(true));
+        emitter.onError(error -> stream.close(false));
+
+        // El estado actual es el primer evento; los cambios ya recibidos más recientes prevalecen
+        current.forEach(stream);
+        return emitter;
+    }
+
+    /**
+     * Envía un latido a cada conexión y entrega los cambios hechos fuera de esta instancia.
+     */
+    public void heartbeat() {
+        if (streams.isEmpty()) {
+            return;
+        }
+        streams.forEach(PaymentOrderStatusStream::heartbeat);
+        try {
+            watchPaymentOrderStatusUseCase.refresh();
+        } catch (RuntimeException ex) {
+            // El siguiente latido lo vuelve a intentar
+            log.warn("Could not refresh watched payment order statuses", ex);
+        }
+    }
+
+    /**
+     * Retorna el número de conexiones abiertas.
+     *
+     * @return conexiones abiertas
+     */
+    public int size() {
+        return streams.size();
+    }
+
+    @Override
+    public void destroy() {
+        List.copyOf(streams).forEach(stream -> stream.close(true));
+        executor.shutdown();
+    }
+
+    private void release(final PaymentOrderStatusStream stream) {
+        streams.remove(stream);
+        watchPaymentOrderStatusUseCase.unwatch(stream.references(), stream);
+    }
+}
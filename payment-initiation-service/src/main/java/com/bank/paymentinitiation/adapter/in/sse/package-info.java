@@ -0,0 +1,14 @@
+/**
+ * Adaptadores de entrada Server-Sent Events para observar el estado de las órdenes de pago.
+ * 
+ * <p>Este paquete sustituye la consulta periódica de GET /payment-orders/{id}/status:
+ * <ul>
+ *   <li>PaymentOrderStatusStreamController: Abre los streams (una orden o varias por conexión)</li>
+ *   <li>PaymentOrderStatusStreams: Las conexiones abiertas, su latido y su cierre</li>
+ *   <li>PaymentOrderStatusStream: Una conexión, con su buffer acotado de estados pendientes</li>
+ * </ul>
+ * 
+ * <p>Como los controladores REST, solo invocan casos de uso (domain.port.in) y reutilizan
+ * PaymentOrderRestMapper, así que cada evento tiene el mismo JSON que la consulta de estado.
+ */
+package com.bank.paymentinitiation.adapter.in.sse;
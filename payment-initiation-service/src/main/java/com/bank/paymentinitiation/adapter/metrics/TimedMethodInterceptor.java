@@ -0,0 +1,102 @@
+package com.bank.paymentinitiation.adapter.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Interceptor que mide con un Timer de Micrometer cada método de los beans cuyo tipo lleva
+ * {@code @Timed}.
+ * 
+ * <p>A diferencia de TimedAspect de Micrometer:
+ * <ul>
+ *   <li>Reconoce {@code @Timed} declarado en una interfaz implementada: los mappers de MapStruct se
+ *       anotan en la interfaz porque su implementación es código generado</li>
+ *   <li>Registra el Timer de cada método una sola vez y lo reutiliza. En el camino caliente solo
+ *       hay una búsqueda en un mapa y dos lecturas de reloj, sin construir ids ni tags por llamada</li>
+ * </ul>
+ * 
+ * <p>Cada Timer lleva los tags {@code class} (el tipo anotado), {@code method} y {@code exception}
+ * ({@code none} si el método terminó sin excepción). Los de las excepciones se resuelven en cada
+ * fallo, fuera del camino habitual.
+ */
+public class TimedMethodInterceptor implements MethodInterceptor {
+
+    static final String NO_EXCEPTION = "none";
+
+    private final Supplier<MeterRegistry> registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el interceptor.
+     *
+     * @param registry el registro de métricas; se resuelve en la primera llamada medida, de modo que
+     *                 el interceptor puede crearse antes que el propio registro
+     */
+    public TimedMethodInterceptor(final Supplier<MeterRegistry> registry) {
+        this.registry = SingletonSupplier.of(registry);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (ReflectionUtils.isObjectMethod(method) || AopUtils.isToStringMethod(method)
+                || AopUtils.isEqualsMethod(method) || AopUtils.isHashCodeMethod(method)) {
+            return invocation.proceed(); // toString, equals, hashCode: no son operaciones del servicio
+        }
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, key -> timer(invocation, NO_EXCEPTION));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(invocation, ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer timer(final MethodInvocation invocation, final String exception) {
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() == null
+                ? method.getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+        MergedAnnotation<Timed> annotation = MergedAnnotations.from(targetClass, SearchStrategy.TYPE_HIERARCHY)
+                .get(Timed.class);
+        Timed timed = annotation.synthesize();
+        Class<?> annotatedType = annotation.getSource() instanceof Class<?> source
+                ? source
+                : ClassUtils.getUserClass(targetClass);
+
+        return Timer.builder(timed.value())
+                .description(timed.description().isEmpty() ? null : timed.description())
+                .tags(timed.extraTags())
+                .tag("class", annotatedType.getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram(timed.histogram())
+                .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles())
+                .register(registry.get());
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Instrumentación de métricas.
+ * 
+ * <p>Este paquete contiene:
+ * <ul>
+ *   <li>TimedMethodInterceptor: Timer de Micrometer por método para los beans anotados con
+ *       {@code @Timed} (casos de uso, adaptador de persistencia, mappers y generador de referencias)</li>
+ * </ul>
+ * 
+ * <p>Lo registra PaymentMetricsConfig.
+ */
+package com.bank.paymentinitiation.adapter.metrics;
@@ -0,0 +1,187 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Decorador de PaymentOrderRepository con caché en memoria de lectura (read-through).
+ * 
+ * <p>Este decorador:
+ * <ul>
+ *   <li>Sirve findByReference desde la caché y solo consulta el repositorio delegado en un fallo</li>
+ *   <li>Actualiza la caché con el resultado de cada save/insert/insertAll (write-through)</li>
+ *   <li>No cachea búsquedas sin resultado (las referencias desconocidas siempre van al delegado)</li>
+ *   <li>Deriva findStatusByReference de la orden cacheada; en un fallo usa la proyección del
+ *       delegado sin poblar la caché de órdenes completas</li>
+ *   <li>Mantiene una tabla en memoria clave de idempotencia → paymentOrderReference, de modo que
+ *       un reintento se resuelve sin consultar la base de datos ({@link #findCachedByIdempotencyKey}
+ *       no consulta nunca por la clave)</li>
+ *   <li>Invalida las órdenes afectadas por un cambio de estado en bloque (el delegado no devuelve
+ *       las órdenes completas, así que no puede actualizarlas) o por un compare-and-set</li>
+ *   <li>Lee del delegado los estados de un lote y las órdenes vencidas: deciden qué transiciones
+ *       aplicar y no deben basarse en una copia que puede tener hasta el TTL de antigüedad</li>
+ *   <li>Delega los listados y exportaciones sin cachearlos (cada página es una consulta distinta
+ *       y una exportación llenaría la caché de órdenes frías)</li>
+ * </ul>
+ * 
+ * <p>El tamaño, el TTL y la política de expulsión (W-TinyLFU) los definen las cachés de Caffeine
+ * recibidas; ver PaymentOrderCacheConfig.
+ */
+public class CachingPaymentOrderRepository implements PaymentOrderRepository {
+
+    private final PaymentOrderRepository delegate;
+    private final Cache<String, PaymentOrder> cache;
+    private final Cache<String, String> idempotencyKeys;
+
+    public CachingPaymentOrderRepository(final PaymentOrderRepository delegate,
+                                         final Cache<String, PaymentOrder> cache,
+                                         final Cache<String, String> idempotencyKeys) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    @Override
+    public PaymentOrder save(final PaymentOrder order) {
+        PaymentOrder saved = delegate.save(order);
+        remember(saved);
+        return saved;
+    }
+
+    @Override
+    public PaymentOrder insert(final PaymentOrder order) {
+        PaymentOrder inserted = delegate.insert(order);
+        remember(inserted);
+        return inserted;
+    }
+
+    @Override
+    public List<PaymentOrder> insertAll(final List<PaymentOrder> orders) {
+        List<PaymentOrder> inserted = delegate.insertAll(orders);
+        for (PaymentOrder order : inserted) {
+            remember(order);
+        }
+        return inserted;
+    }
+
+    @Override
+    public Optional<PaymentOrder> findByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        String reference = idempotencyKeys.getIfPresent(idempotencyKey.getValue());
+        if (reference != null) {
+            Optional<PaymentOrder> known = findByReference(reference);
+            if (known.isPresent()) {
+                return known;
+            }
+            // La orden ya no existe: la entrada está obsoleta
+            idempotencyKeys.invalidate(idempotencyKey.getValue());
+        }
+        Optional<PaymentOrder> found = delegate.findByIdempotencyKey(idempotencyKey);
+        found.ifPresent(this::remember);
+        return found;
+    }
+
+    @Override
+    public Optional<PaymentOrder> findCachedByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        String reference = idempotencyKeys.getIfPresent(idempotencyKey.getValue());
+        if (reference == null) {
+            return Optional.empty();
+        }
+        Optional<PaymentOrder> known = findByReference(reference);
+        if (known.isEmpty()) {
+            idempotencyKeys.invalidate(idempotencyKey.getValue()); // La orden ya no existe
+        }
+        return known;
+    }
+
+    @Override
+    public void addReferenceAlias(final String aliasReference, final String paymentOrderReference) {
+        delegate.addReferenceAlias(aliasReference, paymentOrderReference);
+    }
+
+    @Override
+    public Optional<PaymentOrder> findByReference(final String paymentOrderReference) {
+        // Caffeine garantiza una única carga concurrente por clave; un null no se cachea
+        return Optional.ofNullable(cache.get(paymentOrderReference,
+                reference -> delegate.findByReference(reference).orElse(null)));
+    }
+
+    @Override
+    public Optional<PaymentOrderStatusSnapshot> findStatusByReference(final String paymentOrderReference) {
+        PaymentOrder cached = cache.getIfPresent(paymentOrderReference);
+        if (cached != null) {
+            return Optional.of(PaymentOrderStatusSnapshot.of(cached));
+        }
+        return delegate.findStatusByReference(paymentOrderReference);
+    }
+
+    @Override
+    public List<PaymentOrderStatusSnapshot> findStatusesByReferences(final Collection<String> paymentOrderReferences) {
+        return delegate.findStatusesByReferences(paymentOrderReferences);
+    }
+
+    @Override
+    public List<String> findReferencesDueForExecution(final PaymentStatus status, final LocalDate executionDate,
+            final int limit) {
+        return delegate.findReferencesDueForExecution(status, executionDate, limit);
+    }
+
+    @Override
+    public List<String> changeStatus(final PaymentStatus from, final PaymentStatus to,
+            final Collection<String> paymentOrderReferences, final LocalDateTime changedAt) {
+        List<String> changed = delegate.changeStatus(from, to, paymentOrderReferences, changedAt);
+        // También las no cambiadas: si no seguían en el estado de origen, la copia cacheada está obsoleta
+        cache.invalidateAll(paymentOrderReferences);
+        return changed;
+    }
+
+    @Override
+    public boolean compareAndSetStatus(final String paymentOrderReference, final PaymentStatus expectedStatus,
+            final long expectedVersion, final PaymentStatus newStatus, final LocalDateTime changedAt) {
+        boolean changed = delegate.compareAndSetStatus(paymentOrderReference, expectedStatus, expectedVersion,
+                newStatus, changedAt);
+        // Aunque no se aplique: si falló, la orden cambió y la copia cacheada puede estar obsoleta
+        cache.invalidate(paymentOrderReference);
+        return changed;
+    }
+
+    @Override
+    public List<PaymentOrder> search(final PaymentOrderSearchCriteria criteria, final PaymentOrderCursor after,
+            final int limit) {
+        return delegate.search(criteria, after, limit);
+    }
+
+    @Override
+    public long forEach(final PaymentOrderSearchCriteria criteria, final Consumer<PaymentOrder> action) {
+        return delegate.forEach(criteria, action);
+    }
+
+    @Override
+    public long forEachReference(final LocalDateTime persistedFrom, final Consumer<String> action) {
+        return delegate.forEachReference(persistedFrom, action);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastPersistedAt() {
+        return delegate.findLastPersistedAt();
+    }
+
+    private void remember(final PaymentOrder order) {
+        cache.put(order.getPaymentOrderReference(), order);
+        if (order.getIdempotencyKey() != null) {
+            idempotencyKeys.put(order.getIdempotencyKey().getValue(), order.getPaymentOrderReference());
+        }
+    }
+}
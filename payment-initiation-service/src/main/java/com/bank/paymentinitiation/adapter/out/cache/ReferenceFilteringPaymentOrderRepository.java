@@ -0,0 +1,267 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Decorador de PaymentOrderRepository que descarta sin consultar la base de datos las búsquedas
+ * por referencias que no existen (caché negativa probabilística).
+ *
+ * <p>Este decorador:
+ * <ul>
+ *   <li>Mantiene un ScalableBloomFilter con las referencias conocidas: todas las de payment_orders
+ *       y sus referencias alternativas al arrancar, y cada orden o alias guardado a través de él</li>
+ *   <li>Responde vacío en findByReference y findStatusByReference cuando el filtro descarta la
+ *       referencia y esta se generó antes de la última sincronización (menos {@link #SYNC_OVERLAP});
+ *       si el filtro la reconoce, o es más reciente, consulta al delegado</li>
+ *   <li>Hasta completar la primera carga, y para el resto de operaciones, delega sin filtrar</li>
+ *   <li>Se resincroniza con {@link #synchronize()}, leyendo solo las referencias persistidas desde la
+ *       sincronización anterior; así recoge las órdenes que dieron de alta otras instancias</li>
+ * </ul>
+ *
+ * <p>La antigüedad sale del timestamp de la referencia Snowflake. Con varias instancias, una orden
+ * recién creada en otro nodo aún no está en el filtro; como su referencia es posterior a la última
+ * sincronización, se busca en la base de datos y nunca responde un 404 falso. Las consultas de
+ * estado en lote y los cambios de estado no se filtran.
+ *
+ * <p>La resincronización avanza por el instante de persistencia que fija la base de datos, no por
+ * createdAt: una orden insertada mucho después de generar su referencia (reproducción del journal de
+ * ingesta, reintento tras una caída de la base de datos) se recoge en la siguiente resincronización.
+ * Hasta entonces, las demás instancias pueden responder 404 por ella durante, como mucho, un intervalo
+ * de sincronización. La marca de agua es el último persisted_at leído de la base de datos, así que el
+ * desfase entre relojes no influye.
+ *
+ * <p>Publica en Micrometer:
+ * <ul>
+ *   <li>{@code payment.reference.filter.lookups} con el tag {@code result}: {@code negative}
+ *       (descartada sin consultar), {@code positive} (encontrada) o {@code false_positive}
+ *       (el filtro la reconoció pero no existe)</li>
+ *   <li>{@code payment.reference.filter.elements}, {@code payment.reference.filter.memory} (bytes)
+ *       y {@code payment.reference.filter.expected.fpp} (tasa de falsos positivos esperada)</li>
+ * </ul>
+ */
+public class ReferenceFilteringPaymentOrderRepository implements PaymentOrderRepository {
+
+    static final String LOOKUPS_COUNTER = "payment.reference.filter.lookups";
+
+    /** Margen hacia atrás de cada resincronización: cubre transacciones confirmadas después de su persisted_at. */
+    static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final PaymentOrderRepository delegate;
+    private final ScalableBloomFilter filter;
+    private final Counter negativeLookups;
+    private final Counter positiveLookups;
+    private final Counter falsePositiveLookups;
+
+    private volatile boolean loaded;
+    // Referencias generadas antes de este instante (epoch ms) y ausentes del filtro no existen
+    private volatile long trustedBefore;
+    // Último persisted_at visto en la base de datos antes de la sincronización anterior
+    private LocalDateTime persistedWatermark;
+
+    public ReferenceFilteringPaymentOrderRepository(final PaymentOrderRepository delegate,
+                                                    final ScalableBloomFilter filter,
+                                                    final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.filter = filter;
+        this.negativeLookups = lookups(meterRegistry, "negative");
+        this.positiveLookups = lookups(meterRegistry, "positive");
+        this.falsePositiveLookups = lookups(meterRegistry, "false_positive");
+        Gauge.builder("payment.reference.filter.elements", filter, ScalableBloomFilter::size)
+                .description("Payment order references added to the negative-lookup filter")
+                .register(meterRegistry);
+        Gauge.builder("payment.reference.filter.memory", filter, ScalableBloomFilter::memoryBytes)
+                .description("Memory used by the negative-lookup filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("payment.reference.filter.expected.fpp", filter, ScalableBloomFilter::expectedFalsePositiveRate)
+                .description("Expected false positive rate of the negative-lookup filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Añade al filtro las referencias persistidas desde la sincronización anterior (todas, la primera vez).
+     *
+     * <p>Hasta que termina la primera carga el filtro no descarta ninguna referencia.
+     *
+     * @return el número de referencias leídas
+     */
+    public synchronized long synchronize() {
+        long startedAtMillis = System.currentTimeMillis();
+        // La marca se lee antes del recorrido: lo que se inserte durante él se vuelve a leer la próxima vez
+        Optional<LocalDateTime> watermark = delegate.findLastPersistedAt();
+        LocalDateTime from = persistedWatermark == null ? null : persistedWatermark.minus(SYNC_OVERLAP);
+        long read = delegate.forEachReference(from, filter::put);
+        // Con la tabla vacía no hay marca: la próxima vez se vuelve a leer entera, que sigue siendo poco
+        watermark.ifPresent(last -> persistedWatermark = last);
+        trustedBefore = startedAtMillis - SYNC_OVERLAP.toMillis();
+        loaded = true;
+        return read;
+    }
+
+    @Override
+    public PaymentOrder save(final PaymentOrder order) {
+        PaymentOrder saved = delegate.save(order);
+        filter.put(saved.getPaymentOrderReference());
+        return saved;
+    }
+
+    @Override
+    public PaymentOrder insert(final PaymentOrder order) {
+        PaymentOrder inserted = delegate.insert(order);
+        filter.put(inserted.getPaymentOrderReference());
+        return inserted;
+    }
+
+    @Override
+    public List<PaymentOrder> insertAll(final List<PaymentOrder> orders) {
+        List<PaymentOrder> inserted = delegate.insertAll(orders);
+        for (PaymentOrder order : inserted) {
+            filter.put(order.getPaymentOrderReference());
+        }
+        return inserted;
+    }
+
+    @Override
+    public void addReferenceAlias(final String aliasReference, final String paymentOrderReference) {
+        delegate.addReferenceAlias(aliasReference, paymentOrderReference);
+        filter.put(aliasReference);
+    }
+
+    @Override
+    public Optional<PaymentOrder> findByReference(final String paymentOrderReference) {
+        Lookup lookup = lookup(paymentOrderReference);
+        if (lookup == Lookup.NEGATIVE) {
+            return Optional.empty();
+        }
+        return record(lookup, delegate.findByReference(paymentOrderReference));
+    }
+
+    @Override
+    public Optional<PaymentOrderStatusSnapshot> findStatusByReference(final String paymentOrderReference) {
+        Lookup lookup = lookup(paymentOrderReference);
+        if (lookup == Lookup.NEGATIVE) {
+            return Optional.empty();
+        }
+        return record(lookup, delegate.findStatusByReference(paymentOrderReference));
+    }
+
+    @Override
+    public List<PaymentOrderStatusSnapshot> findStatusesByReferences(final Collection<String> paymentOrderReferences) {
+        return delegate.findStatusesByReferences(paymentOrderReferences);
+    }
+
+    @Override
+    public List<String> findReferencesDueForExecution(final PaymentStatus status, final LocalDate executionDate,
+            final int limit) {
+        return delegate.findReferencesDueForExecution(status, executionDate, limit);
+    }
+
+    @Override
+    public List<String> changeStatus(final PaymentStatus from, final PaymentStatus to,
+            final Collection<String> paymentOrderReferences, final LocalDateTime changedAt) {
+        return delegate.changeStatus(from, to, paymentOrderReferences, changedAt);
+    }
+
+    @Override
+    public boolean compareAndSetStatus(final String paymentOrderReference, final PaymentStatus expectedStatus,
+            final long expectedVersion, final PaymentStatus newStatus, final LocalDateTime changedAt) {
+        return delegate.compareAndSetStatus(paymentOrderReference, expectedStatus, expectedVersion, newStatus,
+                changedAt);
+    }
+
+    @Override
+    public Optional<PaymentOrder> findByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        return delegate.findByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public List<PaymentOrder> search(final PaymentOrderSearchCriteria criteria, final PaymentOrderCursor after,
+            final int limit) {
+        return delegate.search(criteria, after, limit);
+    }
+
+    @Override
+    public long forEach(final PaymentOrderSearchCriteria criteria, final Consumer<PaymentOrder> action) {
+        return delegate.forEach(criteria, action);
+    }
+
+    @Override
+    public long forEachReference(final LocalDateTime persistedFrom, final Consumer<String> action) {
+        return delegate.forEachReference(persistedFrom, action);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastPersistedAt() {
+        return delegate.findLastPersistedAt();
+    }
+
+    private Lookup lookup(final String paymentOrderReference) {
+        if (!loaded) {
+            return Lookup.UNFILTERED;
+        }
+        if (filter.mightContain(paymentOrderReference)) {
+            return Lookup.RECOGNIZED;
+        }
+        if (isOlderThanSync(paymentOrderReference)) {
+            negativeLookups.increment();
+            return Lookup.NEGATIVE;
+        }
+        return Lookup.RECENT;
+    }
+
+    private boolean isOlderThanSync(final String paymentOrderReference) {
+        long generatedAt = SnowflakeReferenceGenerator.timestampOf(paymentOrderReference);
+        // Sin formato Snowflake no puede ser una orden reciente; muy en el futuro, tampoco
+        return generatedAt < trustedBefore || generatedAt > System.currentTimeMillis() + SYNC_OVERLAP.toMillis();
+    }
+
+    private <T> Optional<T> record(final Lookup lookup, final Optional<T> found) {
+        if (lookup == Lookup.UNFILTERED) {
+            return found; // Sin carga completa no hay falsos positivos que medir
+        }
+        if (found.isPresent()) {
+            positiveLookups.increment();
+        } else if (lookup == Lookup.RECOGNIZED) {
+            // Una referencia reciente ausente del filtro no es un falso positivo: se consultó a propósito
+            falsePositiveLookups.increment();
+        }
+        return found;
+    }
+
+    /** Resultado del filtro para una búsqueda por referencia. */
+    private enum Lookup {
+        /** Sin la primera carga el filtro no decide. */
+        UNFILTERED,
+        /** El filtro la reconoce (puede ser un falso positivo). */
+        RECOGNIZED,
+        /** El filtro no la reconoce, pero es posterior a la última sincronización. */
+        RECENT,
+        /** No existe: se responde sin consultar al delegado. */
+        NEGATIVE
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(LOOKUPS_COUNTER)
+                .description("Payment order lookups by negative-lookup filter result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
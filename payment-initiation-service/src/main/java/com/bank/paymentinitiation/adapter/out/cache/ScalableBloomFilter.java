@@ -0,0 +1,223 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom escalable de cadenas (Almeida et al., "Scalable Bloom Filters").
+ *
+ * <p>Responde si un valor <em>puede</em> haberse añadido: un {@code false} es definitivo y un
+ * {@code true} puede ser un falso positivo. No admite borrados.
+ *
+ * <p>El filtro es una secuencia de etapas. Cuando la etapa actual alcanza su capacidad se añade
+ * otra con el doble de capacidad y la mitad de tasa de falsos positivos, de modo que la tasa total
+ * queda acotada por la configurada sin conocer de antemano el número de elementos.
+ *
+ * <p>Las consultas no toman locks; las inserciones se serializan entre sí (son tan frecuentes como
+ * las altas de órdenes). Cada etapa deriva sus k posiciones de dos hashes de 64 bits
+ * (Kirsch-Mitzenmacher), así que el valor se recorre una sola vez por operación.
+ */
+public final class ScalableBloomFilter {
+
+    static final int GROWTH_FACTOR = 2;
+    static final double TIGHTENING_RATIO = 0.5;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final double falsePositiveRate;
+    private volatile Stage[] stages;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param initialCapacity   elementos de la primera etapa
+     * @param falsePositiveRate tasa máxima de falsos positivos del filtro completo, en (0, 1)
+     */
+    public ScalableBloomFilter(final long initialCapacity, final double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        // La suma de la serie p0 * r^i es p0 / (1 - r): la primera etapa lleva p * (1 - r)
+        this.stages = new Stage[] {new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    /**
+     * Indica si el valor puede haberse añadido al filtro.
+     *
+     * @param value el valor
+     * @return false si el valor no se ha añadido nunca; true si puede haberse añadido
+     */
+    public boolean mightContain(final String value) {
+        long hash1 = hash(value);
+        long hash2 = secondHash(hash1);
+        return mightContain(stages, hash1, hash2);
+    }
+
+    /**
+     * Añade un valor al filtro. Añadir un valor que el filtro ya reconoce no lo modifica.
+     *
+     * @param value el valor
+     */
+    public void put(final String value) {
+        long hash1 = hash(value);
+        long hash2 = secondHash(hash1);
+        if (mightContain(stages, hash1, hash2)) {
+            return; // No gastar capacidad en repetidos (p. ej. al resincronizar)
+        }
+        synchronized (this) {
+            Stage[] current = stages;
+            Stage last = current[current.length - 1];
+            if (last.size.get() >= last.capacity) {
+                last = new Stage(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+                Stage[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = last;
+                stages = grown;
+            }
+            last.put(hash1, hash2);
+        }
+    }
+
+    /**
+     * Retorna el número de valores añadidos (sin contar los que el filtro ya reconocía).
+     *
+     * @return el número de valores
+     */
+    public long size() {
+        long size = 0;
+        for (Stage stage : stages) {
+            size += stage.size.get();
+        }
+        return size;
+    }
+
+    /**
+     * Retorna la memoria ocupada por los bits de todas las etapas.
+     *
+     * @return el tamaño en bytes
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += (long) stage.bits.length() * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Retorna la tasa de falsos positivos esperada con el llenado actual de las etapas.
+     *
+     * @return la probabilidad estimada de que un valor no añadido se reconozca
+     */
+    public double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Stage stage : stages) {
+            allNegative *= 1.0 - stage.expectedFalsePositiveRate();
+        }
+        return 1.0 - allNegative;
+    }
+
+    /**
+     * Retorna la tasa máxima de falsos positivos configurada.
+     *
+     * @return la tasa configurada
+     */
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    int stageCount() {
+        return stages.length;
+    }
+
+    private static boolean mightContain(final Stage[] stages, final long hash1, final long hash2) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(final String value) {
+        // FNV-1a de 64 bits sobre los chars (sin copiar la cadena), con la mezcla final de MurmurHash3
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long secondHash(final long hash1) {
+        return mix(hash1 + GOLDEN_GAMMA) | 1L; // Impar: recorre todas las posiciones de la etapa
+    }
+
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Una etapa: un filtro de Bloom clásico dimensionado para su capacidad y tasa de falsos positivos.
+     */
+    private static final class Stage {
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong size = new AtomicLong();
+
+        Stage(final long capacity, final double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            // m = -n ln(p) / ln(2)^2 y k = (m / n) ln(2), redondeado a palabras de 64 bits
+            double ln2 = Math.log(2);
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int words = Math.toIntExact(Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+            this.bitCount = (long) words * Long.SIZE;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.bits = new AtomicLongArray(words);
+        }
+
+        boolean mightContain(final long hash1, final long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(combined, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        // Solo se llama con el lock del filtro; las lecturas concurrentes ven cada palabra completa
+        void put(final long hash1, final long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(combined, bitCount);
+                int word = (int) (index >>> 6);
+                bits.set(word, bits.get(word) | (1L << index));
+                combined += hash2;
+            }
+            size.incrementAndGet();
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-hashCount * (double) size.get() / bitCount), hashCount);
+        }
+    }
+}
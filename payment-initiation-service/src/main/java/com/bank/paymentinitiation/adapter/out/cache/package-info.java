@@ -0,0 +1,15 @@
+/**
+ * Adaptadores de salida de caché.
+ * 
+ * <p>Este paquete contiene decoradores en memoria de los puertos de salida:
+ * <ul>
+ *   <li>CachingPaymentOrderRepository: Caché read-through de PaymentOrderRepository (Caffeine)</li>
+ *   <li>ReferenceFilteringPaymentOrderRepository: Descarta las búsquedas por referencias que no
+ *       existen con un ScalableBloomFilter (caché negativa)</li>
+ * </ul>
+ * 
+ * <p>CachingPaymentOrderRepository se registra como implementación principal del puerto en
+ * PaymentOrderCacheConfig y delega en el filtro de referencias, si está activo
+ * (PaymentReferenceFilterConfig), o directamente en el adaptador de persistencia.
+ */
+package com.bank.paymentinitiation.adapter.out.cache;
@@ -0,0 +1,61 @@
+package com.bank.paymentinitiation.adapter.out.event;
+
+import com.bank.paymentinitiation.config.PaymentOutboxProperties;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Publicador que añade cada evento como una línea JSON (NDJSON) al fichero
+ * {@code payment.outbox.file-path} ({@code payment.outbox.sink=file}).
+ * 
+ * <p>Cada lote se escribe y se vuelca al fichero antes de devolver el control, de modo que el
+ * relé solo retira de la bandeja eventos que ya están en disco. Si la escritura falla, el lote
+ * se reintenta y puede quedar repetido en parte (entrega al menos una vez).
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.outbox", name = "sink", havingValue = "file")
+public class FilePaymentOrderEventPublisher implements PaymentOrderEventPublisher {
+
+    private final Path path;
+    private final ObjectWriter jsonWriter;
+
+    public FilePaymentOrderEventPublisher(final PaymentOutboxProperties properties, final ObjectMapper objectMapper) {
+        this.path = properties.filePath();
+        // El fichero se cierra al final de cada lote, no después de cada evento
+        this.jsonWriter = objectMapper.writerFor(PaymentOrderEvent.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public synchronized void publish(final List<PaymentOrderEvent> events) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PaymentOrderEvent event : events) {
+                    jsonWriter.writeValue(writer, event);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append payment order events to " + path, ex);
+        }
+    }
+}
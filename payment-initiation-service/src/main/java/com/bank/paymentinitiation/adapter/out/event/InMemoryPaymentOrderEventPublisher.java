@@ -0,0 +1,43 @@
+package com.bank.paymentinitiation.adapter.out.event;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publicador que conserva los eventos en memoria ({@code payment.outbox.sink=memory}).
+ * 
+ * <p>Pensado para tests y entornos locales: no tiene límite de tamaño, así que no debe usarse
+ * en producción.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.outbox", name = "sink", havingValue = "memory")
+public class InMemoryPaymentOrderEventPublisher implements PaymentOrderEventPublisher {
+
+    private final List<PaymentOrderEvent> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(final List<PaymentOrderEvent> events) {
+        published.addAll(events);
+    }
+
+    /**
+     * Devuelve una copia de los eventos publicados, en orden de publicación.
+     *
+     * @return los eventos publicados
+     */
+    public synchronized List<PaymentOrderEvent> published() {
+        return List.copyOf(published);
+    }
+
+    /**
+     * Olvida los eventos publicados.
+     */
+    public synchronized void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.paymentinitiation.adapter.out.event;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publicador que escribe cada evento en el log de la aplicación.
+ * 
+ * <p>Es el destino por defecto ({@code payment.outbox.sink=log}) mientras no haya un broker
+ * de mensajería conectado.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment.outbox", name = "sink", havingValue = "log", matchIfMissing = true)
+public class LoggingPaymentOrderEventPublisher implements PaymentOrderEventPublisher {
+
+    @Override
+    public void publish(final List<PaymentOrderEvent> events) {
+        for (PaymentOrderEvent event : events) {
+            log.info("Payment order event {} {} {} status={} previousStatus={} occurredAt={}",
+                    event.getEventId(), event.getType(), event.getPaymentOrderReference(),
+                    event.getStatus(), event.getPreviousStatus(), event.getOccurredAt());
+        }
+    }
+}
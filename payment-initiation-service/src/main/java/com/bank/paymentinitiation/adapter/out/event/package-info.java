@@ -0,0 +1,14 @@
+/**
+ * Adaptadores de salida de eventos.
+ * 
+ * <p>Este paquete contiene las implementaciones de PaymentOrderEventPublisher (domain.port.out),
+ * elegidas con {@code payment.outbox.sink}:
+ * <ul>
+ *   <li>LoggingPaymentOrderEventPublisher: Escribe los eventos en el log (log, por defecto)</li>
+ *   <li>InMemoryPaymentOrderEventPublisher: Conserva los eventos en memoria para tests (memory)</li>
+ *   <li>FilePaymentOrderEventPublisher: Añade los eventos a un fichero NDJSON (file)</li>
+ * </ul>
+ * 
+ * <p>Un broker de mensajería se conectaría añadiendo otra implementación con su propio valor.
+ */
+package com.bank.paymentinitiation.adapter.out.event;
@@ -0,0 +1,424 @@
+package com.bank.paymentinitiation.adapter.out.journal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación de PaymentOrderJournal sobre ficheros de solo anexado en un directorio local.
+ *
+ * <p>El journal es una secuencia de segmentos {@code journal-<primera secuencia>.log}. Cada
+ * registro lleva su longitud y un CRC32C, seguidos del tipo, el número de secuencia y, en los de
+ * órdenes, los campos de la orden:
+ * <ul>
+ *   <li>{@link #append} escribe el registro sin volcarlo; {@link #sync} llama a
+ *       {@code FileChannel.force} una vez por grupo de órdenes anexadas (group commit)</li>
+ *   <li>{@link #checkpoint} anexa un registro de checkpoint y borra los segmentos cerrados cuyas
+ *       órdenes ya están todas persistidas</li>
+ *   <li>Al pasar de {@code segmentSize} bytes, el siguiente volcado cierra el segmento y abre otro</li>
+ * </ul>
+ *
+ * <p>Al abrir, lee todos los segmentos y guarda las órdenes posteriores al último checkpoint para
+ * {@link #recover()}. Un registro incompleto o con CRC incorrecto al final del último segmento (una
+ * escritura cortada por una caída) no se aceptó, porque su volcado no llegó a terminar: se descarta y
+ * se trunca el segmento. En cualquier otro segmento es corrupción y el journal no se abre, porque
+ * detrás puede haber órdenes ya aceptadas.
+ *
+ * <p>Las órdenes que el repositorio rechaza ({@link #reject}) se anexan a {@code rejected.log}, que
+ * no se lee al recuperar ni se borra nunca.
+ */
+@Slf4j
+public class FilePaymentOrderJournal implements PaymentOrderJournal, Closeable {
+
+    static final byte ORDER = 1;
+    static final byte CHECKPOINT = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String REJECTED_FILE = "rejected.log";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final List<Entry> recovered;
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+    private final Object syncLock = new Object();
+    private final Object rejectLock = new Object();
+
+    // Protegidos por this
+    private FileChannel channel;
+    private long channelSize;
+    private long firstSequenceOfSegment;
+    private long lastSequence;
+
+    // Escrito solo con syncLock
+    private volatile long syncedSequence;
+
+    /**
+     * Abre el journal del directorio, creándolo si no existe, y lee las órdenes pendientes.
+     *
+     * @param directory   el directorio del journal
+     * @param segmentSize tamaño en bytes a partir del cual se abre un segmento nuevo
+     */
+    public FilePaymentOrderJournal(final Path directory, final long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            this.recovered = Collections.unmodifiableList(readSegments());
+            this.syncedSequence = lastSequence;
+            openSegment(lastSequence + 1);
+            if (recovered.isEmpty()) {
+                deleteClosedSegments(lastSequence); // Todo lo anterior ya está persistido
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open payment order journal in " + directory, ex);
+        }
+        if (!recovered.isEmpty()) {
+            log.warn("Payment order journal {} has {} accepted orders pending persistence", directory,
+                    recovered.size());
+        }
+        warnRejected();
+    }
+
+    @Override
+    public synchronized long append(final PaymentOrder order) {
+        long sequence = lastSequence + 1;
+        write(encodeOrder(sequence, order));
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    @Override
+    public void sync(final long sequence) {
+        if (syncedSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedSequence >= sequence) {
+                return; // Otro hilo lo volcó mientras esperábamos: group commit
+            }
+            FileChannel current;
+            long target;
+            synchronized (this) {
+                current = channel;
+                target = lastSequence;
+            }
+            try {
+                current.force(false);
+                syncedSequence = target;
+                synchronized (this) {
+                    if (channelSize >= segmentSize) {
+                        rollSegment();
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not sync payment order journal in " + directory, ex);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void checkpoint(final long sequence) {
+        write(encode(CHECKPOINT, sequence, null));
+        try {
+            deleteClosedSegments(sequence);
+        } catch (IOException ex) {
+            // No afecta a la durabilidad: los segmentos que queden se releen y se descartan al arrancar
+            log.warn("Could not delete payment order journal segments in {}", directory, ex);
+        }
+    }
+
+    @Override
+    public void reject(final Entry entry) {
+        ByteBuffer buffer = frame(encodeOrder(entry.sequence(), entry.order()));
+        synchronized (rejectLock) {
+            // Es raro: se abre el fichero en cada rechazo y se vuelca antes de retornar
+            try (FileChannel rejected = FileChannel.open(directory.resolve(REJECTED_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (buffer.hasRemaining()) {
+                    rejected.write(buffer);
+                }
+                rejected.force(false);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not record rejected payment order in " + directory, ex);
+            }
+        }
+    }
+
+    @Override
+    public List<Entry> recover() {
+        return recovered;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (this) {
+                channel.force(false);
+                channel.close();
+            }
+        }
+    }
+
+    private List<Entry> readSegments() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(FilePaymentOrderJournal::isSegment).sorted().toList();
+        }
+        List<Entry> orders = new ArrayList<>();
+        long checkpoint = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            long segmentLastSequence = 0;
+            long validLength = 0;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                byte[] body;
+                while ((body = readRecord(in)) != null) {
+                    validLength += HEADER_BYTES + body.length;
+                    DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+                    byte type = record.readByte();
+                    long sequence = record.readLong();
+                    if (type == CHECKPOINT) {
+                        checkpoint = Math.max(checkpoint, sequence);
+                    } else {
+                        orders.add(new Entry(sequence, decodeOrder(record)));
+                        segmentLastSequence = sequence;
+                        lastSequence = Math.max(lastSequence, sequence);
+                    }
+                }
+            }
+            discardInvalidTail(segment, validLength, i == segments.size() - 1);
+            closedSegments.add(new Segment(segment, segmentLastSequence));
+        }
+        // Un segmento con solo checkpoints no puede hacer que la secuencia vuelva a empezar por debajo
+        lastSequence = Math.max(lastSequence, checkpoint);
+        long persisted = checkpoint;
+        orders.removeIf(entry -> entry.sequence() <= persisted);
+        return orders;
+    }
+
+    private static void discardInvalidTail(final Path segment, final long validLength, final boolean last)
+            throws IOException {
+        long size = Files.size(segment);
+        if (validLength == size) {
+            return;
+        }
+        if (!last) {
+            log.error("Payment order journal segment {} is corrupt at byte {} of {}", segment, validLength, size);
+            throw new IllegalStateException("Payment order journal segment " + segment + " is corrupt at byte "
+                    + validLength + "; accepted orders after it would be lost");
+        }
+        log.warn("Discarding {} bytes of an interrupted write at the end of payment order journal segment {}",
+                size - validLength, segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+        }
+    }
+
+    private void warnRejected() {
+        Path rejected = directory.resolve(REJECTED_FILE);
+        if (!Files.exists(rejected)) {
+            return;
+        }
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rejected)))) {
+            while (readRecord(in) != null) {
+                count++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read rejected payment orders in " + directory, ex);
+        }
+        if (count > 0) {
+            log.error("Payment order journal {} has {} accepted orders rejected by the repository in {}",
+                    directory, count, rejected);
+        }
+    }
+
+    // Retorna null al final del segmento o en un registro cortado o corrupto
+    private static byte[] readRecord(final DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int crc = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES) {
+                return null;
+            }
+            byte[] body = new byte[length];
+            in.readFully(body);
+            return crc(body) == crc ? body : null;
+        } catch (EOFException ex) {
+            return null;
+        }
+    }
+
+    private void write(final byte[] body) {
+        ByteBuffer buffer = frame(body);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to payment order journal in " + directory, ex);
+        }
+        channelSize += HEADER_BYTES + body.length;
+    }
+
+    private static ByteBuffer frame(final byte[] body) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        buffer.putInt(body.length).putInt(crc(body)).put(body).flip();
+        return buffer;
+    }
+
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        closedSegments.add(new Segment(segmentPath(firstSequenceOfSegment), lastSequence));
+        openSegment(lastSequence + 1);
+    }
+
+    private void openSegment(final long firstSequence) throws IOException {
+        Path path = segmentPath(firstSequence);
+        // Un segmento sin órdenes de la ejecución anterior puede llamarse igual: se sigue anexando en él
+        closedSegments.removeIf(segment -> segment.path().equals(path));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channelSize = validLength(path);
+        channel.truncate(channelSize); // Descarta un registro cortado al final
+        channel.position(channelSize);
+        firstSequenceOfSegment = firstSequence;
+    }
+
+    private static long validLength(final Path path) throws IOException {
+        long length = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            byte[] body;
+            while ((body = readRecord(in)) != null) {
+                length += HEADER_BYTES + body.length;
+            }
+        }
+        return length;
+    }
+
+    private void deleteClosedSegments(final long persistedSequence) throws IOException {
+        while (!closedSegments.isEmpty() && closedSegments.peekFirst().lastSequence() <= persistedSequence) {
+            Files.deleteIfExists(closedSegments.pollFirst().path());
+        }
+    }
+
+    private Path segmentPath(final long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(final Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int crc(final byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    static byte[] encodeOrder(final long sequence, final PaymentOrder order) {
+        return encode(ORDER, sequence, order);
+    }
+
+    private static byte[] encode(final byte type, final long sequence, final PaymentOrder order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            out.writeLong(sequence);
+            if (order != null) {
+                out.writeUTF(order.getPaymentOrderReference());
+                out.writeUTF(order.getExternalReference().getValue());
+                out.writeUTF(order.getPayerReference().getValue());
+                out.writeUTF(order.getPayeeReference().getValue());
+                out.writeUTF(order.getInstructedAmount().getValue().toPlainString());
+                out.writeUTF(order.getInstructedAmount().getCurrency());
+                writeNullable(out, order.getRemittanceInformation());
+                writeNullable(out, order.getRequestedExecutionDate() == null
+                        ? null : order.getRequestedExecutionDate().toString());
+                writeNullable(out, order.getIdempotencyKey() == null ? null : order.getIdempotencyKey().getValue());
+                out.writeUTF(order.getCreatedAt().toString());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex); // ByteArrayOutputStream no lanza IOException
+        }
+        return bytes.toByteArray();
+    }
+
+    private static PaymentOrder decodeOrder(final DataInputStream in) throws IOException {
+        String reference = in.readUTF();
+        ExternalReference externalReference = new ExternalReference(in.readUTF());
+        PayerReference payerReference = new PayerReference(in.readUTF());
+        PayeeReference payeeReference = new PayeeReference(in.readUTF());
+        PaymentAmount amount = PaymentAmount.of(new BigDecimal(in.readUTF()), in.readUTF());
+        String remittanceInformation = readNullable(in);
+        String requestedExecutionDate = readNullable(in);
+        String idempotencyKey = readNullable(in);
+        LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(externalReference)
+                .payerReference(payerReference)
+                .payeeReference(payeeReference)
+                .instructedAmount(amount)
+                .remittanceInformation(remittanceInformation)
+                .requestedExecutionDate(requestedExecutionDate == null ? null : LocalDate.parse(requestedExecutionDate))
+                .idempotencyKey(idempotencyKey == null ? null : IdempotencyKey.fromValue(idempotencyKey))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private static void writeNullable(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Un segmento cerrado y la secuencia de su última orden (0 si no tiene órdenes).
+     */
+    private record Segment(Path path, long lastSequence) {
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Adaptadores de salida del journal de la ingesta asíncrona.
+ * 
+ * <p>Este paquete contiene la implementación del puerto PaymentOrderJournal:
+ * <ul>
+ *   <li>FilePaymentOrderJournal: Segmentos de solo anexado en disco local, con CRC por registro,
+ *       volcado agrupado (group commit) y checkpoints que liberan los segmentos ya persistidos</li>
+ * </ul>
+ */
+package com.bank.paymentinitiation.adapter.out.journal;
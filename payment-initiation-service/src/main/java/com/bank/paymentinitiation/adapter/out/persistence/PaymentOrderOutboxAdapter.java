@@ -0,0 +1,55 @@
+package com.bank.paymentinitiation.adapter.out.persistence;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderEventJpaRepository;
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptador de persistencia que implementa PaymentOrderOutbox sobre la tabla payment_order_outbox.
+ * 
+ * <p>Cada lote se drena en una única transacción:
+ * <ol>
+ *   <li>Reclama los eventos más antiguos con SELECT ... FOR UPDATE SKIP LOCKED</li>
+ *   <li>Los entrega al publicador</li>
+ *   <li>Los borra con un único DELETE ... WHERE id IN (...)</li>
+ * </ol>
+ * 
+ * <p>Si el publicador falla, la transacción se deshace: los eventos siguen en la tabla y el
+ * bloqueo se libera para el siguiente intento.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOrderOutboxAdapter implements PaymentOrderOutbox {
+
+    private final PaymentOrderEventJpaRepository eventRepository;
+    private final PaymentOrderPersistenceMapper mapper;
+
+    @Override
+    @Transactional
+    public int publishPending(final int batchSize, final PaymentOrderEventPublisher publisher) {
+        List<PaymentOrderEventEntity> claimed = eventRepository.claimPending(batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<PaymentOrderEvent> events = claimed.stream()
+                .map(mapper::toEvent)
+                .toList();
+        publisher.publish(events);
+
+        List<UUID> ids = claimed.stream()
+                .map(PaymentOrderEventEntity::getId)
+                .toList();
+        eventRepository.deleteByIds(ids);
+        return events.size();
+    }
+}
@@ -1,14 +1,42 @@
 package com.bank.paymentinitiation.adapter.out.persistence;
 
 import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderEventJpaRepository;
 import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderJpaRepository;
 import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEventType;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
 import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
-import lombok.RequiredArgsConstructor;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderStatusNotifier;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * Adaptador de persistencia que implementa PaymentOrderRepository usando JPA.
@@ -17,44 +45,253 @@ import java.util.Optional;
  * <ul>
  *   <li>Convierte entre PaymentOrder (dominio) y PaymentOrderEntity (JPA)</li>
  *   <li>Maneja la preservación del ID técnico (UUID) al actualizar entidades existentes</li>
- *   <li>Busca entidades por paymentOrderReference (identificador de negocio), no por UUID</li>
+ *   <li>Busca entidades por paymentOrderReference (identificador de negocio), no por UUID; si no hay
+ *       ninguna, por la referencia alternativa registrada con addReferenceAlias</li>
+ *   <li>Ofrece un camino de solo inserción para órdenes nuevas (una única sentencia)</li>
+ *   <li>Traduce las violaciones de unicidad al insertar a DuplicatePaymentOrderException</li>
+ *   <li>Resuelve la consulta de estado con una proyección, sin cargar la entidad completa</li>
+ *   <li>Lista órdenes con paginación keyset, sin OFFSET</li>
+ *   <li>Recorre exportaciones fila a fila, mapeando cada entidad antes de soltarla</li>
+ *   <li>Cambia estados en bloque con un UPDATE condicionado al estado de origen, sin cargar las órdenes</li>
+ *   <li>Versiona las órdenes: guardar una versión obsoleta o un compare-and-set fallido no sobrescribe nada</li>
+ *   <li>Registra en la bandeja de salida el evento de cada escritura, en la misma transacción</li>
+ *   <li>Cuenta las órdenes que pasan a cada estado ({@code payment.orders.status}, tag {@code status})</li>
+ *   <li>Avisa a PaymentOrderStatusNotifier de cada cambio de estado, una vez confirmada la transacción</li>
  * </ul>
  */
 @Component
-@RequiredArgsConstructor
+@Timed(value = "payment.persistence", histogram = true)
 public class PaymentOrderRepositoryAdapter implements PaymentOrderRepository {
 
+    static final String STATUS_COUNTER = "payment.orders.status";
+
     private final PaymentOrderJpaRepository jpaRepository;
     private final PaymentOrderPersistenceMapper mapper;
+    private final PaymentOrderEventJpaRepository eventRepository;
+    private final PaymentOrderStatusNotifier statusNotifier;
+    private final Map<PaymentStatus, Counter> statusCounters = new EnumMap<>(PaymentStatus.class);
+
+    public PaymentOrderRepositoryAdapter(final PaymentOrderJpaRepository jpaRepository,
+                                         final PaymentOrderPersistenceMapper mapper,
+                                         final PaymentOrderEventJpaRepository eventRepository,
+                                         final MeterRegistry meterRegistry,
+                                         final PaymentOrderStatusNotifier statusNotifier) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.eventRepository = eventRepository;
+        this.statusNotifier = statusNotifier;
+        // Registrados de antemano: en cada escritura solo se incrementa un contador ya resuelto
+        for (PaymentStatus status : PaymentStatus.values()) {
+            statusCounters.put(status, Counter.builder(STATUS_COUNTER)
+                    .description("Payment orders moved into each status")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
+    @Transactional
     public PaymentOrder save(final PaymentOrder order) {
         // Verificar si la entidad ya existe por paymentOrderReference
         Optional<PaymentOrderEntity> existingEntity = jpaRepository
                 .findByPaymentOrderReference(order.getPaymentOrderReference());
 
         PaymentOrderEntity entity;
+        PaymentOrderEvent event = null;
         if (existingEntity.isPresent()) {
             // Actualizar entidad existente: preservar ID y actualizar todos los demás campos
             PaymentOrderEntity existing = existingEntity.get();
             entity = mapper.toEntity(order);
             entity.setId(existing.getId()); // Preservar el ID existente
+            if (entity.getVersion() == null) {
+                entity.setVersion(existing.getVersion()); // Orden sin versión: se escribe sobre la actual
+            }
+            if (!existing.getStatus().equals(entity.getStatus())) {
+                event = PaymentOrderEvent.statusChanged(order, PaymentStatus.valueOf(existing.getStatus()));
+            }
         } else {
             // Crear nueva entidad
             entity = mapper.toEntity(order);
+            event = PaymentOrderEvent.initiated(order);
         }
 
-        // Guardar entidad (insert o update)
-        PaymentOrderEntity savedEntity = jpaRepository.save(entity);
+        // Guardar entidad (insert o update) y su evento en la misma transacción. El flush adelanta la
+        // comprobación de versión a este punto, para traducirla aquí y no al confirmar la transacción
+        PaymentOrderEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entity);
+        } catch (OptimisticLockingFailureException ex) {
+            throw new PaymentOrderConflictException(
+                    "Payment order was modified concurrently: " + order.getPaymentOrderReference(), ex);
+        }
+        if (event != null) {
+            eventRepository.append(mapper.toEventEntity(event));
+            statusCounters.get(event.getStatus()).increment();
+        }
 
         // Mapear de vuelta a dominio y retornar
-        return mapper.toDomain(savedEntity);
+        PaymentOrder savedOrder = mapper.toDomain(savedEntity);
+        if (event != null && event.getType() == PaymentOrderEventType.STATUS_CHANGED) {
+            notifyAfterCommit(List.of(PaymentOrderStatusSnapshot.of(savedOrder)));
+        }
+        return savedOrder;
+    }
+
+    @Override
+    public PaymentOrder insert(final PaymentOrder order) {
+        // Orden nueva: persist directo, sin buscar por referencia ni hacer merge
+        PaymentOrderEntity entity = mapper.toEntity(order);
+        try {
+            jpaRepository.persist(entity, mapper.toEventEntity(PaymentOrderEvent.initiated(order)));
+        } catch (DataIntegrityViolationException ex) {
+            throw new DuplicatePaymentOrderException(
+                    "Payment order already exists: " + order.getPaymentOrderReference(), ex);
+        }
+        statusCounters.get(PaymentStatus.INITIATED).increment();
+        // persist asigna la versión inicial: sin ella, un save posterior no podría detectar escrituras intermedias
+        return order.toBuilder().version(entity.getVersion()).build();
+    }
+
+    @Override
+    public List<PaymentOrder> insertAll(final List<PaymentOrder> orders) {
+        List<PaymentOrderEntity> entities = orders.stream()
+                .map(mapper::toEntity)
+                .toList();
+        List<PaymentOrderEventEntity> events = orders.stream()
+                .map(order -> mapper.toEventEntity(PaymentOrderEvent.initiated(order)))
+                .toList();
+        try {
+            jpaRepository.persistAll(entities, events);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DuplicatePaymentOrderException("Payment order batch conflicts with existing orders", ex);
+        }
+        statusCounters.get(PaymentStatus.INITIATED).increment(orders.size());
+        return IntStream.range(0, orders.size())
+                .mapToObj(i -> orders.get(i).toBuilder().version(entities.get(i).getVersion()).build())
+                .toList();
     }
 
     @Override
     public Optional<PaymentOrder> findByReference(final String paymentOrderReference) {
         return jpaRepository.findByPaymentOrderReference(paymentOrderReference)
+                // Solo en un fallo: los alias son raros y la búsqueda habitual sigue siendo una consulta
+                .or(() -> jpaRepository.findAliasTarget(paymentOrderReference)
+                        .flatMap(jpaRepository::findByPaymentOrderReference))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public void addReferenceAlias(final String aliasReference, final String paymentOrderReference) {
+        jpaRepository.persistAlias(PaymentOrderReferenceAliasEntity.builder()
+                .aliasReference(aliasReference)
+                .paymentOrderReference(paymentOrderReference)
+                .build());
+    }
+
+    @Override
+    public Optional<PaymentOrder> findByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        return jpaRepository.findByIdempotencyKey(idempotencyKey.getValue())
                 .map(mapper::toDomain);
     }
-}
 
+    @Override
+    public Optional<PaymentOrderStatusSnapshot> findStatusByReference(final String paymentOrderReference) {
+        return jpaRepository.findStatusByPaymentOrderReference(paymentOrderReference)
+                .or(() -> jpaRepository.findAliasTarget(paymentOrderReference)
+                        .flatMap(jpaRepository::findStatusByPaymentOrderReference))
+                .map(mapper::toStatusSnapshot);
+    }
+
+    @Override
+    public List<PaymentOrderStatusSnapshot> findStatusesByReferences(final Collection<String> paymentOrderReferences) {
+        return jpaRepository.findStatusesByPaymentOrderReferences(paymentOrderReferences).stream()
+                .map(mapper::toStatusSnapshot)
+                .toList();
+    }
+
+    @Override
+    public List<String> findReferencesDueForExecution(final PaymentStatus status, final LocalDate executionDate,
+            final int limit) {
+        return jpaRepository.findReferencesDueForExecution(status.name(), executionDate, limit);
+    }
+
+    @Override
+    @Transactional
+    public List<String> changeStatus(final PaymentStatus from, final PaymentStatus to,
+            final Collection<String> paymentOrderReferences, final LocalDateTime changedAt) {
+        int updated = jpaRepository.updateStatus(from.name(), to.name(), paymentOrderReferences, changedAt);
+
+        // Caso habitual: todas seguían en el estado de origen. Si no, averiguar cuáles se cambiaron
+        List<String> changed = updated == paymentOrderReferences.size()
+                ? List.copyOf(paymentOrderReferences)
+                : jpaRepository.findReferencesChangedAt(to.name(), paymentOrderReferences, changedAt);
+
+        // Un evento STATUS_CHANGED por orden cambiada, en la misma transacción (inserciones en lote JDBC)
+        for (String reference : changed) {
+            eventRepository.append(mapper.toEventEntity(
+                    PaymentOrderEvent.statusChanged(reference, from, to, changedAt)));
+        }
+        statusCounters.get(to).increment(changed.size());
+        notifyAfterCommit(changed.stream()
+                .map(reference -> new PaymentOrderStatusSnapshot(reference, to, changedAt, null))
+                .toList());
+        return changed;
+    }
+
+    @Override
+    @Transactional
+    public boolean compareAndSetStatus(final String paymentOrderReference, final PaymentStatus expectedStatus,
+            final long expectedVersion, final PaymentStatus newStatus, final LocalDateTime changedAt) {
+        int updated = jpaRepository.compareAndSetStatus(paymentOrderReference, expectedStatus.name(), expectedVersion,
+                newStatus.name(), changedAt);
+        if (updated == 0) {
+            return false;
+        }
+        eventRepository.append(mapper.toEventEntity(
+                PaymentOrderEvent.statusChanged(paymentOrderReference, expectedStatus, newStatus, changedAt)));
+        statusCounters.get(newStatus).increment();
+        notifyAfterCommit(List.of(new PaymentOrderStatusSnapshot(paymentOrderReference, newStatus, changedAt,
+                expectedVersion + 1)));
+        return true;
+    }
+
+    @Override
+    public List<PaymentOrder> search(final PaymentOrderSearchCriteria criteria, final PaymentOrderCursor after,
+            final int limit) {
+        return jpaRepository.search(criteria, after, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long forEach(final PaymentOrderSearchCriteria criteria, final Consumer<PaymentOrder> action) {
+        return jpaRepository.forEach(criteria, entity -> action.accept(mapper.toDomain(entity)));
+    }
+
+    @Override
+    public long forEachReference(final LocalDateTime persistedFrom, final Consumer<String> action) {
+        return jpaRepository.forEachReference(persistedFrom, action);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastPersistedAt() {
+        return jpaRepository.findLastPersistedAt();
+    }
+
+    private void notifyAfterCommit(final List<PaymentOrderStatusSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        // Los observadores no deben ver un estado que la transacción todavía puede deshacer
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statusNotifier.statusChanged(snapshots);
+                }
+            });
+        } else {
+            statusNotifier.statusChanged(snapshots);
+        }
+    }
+}
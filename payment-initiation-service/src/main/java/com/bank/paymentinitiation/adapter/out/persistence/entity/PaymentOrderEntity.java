@@ -1,10 +1,12 @@
 package com.bank.paymentinitiation.adapter.out.persistence.entity;
 
+import com.bank.paymentinitiation.adapter.out.persistence.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,9 +24,41 @@ import java.util.UUID;
  * <p>Esta entidad mapea el agregado PaymentOrder del dominio a una representación
  * persistible en base de datos. Usa UUID como clave primaria técnica y
  * paymentOrderReference como identificador de negocio único.
+ * 
+ * <p>La clave primaria se genera como UUID v7 (ordenado por tiempo): las inserciones se añaden al
+ * final del índice. La columna sigue siendo un UUID, así que las filas existentes con UUID
+ * aleatorios (v4) conviven con las nuevas sin migración.
+ * 
+ * <p>Los índices compuestos terminan en (created_at, payment_order_reference), la clave de
+ * ordenación del listado: con un filtro de igualdad (estado, pagador o beneficiario) la página
+ * se lee en orden directamente del índice, sin ordenar ni saltar filas.
+ * 
+ * <p>idx_payment_orders_status_execution_date sirve igual a la búsqueda de órdenes vencidas
+ * (estado y fecha de ejecución, en orden de fecha de ejecución y referencia).
+ * 
+ * <p>La tabla y sus índices los crea la migración V1 de Flyway (db/migration); los índices
+ * declarados aquí documentan el esquema y deben coincidir con ella. La V3 añade persisted_at.
+ * 
+ * <p>persisted_at lo fija la base de datos al insertar la fila (DEFAULT LOCALTIMESTAMP): la entidad no
+ * lo escribe nunca y solo sirve para consultar las filas insertadas a partir de un instante.
+ * 
+ * <p>version es el control de concurrencia optimista: Hibernate lo comprueba y lo incrementa en
+ * cada actualización de la entidad, y las actualizaciones en bloque lo incrementan explícitamente.
  */
 @Entity
-@Table(name = "payment_orders")
+@Table(name = "payment_orders", indexes = {
+        @Index(name = "idx_payment_orders_created", columnList = "created_at, payment_order_reference"),
+        @Index(name = "idx_payment_orders_status_created",
+                columnList = "status, created_at, payment_order_reference"),
+        @Index(name = "idx_payment_orders_payer_created",
+                columnList = "payer_reference, created_at, payment_order_reference"),
+        @Index(name = "idx_payment_orders_payee_created",
+                columnList = "payee_reference, created_at, payment_order_reference"),
+        @Index(name = "idx_payment_orders_execution_date", columnList = "requested_execution_date"),
+        @Index(name = "idx_payment_orders_status_execution_date",
+                columnList = "status, requested_execution_date, payment_order_reference"),
+        @Index(name = "idx_payment_orders_persisted", columnList = "persisted_at, payment_order_reference")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,7 +67,7 @@ import java.util.UUID;
 public class PaymentOrderEntity {
 
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -69,5 +103,15 @@ public class PaymentOrderEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Column(name = "persisted_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime persistedAt;
+
+    @Column(name = "idempotency_key", unique = true, length = 300)
+    private String idempotencyKey;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
 
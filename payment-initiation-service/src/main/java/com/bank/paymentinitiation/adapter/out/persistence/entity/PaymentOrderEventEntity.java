@@ -0,0 +1,57 @@
+package com.bank.paymentinitiation.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA de la bandeja de salida (outbox): un evento pendiente de publicar.
+ * 
+ * <p>Se inserta en la misma transacción que la orden que lo origina y se borra cuando el relé
+ * lo ha publicado, así que la tabla solo contiene eventos pendientes. El ID es el eventId del
+ * dominio (asignado, sin consultar la base de datos). El índice (occurred_at, id) es el orden
+ * en el que el relé reclama los eventos, y (payment_order_reference, occurred_at, id) localiza el
+ * evento pendiente más antiguo de cada orden. La tabla la crea la migración V2 de Flyway
+ * (db/migration) y V5 añade el índice por orden.
+ */
+@Entity
+@Table(name = "payment_order_outbox", indexes = {
+        @Index(name = "idx_payment_order_outbox_occurred", columnList = "occurred_at, id"),
+        @Index(name = "idx_payment_order_outbox_order", columnList = "payment_order_reference, occurred_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentOrderEventEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "event_type", nullable = false, length = 30)
+    private String eventType;
+
+    @Column(name = "payment_order_reference", nullable = false, length = 100)
+    private String paymentOrderReference;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "previous_status", length = 20)
+    private String previousStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,45 @@
+package com.bank.paymentinitiation.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de una referencia alternativa de una orden de pago.
+ * 
+ * <p>La iniciación asíncrona entrega la referencia antes de persistir la orden. Si al persistirla su
+ * clave de idempotencia ya pertenece a otra orden, la referencia entregada se guarda aquí apuntando a
+ * la orden original, y las búsquedas por referencia la resuelven a ella. El ID es la referencia
+ * alternativa. persisted_at lo fija la base de datos, como en PaymentOrderEntity. La tabla la crea
+ * la migración V4 de Flyway (db/migration).
+ */
+@Entity
+@Table(name = "payment_order_reference_aliases", indexes = {
+        @Index(name = "idx_payment_order_reference_aliases_persisted", columnList = "persisted_at, alias_reference")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentOrderReferenceAliasEntity {
+
+    @Id
+    @Column(name = "alias_reference", updatable = false, nullable = false, length = 100)
+    private String aliasReference;
+
+    @Column(name = "payment_order_reference", nullable = false, length = 100)
+    private String paymentOrderReference;
+
+    @Column(name = "persisted_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime persistedAt;
+}
@@ -4,6 +4,7 @@
  * <p>Este paquete contiene las entidades JPA que representan el modelo de persistencia:
  * <ul>
  *   <li>PaymentOrderEntity: Entidad JPA para PaymentOrder</li>
+ *   <li>PaymentOrderEventEntity: Evento pendiente en la bandeja de salida (outbox)</li>
  * </ul>
  * 
  * <p>Las entidades JPA:
@@ -0,0 +1,20 @@
+package com.bank.paymentinitiation.adapter.out.persistence.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marca un identificador UUID que Hibernate genera como UUID v7 (ordenado por tiempo) al insertar.
+ * 
+ * <p>Sustituye a {@code @GeneratedValue}, cuyo UUID aleatorio (v4) reparte las inserciones por
+ * todas las hojas del índice de la clave primaria.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
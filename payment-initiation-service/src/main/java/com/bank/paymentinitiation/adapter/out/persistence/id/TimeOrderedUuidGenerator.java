@@ -0,0 +1,30 @@
+package com.bank.paymentinitiation.adapter.out.persistence.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generador de Hibernate para los identificadores anotados con {@link TimeOrderedUuid}.
+ * 
+ * <p>Genera el UUID en memoria antes del INSERT (como el generador UUID por defecto), así que
+ * persist() sigue sin consultar la base de datos y los INSERT se pueden agrupar en lotes JDBC.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object owner,
+            final Object currentValue, final EventType eventType) {
+        return UuidV7.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
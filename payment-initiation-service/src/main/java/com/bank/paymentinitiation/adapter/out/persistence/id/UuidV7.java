@@ -0,0 +1,59 @@
+package com.bank.paymentinitiation.adapter.out.persistence.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de UUID versión 7 (RFC 9562): 48 bits de timestamp Unix en milisegundos seguidos de
+ * bits aleatorios, de modo que los identificadores crecen con el tiempo.
+ * 
+ * <p>Los 12 bits {@code rand_a} se usan como contador dentro del mismo milisegundo (método 1 de la
+ * RFC), así que los UUID generados en la misma JVM son estrictamente crecientes aunque el reloj
+ * no avance o retroceda. Si el contador se agota, el timestamp avanza un milisegundo.
+ * 
+ * <p>Los 62 bits {@code rand_b} vienen de ThreadLocalRandom: el UUID es una clave técnica interna,
+ * no un secreto, y no hace falta la entropía criptográfica (ni el coste) de UUID.randomUUID().
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3fff_ffff_ffff_ffffL;
+
+    // (milisegundos << 12) | contador del último UUID generado
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Genera el siguiente UUID v7.
+     *
+     * @return un UUID mayor que todos los generados antes en esta JVM
+     */
+    public static UUID next() {
+        long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(candidate, last + 1));
+        long millis = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        long mostSignificant = (millis << 16) | VERSION | counter;
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Retorna el instante de creación codificado en un UUID v7.
+     *
+     * @param uuid un UUID versión 7
+     * @return los milisegundos desde la época Unix
+     */
+    public static long timestamp(final UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Generación de identificadores técnicos de persistencia.
+ * 
+ * <p>Este paquete contiene:
+ * <ul>
+ *   <li>UuidV7: Generador de UUID versión 7, crecientes en el tiempo</li>
+ *   <li>TimeOrderedUuid: Anotación para generar un @Id UUID como UUID v7 al insertar</li>
+ *   <li>TimeOrderedUuidGenerator: Generador de Hibernate asociado a @TimeOrderedUuid</li>
+ * </ul>
+ * 
+ * <p>Con claves crecientes cada inserción cae en la última hoja del índice de la clave primaria,
+ * en lugar de en una hoja aleatoria: menos divisiones de páginas, índices más compactos y menos
+ * páginas a mantener en memoria a medida que crece la tabla.
+ */
+package com.bank.paymentinitiation.adapter.out.persistence.id;
@@ -0,0 +1,129 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita el número de conexiones prestadas a la vez (bulkhead).
+ * 
+ * <p>Cada getConnection() toma un permiso de un {@link Semaphore} justo y lo devuelve al cerrar
+ * la conexión. Con hilos virtuales miles de peticiones pueden llegar a la capa JDBC a la vez;
+ * el semáforo hace que las que exceden el pool esperen aparcadas (sin fijar el hilo portador)
+ * en lugar de bloquearse dentro del pool o del driver, y que fallen con
+ * {@link SQLTransientConnectionException} si no obtienen permiso a tiempo.
+ * 
+ * <p>El número de permisos debe coincidir con el tamaño máximo del pool para que quien obtiene
+ * permiso obtenga conexión sin esperar.
+ */
+public class ConnectionBulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrentConnections;
+    private final Duration acquireTimeout;
+
+    public ConnectionBulkheadDataSource(final DataSource targetDataSource,
+                                        final int maxConcurrentConnections,
+                                        final Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxConcurrentConnections <= 0) {
+            throw new IllegalArgumentException("maxConcurrentConnections must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.maxConcurrentConnections = maxConcurrentConnections;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    public int getMaxConcurrentConnections() {
+        return maxConcurrentConnections;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + acquireTimeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", ex);
+        }
+    }
+
+    private Connection releasingOnClose(final Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionBulkheadDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new PermitReleasingHandler(target));
+    }
+
+    /**
+     * Delega todas las llamadas en la conexión real y libera el permiso en el primer close().
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Infraestructura JDBC de la persistencia.
+ * 
+ * <p>Este paquete contiene:
+ * <ul>
+ *   <li>ConnectionBulkheadDataSource: Limita las conexiones prestadas a la vez con un semáforo</li>
+ * </ul>
+ * 
+ * <p>Se registra envolviendo el DataSource de Spring Boot en DataSourceBulkheadConfig.
+ */
+package com.bank.paymentinitiation.adapter.out.persistence.jdbc;
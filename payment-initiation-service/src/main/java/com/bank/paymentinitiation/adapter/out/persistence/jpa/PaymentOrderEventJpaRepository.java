@@ -0,0 +1,18 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para la bandeja de salida (PaymentOrderEventEntity).
+ * 
+ * <p>Incluye el fragmento PaymentOrderOutboxRepository para insertar eventos sin merge y para
+ * reclamarlos y retirarlos por lotes.
+ */
+@Repository
+public interface PaymentOrderEventJpaRepository extends JpaRepository<PaymentOrderEventEntity, UUID>,
+        PaymentOrderOutboxRepository {
+}
@@ -0,0 +1,44 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.List;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+
+/**
+ * Fragmento de repositorio para inserciones directas de PaymentOrderEntity.
+ * 
+ * <p>{@code JpaRepository.save} decide entre persist y merge según el estado de la entidad,
+ * lo que para entidades nuevas con ID asignado puede disparar un SELECT previo. Este fragmento
+ * expone un camino de solo inserción para órdenes que se sabe que son nuevas.
+ * 
+ * <p>Cada orden se inserta junto con su evento de la bandeja de salida en la misma transacción.
+ */
+public interface PaymentOrderInsertRepository {
+
+    /**
+     * Persiste una entidad nueva y su evento ejecutando únicamente los INSERT.
+     *
+     * @param entity la entidad nueva (sin ID asignado)
+     * @param event  el evento de la bandeja de salida
+     */
+    void persist(PaymentOrderEntity entity, PaymentOrderEventEntity event);
+
+    /**
+     * Persiste varias entidades nuevas en una única transacción.
+     * 
+     * <p>Con {@code hibernate.jdbc.batch_size} configurado, los INSERT se agrupan en lotes JDBC.
+     *
+     * @param entities las entidades nuevas (sin ID asignado)
+     * @param events   los eventos de la bandeja de salida
+     */
+    void persistAll(List<PaymentOrderEntity> entities, List<PaymentOrderEventEntity> events);
+
+    /**
+     * Persiste una referencia alternativa si no existe ya (registrarla dos veces no falla).
+     *
+     * @param alias la referencia alternativa y la orden a la que apunta
+     */
+    void persistAlias(PaymentOrderReferenceAliasEntity alias);
+}
@@ -0,0 +1,52 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.List;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementación del fragmento PaymentOrderInsertRepository.
+ * 
+ * <p>Spring Data la detecta por convención de nombre ({@code <Fragmento>Impl}) y la compone
+ * dentro de PaymentOrderJpaRepository.
+ */
+public class PaymentOrderInsertRepositoryImpl implements PaymentOrderInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void persist(final PaymentOrderEntity entity, final PaymentOrderEventEntity event) {
+        // persist() nunca consulta la base: el UUID se genera en memoria y el INSERT se ejecuta en el commit
+        entityManager.persist(entity);
+        entityManager.persist(event);
+    }
+
+    @Override
+    @Transactional
+    public void persistAll(final List<PaymentOrderEntity> entities, final List<PaymentOrderEventEntity> events) {
+        // Los INSERT se acumulan y Hibernate los envía en lotes JDBC al hacer flush en el commit
+        // (order_inserts agrupa los de cada tabla)
+        for (PaymentOrderEntity entity : entities) {
+            entityManager.persist(entity);
+        }
+        for (PaymentOrderEventEntity event : events) {
+            entityManager.persist(event);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void persistAlias(final PaymentOrderReferenceAliasEntity alias) {
+        // Al reproducir el journal el mismo alias puede llegar otra vez
+        if (entityManager.find(PaymentOrderReferenceAliasEntity.class, alias.getAliasReference()) == null) {
+            entityManager.persist(alias);
+        }
+    }
+}
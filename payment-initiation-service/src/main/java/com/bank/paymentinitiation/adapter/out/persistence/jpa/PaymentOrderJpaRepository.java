@@ -14,9 +14,16 @@ import java.util.UUID;
  * 
  * <p>Este repositorio proporciona operaciones CRUD básicas y métodos de consulta
  * personalizados para la entidad PaymentOrderEntity.
+ * 
+ * <p>Incluye el fragmento PaymentOrderInsertRepository para inserciones sin SELECT previo,
+ * el fragmento PaymentOrderStatusQueryRepository para la consulta de estado, el fragmento
+ * PaymentOrderSearchRepository para el listado con paginación keyset y el fragmento
+ * PaymentOrderStatusTransitionRepository para los cambios de estado en bloque.
  */
 @Repository
-public interface PaymentOrderJpaRepository extends JpaRepository<PaymentOrderEntity, UUID> {
+public interface PaymentOrderJpaRepository extends JpaRepository<PaymentOrderEntity, UUID>,
+        PaymentOrderInsertRepository, PaymentOrderStatusQueryRepository, PaymentOrderSearchRepository,
+        PaymentOrderStatusTransitionRepository {
 
     /**
      * Busca una entidad por su paymentOrderReference (identificador de negocio).
@@ -29,5 +36,23 @@ public interface PaymentOrderJpaRepository extends JpaRepository<PaymentOrderEnt
      */
     @Query("SELECT e FROM PaymentOrderEntity e WHERE e.paymentOrderReference = :reference")
     Optional<PaymentOrderEntity> findByPaymentOrderReference(@Param("reference") String paymentOrderReference);
+
+    /**
+     * Busca una entidad por su clave de idempotencia (columna con índice único).
+     *
+     * @param idempotencyKey el valor almacenado de la clave de idempotencia
+     * @return la entidad encontrada, o Optional.empty() si no existe
+     */
+    @Query("SELECT e FROM PaymentOrderEntity e WHERE e.idempotencyKey = :idempotencyKey")
+    Optional<PaymentOrderEntity> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * Busca la orden a la que apunta una referencia alternativa (clave primaria de los alias).
+     *
+     * @param aliasReference la referencia alternativa
+     * @return la referencia de la orden original, o Optional.empty() si no es un alias
+     */
+    @Query("SELECT a.paymentOrderReference FROM PaymentOrderReferenceAliasEntity a WHERE a.aliasReference = :alias")
+    Optional<String> findAliasTarget(@Param("alias") String aliasReference);
 }
 
@@ -0,0 +1,54 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+
+/**
+ * Fragmento de repositorio para escribir y drenar la bandeja de salida.
+ * 
+ * <p>Todos los métodos exigen una transacción en curso:
+ * <ul>
+ *   <li>{@link #append(PaymentOrderEventEntity)} se une a la transacción de la orden</li>
+ *   <li>el bloqueo de {@link #claimPending(int)} se mantiene hasta que
+ *       {@link #deleteByIds(Collection)} retira los eventos publicados y el relé confirma</li>
+ * </ul>
+ */
+public interface PaymentOrderOutboxRepository {
+
+    /**
+     * Inserta un evento en la bandeja de salida.
+     * 
+     * <p>A diferencia de {@code JpaRepository.save}, no hace merge: con el ID ya asignado,
+     * save consultaría antes la base de datos para decidir si el evento es nuevo.
+     *
+     * @param event el evento nuevo
+     */
+    void append(PaymentOrderEventEntity event);
+
+    /**
+     * Reclama los eventos pendientes más antiguos, bloqueándolos para otros relés.
+     * 
+     * <p>Se reclama por orden de pago: primero el evento pendiente más antiguo de cada orden y
+     * después el resto de eventos de esas órdenes. Las filas ya bloqueadas por otro relé se saltan
+     * (SKIP LOCKED) en lugar de esperar, y una orden cuyo evento más antiguo tiene otro relé no se
+     * toca hasta que este lo retire, así que varias instancias drenan la bandeja en paralelo sin
+     * repartirse el mismo lote ni desordenar los eventos de una misma orden. Con dialectos sin
+     * SKIP LOCKED (el de H2, con una base en memoria por instancia) se usa un FOR UPDATE simple.
+     *
+     * @param limit el número máximo de eventos
+     * @return los eventos reclamados, por (occurredAt, id) ascendente; los de cada orden, sin huecos
+     *         desde su evento pendiente más antiguo
+     */
+    List<PaymentOrderEventEntity> claimPending(int limit);
+
+    /**
+     * Retira de la bandeja los eventos indicados con una única sentencia DELETE.
+     *
+     * @param ids los IDs de los eventos publicados
+     * @return el número de eventos borrados
+     */
+    int deleteByIds(Collection<UUID> ids);
+}
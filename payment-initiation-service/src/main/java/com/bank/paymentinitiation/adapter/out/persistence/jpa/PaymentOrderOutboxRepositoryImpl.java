@@ -0,0 +1,77 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.LockOptions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementación del fragmento PaymentOrderOutboxRepository.
+ * 
+ * <p>Spring Data la detecta por convención de nombre ({@code <Fragmento>Impl}) y la compone
+ * dentro de PaymentOrderEventJpaRepository.
+ */
+public class PaymentOrderOutboxRepositoryImpl implements PaymentOrderOutboxRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final PaymentOrderEventEntity event) {
+        entityManager.persist(event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<PaymentOrderEventEntity> claimPending(final int limit) {
+        // 1. Bloquea el evento más antiguo de cada orden: SELECT ... FOR UPDATE SKIP LOCKED
+        //    (el timeout SKIP_LOCKED es la forma portable de pedirlo; Hibernate lo traduce por dialecto).
+        //    Un evento posterior nunca es el más antiguo mientras siga pendiente uno anterior, así que
+        //    otro relé no puede adelantarse con él aunque el anterior esté bloqueado.
+        List<String> claimedOrders = entityManager.createQuery(
+                        "SELECT e FROM PaymentOrderEventEntity e WHERE NOT EXISTS ("
+                                + "SELECT 1 FROM PaymentOrderEventEntity o "
+                                + "WHERE o.paymentOrderReference = e.paymentOrderReference "
+                                + "AND (o.occurredAt < e.occurredAt OR (o.occurredAt = e.occurredAt AND o.id < e.id))) "
+                                + "ORDER BY e.occurredAt, e.id",
+                        PaymentOrderEventEntity.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(PaymentOrderEventEntity::getPaymentOrderReference)
+                .toList();
+        if (claimedOrders.isEmpty()) {
+            return List.of();
+        }
+        // 2. Con la orden ya reclamada, el resto de sus eventos pendientes son de este relé
+        return entityManager.createQuery(
+                        "SELECT e FROM PaymentOrderEventEntity e WHERE e.paymentOrderReference IN :references "
+                                + "ORDER BY e.occurredAt, e.id",
+                        PaymentOrderEventEntity.class)
+                .setParameter("references", claimedOrders)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int deleteByIds(final Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Borrado en bloque: una sentencia por lote, sin cargar ni borrar entidad a entidad
+        return entityManager.createQuery("DELETE FROM PaymentOrderEventEntity e WHERE e.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+
+/**
+ * Fragmento de repositorio para el listado filtrado de PaymentOrderEntity.
+ * 
+ * <p>La consulta se compone con Criteria API a partir de los filtros presentes y pagina por
+ * keyset sobre (created_at, payment_order_reference): la condición de continuación usa los
+ * índices compuestos de payment_orders en lugar de un OFFSET que recorre las filas anteriores.
+ * 
+ * <p>También ofrece el recorrido completo de una exportación, fila a fila sobre un cursor JDBC.
+ */
+public interface PaymentOrderSearchRepository {
+
+    /**
+     * Busca entidades filtradas, ordenadas por (createdAt, paymentOrderReference) descendente.
+     *
+     * @param criteria los filtros de la búsqueda
+     * @param after la posición a partir de la cual continuar (exclusive), o null desde el principio
+     * @param limit el número máximo de filas a leer
+     * @return como mucho {@code limit} entidades, en orden
+     */
+    List<PaymentOrderEntity> search(PaymentOrderSearchCriteria criteria, PaymentOrderCursor after, int limit);
+
+    /**
+     * Recorre las entidades filtradas, ordenadas por (createdAt, paymentOrderReference) ascendente.
+     * 
+     * <p>Las filas se leen con un cursor JDBC (fetch size acotado) y cada entidad se separa del
+     * contexto de persistencia después de entregarla, así que la memoria no crece con el recorrido.
+     * La entidad solo es válida durante la llamada al consumidor.
+     *
+     * @param criteria los filtros del recorrido
+     * @param action el consumidor de cada entidad
+     * @return el número de entidades recorridas
+     */
+    long forEach(PaymentOrderSearchCriteria criteria, Consumer<PaymentOrderEntity> action);
+
+    /**
+     * Recorre las referencias de las entidades persistidas a partir de un instante, seguidas de las
+     * referencias alternativas registradas a partir del mismo instante.
+     * 
+     * <p>Solo lee la columna de la referencia, que junto con persisted_at forma el índice
+     * idx_payment_orders_persisted (idx_payment_order_reference_aliases_persisted para los alias): el
+     * recorrido no necesita leer las filas de las tablas.
+     *
+     * @param persistedFrom instante de persistencia a partir del cual recorrer (inclusive), o null para
+     *                      todas
+     * @param action el consumidor de cada referencia
+     * @return el número de referencias recorridas
+     */
+    long forEachReference(LocalDateTime persistedFrom, Consumer<String> action);
+
+    /**
+     * Busca el mayor persisted_at de las órdenes y de las referencias alternativas (el último elemento
+     * de cada índice).
+     *
+     * @return el instante, o vacío si ambas tablas están vacías
+     */
+    Optional<LocalDateTime> findLastPersistedAt();
+}
@@ -0,0 +1,174 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+
+/**
+ * Implementación del fragmento PaymentOrderSearchRepository.
+ * 
+ * <p>Spring Data la detecta por convención de nombre ({@code <Fragmento>Impl}) y la compone
+ * dentro de PaymentOrderJpaRepository.
+ */
+public class PaymentOrderSearchRepositoryImpl implements PaymentOrderSearchRepository {
+
+    /** Filas que el driver JDBC trae por viaje al recorrer una exportación. */
+    static final int EXPORT_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentOrderEntity> search(final PaymentOrderSearchCriteria criteria, final PaymentOrderCursor after,
+            final int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PaymentOrderEntity> query = cb.createQuery(PaymentOrderEntity.class);
+        Root<PaymentOrderEntity> root = query.from(PaymentOrderEntity.class);
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+        Path<String> reference = root.get("paymentOrderReference");
+
+        // 1. Filtros presentes (un filtro nulo no restringe)
+        List<Predicate> predicates = filters(cb, root, criteria);
+
+        // 2. Keyset: continuar estrictamente después del cursor (createdAt, reference) descendente
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.getCreatedAt()),
+                    cb.and(
+                            cb.equal(createdAt, after.getCreatedAt()),
+                            cb.lessThan(reference, after.getPaymentOrderReference()))));
+        }
+
+        // 3. Orden estable por la clave del índice y solo las filas de la página
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(reference));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEach(final PaymentOrderSearchCriteria criteria, final Consumer<PaymentOrderEntity> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PaymentOrderEntity> query = cb.createQuery(PaymentOrderEntity.class);
+        Root<PaymentOrderEntity> root = query.from(PaymentOrderEntity.class);
+        query.select(root)
+                .where(filters(cb, root, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("paymentOrderReference")));
+
+        // Cursor JDBC con fetch size acotado; las entidades son de solo lectura (sin snapshot de dirty checking)
+        long count = 0;
+        try (Stream<PaymentOrderEntity> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (PaymentOrderEntity entity : (Iterable<PaymentOrderEntity>) rows::iterator) {
+                action.accept(entity);
+                // Soltar la entidad del contexto de persistencia: el heap no crece con las filas recorridas
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachReference(final LocalDateTime persistedFrom, final Consumer<String> action) {
+        return forEachReference(PaymentOrderEntity.class, "paymentOrderReference", persistedFrom, action)
+                + forEachReference(PaymentOrderReferenceAliasEntity.class, "aliasReference", persistedFrom, action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastPersistedAt() {
+        LocalDateTime orders = lastPersistedAt(PaymentOrderEntity.class);
+        LocalDateTime aliases = lastPersistedAt(PaymentOrderReferenceAliasEntity.class);
+        if (orders == null || aliases == null) {
+            return Optional.ofNullable(orders == null ? aliases : orders);
+        }
+        return Optional.of(orders.isAfter(aliases) ? orders : aliases);
+    }
+
+    private long forEachReference(final Class<?> entityClass, final String referenceAttribute,
+            final LocalDateTime persistedFrom, final Consumer<String> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<?> root = query.from(entityClass);
+        query.select(root.get(referenceAttribute));
+        if (persistedFrom != null) {
+            query.where(cb.greaterThanOrEqualTo(root.get("persistedAt"), persistedFrom));
+        }
+
+        // Proyección escalar: no hay entidades que separar del contexto de persistencia
+        long count = 0;
+        try (Stream<String> references = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream()) {
+            for (String reference : (Iterable<String>) references::iterator) {
+                action.accept(reference);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private LocalDateTime lastPersistedAt(final Class<?> entityClass) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LocalDateTime> query = cb.createQuery(LocalDateTime.class);
+        Root<?> root = query.from(entityClass);
+        query.select(cb.greatest(root.<LocalDateTime>get("persistedAt")));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> filters(final CriteriaBuilder cb, final Root<PaymentOrderEntity> root,
+            final PaymentOrderSearchCriteria criteria) {
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), criteria.getStatus().name()));
+        }
+        if (criteria.getPayerReference() != null) {
+            predicates.add(cb.equal(root.get("payerReference"), criteria.getPayerReference().getValue()));
+        }
+        if (criteria.getPayeeReference() != null) {
+            predicates.add(cb.equal(root.get("payeeReference"), criteria.getPayeeReference().getValue()));
+        }
+        if (criteria.getRequestedExecutionDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(
+                    root.get("requestedExecutionDate"), criteria.getRequestedExecutionDateFrom()));
+        }
+        if (criteria.getRequestedExecutionDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(
+                    root.get("requestedExecutionDate"), criteria.getRequestedExecutionDateTo()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(createdAt, criteria.getCreatedTo()));
+        }
+        return predicates;
+    }
+}
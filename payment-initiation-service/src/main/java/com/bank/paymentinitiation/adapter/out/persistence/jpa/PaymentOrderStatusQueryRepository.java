@@ -0,0 +1,32 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fragmento de repositorio para la consulta de estado de PaymentOrderEntity.
+ * 
+ * <p>La consulta de estado es la más frecuente del servicio y solo necesita referencia, estado
+ * y fecha de actualización. Este fragmento la resuelve con una proyección de cuatro columnas (con la versión)
+ * ejecutada directamente sobre el EntityManager, sin materializar la entidad y sin pasar por la
+ * infraestructura de métodos {@code @Query} de Spring Data.
+ */
+public interface PaymentOrderStatusQueryRepository {
+
+    /**
+     * Busca solo referencia, estado, fecha de actualización y versión de una orden por su paymentOrderReference.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la proyección de estado, o Optional.empty() si no existe
+     */
+    Optional<PaymentOrderStatusView> findStatusByPaymentOrderReference(String paymentOrderReference);
+
+    /**
+     * Busca referencia, estado, fecha de actualización y versión de varias órdenes con una única consulta.
+     *
+     * @param paymentOrderReferences las referencias de las órdenes de pago
+     * @return las proyecciones de estado de las órdenes que existen
+     */
+    List<PaymentOrderStatusView> findStatusesByPaymentOrderReferences(Collection<String> paymentOrderReferences);
+}
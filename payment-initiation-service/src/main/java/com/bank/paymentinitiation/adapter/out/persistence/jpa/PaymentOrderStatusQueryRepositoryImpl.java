@@ -0,0 +1,55 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementación del fragmento PaymentOrderStatusQueryRepository.
+ * 
+ * <p>Spring Data la detecta por convención de nombre ({@code <Fragmento>Impl}) y la compone
+ * dentro de PaymentOrderJpaRepository.
+ */
+public class PaymentOrderStatusQueryRepositoryImpl implements PaymentOrderStatusQueryRepository {
+
+    static final String STATUS_BY_REFERENCE_QUERY =
+            "SELECT new com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView("
+            + "e.paymentOrderReference, e.status, e.updatedAt, e.version) "
+            + "FROM PaymentOrderEntity e WHERE e.paymentOrderReference = :reference";
+
+    static final String STATUSES_BY_REFERENCES_QUERY =
+            "SELECT new com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView("
+            + "e.paymentOrderReference, e.status, e.updatedAt, e.version) "
+            + "FROM PaymentOrderEntity e WHERE e.paymentOrderReference IN :references";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaymentOrderStatusView> findStatusByPaymentOrderReference(final String paymentOrderReference) {
+        // Expresión constructora: Hibernate crea el record por fila, sin entidad gestionada ni snapshot
+        List<PaymentOrderStatusView> rows = entityManager
+                .createQuery(STATUS_BY_REFERENCE_QUERY, PaymentOrderStatusView.class)
+                .setParameter("reference", paymentOrderReference)
+                .getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentOrderStatusView> findStatusesByPaymentOrderReferences(
+            final Collection<String> paymentOrderReferences) {
+        if (paymentOrderReferences.isEmpty()) {
+            return List.of();
+        }
+        return entityManager
+                .createQuery(STATUSES_BY_REFERENCES_QUERY, PaymentOrderStatusView.class)
+                .setParameter("references", paymentOrderReferences)
+                .getResultList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fragmento de repositorio para los cambios de estado en bloque de PaymentOrderEntity.
+ * 
+ * <p>Los cambios se ejecutan como sentencias UPDATE de JPQL sobre un bloque de referencias, sin
+ * cargar las entidades ni pasar por el contexto de persistencia: un bloque cuesta una sentencia,
+ * no un SELECT y un UPDATE por orden. Todas incrementan la versión de las órdenes que cambian.
+ */
+public interface PaymentOrderStatusTransitionRepository {
+
+    /**
+     * Busca las referencias de las órdenes en un estado con fecha de ejecución hasta la indicada.
+     *
+     * @param status        el estado tal como se guarda en la columna status
+     * @param executionDate la fecha de ejecución máxima (inclusive)
+     * @param limit         el número máximo de referencias
+     * @return las referencias, por (requestedExecutionDate, paymentOrderReference) ascendente
+     */
+    List<String> findReferencesDueForExecution(String status, LocalDate executionDate, int limit);
+
+    /**
+     * Cambia el estado de las órdenes indicadas que sigan en {@code from}, con una única sentencia.
+     *
+     * @param from                   el estado de origen esperado
+     * @param to                     el estado destino
+     * @param paymentOrderReferences las referencias de las órdenes
+     * @param changedAt              la nueva fecha de actualización
+     * @return el número de órdenes actualizadas
+     */
+    int updateStatus(String from, String to, Collection<String> paymentOrderReferences, LocalDateTime changedAt);
+
+    /**
+     * Cambia el estado de una orden solo si sigue en {@code expectedStatus} y {@code expectedVersion},
+     * con una única sentencia.
+     *
+     * @param paymentOrderReference la referencia de la orden
+     * @param expectedStatus        el estado esperado
+     * @param expectedVersion       la versión esperada
+     * @param newStatus             el estado destino
+     * @param changedAt             la nueva fecha de actualización
+     * @return el número de órdenes actualizadas (0 o 1)
+     */
+    int compareAndSetStatus(String paymentOrderReference, String expectedStatus, long expectedVersion,
+            String newStatus, LocalDateTime changedAt);
+
+    /**
+     * Busca, entre las referencias indicadas, las que están en {@code status} con fecha de
+     * actualización {@code changedAt}: las que cambió una llamada a
+     * {@link #updateStatus(String, String, Collection, LocalDateTime)} con esos valores.
+     *
+     * @param status                 el estado destino del cambio
+     * @param paymentOrderReferences las referencias de las órdenes
+     * @param changedAt              la fecha de actualización del cambio
+     * @return las referencias que coinciden
+     */
+    List<String> findReferencesChangedAt(String status, Collection<String> paymentOrderReferences,
+            LocalDateTime changedAt);
+}
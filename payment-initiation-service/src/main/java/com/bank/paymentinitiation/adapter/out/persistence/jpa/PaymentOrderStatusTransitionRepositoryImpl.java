@@ -0,0 +1,93 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementación del fragmento PaymentOrderStatusTransitionRepository.
+ * 
+ * <p>Spring Data la detecta por convención de nombre ({@code <Fragmento>Impl}) y la compone
+ * dentro de PaymentOrderJpaRepository.
+ */
+public class PaymentOrderStatusTransitionRepositoryImpl implements PaymentOrderStatusTransitionRepository {
+
+    static final String DUE_REFERENCES_QUERY =
+            "SELECT e.paymentOrderReference FROM PaymentOrderEntity e "
+            + "WHERE e.status = :status AND e.requestedExecutionDate <= :executionDate "
+            + "ORDER BY e.requestedExecutionDate, e.paymentOrderReference";
+
+    static final String UPDATE_STATUS_STATEMENT =
+            "UPDATE PaymentOrderEntity e SET e.status = :to, e.updatedAt = :changedAt, e.version = e.version + 1 "
+            + "WHERE e.status = :from AND e.paymentOrderReference IN :references";
+
+    static final String COMPARE_AND_SET_STATUS_STATEMENT =
+            "UPDATE PaymentOrderEntity e SET e.status = :to, e.updatedAt = :changedAt, e.version = e.version + 1 "
+            + "WHERE e.paymentOrderReference = :reference AND e.status = :expectedStatus "
+            + "AND e.version = :expectedVersion";
+
+    static final String CHANGED_REFERENCES_QUERY =
+            "SELECT e.paymentOrderReference FROM PaymentOrderEntity e "
+            + "WHERE e.status = :status AND e.updatedAt = :changedAt AND e.paymentOrderReference IN :references";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findReferencesDueForExecution(final String status, final LocalDate executionDate,
+            final int limit) {
+        return entityManager.createQuery(DUE_REFERENCES_QUERY, String.class)
+                .setParameter("status", status)
+                .setParameter("executionDate", executionDate)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int updateStatus(final String from, final String to, final Collection<String> paymentOrderReferences,
+            final LocalDateTime changedAt) {
+        if (paymentOrderReferences.isEmpty()) {
+            return 0;
+        }
+        // La condición sobre el estado de origen es el control optimista: una orden movida entre medias no cuenta
+        return entityManager.createQuery(UPDATE_STATUS_STATEMENT)
+                .setParameter("to", to)
+                .setParameter("changedAt", changedAt)
+                .setParameter("from", from)
+                .setParameter("references", paymentOrderReferences)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int compareAndSetStatus(final String paymentOrderReference, final String expectedStatus,
+            final long expectedVersion, final String newStatus, final LocalDateTime changedAt) {
+        // Sin SELECT ... FOR UPDATE: la condición sobre estado y versión hace de cerrojo optimista
+        return entityManager.createQuery(COMPARE_AND_SET_STATUS_STATEMENT)
+                .setParameter("to", newStatus)
+                .setParameter("changedAt", changedAt)
+                .setParameter("reference", paymentOrderReference)
+                .setParameter("expectedStatus", expectedStatus)
+                .setParameter("expectedVersion", expectedVersion)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> findReferencesChangedAt(final String status, final Collection<String> paymentOrderReferences,
+            final LocalDateTime changedAt) {
+        return entityManager.createQuery(CHANGED_REFERENCES_QUERY, String.class)
+                .setParameter("status", status)
+                .setParameter("changedAt", changedAt)
+                .setParameter("references", paymentOrderReferences)
+                .getResultList();
+    }
+}
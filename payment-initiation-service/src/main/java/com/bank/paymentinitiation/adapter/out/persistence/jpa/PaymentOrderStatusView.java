@@ -0,0 +1,18 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de PaymentOrderEntity con las columnas de la consulta de estado.
+ * 
+ * <p>Se construye directamente desde la consulta JPQL (expresión constructora), por lo que
+ * Hibernate no crea ni registra la entidad en el contexto de persistencia.
+ *
+ * @param paymentOrderReference la referencia de la orden de pago
+ * @param status                el estado tal como se guarda en la columna status
+ * @param updatedAt             la fecha de última actualización
+ * @param version               la versión de la fila
+ */
+public record PaymentOrderStatusView(String paymentOrderReference, String status, LocalDateTime updatedAt,
+                                     Long version) {
+}
@@ -4,6 +4,15 @@
  * <p>Este paquete contiene las interfaces de repositorio JPA:
  * <ul>
  *   <li>PaymentOrderJpaRepository: Repositorio JPA para PaymentOrderEntity</li>
+ *   <li>PaymentOrderInsertRepository: Fragmento para inserciones directas (persist sin merge)</li>
+ *   <li>PaymentOrderStatusQueryRepository: Fragmento para la consulta de estado por proyección (de una o de varias órdenes)</li>
+ *   <li>PaymentOrderStatusView: Proyección de la consulta de estado</li>
+ *   <li>PaymentOrderSearchRepository: Fragmento para el listado filtrado con paginación keyset
+ *       y el recorrido de exportaciones</li>
+ *   <li>PaymentOrderStatusTransitionRepository: Fragmento para los cambios de estado en bloque
+ *       (UPDATE condicionado al estado de origen) y la búsqueda de órdenes vencidas</li>
+ *   <li>PaymentOrderEventJpaRepository: Repositorio JPA para la bandeja de salida (PaymentOrderEventEntity)</li>
+ *   <li>PaymentOrderOutboxRepository: Fragmento para insertar, reclamar (SKIP LOCKED) y retirar eventos</li>
  * </ul>
  * 
  * <p>Los repositorios JPA:
@@ -1,12 +1,17 @@
 package com.bank.paymentinitiation.adapter.out.persistence.mapper;
 
 import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import io.micrometer.core.annotation.Timed;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
@@ -19,9 +24,11 @@ import org.mapstruct.ReportingPolicy;
  *   <li>Value objects del dominio ↔ campos primitivos de la entidad</li>
  *   <li>PaymentStatus enum ↔ String</li>
  *   <li>paymentOrderReference ↔ id (UUID técnico vs referencia de negocio)</li>
+ *   <li>PaymentOrderEvent ↔ PaymentOrderEventEntity (bandeja de salida)</li>
  * </ul>
  */
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+@Timed(value = "payment.mapper", histogram = true)
 public interface PaymentOrderPersistenceMapper {
 
     /**
@@ -41,12 +48,14 @@ public interface PaymentOrderPersistenceMapper {
      * @return la PaymentOrderEntity para persistir
      */
     @Mapping(target = "id", ignore = true) // El ID se maneja en el adaptador
+    @Mapping(target = "persistedAt", ignore = true) // Lo fija la base de datos al insertar
     @Mapping(target = "externalReference", expression = "java(domain.getExternalReference().getValue())")
     @Mapping(target = "payerReference", expression = "java(domain.getPayerReference().getValue())")
     @Mapping(target = "payeeReference", expression = "java(domain.getPayeeReference().getValue())")
     @Mapping(target = "amount", expression = "java(domain.getInstructedAmount().getValue())")
     @Mapping(target = "currency", expression = "java(domain.getInstructedAmount().getCurrency())")
     @Mapping(target = "status", expression = "java(domain.getStatus().name())")
+    @Mapping(target = "idempotencyKey", expression = "java(domain.getIdempotencyKey() == null ? null : domain.getIdempotencyKey().getValue())")
     PaymentOrderEntity toEntity(PaymentOrder domain);
 
     /**
@@ -70,6 +79,35 @@ public interface PaymentOrderPersistenceMapper {
     @Mapping(target = "payeeReference", expression = "java(new com.bank.paymentinitiation.domain.model.PayeeReference(entity.getPayeeReference()))")
     @Mapping(target = "instructedAmount", expression = "java(com.bank.paymentinitiation.domain.model.PaymentAmount.of(entity.getAmount(), entity.getCurrency()))")
     @Mapping(target = "status", expression = "java(com.bank.paymentinitiation.domain.model.PaymentStatus.valueOf(entity.getStatus()))")
+    @Mapping(target = "idempotencyKey", expression = "java(entity.getIdempotencyKey() == null ? null : com.bank.paymentinitiation.domain.model.IdempotencyKey.fromValue(entity.getIdempotencyKey()))")
     PaymentOrder toDomain(PaymentOrderEntity entity);
-}
 
+    /**
+     * Convierte la proyección de estado (JPA) a la vista de estado del dominio.
+     *
+     * @param view la proyección con referencia, estado, fecha de actualización y versión
+     * @return la vista de estado del dominio
+     */
+    @Mapping(target = "status", expression = "java(com.bank.paymentinitiation.domain.model.PaymentStatus.valueOf(view.status()))")
+    PaymentOrderStatusSnapshot toStatusSnapshot(PaymentOrderStatusView view);
+
+    /**
+     * Convierte un evento del dominio a la fila de la bandeja de salida.
+     *
+     * @param event el evento del dominio
+     * @return la entidad a insertar (con el eventId como ID)
+     */
+    @Mapping(target = "id", source = "eventId")
+    @Mapping(target = "eventType", source = "type")
+    PaymentOrderEventEntity toEventEntity(PaymentOrderEvent event);
+
+    /**
+     * Convierte una fila de la bandeja de salida al evento del dominio.
+     *
+     * @param entity la entidad de la bandeja de salida
+     * @return el evento del dominio
+     */
+    @Mapping(target = "eventId", source = "id")
+    @Mapping(target = "type", source = "eventType")
+    PaymentOrderEvent toEvent(PaymentOrderEventEntity entity);
+}
@@ -4,13 +4,16 @@
  * <p>Este paquete contiene los adaptadores que implementan la persistencia del dominio:
  * <ul>
  *   <li>PaymentOrderRepositoryAdapter: Implementa PaymentOrderRepository (domain.port.out)</li>
+ *   <li>PaymentOrderOutboxAdapter: Implementa PaymentOrderOutbox (domain.port.out)</li>
  * </ul>
  * 
  * <p>Componentes de persistencia:
  * <ul>
- *   <li>entity: Entidades JPA (PaymentOrderEntity)</li>
- *   <li>jpa: Repositorios JPA (PaymentOrderJpaRepository)</li>
+ *   <li>entity: Entidades JPA (PaymentOrderEntity, PaymentOrderEventEntity)</li>
+ *   <li>jdbc: Infraestructura JDBC (ConnectionBulkheadDataSource)</li>
+ *   <li>jpa: Repositorios JPA (PaymentOrderJpaRepository, PaymentOrderEventJpaRepository)</li>
  *   <li>mapper: Mappers MapStruct (PaymentOrderPersistenceMapper)</li>
+ *   <li>r2dbc: Adaptador no bloqueante del modo reactivo (R2dbcPaymentOrderRepositoryAdapter)</li>
  * </ul>
  */
 package com.bank.paymentinitiation.adapter.out.persistence;
@@ -0,0 +1,219 @@
+package com.bank.paymentinitiation.adapter.out.persistence.r2dbc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.id.UuidV7;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView;
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Readable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador de persistencia que implementa ReactivePaymentOrderRepository con R2DBC.
+ * 
+ * <p>Trabaja sobre las mismas tablas que PaymentOrderRepositoryAdapter (creadas por Flyway) con
+ * SQL explícito a través de DatabaseClient, y reutiliza PaymentOrderPersistenceMapper: cada fila
+ * se lee en una PaymentOrderEntity y se convierte al dominio igual que en el adaptador JPA.
+ * 
+ * <p>Este adaptador:
+ * <ul>
+ *   <li>Inserta la orden (UUID v7, versión inicial 0) y su evento INITIATED en una sola
+ *       transacción reactiva</li>
+ *   <li>Traduce las violaciones de unicidad al insertar a DuplicatePaymentOrderException</li>
+ *   <li>Resuelve la consulta de estado leyendo solo sus cuatro columnas</li>
+ *   <li>Incrementa {@code payment.orders.status} (tag {@code status=INITIATED}) por cada orden insertada</li>
+ * </ul>
+ * 
+ * <p>No pasa por la caché ni por el filtro de referencias del modo servlet: las lecturas van
+ * siempre a la base de datos.
+ */
+public class R2dbcPaymentOrderRepositoryAdapter implements ReactivePaymentOrderRepository {
+
+    static final long INITIAL_VERSION = 0L;
+
+    private static final String COLUMNS = "id, payment_order_reference, external_reference, payer_reference, "
+            + "payee_reference, amount, currency, remittance_information, requested_execution_date, status, "
+            + "created_at, updated_at, idempotency_key, version";
+
+    private static final String INSERT_ORDER = "INSERT INTO payment_orders (" + COLUMNS + ") VALUES (:id, "
+            + ":paymentOrderReference, :externalReference, :payerReference, :payeeReference, :amount, :currency, "
+            + ":remittanceInformation, :requestedExecutionDate, :status, :createdAt, :updatedAt, :idempotencyKey, "
+            + ":version)";
+
+    private static final String INSERT_EVENT = "INSERT INTO payment_order_outbox (id, event_type, "
+            + "payment_order_reference, status, previous_status, occurred_at) VALUES (:id, :eventType, "
+            + ":paymentOrderReference, :status, :previousStatus, :occurredAt)";
+
+    private static final String SELECT_BY_REFERENCE = "SELECT " + COLUMNS
+            + " FROM payment_orders WHERE payment_order_reference = :reference";
+
+    private static final String SELECT_BY_IDEMPOTENCY_KEY = "SELECT " + COLUMNS
+            + " FROM payment_orders WHERE idempotency_key = :idempotencyKey";
+
+    private static final String SELECT_ALIAS_TARGET = "SELECT payment_order_reference "
+            + "FROM payment_order_reference_aliases WHERE alias_reference = :reference";
+
+    private static final String SELECT_STATUS_BY_REFERENCE = "SELECT payment_order_reference, status, updated_at, "
+            + "version FROM payment_orders WHERE payment_order_reference = :reference";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final PaymentOrderPersistenceMapper mapper;
+    private final Counter initiatedCounter;
+
+    public R2dbcPaymentOrderRepositoryAdapter(final DatabaseClient databaseClient,
+                                              final TransactionalOperator transactionalOperator,
+                                              final PaymentOrderPersistenceMapper mapper,
+                                              final MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.mapper = mapper;
+        // Mismo contador que PaymentOrderRepositoryAdapter: el total por estado no depende del modo
+        this.initiatedCounter = Counter.builder("payment.orders.status")
+                .description("Payment orders moved into each status")
+                .tag("status", PaymentStatus.INITIATED.name())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<PaymentOrder> insert(final PaymentOrder order) {
+        PaymentOrderEntity entity = mapper.toEntity(order);
+        entity.setId(UuidV7.next());
+        entity.setVersion(INITIAL_VERSION);
+        PaymentOrderEventEntity event = mapper.toEventEntity(PaymentOrderEvent.initiated(order));
+
+        // Orden y evento en la misma transacción, como en el adaptador JPA
+        return insertOrder(entity)
+                .then(insertEvent(event))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> new DuplicatePaymentOrderException(
+                        "Payment order already exists: " + order.getPaymentOrderReference(), ex))
+                .then(Mono.fromCallable(() -> {
+                    initiatedCounter.increment();
+                    return order.toBuilder().version(INITIAL_VERSION).build();
+                }));
+    }
+
+    @Override
+    public Mono<PaymentOrder> findByReference(final String paymentOrderReference) {
+        // Una referencia alternativa (ver PaymentOrderRepository#addReferenceAlias) solo se busca en un fallo
+        return findEntityByReference(paymentOrderReference)
+                .switchIfEmpty(Mono.defer(() -> findAliasTarget(paymentOrderReference)
+                        .flatMap(this::findEntityByReference)))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<PaymentOrder> findByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        return databaseClient.sql(SELECT_BY_IDEMPOTENCY_KEY)
+                .bind("idempotencyKey", idempotencyKey.getValue())
+                .map(R2dbcPaymentOrderRepositoryAdapter::toEntity)
+                .one()
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<PaymentOrderStatusSnapshot> findStatusByReference(final String paymentOrderReference) {
+        return findStatusViewByReference(paymentOrderReference)
+                .switchIfEmpty(Mono.defer(() -> findAliasTarget(paymentOrderReference)
+                        .flatMap(this::findStatusViewByReference)))
+                .map(mapper::toStatusSnapshot);
+    }
+
+    private Mono<PaymentOrderEntity> findEntityByReference(final String paymentOrderReference) {
+        return databaseClient.sql(SELECT_BY_REFERENCE)
+                .bind("reference", paymentOrderReference)
+                .map(R2dbcPaymentOrderRepositoryAdapter::toEntity)
+                .one();
+    }
+
+    private Mono<PaymentOrderStatusView> findStatusViewByReference(final String paymentOrderReference) {
+        return databaseClient.sql(SELECT_STATUS_BY_REFERENCE)
+                .bind("reference", paymentOrderReference)
+                .map(row -> new PaymentOrderStatusView(
+                        row.get("payment_order_reference", String.class),
+                        row.get("status", String.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    private Mono<String> findAliasTarget(final String aliasReference) {
+        return databaseClient.sql(SELECT_ALIAS_TARGET)
+                .bind("reference", aliasReference)
+                .map(row -> row.get("payment_order_reference", String.class))
+                .one();
+    }
+
+    private Mono<Void> insertOrder(final PaymentOrderEntity entity) {
+        GenericExecuteSpec spec = databaseClient.sql(INSERT_ORDER)
+                .bind("id", entity.getId())
+                .bind("paymentOrderReference", entity.getPaymentOrderReference())
+                .bind("externalReference", entity.getExternalReference())
+                .bind("payerReference", entity.getPayerReference())
+                .bind("payeeReference", entity.getPayeeReference())
+                .bind("amount", entity.getAmount())
+                .bind("currency", entity.getCurrency())
+                .bind("requestedExecutionDate", entity.getRequestedExecutionDate())
+                .bind("status", entity.getStatus())
+                .bind("createdAt", entity.getCreatedAt())
+                .bind("updatedAt", entity.getUpdatedAt())
+                .bind("version", entity.getVersion());
+        spec = bindNullable(spec, "remittanceInformation", entity.getRemittanceInformation());
+        spec = bindNullable(spec, "idempotencyKey", entity.getIdempotencyKey());
+        return spec.then();
+    }
+
+    private Mono<Void> insertEvent(final PaymentOrderEventEntity event) {
+        GenericExecuteSpec spec = databaseClient.sql(INSERT_EVENT)
+                .bind("id", event.getId())
+                .bind("eventType", event.getEventType())
+                .bind("paymentOrderReference", event.getPaymentOrderReference())
+                .bind("status", event.getStatus())
+                .bind("occurredAt", event.getOccurredAt());
+        return bindNullable(spec, "previousStatus", event.getPreviousStatus()).then();
+    }
+
+    private static GenericExecuteSpec bindNullable(final GenericExecuteSpec spec, final String name,
+                                                   final String value) {
+        // R2DBC no admite bind(null): el nulo necesita su tipo
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
+    private static PaymentOrderEntity toEntity(final Readable row) {
+        return PaymentOrderEntity.builder()
+                .id(row.get("id", UUID.class))
+                .paymentOrderReference(row.get("payment_order_reference", String.class))
+                .externalReference(row.get("external_reference", String.class))
+                .payerReference(row.get("payer_reference", String.class))
+                .payeeReference(row.get("payee_reference", String.class))
+                .amount(row.get("amount", BigDecimal.class))
+                .currency(row.get("currency", String.class))
+                .remittanceInformation(row.get("remittance_information", String.class))
+                .requestedExecutionDate(row.get("requested_execution_date", LocalDate.class))
+                .status(row.get("status", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .idempotencyKey(row.get("idempotency_key", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Adaptador de persistencia R2DBC del modo reactivo.
+ * 
+ * <p>R2dbcPaymentOrderRepositoryAdapter implementa ReactivePaymentOrderRepository (domain.port.out)
+ * sobre las tablas de Flyway, con SQL explícito y el mismo PaymentOrderPersistenceMapper que el
+ * adaptador JPA. Solo se crea con el perfil reactive (ver PaymentReactiveConfig).
+ */
+package com.bank.paymentinitiation.adapter.out.persistence.r2dbc;
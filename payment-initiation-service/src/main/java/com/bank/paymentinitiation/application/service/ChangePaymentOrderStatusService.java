@@ -0,0 +1,216 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.bank.paymentinitiation.config.PaymentLifecycleProperties;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentStatusTransitionException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio de aplicación que implementa el caso de uso de cambiar el estado de órdenes de pago.
+ * 
+ * <p>Para un lote de cambios:
+ * <ol>
+ *   <li>Lee el estado actual de todas las órdenes (una consulta por bloque, solo cuatro columnas)</li>
+ *   <li>Valida cada transición con la máquina de estados de PaymentStatus, sin tocar la base de datos</li>
+ *   <li>Agrupa los cambios válidos por (estado de origen, estado destino) y aplica cada grupo con
+ *       PaymentOrderRepository.changeStatus, por bloques de {@code payment.lifecycle.chunk-size}</li>
+ * </ol>
+ * Si un bloque falla, sus cambios reciben un motivo fijo y el detalle de la excepción va solo al log.
+ * 
+ * <p>Un cambio individual es un compare-and-set sobre (referencia, estado leído, versión leída): si
+ * otra escritura se adelanta, vuelve a leer y reintenta con espera exponencial con jitter, hasta
+ * {@code payment.lifecycle.cas-max-attempts} intentos; agotados, lanza PaymentOrderConflictException.
+ * Ningún camino bloquea filas, así que varias instancias pueden cambiar estados a la vez.
+ * 
+ * <p>La liberación de órdenes vencidas repite búsqueda y cambio en bloque (INITIATED → PENDING)
+ * hasta que no quedan o se alcanzan {@code payment.lifecycle.max-chunks-per-run} bloques.
+ */
+@Slf4j
+@Service
+@Timed(value = "payment.use-case", histogram = true)
+@RequiredArgsConstructor
+public class ChangePaymentOrderStatusService implements ChangePaymentOrderStatusUseCase {
+
+    static final String CHANGE_FAILED_REASON = "Payment order status could not be changed";
+
+    private final PaymentOrderRepository repository;
+    private final PaymentLifecycleProperties properties;
+
+    @Override
+    public PaymentOrderStatusSnapshot changeStatus(final String paymentOrderReference,
+            final PaymentStatus targetStatus) {
+        for (int attempt = 1; ; attempt++) {
+            // Lectura del repositorio (no de la caché): la versión esperada debe ser la persistida
+            PaymentOrderStatusSnapshot current = repository.findStatusesByReferences(List.of(paymentOrderReference))
+                    .stream()
+                    .findFirst()
+                    .orElseThrow(() -> PaymentOrderNotFoundException.forReference(paymentOrderReference));
+            if (current.getStatus() == targetStatus) {
+                return current; // Idempotente: ya está en el estado pedido
+            }
+            if (current.getStatus().isFinal()) {
+                throw new InvalidPaymentStatusTransitionException(
+                        "Cannot change status from final state: " + current.getStatus());
+            }
+            if (!current.getStatus().canTransitionTo(targetStatus)) {
+                throw new InvalidPaymentStatusTransitionException(
+                        "Invalid status transition from " + current.getStatus() + " to " + targetStatus);
+            }
+
+            LocalDateTime changedAt = now();
+            if (repository.compareAndSetStatus(paymentOrderReference, current.getStatus(), current.getVersion(),
+                    targetStatus, changedAt)) {
+                return new PaymentOrderStatusSnapshot(paymentOrderReference, targetStatus, changedAt,
+                        current.getVersion() + 1);
+            }
+            if (attempt >= properties.casMaxAttempts()) {
+                throw new PaymentOrderConflictException("Payment order was modified concurrently: "
+                        + paymentOrderReference + " (gave up after " + attempt + " attempts)");
+            }
+            backOff(attempt, paymentOrderReference);
+        }
+    }
+
+    @Override
+    public List<PaymentOrderStatusChangeResult> changeStatusAll(final List<PaymentOrderStatusChange> changes) {
+        PaymentOrderStatusChangeResult[] results = new PaymentOrderStatusChangeResult[changes.size()];
+        Map<String, PaymentStatus> currentStatuses = findCurrentStatuses(changes);
+
+        // Pasada de validación: agrupar los cambios válidos por transición, en orden de llegada
+        Map<Transition, List<Integer>> pending = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            PaymentOrderStatusChange change = changes.get(i);
+            String reference = change.getPaymentOrderReference();
+            PaymentStatus current = currentStatuses.get(reference);
+            if (current == null) {
+                results[i] = PaymentOrderStatusChangeResult.notFound(i, reference);
+            } else if (!seen.add(reference)) {
+                results[i] = PaymentOrderStatusChangeResult.rejected(i, reference, current,
+                        "Payment order appears more than once in the batch");
+            } else if (current == change.getTargetStatus()) {
+                results[i] = PaymentOrderStatusChangeResult.unchanged(i, reference, current);
+            } else if (current.isFinal()) {
+                results[i] = PaymentOrderStatusChangeResult.rejected(i, reference, current,
+                        "Cannot change status from final state: " + current);
+            } else if (!current.canTransitionTo(change.getTargetStatus())) {
+                results[i] = PaymentOrderStatusChangeResult.rejected(i, reference, current,
+                        "Invalid status transition from " + current + " to " + change.getTargetStatus());
+            } else {
+                pending.computeIfAbsent(new Transition(current, change.getTargetStatus()), t -> new ArrayList<>())
+                        .add(i);
+            }
+        }
+
+        // Aplicación por bloques: una sentencia UPDATE por (transición, bloque)
+        LocalDateTime changedAt = now();
+        int chunkSize = properties.chunkSize();
+        pending.forEach((transition, indexes) -> {
+            for (int from = 0; from < indexes.size(); from += chunkSize) {
+                List<Integer> chunk = indexes.subList(from, Math.min(from + chunkSize, indexes.size()));
+                List<String> references = chunk.stream()
+                        .map(index -> changes.get(index).getPaymentOrderReference())
+                        .toList();
+                try {
+                    Set<String> changed = new HashSet<>(
+                            repository.changeStatus(transition.from(), transition.to(), references, changedAt));
+                    for (int j = 0; j < chunk.size(); j++) {
+                        int index = chunk.get(j);
+                        String reference = references.get(j);
+                        results[index] = changed.contains(reference)
+                                ? PaymentOrderStatusChangeResult.changed(index, reference, transition.from(),
+                                        transition.to())
+                                : PaymentOrderStatusChangeResult.conflict(index, reference, transition.from());
+                    }
+                } catch (RuntimeException ex) {
+                    log.error("Could not change status of {} payment orders from {} to {}", chunk.size(),
+                            transition.from(), transition.to(), ex);
+                    for (int j = 0; j < chunk.size(); j++) {
+                        results[chunk.get(j)] = PaymentOrderStatusChangeResult.failed(chunk.get(j),
+                                references.get(j), transition.from(), CHANGE_FAILED_REASON);
+                    }
+                }
+            }
+        });
+
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public int releaseDueOrders(final LocalDate executionDate) {
+        int released = 0;
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            List<String> due = repository.findReferencesDueForExecution(
+                    PaymentStatus.INITIATED, executionDate, properties.chunkSize());
+            if (due.isEmpty()) {
+                break;
+            }
+            released += repository.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING, due, now()).size();
+            if (due.size() < properties.chunkSize()) {
+                break; // No quedan órdenes vencidas
+            }
+        }
+        return released;
+    }
+
+    private Map<String, PaymentStatus> findCurrentStatuses(final List<PaymentOrderStatusChange> changes) {
+        List<String> references = changes.stream()
+                .map(PaymentOrderStatusChange::getPaymentOrderReference)
+                .distinct()
+                .toList();
+        Map<String, PaymentStatus> statuses = new HashMap<>(references.size());
+        for (int from = 0; from < references.size(); from += properties.chunkSize()) {
+            List<String> chunk = references.subList(from, Math.min(from + properties.chunkSize(), references.size()));
+            for (PaymentOrderStatusSnapshot snapshot : repository.findStatusesByReferences(chunk)) {
+                statuses.put(snapshot.getPaymentOrderReference(), snapshot.getStatus());
+            }
+        }
+        return statuses;
+    }
+
+    private void backOff(final int attempt, final String paymentOrderReference) {
+        // Espera exponencial con jitter completo: los escritores que chocaron no vuelven a la vez
+        long ceiling = properties.casBackoff().toMillis() << Math.min(attempt - 1, 10);
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PaymentOrderConflictException(
+                    "Interrupted while retrying status change of payment order: " + paymentOrderReference, ex);
+        }
+    }
+
+    private static LocalDateTime now() {
+        // Microsegundos: la precisión de la columna, para que el repositorio pueda reconocer sus propios cambios
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record Transition(PaymentStatus from, PaymentStatus to) {
+    }
+}
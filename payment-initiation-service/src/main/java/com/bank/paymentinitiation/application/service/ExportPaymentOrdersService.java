@@ -0,0 +1,39 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.port.in.ExportPaymentOrdersUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio de aplicación que implementa el caso de uso de exportar órdenes de pago.
+ * 
+ * <p>Este servicio exige un rango de creación acotado y delega el recorrido en
+ * PaymentOrderRepository.forEach, que entrega las órdenes una a una.
+ */
+@Service
+@Timed(value = "payment.use-case", histogram = true)
+@RequiredArgsConstructor
+public class ExportPaymentOrdersService implements ExportPaymentOrdersUseCase {
+
+    private final PaymentOrderRepository repository;
+
+    @Override
+    public PaymentOrderExport export(final PaymentOrderSearchCriteria criteria) {
+        // 1. Validar el rango de creación (obligatorio: una exportación sin límites recorre toda la tabla)
+        if (criteria.getCreatedFrom() == null || criteria.getCreatedTo() == null) {
+            throw new InvalidPaymentOrderQueryException("Export requires both createdFrom and createdTo");
+        }
+        if (!criteria.getCreatedFrom().isBefore(criteria.getCreatedTo())) {
+            throw new InvalidPaymentOrderQueryException(
+                    "created range is empty: " + criteria.getCreatedFrom() + " is not before " + criteria.getCreatedTo());
+        }
+
+        // 2. Diferir la lectura hasta que el adaptador esté listo para escribir
+        return sink -> repository.forEach(criteria, sink);
+    }
+}
@@ -1,10 +1,23 @@
 package com.bank.paymentinitiation.application.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.bank.paymentinitiation.config.PaymentBatchProperties;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
 import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
 import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
 import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,41 +28,177 @@ import org.springframework.stereotype.Service;
  *   <li>Genera la referencia si no existe</li>
  *   <li>Inicia la orden (establece status y createdAt)</li>
  *   <li>Valida la orden (reglas de negocio e invariantes)</li>
- *   <li>Persiste la orden</li>
+ *   <li>Persiste la orden (solo inserción, ya que la orden es nueva)</li>
  * </ol>
+ * 
+ * <p>La iniciación individual es idempotente por la clave de idempotencia (la del cliente o, en su
+ * defecto, la derivada de externalReference). Una orden nueva cuesta solo la inserción: la clave
+ * únicamente se busca en la caché antes de insertar, y en la base de datos cuando la inserción choca
+ * con el índice único (un reintento) o cuando la orden ya no es válida (un reintento tardío). En
+ * ambos casos se devuelve la orden original. El reintento tardío solo se admite con la cabecera
+ * Idempotency-Key, cuando la fecha de ejecución ya pasó y si la orden guardada tiene el mismo pagador,
+ * beneficiario e importe: una orden nueva y mal formada que reutiliza un externalReference recibe 400.
+ * 
+ * <p>Para lotes, los pasos 1-3 se aplican a todas las órdenes en una pasada y las válidas
+ * se insertan por bloques de {@code payment.batch.chunk-size} órdenes. Si un bloque falla, sus
+ * órdenes reciben un motivo fijo (el detalle de la excepción solo va al log, porque puede llevar SQL
+ * o nombres de tablas y restricciones).
  */
+@Slf4j
 @Service
+@Timed(value = "payment.use-case", histogram = true)
 @RequiredArgsConstructor
 public class InitiatePaymentOrderService implements InitiatePaymentOrderUseCase {
 
+    static final String DUPLICATE_REASON = "Payment order conflicts with an existing payment order";
+    static final String PERSISTENCE_FAILED_REASON = "Payment order could not be persisted";
+
     private final PaymentOrderRepository repository;
     private final PaymentOrderDomainService paymentOrderDomainService;
+    private final PaymentBatchProperties batchProperties;
 
     @Override
     public PaymentOrder initiate(final PaymentOrder order) {
+        // 0. Resolver la clave de idempotencia; un reintento reciente se resuelve desde la caché
+        PaymentOrder keyedOrder = withIdempotencyKey(order);
+        IdempotencyKey idempotencyKey = keyedOrder.getIdempotencyKey();
+        if (idempotencyKey != null) {
+            Optional<PaymentOrder> cached = repository.findCachedByIdempotencyKey(idempotencyKey);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        PaymentOrder initiatedOrder;
+        try {
+            initiatedOrder = prepare(keyedOrder, paymentOrderDomainService);
+        } catch (InvalidPaymentException ex) {
+            // Un reintento tardío deja de ser válido cuando su fecha de ejecución pasa
+            if (!isLateRetry(keyedOrder)) {
+                throw ex;
+            }
+            return repository.findByIdempotencyKey(idempotencyKey)
+                    .filter(original -> isSameOrder(original, keyedOrder))
+                    .orElseThrow(() -> ex);
+        }
+
+        // 4. Insertar en el repositorio sin buscar antes: el índice único detecta los reintentos
+        try {
+            return repository.insert(initiatedOrder);
+        } catch (DuplicatePaymentOrderException ex) {
+            // Un reintento, ya persistido o concurrente: se devuelve la orden original
+            if (idempotencyKey == null) {
+                throw ex;
+            }
+            return repository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> ex);
+        }
+    }
+
+    @Override
+    public List<PaymentOrderInitiationResult> initiateAll(final List<PaymentOrder> orders) {
+        PaymentOrderInitiationResult[] results = new PaymentOrderInitiationResult[orders.size()];
+        List<Integer> validIndexes = new ArrayList<>(orders.size());
+        List<PaymentOrder> validOrders = new ArrayList<>(orders.size());
+
+        // Pasada única de validación: las órdenes inválidas se rechazan sin tocar la base de datos
+        for (int i = 0; i < orders.size(); i++) {
+            try {
+                validOrders.add(prepare(orders.get(i), paymentOrderDomainService));
+                validIndexes.add(i);
+            } catch (InvalidPaymentException | IllegalArgumentException | IllegalStateException ex) {
+                results[i] = PaymentOrderInitiationResult.rejected(i, ex.getMessage());
+            }
+        }
+
+        // Persistencia por bloques: cada bloque es una transacción con inserciones JDBC en lote
+        int chunkSize = batchProperties.chunkSize();
+        for (int from = 0; from < validOrders.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, validOrders.size());
+            List<PaymentOrder> chunk = validOrders.subList(from, to);
+            try {
+                List<PaymentOrder> inserted = repository.insertAll(chunk);
+                for (int j = 0; j < inserted.size(); j++) {
+                    int index = validIndexes.get(from + j);
+                    results[index] = PaymentOrderInitiationResult.initiated(index, inserted.get(j));
+                }
+            } catch (DuplicatePaymentOrderException ex) {
+                log.warn("Batch chunk of {} payment orders conflicts with existing orders", to - from, ex);
+                failChunk(results, validIndexes, from, to, DUPLICATE_REASON);
+            } catch (RuntimeException ex) {
+                log.error("Could not persist batch chunk of {} payment orders", to - from, ex);
+                failChunk(results, validIndexes, from, to, PERSISTENCE_FAILED_REASON);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private static void failChunk(final PaymentOrderInitiationResult[] results, final List<Integer> validIndexes,
+            final int from, final int to, final String reason) {
+        for (int j = from; j < to; j++) {
+            int index = validIndexes.get(j);
+            results[index] = PaymentOrderInitiationResult.failed(index, reason);
+        }
+    }
+
+    static PaymentOrder withIdempotencyKey(final PaymentOrder order) {
+        if (order.getIdempotencyKey() != null || order.getExternalReference() == null) {
+            return order;
+        }
+        // Sin cabecera Idempotency-Key, el externalReference del cliente identifica los reintentos
+        return order.toBuilder()
+                .idempotencyKey(IdempotencyKey.ofExternalReference(order.getExternalReference()))
+                .build();
+    }
+
+    /**
+     * Indica si una orden rechazada por la validación puede ser el reintento tardío de una orden ya
+     * creada: el cliente envió Idempotency-Key y la fecha de ejecución ya pasó.
+     *
+     * @param order la orden con su clave de idempotencia resuelta
+     * @return true si hay que buscar la orden original
+     */
+    static boolean isLateRetry(final PaymentOrder order) {
+        IdempotencyKey idempotencyKey = order.getIdempotencyKey();
+        LocalDate executionDate = order.getRequestedExecutionDate();
+        return idempotencyKey != null && idempotencyKey.isClientKey()
+                && executionDate != null && executionDate.isBefore(LocalDate.now());
+    }
+
+    /**
+     * Indica si la orden guardada con la misma clave es la que el reintento vuelve a enviar.
+     *
+     * @param original la orden guardada
+     * @param retry    el reintento
+     * @return true si coinciden pagador, beneficiario e importe
+     */
+    static boolean isSameOrder(final PaymentOrder original, final PaymentOrder retry) {
+        if (retry.getInstructedAmount() == null) {
+            return false;
+        }
+        return original.getPayerReference().equals(retry.getPayerReference())
+                && original.getPayeeReference().equals(retry.getPayeeReference())
+                // Mismo importe aunque cambie la escala (150.7 y 150.70)
+                && original.getInstructedAmount().getValue().compareTo(retry.getInstructedAmount().getValue()) == 0
+                && original.getInstructedAmount().getCurrency().equals(retry.getInstructedAmount().getCurrency());
+    }
+
+    static PaymentOrder prepare(final PaymentOrder order, final PaymentOrderDomainService paymentOrderDomainService) {
         // 1. Generar paymentOrderReference si no existe
+        PaymentOrder orderWithReference = order;
         if (order.getPaymentOrderReference() == null
                 || order.getPaymentOrderReference().isBlank()) {
-            String reference = paymentOrderDomainService.generateReference();
-            PaymentOrder orderWithReference = order.toBuilder()
-                    .paymentOrderReference(reference)
+            orderWithReference = order.toBuilder()
+                    .paymentOrderReference(paymentOrderDomainService.generateReference())
                     .build();
-            return initiateOrder(orderWithReference);
         }
 
-        return initiateOrder(order);
-    }
-
-    private PaymentOrder initiateOrder(final PaymentOrder order) {
         // 2. Llamar a order.initiate() para establecer status = INITIATED y createdAt
-        PaymentOrder initiatedOrder = order.initiate();
+        PaymentOrder initiatedOrder = orderWithReference.initiate();
 
         // 3. Validar la orden (reglas de negocio e invariantes)
         paymentOrderDomainService.validate(initiatedOrder);
         initiatedOrder.validate();
-
-        // 4. Guardar en el repositorio
-        return repository.save(initiatedOrder);
+        return initiatedOrder;
     }
 }
-
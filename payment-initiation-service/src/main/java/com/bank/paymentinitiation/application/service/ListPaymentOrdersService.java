@@ -0,0 +1,62 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.port.in.ListPaymentOrdersUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.temporal.Temporal;
+import java.util.List;
+
+/**
+ * Servicio de aplicación que implementa el caso de uso de listar órdenes de pago.
+ * 
+ * <p>Este servicio valida los filtros y pide al repositorio una orden más que el tamaño de página:
+ * si llega, hay página siguiente y su cursor apunta a la última orden entregada.
+ */
+@Service
+@Timed(value = "payment.use-case", histogram = true)
+@RequiredArgsConstructor
+public class ListPaymentOrdersService implements ListPaymentOrdersUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final PaymentOrderRepository repository;
+
+    @Override
+    public PaymentOrderPage list(final PaymentOrderSearchCriteria criteria, final PaymentOrderCursor after,
+            final int limit) {
+        // 1. Validar tamaño de página y rangos
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidPaymentOrderQueryException(
+                    "Limit must be between 1 and " + MAX_LIMIT + ", got: " + limit);
+        }
+        validateRange("requestedExecutionDate",
+                criteria.getRequestedExecutionDateFrom(), criteria.getRequestedExecutionDateTo());
+        validateRange("created", criteria.getCreatedFrom(), criteria.getCreatedTo());
+
+        // 2. Buscar una orden de más para saber si hay página siguiente
+        List<PaymentOrder> rows = repository.search(criteria, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new PaymentOrderPage(rows, null);
+        }
+
+        // 3. Recortar la página y apuntar el cursor a su última orden
+        List<PaymentOrder> items = rows.subList(0, limit);
+        return new PaymentOrderPage(List.copyOf(items), PaymentOrderCursor.after(items.get(limit - 1)));
+    }
+
+    private static <T extends Temporal & Comparable<? super T>> void validateRange(
+            final String name, final T from, final T to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new InvalidPaymentOrderQueryException(
+                    name + " range is empty: " + from + " is after " + to);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderQueueFullException;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.IngestPaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal.Entry;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio de aplicación que implementa la iniciación asíncrona de órdenes de pago.
+ *
+ * <p>Aceptar una orden ({@link #enqueue}) no toca la base de datos. Un reintento se resuelve con la orden
+ * original si sigue en la cola o si la tabla en memoria de claves de idempotencia del repositorio la
+ * conoce ({@code findCachedByIdempotencyKey}); si no, se acepta como una orden nueva:
+ * <ol>
+ *   <li>Inicia y valida la orden como la iniciación síncrona</li>
+ *   <li>Reserva un hueco de la cola; si no quedan, PaymentOrderQueueFullException (429)</li>
+ *   <li>La anexa al journal y la encola, en el mismo orden de secuencia</li>
+ *   <li>Espera al volcado del journal (agrupado con las peticiones concurrentes) y responde</li>
+ * </ol>
+ *
+ * <p>La etapa de escritura ({@link #drain}) toma de la cola micro-lotes de hasta
+ * {@code payment.ingestion.batch-size} órdenes y los inserta con {@code insertAll}, en una
+ * transacción. Si el lote choca con órdenes existentes se inserta orden a orden. Una orden que choca
+ * se descarta si la fila con su referencia es ella misma (un lote reintentado o la recuperación de un
+ * journal). Si su clave de idempotencia pertenece a otra orden (un reintento de una orden ya
+ * persistida, o el mismo reintento aceptado en otra instancia), su referencia, que el cliente ya
+ * recibió, se registra como alias de la orden original con {@code addReferenceAlias}: las consultas
+ * por esa referencia devuelven la original. Si otra orden ocupa su referencia, se guarda con
+ * {@code journal.reject} para recuperarla manualmente y se cuenta en {@link #rejected()}. Si el lote
+ * falla por otra causa se conserva y se reintenta. Cada lote persistido se marca como checkpoint del journal
+ * y libera sus huecos de la cola, así que la capacidad limita las órdenes aceptadas y no persistidas.
+ *
+ * <p>La cola es un ArrayBlockingQueue (un buffer circular acotado) con un único consumidor.
+ */
+@Slf4j
+public class PaymentOrderIngestionService implements IngestPaymentOrderUseCase {
+
+    private final PaymentOrderRepository repository;
+    private final PaymentOrderDomainService paymentOrderDomainService;
+    private final PaymentOrderJournal journal;
+    private final int capacity;
+    private final int batchSize;
+
+    private final Semaphore slots;
+    private final BlockingQueue<Entry> queue;
+    private final Map<IdempotencyKey, PaymentOrder> queuedByIdempotencyKey = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // Solo lo usa el hilo de la etapa de escritura: el lote que falló y debe reintentarse
+    private List<Entry> pendingBatch = List.of();
+
+    public PaymentOrderIngestionService(final PaymentOrderRepository repository,
+                                        final PaymentOrderDomainService paymentOrderDomainService,
+                                        final PaymentOrderJournal journal,
+                                        final int capacity,
+                                        final int batchSize) {
+        this.repository = repository;
+        this.paymentOrderDomainService = paymentOrderDomainService;
+        this.journal = journal;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.slots = new Semaphore(capacity);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public PaymentOrder enqueue(final PaymentOrder order) {
+        // Reintentos: la orden original puede estar todavía en la cola o ya persistida (solo se mira la
+        // caché; un reintento que no está en ella se resuelve al persistirlo, con un alias)
+        PaymentOrder keyedOrder = InitiatePaymentOrderService.withIdempotencyKey(order);
+        IdempotencyKey idempotencyKey = keyedOrder.getIdempotencyKey();
+        if (idempotencyKey != null) {
+            Optional<PaymentOrder> existing = findExisting(idempotencyKey);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+
+        PaymentOrder initiatedOrder = InitiatePaymentOrderService.prepare(keyedOrder, paymentOrderDomainService);
+        if (!slots.tryAcquire()) {
+            throw new PaymentOrderQueueFullException(capacity);
+        }
+        if (idempotencyKey != null) {
+            PaymentOrder concurrent = queuedByIdempotencyKey.putIfAbsent(idempotencyKey, initiatedOrder);
+            if (concurrent != null) {
+                slots.release();
+                return concurrent; // Dos reintentos simultáneos: solo se encola el primero
+            }
+        }
+
+        long sequence;
+        try {
+            // Journal y cola en el mismo orden: un checkpoint cubre siempre un prefijo del journal
+            synchronized (appendLock) {
+                sequence = journal.append(initiatedOrder);
+                queue.add(new Entry(sequence, initiatedOrder));
+            }
+        } catch (RuntimeException ex) {
+            slots.release();
+            if (idempotencyKey != null) {
+                queuedByIdempotencyKey.remove(idempotencyKey, initiatedOrder);
+            }
+            throw ex;
+        }
+        journal.sync(sequence);
+        return initiatedOrder;
+    }
+
+    @Override
+    public int recover() {
+        List<Entry> recovered = journal.recover();
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            List<Entry> batch = recovered.subList(from, Math.min(from + batchSize, recovered.size()));
+            persist(batch);
+            journal.checkpoint(batch.get(batch.size() - 1).sequence());
+        }
+        return recovered.size();
+    }
+
+    @Override
+    public int drain(final Duration maxWait) {
+        if (pendingBatch.isEmpty()) {
+            Entry first;
+            try {
+                first = queue.poll(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+            if (first == null) {
+                return 0;
+            }
+            List<Entry> batch = new ArrayList<>(batchSize);
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            pendingBatch = batch;
+        }
+
+        List<Entry> batch = pendingBatch;
+        persist(batch); // Si falla, pendingBatch se conserva para el siguiente intento
+        journal.checkpoint(batch.get(batch.size() - 1).sequence());
+        pendingBatch = List.of();
+        for (Entry entry : batch) {
+            IdempotencyKey idempotencyKey = entry.order().getIdempotencyKey();
+            if (idempotencyKey != null) {
+                queuedByIdempotencyKey.remove(idempotencyKey, entry.order());
+            }
+        }
+        slots.release(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Retorna las órdenes aceptadas que todavía no se han persistido.
+     *
+     * @return el número de órdenes en la cola o en el lote en curso
+     */
+    public int backlog() {
+        return capacity - slots.availablePermits();
+    }
+
+    /**
+     * Retorna la capacidad de la cola.
+     *
+     * @return el número máximo de órdenes aceptadas sin persistir
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retorna las órdenes aceptadas que el repositorio rechazó desde el arranque.
+     *
+     * @return el número de órdenes guardadas aparte con {@code journal.reject}
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    private Optional<PaymentOrder> findExisting(final IdempotencyKey idempotencyKey) {
+        PaymentOrder queued = queuedByIdempotencyKey.get(idempotencyKey);
+        if (queued != null) {
+            return Optional.of(queued);
+        }
+        return repository.findCachedByIdempotencyKey(idempotencyKey);
+    }
+
+    private void persist(final List<Entry> batch) {
+        List<PaymentOrder> orders = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            orders.add(entry.order());
+        }
+        try {
+            repository.insertAll(orders);
+        } catch (DuplicatePaymentOrderException ex) {
+            // Alguna ya existía: orden a orden, sin repetir las que ya están persistidas
+            for (Entry entry : batch) {
+                try {
+                    repository.insert(entry.order());
+                } catch (DuplicatePaymentOrderException duplicate) {
+                    if (!isPersisted(entry.order()) && !aliasToOriginal(entry.order())) {
+                        reject(entry, duplicate);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isPersisted(final PaymentOrder order) {
+        return repository.findByReference(order.getPaymentOrderReference())
+                .filter(existing -> existing.getPaymentOrderReference().equals(order.getPaymentOrderReference())
+                        && Objects.equals(existing.getExternalReference(), order.getExternalReference())
+                        && Objects.equals(existing.getIdempotencyKey(), order.getIdempotencyKey()))
+                .isPresent();
+    }
+
+    private boolean aliasToOriginal(final PaymentOrder order) {
+        IdempotencyKey idempotencyKey = order.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return false;
+        }
+        Optional<PaymentOrder> original = repository.findByIdempotencyKey(idempotencyKey)
+                .filter(existing -> !existing.getPaymentOrderReference().equals(order.getPaymentOrderReference()));
+        if (original.isEmpty()) {
+            return false;
+        }
+        // El cliente ya recibió 202 con la referencia de esta orden: debe seguir encontrando la original
+        repository.addReferenceAlias(order.getPaymentOrderReference(), original.get().getPaymentOrderReference());
+        log.warn("Accepted payment order {} is a retry of payment order {}; its reference now resolves to it",
+                order.getPaymentOrderReference(), original.get().getPaymentOrderReference());
+        return true;
+    }
+
+    private void reject(final Entry entry, final DuplicatePaymentOrderException cause) {
+        // Se guarda antes del checkpoint: el cliente ya recibió 202 con su referencia
+        journal.reject(entry);
+        rejected.incrementAndGet();
+        log.error("Accepted payment order {} (journal sequence {}) conflicts with another persisted order;"
+                + " kept in the journal for manual recovery", entry.order().getPaymentOrderReference(),
+                entry.sequence(), cause);
+    }
+}
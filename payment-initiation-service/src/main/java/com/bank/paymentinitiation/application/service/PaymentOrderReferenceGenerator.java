@@ -1,5 +1,8 @@
 package com.bank.paymentinitiation.application.service;
 
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,27 +14,25 @@ import org.springframework.stereotype.Component;
  * <p>⚠️ CRÍTICO: El formato DEBE cumplir con el patrón del OpenAPI:
  * `^PO-[0-9]+$` (solo números después de "PO-"). NO se pueden usar letras
  * (como en UUIDs) ya que no cumplirán el patrón y causarán errores de validación.
+ * 
+ * <p>Delega en el mismo SnowflakeReferenceGenerator que usa PaymentOrderDomainService,
+ * de modo que todas las referencias del nodo salen de una única secuencia.
  */
 @Component
+@Timed(value = "payment.reference.generation", histogram = true)
+@RequiredArgsConstructor
 public class PaymentOrderReferenceGenerator {
 
+    private final SnowflakeReferenceGenerator snowflakeReferenceGenerator;
+
     /**
      * Genera una referencia única para una orden de pago.
      * 
-     * <p>El formato es "PO-{número}" donde el número es generado usando
-     * timestamp y número aleatorio para garantizar unicidad.
-     * 
-     * <p>Ejemplo de referencia generada: "PO-1234567890123456" (16 dígitos numéricos).
+     * <p>Ejemplo de referencia generada: "PO-520745163527925760".
      *
      * @return una referencia única en formato "PO-{número}" que cumple el patrón ^PO-[0-9]+$
      */
     public String generate() {
-        // Genera un identificador numérico usando timestamp (últimos 10 dígitos) + aleatorio (6 dígitos)
-        // Esto asegura unicidad mientras cumple el patrón ^PO-[0-9]+$
-        long timestamp = System.currentTimeMillis();
-        long random = (long) (Math.random() * 1000000); // 6 dígitos
-        String numericId = String.format("%010d%06d", timestamp % 10000000000L, random);
-        return "PO-" + numericId;
+        return snowflakeReferenceGenerator.nextReference();
     }
 }
-
@@ -0,0 +1,63 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderStatusNotifier;
+
+/**
+ * Registro en memoria de los observadores de estado de cada orden de pago.
+ *
+ * <p>Implementa PaymentOrderStatusNotifier: el repositorio le entrega cada cambio confirmado y el
+ * registro lo reparte a los observadores de esa referencia. No depende del repositorio, para que el
+ * adaptador de persistencia pueda recibirlo sin dependencias circulares.
+ */
+@Component
+public class PaymentOrderStatusWatchRegistry implements PaymentOrderStatusNotifier {
+
+    private final Map<String, Set<Consumer<PaymentOrderStatusSnapshot>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void statusChanged(final List<PaymentOrderStatusSnapshot> snapshots) {
+        for (PaymentOrderStatusSnapshot snapshot : snapshots) {
+            Set<Consumer<PaymentOrderStatusSnapshot>> watching = listeners.get(snapshot.getPaymentOrderReference());
+            if (watching != null) {
+                watching.forEach(listener -> listener.accept(snapshot));
+            }
+        }
+    }
+
+    void add(final String paymentOrderReference, final Consumer<PaymentOrderStatusSnapshot> listener) {
+        listeners.compute(paymentOrderReference, (reference, watching) -> {
+            Set<Consumer<PaymentOrderStatusSnapshot>> updated = watching;
+            if (updated == null) {
+                updated = ConcurrentHashMap.newKeySet();
+            }
+            updated.add(listener);
+            return updated;
+        });
+    }
+
+    void remove(final String paymentOrderReference, final Consumer<PaymentOrderStatusSnapshot> listener) {
+        // Sin observadores la referencia sale del mapa, para no acumular órdenes ya terminadas
+        listeners.computeIfPresent(paymentOrderReference, (reference, watching) -> {
+            watching.remove(listener);
+            return watching.isEmpty() ? null : watching;
+        });
+    }
+
+    /**
+     * Retorna las referencias con al menos un observador.
+     *
+     * @return copia de las referencias observadas
+     */
+    List<String> references() {
+        return List.copyOf(listeners.keySet());
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.ReactiveInitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio de aplicación que implementa la iniciación de órdenes de pago en el modo reactivo.
+ * 
+ * <p>Aplica los mismos pasos que InitiatePaymentOrderService#initiate (clave de idempotencia,
+ * referencia, inicio y validación) sobre ReactivePaymentOrderRepository. La preparación de la
+ * orden solo usa CPU, así que se ejecuta en el hilo del evento sin bloquearlo.
+ * 
+ * <p>Como en el modo servlet, una orden nueva cuesta solo la inserción: la clave de idempotencia se
+ * busca en la base de datos cuando la inserción choca con el índice único o en un reintento tardío.
+ * 
+ * <p>No lleva @Service: solo existe en el modo reactivo y lo crea PaymentReactiveConfig.
+ */
+@RequiredArgsConstructor
+public class ReactiveInitiatePaymentOrderService implements ReactiveInitiatePaymentOrderUseCase {
+
+    private final ReactivePaymentOrderRepository repository;
+    private final PaymentOrderDomainService paymentOrderDomainService;
+
+    @Override
+    public Mono<PaymentOrder> initiate(final PaymentOrder order) {
+        PaymentOrder keyedOrder = InitiatePaymentOrderService.withIdempotencyKey(order);
+        IdempotencyKey idempotencyKey = keyedOrder.getIdempotencyKey();
+        return Mono.defer(() -> {
+            PaymentOrder initiatedOrder;
+            try {
+                initiatedOrder = InitiatePaymentOrderService.prepare(keyedOrder, paymentOrderDomainService);
+            } catch (InvalidPaymentException ex) {
+                // Un reintento tardío deja de ser válido cuando su fecha de ejecución pasa
+                if (!InitiatePaymentOrderService.isLateRetry(keyedOrder)) {
+                    return Mono.error(ex);
+                }
+                return repository.findByIdempotencyKey(idempotencyKey)
+                        .filter(original -> InitiatePaymentOrderService.isSameOrder(original, keyedOrder))
+                        .switchIfEmpty(Mono.error(ex));
+            }
+
+            // Insertar sin buscar antes: el índice único detecta los reintentos, ya persistidos o
+            // concurrentes, y entonces se devuelve la orden original
+            Mono<PaymentOrder> insert = repository.insert(initiatedOrder);
+            if (idempotencyKey == null) {
+                return insert;
+            }
+            return insert.onErrorResume(DuplicatePaymentOrderException.class,
+                    ex -> repository.findByIdempotencyKey(idempotencyKey).switchIfEmpty(Mono.error(ex)));
+        });
+    }
+}
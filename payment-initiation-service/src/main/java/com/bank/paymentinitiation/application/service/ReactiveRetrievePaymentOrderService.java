@@ -0,0 +1,30 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.ReactiveRetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio de aplicación que implementa la consulta de una orden de pago completa en el modo reactivo.
+ * 
+ * <p>No lleva @Service: solo existe en el modo reactivo y lo crea PaymentReactiveConfig.
+ */
+@RequiredArgsConstructor
+public class ReactiveRetrievePaymentOrderService implements ReactiveRetrievePaymentOrderUseCase {
+
+    private final ReactivePaymentOrderRepository repository;
+
+    @Override
+    public Mono<PaymentOrder> retrieve(final String paymentOrderReference) {
+        if (paymentOrderReference == null || paymentOrderReference.isBlank()) {
+            return Mono.error(new IllegalArgumentException(
+                    "Payment order reference cannot be null or blank"));
+        }
+
+        return repository.findByReference(paymentOrderReference)
+                .switchIfEmpty(Mono.error(() -> PaymentOrderNotFoundException.forReference(paymentOrderReference)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.in.ReactiveRetrievePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio de aplicación que implementa la consulta del estado de una orden de pago en el modo reactivo.
+ * 
+ * <p>Como RetrievePaymentOrderStatusService, lee solo la vista de estado, sin cargar la orden completa.
+ * 
+ * <p>No lleva @Service: solo existe en el modo reactivo y lo crea PaymentReactiveConfig.
+ */
+@RequiredArgsConstructor
+public class ReactiveRetrievePaymentOrderStatusService implements ReactiveRetrievePaymentOrderStatusUseCase {
+
+    private final ReactivePaymentOrderRepository repository;
+
+    @Override
+    public Mono<PaymentOrderStatusSnapshot> retrieveStatusSnapshot(final String paymentOrderReference) {
+        if (paymentOrderReference == null || paymentOrderReference.isBlank()) {
+            return Mono.error(new IllegalArgumentException(
+                    "Payment order reference cannot be null or blank"));
+        }
+
+        return repository.findStatusByReference(paymentOrderReference)
+                .switchIfEmpty(Mono.error(() -> PaymentOrderNotFoundException.forReference(paymentOrderReference)));
+    }
+}
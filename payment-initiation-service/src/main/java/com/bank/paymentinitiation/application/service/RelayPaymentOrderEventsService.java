@@ -0,0 +1,40 @@
+package com.bank.paymentinitiation.application.service;
+
+import com.bank.paymentinitiation.config.PaymentOutboxProperties;
+import com.bank.paymentinitiation.domain.port.in.RelayPaymentOrderEventsUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderOutbox;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio de aplicación que implementa el caso de uso de publicar los eventos pendientes.
+ * 
+ * <p>Drena la bandeja de salida por lotes de {@code payment.outbox.batch-size} eventos (cada
+ * lote en su propia transacción) hasta que un lote sale incompleto o se alcanzan
+ * {@code payment.outbox.max-batches-per-run} lotes, para no monopolizar el hilo del planificador
+ * tras un pico de escrituras.
+ */
+@Service
+@Timed(value = "payment.use-case", histogram = true)
+@RequiredArgsConstructor
+public class RelayPaymentOrderEventsService implements RelayPaymentOrderEventsUseCase {
+
+    private final PaymentOrderOutbox outbox;
+    private final PaymentOrderEventPublisher publisher;
+    private final PaymentOutboxProperties properties;
+
+    @Override
+    public int relayPending() {
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int published = outbox.publishPending(properties.batchSize(), publisher);
+            total += published;
+            if (published < properties.batchSize()) {
+                break; // Bandeja vacía
+            }
+        }
+        return total;
+    }
+}
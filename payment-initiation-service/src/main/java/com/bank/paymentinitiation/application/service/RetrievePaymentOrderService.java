@@ -4,6 +4,7 @@ import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
 import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
 import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
  * lanzando una excepción si no se encuentra.
  */
 @Service
+@Timed(value = "payment.use-case", histogram = true)
 @RequiredArgsConstructor
 public class RetrievePaymentOrderService implements RetrievePaymentOrderUseCase {
 
@@ -27,8 +29,7 @@ public class RetrievePaymentOrderService implements RetrievePaymentOrderUseCase
         }
 
         return repository.findByReference(paymentOrderReference)
-                .orElseThrow(() -> new PaymentOrderNotFoundException(
-                        "Payment order not found with reference: " + paymentOrderReference));
+                .orElseThrow(() -> PaymentOrderNotFoundException.forReference(paymentOrderReference));
     }
 }
 
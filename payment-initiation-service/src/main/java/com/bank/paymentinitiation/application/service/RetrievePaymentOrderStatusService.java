@@ -1,26 +1,41 @@
 package com.bank.paymentinitiation.application.service;
 
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
 import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
-import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * Servicio de aplicación que implementa el caso de uso de recuperar solo el estado de una orden de pago.
  * 
- * <p>Este servicio recupera una orden de pago completa y retorna solo su estado.
- * Reutiliza RetrievePaymentOrderUseCase para evitar duplicación de lógica.
+ * <p>Este servicio consulta la vista de estado de la orden (referencia, estado y última
+ * actualización) mediante PaymentOrderRepository.findStatusByReference, sin cargar la orden
+ * completa, lanzando una excepción si no se encuentra.
  */
 @Service
+@Timed(value = "payment.use-case", histogram = true)
 @RequiredArgsConstructor
 public class RetrievePaymentOrderStatusService implements RetrievePaymentOrderStatusUseCase {
 
-    private final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+    private final PaymentOrderRepository repository;
 
     @Override
     public PaymentStatus retrieveStatus(final String paymentOrderReference) {
-        return retrievePaymentOrderUseCase.retrieve(paymentOrderReference).getStatus();
+        return retrieveStatusSnapshot(paymentOrderReference).getStatus();
     }
-}
 
+    @Override
+    public PaymentOrderStatusSnapshot retrieveStatusSnapshot(final String paymentOrderReference) {
+        if (paymentOrderReference == null || paymentOrderReference.isBlank()) {
+            throw new IllegalArgumentException(
+                    "Payment order reference cannot be null or blank");
+        }
+
+        return repository.findStatusByReference(paymentOrderReference)
+                .orElseThrow(() -> PaymentOrderNotFoundException.forReference(paymentOrderReference));
+    }
+}
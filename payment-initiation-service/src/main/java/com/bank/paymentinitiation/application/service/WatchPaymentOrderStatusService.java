@@ -0,0 +1,101 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.bank.paymentinitiation.config.PaymentStatusStreamProperties;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.port.in.WatchPaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio de aplicación que implementa el caso de uso de observar estados de órdenes de pago.
+ *
+ * <p>Los observadores se registran en PaymentOrderStatusWatchRegistry, que recibe del repositorio
+ * cada cambio de estado confirmado en esta instancia. El registro se hace antes de leer el estado
+ * actual, así que ningún cambio confirmado entre ambos pasos se pierde (a lo sumo llega dos veces).
+ *
+ * <p>{@link #refresh()} relee en bloques de {@value #REFRESH_CHUNK_SIZE} (una consulta de cuatro
+ * columnas por bloque) el estado de todas las órdenes observadas, para entregar también los cambios
+ * hechos por otras instancias.
+ */
+@Service
+@RequiredArgsConstructor
+public class WatchPaymentOrderStatusService implements WatchPaymentOrderStatusUseCase {
+
+    static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final PaymentOrderRepository repository;
+    private final PaymentOrderStatusWatchRegistry registry;
+    private final PaymentStatusStreamProperties properties;
+
+    @Override
+    public List<PaymentOrderStatusSnapshot> watch(final Collection<String> paymentOrderReferences,
+            final Consumer<PaymentOrderStatusSnapshot> listener) {
+        Set<String> references = validate(paymentOrderReferences);
+        references.forEach(reference -> registry.add(reference, listener));
+
+        // Estado actual en una sola consulta, después de registrar al observador
+        Map<String, PaymentOrderStatusSnapshot> current = new HashMap<>(references.size());
+        try {
+            for (PaymentOrderStatusSnapshot snapshot : repository.findStatusesByReferences(references)) {
+                current.put(snapshot.getPaymentOrderReference(), snapshot);
+            }
+        } catch (RuntimeException ex) {
+            unwatch(references, listener);
+            throw ex;
+        }
+
+        List<PaymentOrderStatusSnapshot> snapshots = new ArrayList<>(references.size());
+        for (String reference : references) {
+            PaymentOrderStatusSnapshot snapshot = current.get(reference);
+            if (snapshot == null) {
+                unwatch(references, listener);
+                throw PaymentOrderNotFoundException.forReference(reference);
+            }
+            snapshots.add(snapshot);
+        }
+        return snapshots;
+    }
+
+    @Override
+    public void unwatch(final Collection<String> paymentOrderReferences,
+            final Consumer<PaymentOrderStatusSnapshot> listener) {
+        paymentOrderReferences.forEach(reference -> registry.remove(reference, listener));
+    }
+
+    @Override
+    public int refresh() {
+        List<String> references = registry.references();
+        for (int from = 0; from < references.size(); from += REFRESH_CHUNK_SIZE) {
+            List<String> chunk = references.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, references.size()));
+            registry.statusChanged(repository.findStatusesByReferences(chunk));
+        }
+        return references.size();
+    }
+
+    private Set<String> validate(final Collection<String> paymentOrderReferences) {
+        if (paymentOrderReferences == null || paymentOrderReferences.isEmpty()) {
+            throw new InvalidPaymentOrderQueryException("At least one payment order reference is required");
+        }
+        Set<String> references = new LinkedHashSet<>(paymentOrderReferences);
+        if (references.size() > properties.maxReferences()) {
+            throw new InvalidPaymentOrderQueryException("Cannot watch more than " + properties.maxReferences()
+                    + " payment orders per subscription");
+        }
+        if (references.stream().anyMatch(reference -> reference == null || reference.isBlank())) {
+            throw new InvalidPaymentOrderQueryException("Payment order reference cannot be null or blank");
+        }
+        return references;
+    }
+}
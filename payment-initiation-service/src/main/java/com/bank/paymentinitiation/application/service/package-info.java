@@ -6,6 +6,13 @@
  *   <li>InitiatePaymentOrderService: Implementa InitiatePaymentOrderUseCase</li>
  *   <li>RetrievePaymentOrderService: Implementa RetrievePaymentOrderUseCase</li>
  *   <li>RetrievePaymentOrderStatusService: Implementa RetrievePaymentOrderStatusUseCase</li>
+ *   <li>ListPaymentOrdersService: Implementa ListPaymentOrdersUseCase</li>
+ *   <li>ExportPaymentOrdersService: Implementa ExportPaymentOrdersUseCase</li>
+ *   <li>ChangePaymentOrderStatusService: Implementa ChangePaymentOrderStatusUseCase</li>
+ *   <li>RelayPaymentOrderEventsService: Implementa RelayPaymentOrderEventsUseCase</li>
+ *   <li>PaymentOrderIngestionService: Implementa IngestPaymentOrderUseCase</li>
+ *   <li>WatchPaymentOrderStatusService: Implementa WatchPaymentOrderStatusUseCase</li>
+ *   <li>PaymentOrderStatusWatchRegistry: Implementa PaymentOrderStatusNotifier (observadores en proceso)</li>
  * </ul>
  * 
  * <p>Los servicios de aplicación orquestan las operaciones del dominio y coordinan
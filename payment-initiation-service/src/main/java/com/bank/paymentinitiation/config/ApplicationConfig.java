@@ -1,6 +1,12 @@
 package com.bank.paymentinitiation.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
 
 /**
  * Configuración de la aplicación.
@@ -9,7 +15,43 @@ import org.springframework.context.annotation.Configuration;
  * Los servicios de aplicación ya tienen @Service y son detectados automáticamente por Spring.
  */
 @Configuration
+@EnableConfigurationProperties(PaymentBatchProperties.class)
 public class ApplicationConfig {
-    // Configuración adicional puede agregarse aquí si es necesaria
-}
 
+    /**
+     * Generador de referencias compartido por toda la aplicación.
+     * 
+     * <p>El nodeId debe ser distinto en cada instancia desplegada para garantizar
+     * referencias únicas entre nodos (propiedad {@code payment.reference.node-id}).
+     * Solo el perfil por defecto (una única instancia de desarrollo) admite omitirlo y usa el nodo 0.
+     *
+     * @param nodeId identificador del nodo (0-1023), vacío si no está configurado
+     * @param environment entorno con los perfiles activos
+     * @return el generador de referencias
+     */
+    @Bean
+    public SnowflakeReferenceGenerator snowflakeReferenceGenerator(
+            @Value("${payment.reference.node-id:}") final String nodeId, final Environment environment) {
+        return new SnowflakeReferenceGenerator(resolveNodeId(nodeId, environment.getActiveProfiles()));
+    }
+
+    /**
+     * Resuelve el nodeId configurado.
+     *
+     * @param nodeId valor de {@code payment.reference.node-id}, vacío si no está configurado
+     * @param activeProfiles perfiles activos
+     * @return el nodeId
+     * @throws IllegalStateException si falta fuera del perfil por defecto, donde dos instancias con el
+     *         mismo nodo generarían referencias duplicadas
+     */
+    static long resolveNodeId(final String nodeId, final String... activeProfiles) {
+        if (nodeId != null && !nodeId.isBlank()) {
+            return Long.parseLong(nodeId.trim());
+        }
+        if (activeProfiles.length == 0) {
+            return 0;
+        }
+        throw new IllegalStateException("payment.reference.node-id (PAYMENT_NODE_ID) must be set for profiles "
+                + String.join(",", activeProfiles) + ": every instance needs a distinct node id (0-1023)");
+    }
+}
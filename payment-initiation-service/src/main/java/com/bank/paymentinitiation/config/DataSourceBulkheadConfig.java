@@ -0,0 +1,74 @@
+package com.bank.paymentinitiation.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank.paymentinitiation.adapter.out.persistence.jdbc.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuración del bulkhead de conexiones a base de datos.
+ * 
+ * <p>Envuelve el DataSource autoconfigurado en un ConnectionBulkheadDataSource. Con
+ * {@code spring.threads.virtual.enabled=true} las peticiones dejan de estar acotadas por el pool
+ * de hilos de Tomcat y el límite real pasa a ser el pool de conexiones: el bulkhead hace que el
+ * exceso espere en un semáforo (apto para hilos virtuales) y falle rápido, en lugar de acumularse
+ * dentro de Hikari o del driver.
+ * 
+ * <p>Solo se registra con hilos virtuales: con hilos de plataforma el pool de Tomcat ya acota la
+ * concurrencia. Se desactiva con {@code payment.datasource.bulkhead.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceBulkheadProperties.class)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "payment.datasource.bulkhead", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Envuelve cada DataSource en un ConnectionBulkheadDataSource.
+     * 
+     * <p>Es static para registrarse antes que el DataSource; las propiedades se resuelven al
+     * envolver, cuando ya están disponibles.
+     *
+     * @param properties propiedades payment.datasource.bulkhead.*
+     * @return el post-procesador que envuelve el DataSource
+     */
+    @Bean
+    public static BeanPostProcessor connectionBulkheadPostProcessor(
+            final ObjectProvider<DataSourceBulkheadProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionBulkheadDataSource) {
+                    return bean;
+                }
+                DataSourceBulkheadProperties bulkhead = properties.getObject();
+                return new ConnectionBulkheadDataSource(dataSource,
+                        maxConcurrentConnections(dataSource, bulkhead), bulkhead.acquireTimeout());
+            }
+        };
+    }
+
+    static int maxConcurrentConnections(final DataSource dataSource,
+                                        final DataSourceBulkheadProperties properties) {
+        if (properties.maxConcurrentConnections() > 0) {
+            return properties.maxConcurrentConnections();
+        }
+        // Por defecto, tantos permisos como conexiones tiene el pool
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return HIKARI_DEFAULT_POOL_SIZE;
+    }
+}
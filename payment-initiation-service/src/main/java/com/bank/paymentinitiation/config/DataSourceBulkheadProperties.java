@@ -0,0 +1,30 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del bulkhead de conexiones a base de datos ({@code payment.datasource.bulkhead.*}).
+ *
+ * @param enabled                  si el bulkhead está activo (por defecto true)
+ * @param maxConcurrentConnections conexiones prestadas a la vez; 0 usa el tamaño máximo del pool
+ * @param acquireTimeout           espera máxima por una conexión antes de fallar (por defecto 2s)
+ */
+@ConfigurationProperties(prefix = "payment.datasource.bulkhead")
+public record DataSourceBulkheadProperties(Boolean enabled, int maxConcurrentConnections, Duration acquireTimeout) {
+
+    public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(2);
+
+    public DataSourceBulkheadProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (maxConcurrentConnections < 0) {
+            maxConcurrentConnections = 0;
+        }
+        if (acquireTimeout == null || acquireTimeout.isNegative()) {
+            acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la iniciación de órdenes por lote ({@code payment.batch.*}).
+ *
+ * @param chunkSize número máximo de órdenes persistidas por transacción (por defecto 100)
+ */
+@ConfigurationProperties(prefix = "payment.batch")
+public record PaymentBatchProperties(int chunkSize) {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    public PaymentBatchProperties {
+        if (chunkSize <= 0) {
+            chunkSize = DEFAULT_CHUNK_SIZE;
+        }
+    }
+}
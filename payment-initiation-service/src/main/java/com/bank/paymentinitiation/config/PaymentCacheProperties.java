@@ -0,0 +1,42 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la caché de órdenes de pago ({@code payment.cache.*}).
+ *
+ * @param enabled     si la caché read-through está activa (por defecto true)
+ * @param maximumSize número máximo de órdenes en caché (por defecto 10000)
+ * @param ttl         tiempo de vida de cada entrada desde su escritura (por defecto 10s)
+ * @param idempotencyMaximumSize número máximo de claves de idempotencia recordadas (por defecto 100000)
+ * @param idempotencyTtl         ventana durante la que se recuerda cada clave (por defecto 24h)
+ */
+@ConfigurationProperties(prefix = "payment.cache")
+public record PaymentCacheProperties(Boolean enabled, long maximumSize, Duration ttl,
+                                     long idempotencyMaximumSize, Duration idempotencyTtl) {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+    public static final long DEFAULT_IDEMPOTENCY_MAXIMUM_SIZE = 100_000L;
+    public static final Duration DEFAULT_IDEMPOTENCY_TTL = Duration.ofHours(24);
+
+    public PaymentCacheProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (maximumSize <= 0) {
+            maximumSize = DEFAULT_MAXIMUM_SIZE;
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = DEFAULT_TTL;
+        }
+        if (idempotencyMaximumSize <= 0) {
+            idempotencyMaximumSize = DEFAULT_IDEMPOTENCY_MAXIMUM_SIZE;
+        }
+        if (idempotencyTtl == null || idempotencyTtl.isNegative() || idempotencyTtl.isZero()) {
+            idempotencyTtl = DEFAULT_IDEMPOTENCY_TTL;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.paymentinitiation.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.grpc.PaymentOrderGrpcServer;
+import com.bank.paymentinitiation.adapter.in.grpc.PaymentOrderGrpcService;
+import com.bank.paymentinitiation.adapter.in.grpc.PaymentOrderGrpcStatusWatches;
+import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.WatchPaymentOrderStatusUseCase;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración del adaptador gRPC para clientes internos de alto volumen.
+ *
+ * <p>Con {@code payment.grpc.enabled=true} arranca un servidor gRPC (HTTP/2 sobre Netty) en
+ * {@code payment.grpc.port}, independiente del servidor web, así que funciona igual en el modo
+ * servlet y en el reactivo. Sin la propiedad no se crea ningún bean.
+ *
+ * <p>Cada llamada se ejecuta en un hilo virtual: los casos de uso bloquean en JDBC y el límite de
+ * concurrencia real sigue siendo el pool de conexiones (y su bulkhead). Programa la relectura de los
+ * estados observados cada {@code payment.status-stream.heartbeat-interval}, como los streams SSE, y
+ * publica {@code payment.grpc.status-watches} en Micrometer.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@EnableConfigurationProperties(PaymentGrpcProperties.class)
+@ConditionalOnProperty(prefix = "payment.grpc", name = "enabled", havingValue = "true")
+public class PaymentGrpcConfig implements SchedulingConfigurer {
+
+    private final PaymentStatusStreamProperties statusStreamProperties;
+    private final PaymentOrderGrpcStatusWatches watches;
+
+    public PaymentGrpcConfig(final WatchPaymentOrderStatusUseCase watchPaymentOrderStatusUseCase,
+            final PaymentStatusStreamProperties statusStreamProperties, final MeterRegistry meterRegistry) {
+        this.statusStreamProperties = statusStreamProperties;
+        this.watches = new PaymentOrderGrpcStatusWatches(watchPaymentOrderStatusUseCase);
+        Gauge.builder("payment.grpc.status-watches", watches, PaymentOrderGrpcStatusWatches::size)
+                .description("Open gRPC payment order status watches")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Las llamadas WatchPaymentOrderStatus abiertas.
+     *
+     * @return el registro de llamadas
+     */
+    @Bean
+    public PaymentOrderGrpcStatusWatches paymentOrderGrpcStatusWatches() {
+        return watches;
+    }
+
+    /**
+     * El servicio PaymentOrders sobre los casos de uso de REST.
+     *
+     * @param initiatePaymentOrderUseCase       el caso de uso de iniciación
+     * @param retrievePaymentOrderUseCase       el caso de uso de consulta
+     * @param retrievePaymentOrderStatusUseCase el caso de uso de consulta de estado
+     * @param referenceGenerator                el generador de referencias
+     * @param batchProperties                   propiedades payment.batch.* (órdenes por bloque del stream)
+     * @param properties                        propiedades payment.grpc.*
+     * @param meterRegistry                     registro de métricas
+     * @return el servicio gRPC
+     */
+    @Bean
+    public PaymentOrderGrpcService paymentOrderGrpcService(
+            final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase,
+            final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase,
+            final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase,
+            final PaymentOrderReferenceGenerator referenceGenerator,
+            final PaymentBatchProperties batchProperties,
+            final PaymentGrpcProperties properties,
+            final MeterRegistry meterRegistry) {
+        return new PaymentOrderGrpcService(initiatePaymentOrderUseCase, retrievePaymentOrderUseCase,
+                retrievePaymentOrderStatusUseCase, referenceGenerator, watches, meterRegistry,
+                batchProperties.chunkSize(), properties.maxStreamOrders());
+    }
+
+    /**
+     * El servidor gRPC, que arranca y se detiene con el contexto.
+     *
+     * @param service    el servicio PaymentOrders
+     * @param properties propiedades payment.grpc.*
+     * @return el servidor
+     */
+    @Bean
+    public PaymentOrderGrpcServer paymentOrderGrpcServer(final PaymentOrderGrpcService service,
+            final PaymentGrpcProperties properties) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Server server = Grpc.newServerBuilderForPort(properties.port(), InsecureServerCredentials.create())
+                .executor(executor)
+                .maxInboundMessageSize((int) properties.maxInboundMessageSize().toBytes())
+                .keepAliveTime(properties.keepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                .addService(service)
+                .build();
+        return new PaymentOrderGrpcServer(server, executor, watches, properties.shutdownTimeout());
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(watches::refresh,
+                statusStreamProperties.heartbeatInterval(), statusStreamProperties.heartbeatInterval()));
+    }
+}
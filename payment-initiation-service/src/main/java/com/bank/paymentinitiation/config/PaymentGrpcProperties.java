@@ -0,0 +1,46 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades del adaptador gRPC ({@code payment.grpc.*}).
+ *
+ * @param enabled               si se arranca el servidor gRPC (por defecto false)
+ * @param port                  puerto del servidor; 0 elige uno libre (por defecto 9090)
+ * @param maxInboundMessageSize tamaño máximo de un mensaje recibido (por defecto 4MB)
+ * @param maxStreamOrders       órdenes por llamada de InitiatePaymentOrders; por encima la llamada
+ *                              termina con RESOURCE_EXHAUSTED (por defecto 100000)
+ * @param keepAliveTime         intervalo de los PING HTTP/2 a clientes inactivos (por defecto 30s)
+ * @param shutdownTimeout       espera a las llamadas en curso al parar la aplicación (por defecto 10s)
+ */
+@ConfigurationProperties(prefix = "payment.grpc")
+public record PaymentGrpcProperties(boolean enabled, Integer port, DataSize maxInboundMessageSize,
+                                    int maxStreamOrders, Duration keepAliveTime, Duration shutdownTimeout) {
+
+    public static final int DEFAULT_PORT = 9090;
+    public static final DataSize DEFAULT_MAX_INBOUND_MESSAGE_SIZE = DataSize.ofMegabytes(4);
+    public static final int DEFAULT_MAX_STREAM_ORDERS = 100_000;
+    public static final Duration DEFAULT_KEEP_ALIVE_TIME = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    public PaymentGrpcProperties {
+        if (port == null || port < 0) {
+            port = DEFAULT_PORT;
+        }
+        if (maxInboundMessageSize == null || maxInboundMessageSize.toBytes() <= 0) {
+            maxInboundMessageSize = DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+        }
+        if (maxStreamOrders <= 0) {
+            maxStreamOrders = DEFAULT_MAX_STREAM_ORDERS;
+        }
+        if (keepAliveTime == null || keepAliveTime.isNegative() || keepAliveTime.isZero()) {
+            keepAliveTime = DEFAULT_KEEP_ALIVE_TIME;
+        }
+        if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+            shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+        }
+    }
+}
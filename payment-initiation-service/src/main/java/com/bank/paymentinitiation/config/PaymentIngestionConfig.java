@@ -0,0 +1,89 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank.paymentinitiation.adapter.in.scheduling.PaymentOrderIngestionWriter;
+import com.bank.paymentinitiation.adapter.out.journal.FilePaymentOrderJournal;
+import com.bank.paymentinitiation.application.service.PaymentOrderIngestionService;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración de la iniciación asíncrona de órdenes de pago.
+ *
+ * <p>Con {@code payment.ingestion.enabled=true}, POST /payment-orders responde 202 en cuanto la orden
+ * está en el journal local, y PaymentOrderIngestionWriter la persiste después en micro-lotes. Sin la
+ * propiedad no se crea ningún bean y la iniciación sigue siendo síncrona (201).
+ *
+ * <p>Publica {@code payment.ingestion.backlog} (órdenes aceptadas sin persistir),
+ * {@code payment.ingestion.capacity} y {@code payment.ingestion.rejected} (órdenes aceptadas que el
+ * repositorio rechazó) en Micrometer.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PaymentIngestionProperties.class)
+@ConditionalOnProperty(prefix = "payment.ingestion", name = "enabled", havingValue = "true")
+public class PaymentIngestionConfig {
+
+    /**
+     * El journal local de órdenes aceptadas; se cierra (con un último volcado) al parar el contexto.
+     *
+     * @param properties propiedades payment.ingestion.*
+     * @return el journal
+     */
+    @Bean
+    public FilePaymentOrderJournal paymentOrderJournal(final PaymentIngestionProperties properties) {
+        return new FilePaymentOrderJournal(properties.journalDirectory(), properties.segmentSize().toBytes());
+    }
+
+    /**
+     * El caso de uso de la iniciación asíncrona, con sus métricas.
+     *
+     * @param repository                el repositorio de órdenes (con caché, si está activa)
+     * @param paymentOrderDomainService el servicio de dominio
+     * @param journal                   el journal local
+     * @param properties                propiedades payment.ingestion.*
+     * @param meterRegistry             registro de métricas
+     * @return el servicio de ingesta
+     */
+    @Bean
+    public PaymentOrderIngestionService paymentOrderIngestionService(
+            final PaymentOrderRepository repository,
+            final PaymentOrderDomainService paymentOrderDomainService,
+            final FilePaymentOrderJournal journal,
+            final PaymentIngestionProperties properties,
+            final MeterRegistry meterRegistry) {
+        PaymentOrderIngestionService service = new PaymentOrderIngestionService(repository,
+                paymentOrderDomainService, journal, properties.capacity(), properties.batchSize());
+        Gauge.builder("payment.ingestion.backlog", service, PaymentOrderIngestionService::backlog)
+                .description("Accepted payment orders not yet persisted")
+                .register(meterRegistry);
+        Gauge.builder("payment.ingestion.capacity", service, PaymentOrderIngestionService::capacity)
+                .description("Maximum accepted payment orders not yet persisted")
+                .register(meterRegistry);
+        FunctionCounter.builder("payment.ingestion.rejected", service, PaymentOrderIngestionService::rejected)
+                .description("Accepted payment orders rejected by the repository and kept for manual recovery")
+                .register(meterRegistry);
+        return service;
+    }
+
+    /**
+     * La etapa de escritura, que arranca y se detiene con el contexto.
+     *
+     * @param ingestionService el servicio de ingesta
+     * @param properties       propiedades payment.ingestion.*
+     * @return la etapa de escritura
+     */
+    @Bean
+    public PaymentOrderIngestionWriter paymentOrderIngestionWriter(
+            final PaymentOrderIngestionService ingestionService,
+            final PaymentIngestionProperties properties) {
+        return new PaymentOrderIngestionWriter(ingestionService, properties.pollTimeout(), properties.retryBackoff());
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.paymentinitiation.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades de la iniciación asíncrona de órdenes de pago ({@code payment.ingestion.*}).
+ *
+ * @param enabled          si POST /payment-orders responde 202 y encola las órdenes (por defecto false)
+ * @param capacity         órdenes aceptadas pendientes de persistir; por encima se responde 429 (por defecto 10000)
+ * @param batchSize        órdenes persistidas por micro-lote, en una transacción (por defecto 500)
+ * @param pollTimeout      espera máxima de la etapa de escritura con la cola vacía (por defecto 100ms)
+ * @param retryBackoff     pausa antes de reintentar un micro-lote que no se pudo persistir (por defecto 1s)
+ * @param journalDirectory directorio del journal local (por defecto data/ingestion-journal)
+ * @param segmentSize      tamaño a partir del cual el journal pasa a un segmento nuevo (por defecto 64MB)
+ */
+@ConfigurationProperties(prefix = "payment.ingestion")
+public record PaymentIngestionProperties(boolean enabled, int capacity, int batchSize, Duration pollTimeout,
+                                         Duration retryBackoff, Path journalDirectory, DataSize segmentSize) {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofMillis(100);
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(1);
+    public static final Path DEFAULT_JOURNAL_DIRECTORY = Path.of("data", "ingestion-journal");
+    public static final DataSize DEFAULT_SEGMENT_SIZE = DataSize.ofMegabytes(64);
+
+    public PaymentIngestionProperties {
+        if (capacity <= 0) {
+            capacity = DEFAULT_CAPACITY;
+        }
+        if (batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (pollTimeout == null || pollTimeout.isNegative() || pollTimeout.isZero()) {
+            pollTimeout = DEFAULT_POLL_TIMEOUT;
+        }
+        if (retryBackoff == null || retryBackoff.isNegative()) {
+            retryBackoff = DEFAULT_RETRY_BACKOFF;
+        }
+        if (journalDirectory == null) {
+            journalDirectory = DEFAULT_JOURNAL_DIRECTORY;
+        }
+        if (segmentSize == null || segmentSize.toBytes() <= 0) {
+            segmentSize = DEFAULT_SEGMENT_SIZE;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank.paymentinitiation.adapter.in.rest.json.PaymentOrderJsonHttpMessageConverter;
+import com.bank.paymentinitiation.adapter.in.rest.json.PaymentOrderJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Configuración de la serialización JSON de la API.
+ *
+ * <p>Spring Boot añade al ObjectMapper de la aplicación todos los beans de tipo Module, y un bean
+ * de tipo MappingJackson2HttpMessageConverter sustituye al conversor JSON que crearía por defecto.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PaymentJsonConfig {
+
+    /**
+     * Serializadores sin reflexión de los DTOs de respuesta más frecuentes.
+     *
+     * @return el módulo Jackson
+     */
+    @Bean
+    public PaymentOrderJsonModule paymentOrderJsonModule() {
+        return new PaymentOrderJsonModule();
+    }
+
+    /**
+     * Conversor JSON de Spring MVC con ObjectWriter y ObjectReader precalculados.
+     *
+     * @param objectMapper el ObjectMapper de la aplicación (ya con PaymentOrderJsonModule)
+     * @return el conversor
+     */
+    @Bean
+    public PaymentOrderJsonHttpMessageConverter paymentOrderJsonHttpMessageConverter(
+            final ObjectMapper objectMapper) {
+        return new PaymentOrderJsonHttpMessageConverter(objectMapper);
+    }
+}
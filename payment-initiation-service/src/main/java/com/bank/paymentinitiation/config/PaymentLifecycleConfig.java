@@ -0,0 +1,38 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.scheduling.PaymentOrderStatusSweepJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuración del ciclo de vida de las órdenes de pago.
+ * 
+ * <p>Programa PaymentOrderStatusSweepJob con un retardo fijo de {@code payment.lifecycle.sweep-interval}
+ * entre barridos; el primero espera también ese intervalo, para no competir con el arranque. Con
+ * {@code payment.lifecycle.sweep-enabled=false} no se programa (p. ej. si el barrido lo lanza un
+ * planificador externo o lo hace otra instancia).
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PaymentLifecycleProperties.class)
+@RequiredArgsConstructor
+public class PaymentLifecycleConfig implements SchedulingConfigurer {
+
+    private final PaymentLifecycleProperties properties;
+    private final PaymentOrderStatusSweepJob sweepJob;
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        if (properties.sweepEnabled()) {
+            registrar.addFixedDelayTask(
+                    new FixedDelayTask(sweepJob, properties.sweepInterval(), properties.sweepInterval()));
+        }
+    }
+}
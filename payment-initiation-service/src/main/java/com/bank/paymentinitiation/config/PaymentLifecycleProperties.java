@@ -0,0 +1,50 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del ciclo de vida de las órdenes de pago ({@code payment.lifecycle.*}).
+ *
+ * @param chunkSize        órdenes por sentencia UPDATE (y por transacción) en los cambios de estado
+ *                         en bloque (por defecto 500)
+ * @param sweepEnabled     si el barrido programado libera las órdenes vencidas (por defecto true)
+ * @param sweepInterval    pausa entre barridos, y retardo del primero tras el arranque (por defecto 5m)
+ * @param maxChunksPerRun  bloques como máximo por barrido (por defecto 100)
+ * @param casMaxAttempts   intentos como máximo de un cambio de estado condicionado (compare-and-set)
+ *                         antes de responder con conflicto (por defecto 3)
+ * @param casBackoff       espera base entre intentos; se duplica en cada reintento y se aplica con
+ *                         jitter (por defecto 10ms; 0 reintenta sin esperar)
+ */
+@ConfigurationProperties(prefix = "payment.lifecycle")
+public record PaymentLifecycleProperties(int chunkSize, Boolean sweepEnabled, Duration sweepInterval,
+                                         int maxChunksPerRun, int casMaxAttempts, Duration casBackoff) {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_CHUNKS_PER_RUN = 100;
+    public static final int DEFAULT_CAS_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_CAS_BACKOFF = Duration.ofMillis(10);
+
+    public PaymentLifecycleProperties {
+        if (chunkSize <= 0) {
+            chunkSize = DEFAULT_CHUNK_SIZE;
+        }
+        if (sweepEnabled == null) {
+            sweepEnabled = Boolean.TRUE;
+        }
+        if (sweepInterval == null || sweepInterval.isNegative() || sweepInterval.isZero()) {
+            sweepInterval = DEFAULT_SWEEP_INTERVAL;
+        }
+        if (maxChunksPerRun <= 0) {
+            maxChunksPerRun = DEFAULT_MAX_CHUNKS_PER_RUN;
+        }
+        if (casMaxAttempts <= 0) {
+            casMaxAttempts = DEFAULT_CAS_MAX_ATTEMPTS;
+        }
+        if (casBackoff == null || casBackoff.isNegative()) {
+            casBackoff = DEFAULT_CAS_BACKOFF;
+        }
+    }
+}
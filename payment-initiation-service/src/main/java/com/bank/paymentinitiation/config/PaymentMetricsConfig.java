@@ -0,0 +1,57 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.bank.paymentinitiation.adapter.metrics.TimedMethodInterceptor;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración de las métricas de latencia de la aplicación.
+ * 
+ * <p>Aplica TimedMethodInterceptor a los beans cuyo tipo (o una interfaz que implementan) lleva
+ * {@code @Timed}:
+ * <ul>
+ *   <li>{@code payment.use-case}: los servicios de aplicación (casos de uso)</li>
+ *   <li>{@code payment.persistence}: PaymentOrderRepositoryAdapter</li>
+ *   <li>{@code payment.mapper}: PaymentOrderRestMapper y PaymentOrderPersistenceMapper</li>
+ *   <li>{@code payment.reference.generation}: PaymentOrderReferenceGenerator</li>
+ * </ul>
+ * 
+ * <p>Todos publican histograma de percentiles, así que en {@code /actuator/prometheus} se pueden
+ * calcular p50/p95/p99 agregados entre instancias ({@code histogram_quantile}).
+ * 
+ * <p>El interceptor envuelve a los demás (transacciones incluidas), de modo que la latencia medida
+ * incluye el commit.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PaymentMetricsConfig {
+
+    /**
+     * Advisor de infraestructura con el Timer por método.
+     * 
+     * <p>Es static y recibe el registro de forma diferida para no forzar la creación temprana del
+     * MeterRegistry (perdería sus filtros y binders) al registrarse los advisors.
+     *
+     * @param meterRegistry el registro de métricas
+     * @return el advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor timedMethodAdvisor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Timed.class, true),
+                new TimedMethodInterceptor(meterRegistry::getObject));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
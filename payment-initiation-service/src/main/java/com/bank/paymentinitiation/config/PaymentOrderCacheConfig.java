@@ -0,0 +1,106 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.bank.paymentinitiation.adapter.out.cache.CachingPaymentOrderRepository;
+import com.bank.paymentinitiation.adapter.out.cache.ReferenceFilteringPaymentOrderRepository;
+import com.bank.paymentinitiation.adapter.out.persistence.PaymentOrderRepositoryAdapter;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Configuración de la caché en memoria de órdenes de pago.
+ * 
+ * <p>Registra CachingPaymentOrderRepository como implementación principal de
+ * PaymentOrderRepository, decorando al adaptador JPA. Se desactiva con
+ * {@code payment.cache.enabled=false}. Si el filtro de referencias desconocidas está activo
+ * (PaymentReferenceFilterConfig), la caché decora al filtro en lugar de al adaptador.
+ * 
+ * <p>Las métricas de la caché (hits, misses, evictions, tamaño) se publican en Micrometer
+ * con el nombre {@code cache.*} y el tag {@code cache=paymentOrders}, visibles en
+ * {@code /actuator/metrics}.
+ * 
+ * <p>Con varias instancias, un cambio hecho en otro nodo puede tardar hasta el TTL en verse;
+ * por eso el TTL por defecto es corto.
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentCacheProperties.class)
+@ConditionalOnProperty(prefix = "payment.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentOrderCacheConfig {
+
+    static final String CACHE_NAME = "paymentOrders";
+    static final String IDEMPOTENCY_CACHE_NAME = "paymentOrderIdempotencyKeys";
+
+    /**
+     * Caché de órdenes de pago por paymentOrderReference (W-TinyLFU, acotada por tamaño y TTL).
+     *
+     * @param properties    propiedades payment.cache.*
+     * @param meterRegistry registro de métricas
+     * @return la caché instrumentada
+     */
+    @Bean
+    public Cache<String, PaymentOrder> paymentOrderCache(final PaymentCacheProperties properties,
+                                                         final MeterRegistry meterRegistry) {
+        Cache<String, PaymentOrder> cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Tabla de deduplicación clave de idempotencia → paymentOrderReference.
+     * 
+     * <p>Solo guarda dos cadenas por orden, así que puede recordar muchas más claves que órdenes
+     * la caché principal. Al expirar una clave, los reintentos se resuelven con el índice único
+     * de la base de datos.
+     *
+     * @param properties    propiedades payment.cache.*
+     * @param meterRegistry registro de métricas
+     * @return la tabla instrumentada
+     */
+    @Bean
+    public Cache<String, String> paymentOrderIdempotencyCache(final PaymentCacheProperties properties,
+                                                              final MeterRegistry meterRegistry) {
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumSize(properties.idempotencyMaximumSize())
+                .expireAfterWrite(properties.idempotencyTtl())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, IDEMPOTENCY_CACHE_NAME);
+    }
+
+    /**
+     * Implementación principal de PaymentOrderRepository: la caché delante del adaptador JPA.
+     *
+     * @param persistenceAdapter           el adaptador de persistencia JPA
+     * @param referenceFilter              el filtro de referencias desconocidas delante del adaptador, si está activo
+     * @param paymentOrderCache            la caché de órdenes
+     * @param paymentOrderIdempotencyCache la tabla de claves de idempotencia
+     * @return el repositorio con caché
+     */
+    @Bean
+    @Primary
+    public PaymentOrderRepository cachingPaymentOrderRepository(
+            final PaymentOrderRepositoryAdapter persistenceAdapter,
+            final ObjectProvider<ReferenceFilteringPaymentOrderRepository> referenceFilter,
+            final Cache<String, PaymentOrder> paymentOrderCache,
+            final Cache<String, String> paymentOrderIdempotencyCache) {
+        PaymentOrderRepository delegate = referenceFilter.getIfAvailable();
+        if (delegate == null) {
+            delegate = persistenceAdapter;
+        }
+        return new CachingPaymentOrderRepository(delegate, paymentOrderCache, paymentOrderIdempotencyCache);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.scheduling.PaymentOrderEventRelayJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuración de la bandeja de salida de eventos.
+ * 
+ * <p>Programa PaymentOrderEventRelayJob con un retardo fijo de {@code payment.outbox.poll-interval}
+ * entre ejecuciones (nunca se solapan dos ejecuciones en la misma instancia). Con
+ * {@code payment.outbox.relay-enabled=false} no se programa y los eventos se acumulan hasta que
+ * otra instancia los publique.
+ * 
+ * <p>El destino de los eventos se elige con {@code payment.outbox.sink} (ver adapter.out.event).
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PaymentOutboxProperties.class)
+@RequiredArgsConstructor
+public class PaymentOutboxConfig implements SchedulingConfigurer {
+
+    private final PaymentOutboxProperties properties;
+    private final PaymentOrderEventRelayJob relayJob;
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        if (properties.relayEnabled()) {
+            registrar.addFixedDelayTask(relayJob, properties.pollInterval());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.paymentinitiation.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la bandeja de salida de eventos ({@code payment.outbox.*}).
+ *
+ * @param relayEnabled     si el relé programado drena la bandeja (por defecto true)
+ * @param pollInterval     pausa entre ejecuciones del relé (por defecto 1s)
+ * @param batchSize        eventos reclamados y publicados por transacción (por defecto 100)
+ * @param maxBatchesPerRun lotes como máximo por ejecución del relé (por defecto 50)
+ * @param sink             destino de los eventos: log, memory o file (se lee en las condiciones de los publicadores)
+ * @param filePath         fichero NDJSON del destino file (por defecto payment-order-events.ndjson)
+ */
+@ConfigurationProperties(prefix = "payment.outbox")
+public record PaymentOutboxProperties(Boolean relayEnabled, Duration pollInterval, int batchSize,
+                                      int maxBatchesPerRun, String sink, Path filePath) {
+
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_BATCHES_PER_RUN = 50;
+    public static final String DEFAULT_SINK = "log";
+    public static final Path DEFAULT_FILE_PATH = Path.of("payment-order-events.ndjson");
+
+    public PaymentOutboxProperties {
+        if (relayEnabled == null) {
+            relayEnabled = Boolean.TRUE;
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            pollInterval = DEFAULT_POLL_INTERVAL;
+        }
+        if (batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (maxBatchesPerRun <= 0) {
+            maxBatchesPerRun = DEFAULT_MAX_BATCHES_PER_RUN;
+        }
+        if (sink == null || sink.isBlank()) {
+            sink = DEFAULT_SINK;
+        }
+        if (filePath == null) {
+            filePath = DEFAULT_FILE_PATH;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la conexión R2DBC del modo reactivo ({@code payment.r2dbc.*}).
+ *
+ * <p>La URL debe apuntar a la misma base de datos que {@code spring.datasource.url}: Flyway crea el
+ * esquema por JDBC y las tareas en segundo plano siguen usando JPA.
+ *
+ * @param url            URL R2DBC (por defecto la base H2 en memoria paymentdb del perfil base)
+ * @param username       usuario (por defecto sa, el mismo que spring.datasource.username)
+ * @param password       contraseña (por defecto vacía)
+ * @param poolSize       conexiones del pool, fijo (por defecto 10)
+ * @param acquireTimeout espera máxima por una conexión libre (por defecto 3s, como Hikari)
+ */
+@ConfigurationProperties(prefix = "payment.r2dbc")
+public record PaymentR2dbcProperties(String url, String username, String password, int poolSize,
+                                     Duration acquireTimeout) {
+
+    public static final String DEFAULT_URL =
+            "r2dbc:h2:mem:///paymentdb?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    public static final String DEFAULT_USERNAME = "sa";
+    public static final int DEFAULT_POOL_SIZE = 10;
+    public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(3);
+
+    public PaymentR2dbcProperties {
+        if (url == null || url.isBlank()) {
+            url = DEFAULT_URL;
+        }
+        if (username == null || username.isBlank()) {
+            username = DEFAULT_USERNAME;
+        }
+        if (password == null) {
+            password = "";
+        }
+        if (poolSize <= 0) {
+            poolSize = DEFAULT_POOL_SIZE;
+        }
+        if (acquireTimeout == null || acquireTimeout.isNegative() || acquireTimeout.isZero()) {
+            acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+        }
+    }
+}
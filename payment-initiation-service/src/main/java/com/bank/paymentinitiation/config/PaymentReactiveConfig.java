@@ -0,0 +1,128 @@
+package com.bank.paymentinitiation.config;
+
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.adapter.out.persistence.r2dbc.R2dbcPaymentOrderRepositoryAdapter;
+import com.bank.paymentinitiation.application.service.ReactiveInitiatePaymentOrderService;
+import com.bank.paymentinitiation.application.service.ReactiveRetrievePaymentOrderService;
+import com.bank.paymentinitiation.application.service.ReactiveRetrievePaymentOrderStatusService;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Configuración del modo reactivo (perfil {@code reactive}: WebFlux sobre Netty y R2DBC).
+ *
+ * <p>Solo se carga cuando la aplicación arranca como aplicación web reactiva
+ * ({@code spring.main.web-application-type=reactive}). Crea el pool R2DBC, el adaptador
+ * R2dbcPaymentOrderRepositoryAdapter y los casos de uso reactivos que usa
+ * ReactivePaymentOrdersController.
+ *
+ * <p>El pool no se publica como bean ConnectionFactory: con uno en el contexto Spring Boot no
+ * crearía el DataSource, y Flyway, JPA y las tareas en segundo plano (relé de eventos, barrido de
+ * órdenes vencidas) lo siguen necesitando. Por lo mismo R2dbcAutoConfiguration está excluida en
+ * application.yml. La transacción reactiva usa su propio R2dbcTransactionManager, fuera del
+ * contexto, para que @Transactional siga resolviendo el gestor de JPA.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(PaymentR2dbcProperties.class)
+public class PaymentReactiveConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public PaymentReactiveConfig(final PaymentR2dbcProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build();
+        // Pool fijo, como Hikari: sin abrir conexiones bajo carga
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                        .name("payment-r2dbc")
+                        .initialSize(properties.poolSize())
+                        .maxSize(properties.poolSize())
+                        .maxAcquireTime(properties.acquireTimeout())
+                        .build());
+    }
+
+    /**
+     * Cliente R2DBC sobre el pool del modo reactivo.
+     *
+     * @return el cliente
+     */
+    @Bean
+    public DatabaseClient paymentDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Repositorio no bloqueante de órdenes de pago.
+     *
+     * @param databaseClient el cliente R2DBC
+     * @param mapper         el mapper de persistencia (compartido con el adaptador JPA)
+     * @param meterRegistry  registro de métricas
+     * @return el adaptador R2DBC
+     */
+    @Bean
+    public R2dbcPaymentOrderRepositoryAdapter r2dbcPaymentOrderRepository(final DatabaseClient databaseClient,
+            final PaymentOrderPersistenceMapper mapper, final MeterRegistry meterRegistry) {
+        TransactionalOperator transactionalOperator =
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+        return new R2dbcPaymentOrderRepositoryAdapter(databaseClient, transactionalOperator, mapper, meterRegistry);
+    }
+
+    /**
+     * Caso de uso reactivo de iniciar una orden de pago.
+     *
+     * @param repository                el repositorio no bloqueante
+     * @param paymentOrderDomainService el servicio de dominio
+     * @return el servicio
+     */
+    @Bean
+    public ReactiveInitiatePaymentOrderService reactiveInitiatePaymentOrderService(
+            final ReactivePaymentOrderRepository repository,
+            final PaymentOrderDomainService paymentOrderDomainService) {
+        return new ReactiveInitiatePaymentOrderService(repository, paymentOrderDomainService);
+    }
+
+    /**
+     * Caso de uso reactivo de consultar una orden de pago.
+     *
+     * @param repository el repositorio no bloqueante
+     * @return el servicio
+     */
+    @Bean
+    public ReactiveRetrievePaymentOrderService reactiveRetrievePaymentOrderService(
+            final ReactivePaymentOrderRepository repository) {
+        return new ReactiveRetrievePaymentOrderService(repository);
+    }
+
+    /**
+     * Caso de uso reactivo de consultar el estado de una orden de pago.
+     *
+     * @param repository el repositorio no bloqueante
+     * @return el servicio
+     */
+    @Bean
+    public ReactiveRetrievePaymentOrderStatusService reactiveRetrievePaymentOrderStatusService(
+            final ReactivePaymentOrderRepository repository) {
+        return new ReactiveRetrievePaymentOrderStatusService(repository);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+
+import com.bank.paymentinitiation.adapter.out.cache.ReferenceFilteringPaymentOrderRepository;
+import com.bank.paymentinitiation.adapter.out.cache.ScalableBloomFilter;
+import com.bank.paymentinitiation.adapter.out.persistence.PaymentOrderRepositoryAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración del filtro de referencias desconocidas.
+ * 
+ * <p>Coloca ReferenceFilteringPaymentOrderRepository entre la caché y el adaptador JPA: una
+ * referencia que no está en la caché solo llega a la base de datos si el filtro no la descarta.
+ * PaymentOrderCacheConfig lo usa como delegado cuando existe, por eso el filtro solo se activa con
+ * la caché ({@code payment.cache.enabled} y {@code payment.reference-filter.enabled}).
+ * 
+ * <p>La primera sincronización (la carga completa) se programa al arrancar y las siguientes con un
+ * retardo fijo de {@code payment.reference-filter.sync-interval}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@EnableConfigurationProperties(PaymentReferenceFilterProperties.class)
+@ConditionalOnExpression("${payment.cache.enabled:true} and ${payment.reference-filter.enabled:true}")
+public class PaymentReferenceFilterConfig {
+
+    /**
+     * El adaptador JPA detrás del filtro de referencias.
+     *
+     * @param persistenceAdapter el adaptador de persistencia JPA
+     * @param properties         propiedades payment.reference-filter.*
+     * @param meterRegistry      registro de métricas
+     * @return el repositorio filtrado
+     */
+    @Bean
+    public ReferenceFilteringPaymentOrderRepository referenceFilteringPaymentOrderRepository(
+            final PaymentOrderRepositoryAdapter persistenceAdapter,
+            final PaymentReferenceFilterProperties properties,
+            final MeterRegistry meterRegistry) {
+        ScalableBloomFilter filter = new ScalableBloomFilter(properties.expectedInsertions(),
+                properties.falsePositiveRate());
+        return new ReferenceFilteringPaymentOrderRepository(persistenceAdapter, filter, meterRegistry);
+    }
+
+    /**
+     * Programa la carga inicial y las resincronizaciones del filtro.
+     *
+     * @param repository el repositorio filtrado
+     * @param properties propiedades payment.reference-filter.*
+     * @return el configurador de la tarea
+     */
+    @Bean
+    public SchedulingConfigurer referenceFilterSynchronization(
+            final ReferenceFilteringPaymentOrderRepository repository,
+            final PaymentReferenceFilterProperties properties) {
+        return registrar -> registrar.addFixedDelayTask(
+                new FixedDelayTask(repository::synchronize, properties.syncInterval(), Duration.ZERO));
+    }
+}
@@ -0,0 +1,39 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del filtro de referencias desconocidas ({@code payment.reference-filter.*}).
+ *
+ * @param enabled            si las búsquedas por referencia pasan por el filtro (por defecto true; requiere
+ *                           la caché activa)
+ * @param expectedInsertions referencias que caben en la primera etapa del filtro antes de crecer
+ *                           (por defecto 100000)
+ * @param falsePositiveRate  tasa máxima de falsos positivos (por defecto 0.01)
+ * @param syncInterval       intervalo entre resincronizaciones con payment_orders (por defecto 30s)
+ */
+@ConfigurationProperties(prefix = "payment.reference-filter")
+public record PaymentReferenceFilterProperties(Boolean enabled, long expectedInsertions, double falsePositiveRate,
+                                               Duration syncInterval) {
+
+    public static final long DEFAULT_EXPECTED_INSERTIONS = 100_000L;
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofSeconds(30);
+
+    public PaymentReferenceFilterProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (expectedInsertions <= 0) {
+            expectedInsertions = DEFAULT_EXPECTED_INSERTIONS;
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+        }
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            syncInterval = DEFAULT_SYNC_INTERVAL;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.bank.paymentinitiation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.sse.PaymentOrderStatusStreams;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración de la observación de estados por Server-Sent Events.
+ *
+ * <p>Programa el latido de PaymentOrderStatusStreams con un retardo fijo de
+ * {@code payment.status-stream.heartbeat-interval}; cada latido relee también el estado de las
+ * órdenes observadas, así que ese intervalo es el retraso máximo de un cambio hecho en otra
+ * instancia. Publica {@code payment.status-stream.connections} en Micrometer.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PaymentStatusStreamProperties.class)
+public class PaymentStatusStreamConfig implements SchedulingConfigurer {
+
+    private final PaymentStatusStreamProperties properties;
+    private final PaymentOrderStatusStreams streams;
+
+    public PaymentStatusStreamConfig(final PaymentStatusStreamProperties properties,
+            final PaymentOrderStatusStreams streams, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.streams = streams;
+        Gauge.builder("payment.status-stream.connections", streams, PaymentOrderStatusStreams::size)
+                .description("Open payment order status streams")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(
+                streams::heartbeat, properties.heartbeatInterval(), properties.heartbeatInterval()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la observación de estados por Server-Sent Events ({@code payment.status-stream.*}).
+ *
+ * @param maxReferences     órdenes observables por conexión (por defecto 100)
+ * @param heartbeatInterval intervalo del latido de cada conexión y de la relectura de los estados
+ *                          observados (por defecto 15s)
+ * @param timeout           duración máxima de una conexión; el cliente se reconecta (por defecto 30m)
+ */
+@ConfigurationProperties(prefix = "payment.status-stream")
+public record PaymentStatusStreamProperties(int maxReferences, Duration heartbeatInterval, Duration timeout) {
+
+    public static final int DEFAULT_MAX_REFERENCES = 100;
+    public static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+
+    public PaymentStatusStreamProperties {
+        if (maxReferences <= 0) {
+            maxReferences = DEFAULT_MAX_REFERENCES;
+        }
+        if (heartbeatInterval == null || heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+            heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            timeout = DEFAULT_TIMEOUT;
+        }
+    }
+}
@@ -4,6 +4,27 @@
  * <p>Este paquete contiene las clases de configuración de Spring:
  * <ul>
  *   <li>ApplicationConfig: Configuración general de la aplicación</li>
+ *   <li>PaymentBatchProperties: Propiedades de la iniciación por lote (payment.batch.*)</li>
+ *   <li>PaymentOrderCacheConfig: Caché en memoria delante de PaymentOrderRepository</li>
+ *   <li>PaymentCacheProperties: Propiedades de la caché (payment.cache.*)</li>
+ *   <li>PaymentReferenceFilterConfig: Filtro de referencias desconocidas entre la caché y el adaptador JPA</li>
+ *   <li>PaymentReferenceFilterProperties: Propiedades del filtro (payment.reference-filter.*)</li>
+ *   <li>DataSourceBulkheadConfig: Límite de conexiones prestadas a la vez (bulkhead)</li>
+ *   <li>DataSourceBulkheadProperties: Propiedades del bulkhead (payment.datasource.bulkhead.*)</li>
+ *   <li>PaymentOutboxConfig: Programación del relé de la bandeja de salida de eventos</li>
+ *   <li>PaymentOutboxProperties: Propiedades de la bandeja de salida (payment.outbox.*)</li>
+ *   <li>PaymentLifecycleConfig: Programación del barrido de órdenes vencidas</li>
+ *   <li>PaymentLifecycleProperties: Propiedades del ciclo de vida (payment.lifecycle.*)</li>
+ *   <li>PaymentIngestionConfig: Iniciación asíncrona (cola acotada, journal y etapa de escritura)</li>
+ *   <li>PaymentIngestionProperties: Propiedades de la iniciación asíncrona (payment.ingestion.*)</li>
+ *   <li>PaymentStatusStreamConfig: Latido y relectura de los streams de estado (Server-Sent Events)</li>
+ *   <li>PaymentStatusStreamProperties: Propiedades de los streams de estado (payment.status-stream.*)</li>
+ *   <li>PaymentReactiveConfig: Modo reactivo (pool R2DBC, adaptador R2DBC y casos de uso reactivos)</li>
+ *   <li>PaymentR2dbcProperties: Propiedades de la conexión R2DBC (payment.r2dbc.*)</li>
+ *   <li>PaymentGrpcConfig: Servidor gRPC, servicio PaymentOrders y relectura de las observaciones</li>
+ *   <li>PaymentGrpcProperties: Propiedades del adaptador gRPC (payment.grpc.*)</li>
+ *   <li>PaymentJsonConfig: Serializadores JSON sin reflexión y conversor con ObjectWriter precalculados</li>
+ *   <li>PaymentMetricsConfig: Medición con Micrometer de los beans anotados con @Timed</li>
  * </ul>
  * 
  * <p>La configuración puede incluir:
@@ -0,0 +1,16 @@
+package com.bank.paymentinitiation.domain.exception;
+
+/**
+ * Excepción lanzada cuando una orden de pago nueva choca con una existente
+ * (misma paymentOrderReference o misma clave de idempotencia).
+ */
+public class DuplicatePaymentOrderException extends RuntimeException {
+
+    public DuplicatePaymentOrderException(final String message) {
+        super(message);
+    }
+
+    public DuplicatePaymentOrderException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
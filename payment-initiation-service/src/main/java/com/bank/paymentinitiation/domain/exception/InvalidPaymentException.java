@@ -2,6 +2,9 @@ package com.bank.paymentinitiation.domain.exception;
 
 /**
  * Excepción lanzada cuando una orden de pago es inválida según las reglas de negocio.
+ * 
+ * <p>Las violaciones de reglas de negocio se lanzan con {@link #withoutStackTrace(String)}: la
+ * traza no aporta nada a una respuesta 400 y capturarla es lo más caro de lanzar la excepción.
  */
 public class InvalidPaymentException extends RuntimeException {
 
@@ -12,5 +15,18 @@ public class InvalidPaymentException extends RuntimeException {
     public InvalidPaymentException(final String message, final Throwable cause) {
         super(message, cause);
     }
-}
 
+    private InvalidPaymentException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Crea la excepción sin capturar la traza de pila.
+     *
+     * @param message el mensaje
+     * @return la excepción
+     */
+    public static InvalidPaymentException withoutStackTrace(final String message) {
+        return new InvalidPaymentException(message, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.paymentinitiation.domain.exception;
+
+/**
+ * Excepción lanzada cuando los filtros o el cursor de un listado de órdenes de pago son inválidos.
+ */
+public class InvalidPaymentOrderQueryException extends RuntimeException {
+
+    public InvalidPaymentOrderQueryException(final String message) {
+        super(message);
+    }
+
+    public InvalidPaymentOrderQueryException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.paymentinitiation.domain.exception;
+
+/**
+ * Excepción lanzada cuando se pide un cambio de estado que la máquina de estados de
+ * PaymentStatus no permite desde el estado actual de la orden.
+ */
+public class InvalidPaymentStatusTransitionException extends RuntimeException {
+
+    public InvalidPaymentStatusTransitionException(final String message) {
+        super(message);
+    }
+
+    public InvalidPaymentStatusTransitionException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
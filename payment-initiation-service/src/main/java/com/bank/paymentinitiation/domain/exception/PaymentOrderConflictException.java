@@ -0,0 +1,16 @@
+package com.bank.paymentinitiation.domain.exception;
+
+/**
+ * Excepción lanzada cuando una orden de pago cambió entre su lectura y su escritura
+ * (otra escritura concurrente se adelantó) y el cambio no se pudo aplicar.
+ */
+public class PaymentOrderConflictException extends RuntimeException {
+
+    public PaymentOrderConflictException(final String message) {
+        super(message);
+    }
+
+    public PaymentOrderConflictException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
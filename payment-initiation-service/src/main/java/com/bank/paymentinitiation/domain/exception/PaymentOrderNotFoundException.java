@@ -2,15 +2,58 @@ package com.bank.paymentinitiation.domain.exception;
 
 /**
  * Excepción lanzada cuando una orden de pago no se encuentra en el repositorio.
+ * 
+ * <p>Una referencia inexistente es un resultado esperado de la consulta (y el caso habitual de
+ * los barridos de referencias automatizados), no un error del servicio. Por eso
+ * {@link #forReference(String)} crea la excepción sin traza de pila y con el mensaje construido
+ * solo cuando alguien lo lee.
  */
 public class PaymentOrderNotFoundException extends RuntimeException {
 
+    private static final String MESSAGE_PREFIX = "Payment order not found with reference: ";
+
+    private final String paymentOrderReference;
+
     public PaymentOrderNotFoundException(final String message) {
         super(message);
+        this.paymentOrderReference = null;
     }
 
     public PaymentOrderNotFoundException(final String message, final Throwable cause) {
         super(message, cause);
+        this.paymentOrderReference = null;
     }
-}
 
+    private PaymentOrderNotFoundException(final String message, final String paymentOrderReference) {
+        super(message, null, false, false); // Sin supresión ni traza de pila
+        this.paymentOrderReference = paymentOrderReference;
+    }
+
+    /**
+     * Crea la excepción para una referencia que no existe, sin capturar la traza de pila.
+     *
+     * @param paymentOrderReference la referencia buscada
+     * @return la excepción
+     */
+    public static PaymentOrderNotFoundException forReference(final String paymentOrderReference) {
+        return new PaymentOrderNotFoundException(null, paymentOrderReference);
+    }
+
+    /**
+     * Retorna la referencia buscada.
+     *
+     * @return la referencia, o null si la excepción se creó con un mensaje propio
+     */
+    public String getPaymentOrderReference() {
+        return paymentOrderReference;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        if (message == null && paymentOrderReference != null) {
+            return MESSAGE_PREFIX + paymentOrderReference;
+        }
+        return message;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bank.paymentinitiation.domain.exception;
+
+/**
+ * Excepción lanzada cuando la cola de ingesta asíncrona no admite más órdenes de pago.
+ * 
+ * <p>Es la señal de contrapresión de la iniciación asíncrona: bajo sobrecarga se lanza en cada
+ * petición rechazada, así que se crea siempre sin traza de pila.
+ */
+public class PaymentOrderQueueFullException extends RuntimeException {
+
+    private final int capacity;
+
+    public PaymentOrderQueueFullException(final int capacity) {
+        super("Payment order ingestion queue is full (capacity " + capacity + "), please retry",
+                null, false, false); // Sin supresión ni traza de pila
+        this.capacity = capacity;
+    }
+
+    /**
+     * Retorna la capacidad de la cola.
+     *
+     * @return el número máximo de órdenes pendientes de escribir
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -5,6 +5,10 @@
  * <ul>
  *   <li>PaymentOrderNotFoundException: Cuando una orden de pago no se encuentra</li>
  *   <li>InvalidPaymentException: Cuando una orden de pago es inválida</li>
+ *   <li>DuplicatePaymentOrderException: Cuando una orden nueva choca con una existente</li>
+ *   <li>InvalidPaymentOrderQueryException: Cuando los filtros o el cursor de un listado son inválidos</li>
+ *   <li>InvalidPaymentStatusTransitionException: Cuando el cambio de estado no es válido desde el estado actual</li>
+ *   <li>PaymentOrderConflictException: Cuando una escritura concurrente impide aplicar un cambio</li>
  * </ul>
  * 
  * <p>Estas excepciones son lanzadas por el dominio y manejadas por los adaptadores.
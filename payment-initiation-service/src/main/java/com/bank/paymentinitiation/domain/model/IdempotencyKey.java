@@ -0,0 +1,118 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Value object que representa la clave de idempotencia de la iniciación de una orden de pago.
+ * 
+ * <p>Dos iniciaciones con la misma clave representan la misma orden: la segunda devuelve la
+ * orden creada por la primera. La clave puede venir de dos fuentes, que se guardan en espacios
+ * de nombres distintos para que nunca colisionen entre sí:
+ * <ul>
+ *   <li>La cabecera {@code Idempotency-Key} enviada por el cliente ({@link #ofClientKey})</li>
+ *   <li>El externalReference de la orden, cuando no se envía cabecera ({@link #ofExternalReference})</li>
+ * </ul>
+ * 
+ * <p>Invariantes:
+ * <ul>
+ *   <li>La clave del cliente no puede ser nula, vacía ni superar {@value #MAX_CLIENT_KEY_LENGTH} caracteres</li>
+ * </ul>
+ */
+public final class IdempotencyKey {
+
+    public static final int MAX_CLIENT_KEY_LENGTH = 255;
+
+    private static final String CLIENT_KEY_PREFIX = "key:";
+    private static final String EXTERNAL_REFERENCE_PREFIX = "ext:";
+
+    private final String value;
+
+    private IdempotencyKey(final String value) {
+        this.value = value;
+    }
+
+    /**
+     * Crea la clave a partir de la cabecera Idempotency-Key del cliente.
+     *
+     * @param clientKey el valor de la cabecera
+     * @return la clave de idempotencia
+     */
+    public static IdempotencyKey ofClientKey(final String clientKey) {
+        if (clientKey == null || clientKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or blank");
+        }
+        if (clientKey.length() > MAX_CLIENT_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency key cannot be longer than " + MAX_CLIENT_KEY_LENGTH + " characters");
+        }
+        return new IdempotencyKey(CLIENT_KEY_PREFIX + clientKey);
+    }
+
+    /**
+     * Crea la clave a partir del externalReference de la orden.
+     *
+     * @param externalReference la referencia externa de la orden
+     * @return la clave de idempotencia
+     */
+    public static IdempotencyKey ofExternalReference(final ExternalReference externalReference) {
+        if (externalReference == null) {
+            throw new IllegalArgumentException("External reference cannot be null");
+        }
+        return new IdempotencyKey(EXTERNAL_REFERENCE_PREFIX + externalReference.getValue());
+    }
+
+    /**
+     * Reconstruye la clave a partir de su valor almacenado (ver {@link #getValue()}).
+     *
+     * @param value el valor almacenado
+     * @return la clave de idempotencia
+     */
+    public static IdempotencyKey fromValue(final String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key value cannot be null or blank");
+        }
+        return new IdempotencyKey(value);
+    }
+
+    /**
+     * Indica si la clave viene de la cabecera Idempotency-Key del cliente.
+     *
+     * @return true si la envió el cliente, false si se derivó del externalReference
+     */
+    public boolean isClientKey() {
+        return value.startsWith(CLIENT_KEY_PREFIX);
+    }
+
+    /**
+     * Valor almacenado de la clave, incluyendo el prefijo de su origen.
+     *
+     * @return el valor de la clave
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IdempotencyKey that = (IdempotencyKey) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyKey{"
+                + "value='" + value + '\''
+                + '}';
+    }
+}
@@ -24,6 +24,13 @@ import java.time.LocalDateTime;
  *   <li>createdAt no puede ser nulo (se establece en initiate())</li>
  *   <li>updatedAt no puede ser nulo (se actualiza en cada cambio de estado)</li>
  * </ul>
+ * 
+ * <p>idempotencyKey es opcional: identifica los reintentos de una misma iniciación
+ * (ver IdempotencyKey). Las órdenes iniciadas por lote no la tienen.
+ * 
+ * <p>version es la versión persistida de la orden (null hasta que se guarda). El repositorio la
+ * usa como control de concurrencia optimista: guardar una orden leída en una versión anterior
+ * a la actual falla en lugar de sobrescribir el cambio más reciente.
  */
 @Value
 @Builder(toBuilder = true)
@@ -39,6 +46,8 @@ public class PaymentOrder {
     PaymentStatus status;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
+    IdempotencyKey idempotencyKey;
+    Long version;
 
     /**
      * Inicia la orden de pago estableciendo el estado a INITIATED y la fecha de creación.
@@ -120,26 +129,13 @@ public class PaymentOrder {
         }
 
         // Estados finales no permiten cambios
-        if (this.status == PaymentStatus.COMPLETED
-                || this.status == PaymentStatus.FAILED
-                || this.status == PaymentStatus.CANCELLED) {
+        if (this.status.isFinal()) {
             throw new IllegalStateException(
                     "Cannot change status from final state: " + this.status);
         }
 
-        // Validar transiciones
-        boolean isValidTransition = switch (this.status) {
-            case INITIATED -> newStatus == PaymentStatus.PENDING
-                    || newStatus == PaymentStatus.CANCELLED;
-            case PENDING -> newStatus == PaymentStatus.PROCESSED
-                    || newStatus == PaymentStatus.FAILED
-                    || newStatus == PaymentStatus.CANCELLED;
-            case PROCESSED -> newStatus == PaymentStatus.COMPLETED
-                    || newStatus == PaymentStatus.FAILED;
-            default -> false;
-        };
-
-        if (!isValidTransition) {
+        // Validar transiciones (la máquina de estados está en PaymentStatus)
+        if (!this.status.canTransitionTo(newStatus)) {
             throw new IllegalStateException(
                     "Invalid status transition from " + this.status + " to " + newStatus);
         }
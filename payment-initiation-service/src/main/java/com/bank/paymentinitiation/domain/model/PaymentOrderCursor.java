@@ -0,0 +1,29 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * Posición dentro de un listado de órdenes de pago.
+ * 
+ * <p>El listado se ordena por (createdAt, paymentOrderReference) de forma descendente; el cursor
+ * guarda esa clave de la última orden entregada y la página siguiente empieza justo después
+ * (paginación keyset), sin desplazamientos (OFFSET) que crezcan con la página.
+ */
+@Value
+public class PaymentOrderCursor {
+
+    LocalDateTime createdAt;
+    String paymentOrderReference;
+
+    /**
+     * Crea el cursor que apunta justo después de una orden.
+     *
+     * @param order la última orden entregada
+     * @return el cursor de la página siguiente
+     */
+    public static PaymentOrderCursor after(final PaymentOrder order) {
+        return new PaymentOrderCursor(order.getCreatedAt(), order.getPaymentOrderReference());
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.paymentinitiation.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento del ciclo de vida de una orden de pago, publicado a los consumidores externos.
+ * 
+ * <p>Los eventos se registran en la misma transacción que el cambio que los origina y se
+ * publican después, al menos una vez: los consumidores deben descartar duplicados por eventId.
+ * Los eventos de una misma orden se publican en el orden en que ocurrieron, aunque haya varios
+ * relés; entre órdenes distintas no hay orden garantizado.
+ * 
+ * <p>previousStatus solo se informa en los eventos STATUS_CHANGED.
+ */
+@Value
+@Builder
+public class PaymentOrderEvent {
+
+    UUID eventId;
+    PaymentOrderEventType type;
+    String paymentOrderReference;
+    PaymentStatus status;
+    PaymentStatus previousStatus;
+    LocalDateTime occurredAt;
+
+    /**
+     * Crea el evento de una orden recién iniciada.
+     *
+     * @param order la orden iniciada (con status y createdAt establecidos)
+     * @return el evento INITIATED
+     */
+    public static PaymentOrderEvent initiated(final PaymentOrder order) {
+        return PaymentOrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .type(PaymentOrderEventType.INITIATED)
+                .paymentOrderReference(order.getPaymentOrderReference())
+                .status(order.getStatus())
+                .occurredAt(order.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Crea el evento de un cambio de estado.
+     *
+     * @param order          la orden con el nuevo estado (y updatedAt actualizado)
+     * @param previousStatus el estado anterior
+     * @return el evento STATUS_CHANGED
+     */
+    public static PaymentOrderEvent statusChanged(final PaymentOrder order, final PaymentStatus previousStatus) {
+        return PaymentOrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .type(PaymentOrderEventType.STATUS_CHANGED)
+                .paymentOrderReference(order.getPaymentOrderReference())
+                .status(order.getStatus())
+                .previousStatus(previousStatus)
+                .occurredAt(order.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Crea el evento de un cambio de estado aplicado sin cargar la orden (actualización en bloque).
+     *
+     * @param paymentOrderReference la referencia de la orden
+     * @param previousStatus        el estado anterior
+     * @param status                el nuevo estado
+     * @param changedAt             la fecha del cambio (el nuevo updatedAt de la orden)
+     * @return el evento STATUS_CHANGED
+     */
+    public static PaymentOrderEvent statusChanged(final String paymentOrderReference,
+            final PaymentStatus previousStatus, final PaymentStatus status, final LocalDateTime changedAt) {
+        return PaymentOrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .type(PaymentOrderEventType.STATUS_CHANGED)
+                .paymentOrderReference(paymentOrderReference)
+                .status(status)
+                .previousStatus(previousStatus)
+                .occurredAt(changedAt)
+                .build();
+    }
+}
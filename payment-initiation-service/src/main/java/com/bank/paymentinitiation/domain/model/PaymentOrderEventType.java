@@ -0,0 +1,14 @@
+package com.bank.paymentinitiation.domain.model;
+
+/**
+ * Tipo de un evento del ciclo de vida de una orden de pago.
+ * 
+ * <ul>
+ *   <li>INITIATED: la orden se ha creado (PaymentOrderInitiated)</li>
+ *   <li>STATUS_CHANGED: la orden ha cambiado de estado (PaymentOrderStatusChanged)</li>
+ * </ul>
+ */
+public enum PaymentOrderEventType {
+    INITIATED,
+    STATUS_CHANGED
+}
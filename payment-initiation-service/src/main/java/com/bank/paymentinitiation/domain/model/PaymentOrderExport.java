@@ -0,0 +1,24 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Exportación de órdenes de pago ya validada, pendiente de ejecutar.
+ * 
+ * <p>Separa la validación de los filtros (inmediata) de la lectura de las órdenes (diferida), de
+ * modo que un adaptador puede rechazar una exportación inválida antes de empezar a escribir la
+ * respuesta y luego recorrer las órdenes mientras las escribe.
+ */
+@FunctionalInterface
+public interface PaymentOrderExport {
+
+    /**
+     * Recorre las órdenes de la exportación, de la más antigua a la más reciente.
+     * 
+     * <p>Cada orden se entrega al consumidor a medida que se lee; ninguna se retiene después.
+     *
+     * @param sink el consumidor de cada orden
+     * @return el número de órdenes exportadas
+     */
+    long writeTo(Consumer<PaymentOrder> sink);
+}
@@ -0,0 +1,47 @@
+package com.bank.paymentinitiation.domain.model;
+
+import lombok.Value;
+
+/**
+ * Resultado de iniciar una orden de pago dentro de un lote.
+ * 
+ * <p>Cada resultado conserva la posición de la orden en el lote original para que el
+ * cliente pueda correlacionar la respuesta con su solicitud. Solo uno de
+ * {@code paymentOrder} (orden iniciada) o {@code failureReason} (motivo del fallo) tiene valor.
+ */
+@Value
+public class PaymentOrderInitiationResult {
+
+    /**
+     * Desenlace de la iniciación de una orden dentro de un lote.
+     */
+    public enum Outcome {
+        /** La orden se validó y se persistió. */
+        INITIATED,
+        /** La orden no cumple las reglas de negocio o las invariantes del agregado. */
+        REJECTED,
+        /** La orden era válida pero su bloque no se pudo persistir. */
+        FAILED
+    }
+
+    int index;
+    Outcome outcome;
+    PaymentOrder paymentOrder;
+    String failureReason;
+
+    public static PaymentOrderInitiationResult initiated(final int index, final PaymentOrder paymentOrder) {
+        return new PaymentOrderInitiationResult(index, Outcome.INITIATED, paymentOrder, null);
+    }
+
+    public static PaymentOrderInitiationResult rejected(final int index, final String failureReason) {
+        return new PaymentOrderInitiationResult(index, Outcome.REJECTED, null, failureReason);
+    }
+
+    public static PaymentOrderInitiationResult failed(final int index, final String failureReason) {
+        return new PaymentOrderInitiationResult(index, Outcome.FAILED, null, failureReason);
+    }
+
+    public boolean isInitiated() {
+        return outcome == Outcome.INITIATED;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Página de un listado de órdenes de pago.
+ * 
+ * <p>nextCursor es nulo cuando no hay más resultados.
+ */
+@Value
+public class PaymentOrderPage {
+
+    List<PaymentOrder> items;
+    PaymentOrderCursor nextCursor;
+
+    /**
+     * Indica si hay una página siguiente.
+     *
+     * @return true si nextCursor no es nulo
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filtros para listar órdenes de pago.
+ * 
+ * <p>Todos los filtros son opcionales; un filtro nulo no restringe el resultado.
+ * Los rangos de fecha de ejecución son inclusivos en ambos extremos y el rango de creación
+ * es semiabierto ({@code createdFrom <= createdAt < createdTo}).
+ */
+@Value
+@Builder
+public class PaymentOrderSearchCriteria {
+
+    PaymentStatus status;
+    PayerReference payerReference;
+    PayeeReference payeeReference;
+    LocalDate requestedExecutionDateFrom;
+    LocalDate requestedExecutionDateTo;
+    LocalDateTime createdFrom;
+    LocalDateTime createdTo;
+
+    /**
+     * Crea unos filtros vacíos (todas las órdenes).
+     *
+     * @return los filtros sin restricciones
+     */
+    public static PaymentOrderSearchCriteria none() {
+        return PaymentOrderSearchCriteria.builder().build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.bank.paymentinitiation.domain.model;
+
+import lombok.Value;
+
+/**
+ * Solicitud de cambio de estado de una orden de pago dentro de un lote.
+ */
+@Value
+public class PaymentOrderStatusChange {
+
+    String paymentOrderReference;
+    PaymentStatus targetStatus;
+}
@@ -0,0 +1,78 @@
+package com.bank.paymentinitiation.domain.model;
+
+import lombok.Value;
+
+/**
+ * Resultado de un cambio de estado dentro de un lote.
+ * 
+ * <p>Cada resultado conserva la posición del cambio en el lote original para que el cliente
+ * pueda correlacionar la respuesta con su solicitud. {@code previousStatus} y {@code status}
+ * solo tienen valor si la orden existe; {@code failureReason} solo si el cambio no se aplicó.
+ */
+@Value
+public class PaymentOrderStatusChangeResult {
+
+    /**
+     * Desenlace de un cambio de estado dentro de un lote.
+     */
+    public enum Outcome {
+        /** La orden pasó al estado solicitado. */
+        CHANGED,
+        /** La orden ya estaba en el estado solicitado. */
+        UNCHANGED,
+        /** No existe ninguna orden con esa referencia. */
+        NOT_FOUND,
+        /** La transición no es válida desde el estado actual (o la orden se repite en el lote). */
+        REJECTED,
+        /** Otra escritura cambió el estado de la orden entre la lectura y la actualización. */
+        CONFLICT,
+        /** El bloque de la orden no se pudo actualizar. */
+        FAILED
+    }
+
+    int index;
+    Outcome outcome;
+    String paymentOrderReference;
+    PaymentStatus previousStatus;
+    PaymentStatus status;
+    String failureReason;
+
+    public static PaymentOrderStatusChangeResult changed(final int index, final String paymentOrderReference,
+            final PaymentStatus previousStatus, final PaymentStatus status) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.CHANGED, paymentOrderReference,
+                previousStatus, status, null);
+    }
+
+    public static PaymentOrderStatusChangeResult unchanged(final int index, final String paymentOrderReference,
+            final PaymentStatus status) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.UNCHANGED, paymentOrderReference,
+                status, status, null);
+    }
+
+    public static PaymentOrderStatusChangeResult notFound(final int index, final String paymentOrderReference) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.NOT_FOUND, paymentOrderReference, null, null,
+                "Payment order with id " + paymentOrderReference + " was not found");
+    }
+
+    public static PaymentOrderStatusChangeResult rejected(final int index, final String paymentOrderReference,
+            final PaymentStatus status, final String failureReason) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.REJECTED, paymentOrderReference,
+                status, status, failureReason);
+    }
+
+    public static PaymentOrderStatusChangeResult conflict(final int index, final String paymentOrderReference,
+            final PaymentStatus previousStatus) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.CONFLICT, paymentOrderReference,
+                previousStatus, null, "Payment order status changed concurrently, expected " + previousStatus);
+    }
+
+    public static PaymentOrderStatusChangeResult failed(final int index, final String paymentOrderReference,
+            final PaymentStatus previousStatus, final String failureReason) {
+        return new PaymentOrderStatusChangeResult(index, Outcome.FAILED, paymentOrderReference,
+                previousStatus, previousStatus, failureReason);
+    }
+
+    public boolean isSuccessful() {
+        return outcome == Outcome.CHANGED || outcome == Outcome.UNCHANGED;
+    }
+}
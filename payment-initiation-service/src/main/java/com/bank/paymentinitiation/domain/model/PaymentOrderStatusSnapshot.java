@@ -0,0 +1,61 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * Vista de solo lectura del estado de una orden de pago.
+ * 
+ * <p>Contiene únicamente lo que necesita la consulta de estado (referencia, estado y fecha de
+ * última actualización), de modo que el repositorio puede resolverla sin cargar ni reconstruir
+ * el agregado PaymentOrder completo.
+ * 
+ * <p>version es la versión persistida de la orden, la que espera un cambio de estado condicionado
+ * (ver PaymentOrderRepository.compareAndSetStatus).
+ */
+@Value
+public class PaymentOrderStatusSnapshot {
+
+    String paymentOrderReference;
+    PaymentStatus status;
+    LocalDateTime updatedAt;
+    Long version;
+
+    /**
+     * Crea la vista de estado a partir de una orden ya cargada.
+     *
+     * @param order la orden de pago
+     * @return la vista de estado de la orden
+     */
+    public static PaymentOrderStatusSnapshot of(final PaymentOrder order) {
+        return new PaymentOrderStatusSnapshot(
+                order.getPaymentOrderReference(), order.getStatus(), order.getUpdatedAt(), order.getVersion());
+    }
+
+    /**
+     * Indica si esta vista aporta algo respecto a la última conocida de la misma orden: no es la
+     * misma ni es anterior (por versión o, sin versión, por fecha de actualización).
+     *
+     * <p>Los observadores de estado reciben la misma orden por el aviso del repositorio y por la
+     * relectura periódica; con esto descartan los duplicados y los que llegan desordenados.
+     *
+     * @param last la última vista conocida, o null si no hay ninguna
+     * @return true si la vista es más reciente que {@code last}
+     */
+    public boolean supersedes(final PaymentOrderStatusSnapshot last) {
+        if (last == null) {
+            return true;
+        }
+        if (last.getVersion() != null && version != null && version < last.getVersion()) {
+            return false;
+        }
+        if (last.getUpdatedAt() != null && updatedAt != null) {
+            if (updatedAt.isBefore(last.getUpdatedAt())) {
+                return false;
+            }
+            return !updatedAt.isEqual(last.getUpdatedAt()) || status != last.getStatus();
+        }
+        return status != last.getStatus();
+    }
+}
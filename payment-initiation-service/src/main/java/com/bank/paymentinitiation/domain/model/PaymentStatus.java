@@ -19,6 +19,37 @@ public enum PaymentStatus {
     PROCESSED,
     COMPLETED,
     FAILED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Indica si el estado es final (COMPLETED, FAILED o CANCELLED): no admite más cambios.
+     *
+     * @return true si el estado es final
+     */
+    public boolean isFinal() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+
+    /**
+     * Indica si la transición desde este estado a {@code target} es válida.
+     * 
+     * <p>Transiciones válidas:
+     * <ul>
+     *   <li>INITIATED → PENDING, CANCELLED</li>
+     *   <li>PENDING → PROCESSED, FAILED, CANCELLED</li>
+     *   <li>PROCESSED → COMPLETED, FAILED</li>
+     * </ul>
+     *
+     * @param target el estado destino
+     * @return true si la transición es válida (permanecer en el mismo estado no es una transición)
+     */
+    public boolean canTransitionTo(final PaymentStatus target) {
+        return switch (this) {
+            case INITIATED -> target == PENDING || target == CANCELLED;
+            case PENDING -> target == PROCESSED || target == FAILED || target == CANCELLED;
+            case PROCESSED -> target == COMPLETED || target == FAILED;
+            default -> false;
+        };
+    }
 }
 
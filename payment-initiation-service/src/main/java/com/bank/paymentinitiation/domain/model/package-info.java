@@ -4,7 +4,13 @@
  * <p>Este paquete contiene:
  * <ul>
  *   <li>El agregado raíz PaymentOrder</li>
- *   <li>Value objects (PaymentAmount, ExternalReference, etc.)</li>
+ *   <li>Value objects (PaymentAmount, ExternalReference, IdempotencyKey, etc.)</li>
+ *   <li>Resultados de operaciones por lote (PaymentOrderInitiationResult, PaymentOrderStatusChangeResult)</li>
+ *   <li>Cambios de estado solicitados (PaymentOrderStatusChange)</li>
+ *   <li>Vistas de solo lectura (PaymentOrderStatusSnapshot)</li>
+ *   <li>Listados paginados (PaymentOrderSearchCriteria, PaymentOrderCursor, PaymentOrderPage)</li>
+ *   <li>Exportaciones diferidas (PaymentOrderExport)</li>
+ *   <li>Eventos del ciclo de vida (PaymentOrderEvent, PaymentOrderEventType)</li>
  *   <li>Enums de dominio (PaymentStatus)</li>
  * </ul>
  * 
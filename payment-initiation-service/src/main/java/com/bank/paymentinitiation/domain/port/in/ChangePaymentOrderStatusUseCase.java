@@ -0,0 +1,54 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+/**
+ * Caso de uso: cambiar el estado de órdenes de pago según la máquina de estados de PaymentStatus.
+ * 
+ * <p>Los cambios se aplican en bloque (una actualización por bloque de órdenes con el mismo
+ * estado de origen y destino), condicionados a que la orden siga en el estado leído: si otra
+ * escritura lo cambió entre medias, la orden se reporta como conflicto en lugar de sobrescribirla.
+ */
+public interface ChangePaymentOrderStatusUseCase {
+
+    /**
+     * Cambia el estado de una orden con un compare-and-set sobre su estado y versión, reintentando
+     * con espera si otra escritura se adelanta.
+     * 
+     * <p>Si la orden ya está en el estado pedido, no hace nada y devuelve su estado actual.
+     *
+     * @param paymentOrderReference la referencia de la orden
+     * @param targetStatus          el estado destino
+     * @return el estado de la orden tras el cambio
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException si no existe
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentStatusTransitionException si la
+     *         transición no es válida desde el estado actual
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException si se agotan
+     *         los intentos
+     */
+    PaymentOrderStatusSnapshot changeStatus(String paymentOrderReference, PaymentStatus targetStatus);
+
+    /**
+     * Aplica un lote de cambios de estado.
+     * 
+     * <p>Un cambio inválido o en conflicto no impide que se apliquen los demás.
+     *
+     * @param changes los cambios solicitados
+     * @return el resultado de cada cambio, en el mismo orden que la solicitud
+     */
+    List<PaymentOrderStatusChangeResult> changeStatusAll(List<PaymentOrderStatusChange> changes);
+
+    /**
+     * Pasa a PENDING las órdenes INITIATED cuya fecha de ejecución solicitada ya llegó.
+     *
+     * @param executionDate la fecha de ejecución de referencia (normalmente hoy)
+     * @return el número de órdenes liberadas
+     */
+    int releaseDueOrders(LocalDate executionDate);
+}
@@ -0,0 +1,23 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+
+/**
+ * Caso de uso para exportar órdenes de pago.
+ * 
+ * <p>Este puerto define la operación de exportar todas las órdenes de pago creadas en un rango
+ * (p. ej. el volcado diario para conciliación), sin paginar y sin cargarlas todas en memoria.
+ */
+public interface ExportPaymentOrdersUseCase {
+
+    /**
+     * Valida los filtros y prepara la exportación; las órdenes se leen al ejecutarla.
+     *
+     * @param criteria los filtros de la exportación (el rango de creación es obligatorio)
+     * @return la exportación lista para recorrer
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException
+     *         si el rango de creación falta o está vacío
+     */
+    PaymentOrderExport export(PaymentOrderSearchCriteria criteria);
+}
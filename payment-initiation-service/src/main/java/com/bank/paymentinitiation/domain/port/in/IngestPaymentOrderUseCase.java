@@ -0,0 +1,50 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import java.time.Duration;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+
+/**
+ * Caso de uso para iniciar órdenes de pago de forma asíncrona.
+ * 
+ * <p>La orden se valida, se anota en un journal local y se encola; una etapa de escritura la
+ * persiste después en micro-lotes. El cliente recibe la referencia sin esperar a la base de datos.
+ */
+public interface IngestPaymentOrderUseCase {
+
+    /**
+     * Acepta una orden de pago para su iniciación asíncrona.
+     * 
+     * <p>Cuando retorna, la orden está validada y en disco en el journal: aunque el servicio caiga
+     * antes de persistirla, se persistirá al arrancar. Como la iniciación síncrona, es idempotente:
+     * un reintento devuelve la orden original, esté ya persistida o todavía en la cola.
+     *
+     * @param order la orden de pago a iniciar
+     * @return la orden iniciada (referencia, estado INITIATED y fechas asignadas)
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderQueueFullException
+     *         si la cola está llena
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentException
+     *         si la orden no cumple las reglas de negocio
+     */
+    PaymentOrder enqueue(PaymentOrder order);
+
+    /**
+     * Persiste las órdenes del journal que no llegaron al repositorio antes de la última parada.
+     * 
+     * <p>Debe llamarse una vez al arrancar, antes de aceptar órdenes nuevas.
+     *
+     * @return el número de órdenes recuperadas
+     */
+    int recover();
+
+    /**
+     * Persiste el siguiente micro-lote de órdenes encoladas.
+     * 
+     * <p>Si la persistencia falla, el lote se conserva y la siguiente llamada lo reintenta antes
+     * de tomar órdenes nuevas.
+     *
+     * @param maxWait la espera máxima por una orden si la cola está vacía
+     * @return el número de órdenes persistidas (0 si no llegó ninguna)
+     */
+    int drain(Duration maxWait);
+}
@@ -1,6 +1,9 @@
 package com.bank.paymentinitiation.domain.port.in;
 
+import java.util.List;
+
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
 
 /**
  * Caso de uso para iniciar una nueva orden de pago.
@@ -18,5 +21,17 @@ public interface InitiatePaymentOrderUseCase {
      * @return la orden de pago iniciada y persistida
      */
     PaymentOrder initiate(PaymentOrder order);
+
+    /**
+     * Inicia un lote de órdenes de pago.
+     * 
+     * <p>Todas las órdenes se validan en una sola pasada; las válidas se persisten por bloques,
+     * cada uno en su propia transacción. Una orden rechazada o un bloque fallido no impide
+     * que el resto del lote se inicie.
+     *
+     * @param orders las órdenes de pago a iniciar
+     * @return un resultado por orden, en el mismo orden que la lista de entrada
+     */
+    List<PaymentOrderInitiationResult> initiateAll(List<PaymentOrder> orders);
 }
 
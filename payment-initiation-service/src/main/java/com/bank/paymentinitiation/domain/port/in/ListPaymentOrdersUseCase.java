@@ -0,0 +1,26 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+
+/**
+ * Caso de uso para listar órdenes de pago.
+ * 
+ * <p>Este puerto define la operación de listar órdenes de pago filtradas, de la más reciente
+ * a la más antigua, en páginas encadenadas por cursor.
+ */
+public interface ListPaymentOrdersUseCase {
+
+    /**
+     * Lista una página de órdenes de pago.
+     *
+     * @param criteria los filtros del listado
+     * @param after el cursor de la página anterior, o null para la primera página
+     * @param limit el tamaño máximo de la página
+     * @return la página de órdenes y el cursor de la siguiente
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException
+     *         si los filtros o el tamaño de página son inválidos
+     */
+    PaymentOrderPage list(PaymentOrderSearchCriteria criteria, PaymentOrderCursor after, int limit);
+}
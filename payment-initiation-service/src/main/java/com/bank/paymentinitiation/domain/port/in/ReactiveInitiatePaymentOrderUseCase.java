@@ -0,0 +1,21 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso no bloqueante para iniciar una nueva orden de pago (modo reactivo).
+ * 
+ * <p>Mismas reglas que InitiatePaymentOrderUseCase#initiate: la iniciación es idempotente y un
+ * reintento devuelve la orden original.
+ */
+public interface ReactiveInitiatePaymentOrderUseCase {
+
+    /**
+     * Inicia una nueva orden de pago.
+     *
+     * @param order la orden de pago a iniciar
+     * @return la orden de pago iniciada y persistida (o la original, si es un reintento)
+     */
+    Mono<PaymentOrder> initiate(PaymentOrder order);
+}
@@ -0,0 +1,20 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso no bloqueante para recuperar solo el estado de una orden de pago (modo reactivo).
+ */
+public interface ReactiveRetrievePaymentOrderStatusUseCase {
+
+    /**
+     * Recupera la vista de estado (referencia, estado y última actualización) de una orden de pago.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la vista de estado; falla con
+     *         {@link com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException}
+     *         si la orden no se encuentra
+     */
+    Mono<PaymentOrderStatusSnapshot> retrieveStatusSnapshot(String paymentOrderReference);
+}
@@ -0,0 +1,20 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso no bloqueante para recuperar una orden de pago completa (modo reactivo).
+ */
+public interface ReactiveRetrievePaymentOrderUseCase {
+
+    /**
+     * Recupera una orden de pago por su referencia.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la orden de pago; falla con
+     *         {@link com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException}
+     *         si la orden no se encuentra
+     */
+    Mono<PaymentOrder> retrieve(String paymentOrderReference);
+}
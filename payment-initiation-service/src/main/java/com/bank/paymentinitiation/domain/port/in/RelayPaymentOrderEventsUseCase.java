@@ -0,0 +1,15 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+/**
+ * Caso de uso: publicar los eventos pendientes de la bandeja de salida.
+ */
+public interface RelayPaymentOrderEventsUseCase {
+
+    /**
+     * Publica los eventos pendientes por lotes hasta vaciar la bandeja (o alcanzar el máximo
+     * de lotes por ejecución).
+     *
+     * @return el número de eventos publicados
+     */
+    int relayPending();
+}
@@ -1,5 +1,6 @@
 package com.bank.paymentinitiation.domain.port.in;
 
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
 
 /**
@@ -19,5 +20,14 @@ public interface RetrievePaymentOrderStatusUseCase {
      *         si la orden no se encuentra
      */
     PaymentStatus retrieveStatus(String paymentOrderReference);
-}
 
+    /**
+     * Recupera la vista de estado (referencia, estado y última actualización) de una orden de pago.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la vista de estado de la orden de pago
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException
+     *         si la orden no se encuentra
+     */
+    PaymentOrderStatusSnapshot retrieveStatusSnapshot(String paymentOrderReference);
+}
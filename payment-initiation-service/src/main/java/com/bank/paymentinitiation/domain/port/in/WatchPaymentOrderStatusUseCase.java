@@ -0,0 +1,50 @@
+package com.bank.paymentinitiation.domain.port.in;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+
+/**
+ * Caso de uso para observar los cambios de estado de un conjunto de órdenes de pago.
+ *
+ * <p>Sustituye la consulta periódica del estado: el observador recibe el estado actual al
+ * suscribirse y, después, cada cambio. Puede recibir el mismo estado más de una vez.
+ */
+public interface WatchPaymentOrderStatusUseCase {
+
+    /**
+     * Suscribe un observador a los cambios de estado de las órdenes y retorna su estado actual.
+     *
+     * <p>El observador se invoca desde los hilos que cambian los estados: no debe bloquear.
+     *
+     * @param paymentOrderReferences las referencias de las órdenes, sin repetir
+     * @param listener               el observador
+     * @return el estado actual de cada orden, en el orden recibido
+     * @throws com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException
+     *         si no hay referencias o hay más de las permitidas por suscripción
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException
+     *         si alguna orden no existe
+     */
+    List<PaymentOrderStatusSnapshot> watch(Collection<String> paymentOrderReferences,
+            Consumer<PaymentOrderStatusSnapshot> listener);
+
+    /**
+     * Cancela la suscripción de un observador.
+     *
+     * @param paymentOrderReferences las referencias con las que se suscribió
+     * @param listener               el observador
+     */
+    void unwatch(Collection<String> paymentOrderReferences, Consumer<PaymentOrderStatusSnapshot> listener);
+
+    /**
+     * Vuelve a leer el estado de todas las órdenes observadas y lo entrega a sus observadores.
+     *
+     * <p>Recoge los cambios que no pasaron por esta instancia (otra instancia del servicio o una
+     * escritura directa en la base de datos).
+     *
+     * @return el número de órdenes leídas
+     */
+    int refresh();
+}
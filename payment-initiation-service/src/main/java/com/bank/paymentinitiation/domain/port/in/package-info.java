@@ -6,6 +6,14 @@
  *   <li>InitiatePaymentOrderUseCase: Iniciar una nueva orden de pago</li>
  *   <li>RetrievePaymentOrderUseCase: Recuperar una orden de pago completa</li>
  *   <li>RetrievePaymentOrderStatusUseCase: Recuperar solo el estado de una orden</li>
+ *   <li>ListPaymentOrdersUseCase: Listar órdenes de pago con filtros y paginación por cursor</li>
+ *   <li>ExportPaymentOrdersUseCase: Exportar las órdenes de un rango de creación</li>
+ *   <li>ChangePaymentOrderStatusUseCase: Cambiar el estado de órdenes por lote y liberar las órdenes vencidas</li>
+ *   <li>RelayPaymentOrderEventsUseCase: Publicar los eventos pendientes de la bandeja de salida</li>
+ *   <li>IngestPaymentOrderUseCase: Aceptar órdenes de forma asíncrona y persistirlas en micro-lotes</li>
+ *   <li>WatchPaymentOrderStatusUseCase: Observar los cambios de estado de un conjunto de órdenes</li>
+ *   <li>ReactiveInitiatePaymentOrderUseCase, ReactiveRetrievePaymentOrderUseCase y
+ *       ReactiveRetrievePaymentOrderStatusUseCase: Iniciar y consultar órdenes sin bloquear (modo reactivo)</li>
  * </ul>
  * 
  * <p>Estas interfaces son implementadas por los servicios de aplicación.
@@ -0,0 +1,23 @@
+package com.bank.paymentinitiation.domain.port.out;
+
+import java.util.List;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+
+/**
+ * Puerto de salida para publicar eventos de órdenes de pago a los consumidores externos
+ * (broker de mensajería, fichero, memoria...).
+ */
+public interface PaymentOrderEventPublisher {
+
+    /**
+     * Publica un lote de eventos, en el orden recibido.
+     * 
+     * <p>Si lanza una excepción, el lote completo se considera no publicado y se volverá a
+     * entregar más tarde; las implementaciones no necesitan deshacer lo ya enviado, porque
+     * la entrega es al menos una vez.
+     *
+     * @param events los eventos a publicar
+     */
+    void publish(List<PaymentOrderEvent> events);
+}
@@ -0,0 +1,68 @@
+package com.bank.paymentinitiation.domain.port.out;
+
+import java.util.List;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+
+/**
+ * Puerto de salida para el journal local de la ingesta asíncrona de órdenes de pago.
+ * 
+ * <p>El journal es un registro de solo anexado: cada orden aceptada se anexa con un número de
+ * secuencia creciente y se confirma con {@link #sync(long)} antes de responder al cliente, de modo
+ * que una orden aceptada sobrevive a una caída aunque todavía no esté en el repositorio. Cuando
+ * las órdenes ya están persistidas se marca un checkpoint y el journal puede liberar su espacio.
+ */
+public interface PaymentOrderJournal {
+
+    /**
+     * Anexa una orden al journal. La orden no es duradera hasta que se llama a {@link #sync(long)}.
+     *
+     * @param order la orden iniciada y validada
+     * @return el número de secuencia de la orden (creciente, empieza en 1)
+     */
+    long append(PaymentOrder order);
+
+    /**
+     * Vuelca a disco el journal hasta, al menos, la orden con el número de secuencia dado.
+     * 
+     * <p>Las implementaciones deben agrupar las llamadas concurrentes (group commit): un único
+     * volcado confirma todas las órdenes anexadas antes de empezar.
+     *
+     * @param sequence el número de secuencia de la orden que debe quedar en disco
+     */
+    void sync(long sequence);
+
+    /**
+     * Registra que todas las órdenes con número de secuencia menor o igual al dado están persistidas.
+     *
+     * @param sequence el número de secuencia de la última orden persistida
+     */
+    void checkpoint(long sequence);
+
+    /**
+     * Guarda aparte, y en disco antes de retornar, una orden aceptada que el repositorio rechazó.
+     *
+     * <p>Las órdenes rechazadas no vuelven a {@link #recover()} ni las borra ningún checkpoint: quedan
+     * para recuperarlas manualmente.
+     *
+     * @param entry la orden rechazada con su número de secuencia
+     */
+    void reject(Entry entry);
+
+    /**
+     * Retorna las órdenes anexadas después del último checkpoint encontrado al abrir el journal,
+     * es decir, las aceptadas que quizá no llegaron al repositorio antes de una parada.
+     *
+     * @return las entradas pendientes, en orden de secuencia
+     */
+    List<Entry> recover();
+
+    /**
+     * Una orden del journal con su número de secuencia.
+     *
+     * @param sequence el número de secuencia
+     * @param order    la orden
+     */
+    record Entry(long sequence, PaymentOrder order) {
+    }
+}
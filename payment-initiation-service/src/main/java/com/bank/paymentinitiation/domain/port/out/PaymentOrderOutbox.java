@@ -0,0 +1,25 @@
+package com.bank.paymentinitiation.domain.port.out;
+
+/**
+ * Puerto de salida para la bandeja de salida (outbox) de eventos de órdenes de pago.
+ * 
+ * <p>Los eventos se escriben en la bandeja dentro de la misma transacción que la orden
+ * (ver PaymentOrderRepository), así que nunca se publica un evento de un cambio que no se
+ * ha confirmado ni se pierde el de uno que sí. Este puerto los drena hacia un publicador.
+ */
+public interface PaymentOrderOutbox {
+
+    /**
+     * Publica el siguiente lote de eventos pendientes y los retira de la bandeja.
+     * 
+     * <p>Las implementaciones deben reclamar los eventos con un bloqueo que excluya a otros
+     * relés concurrentes, entregarlos en orden de ocurrencia y retirarlos en bloque solo si
+     * la publicación termina sin error; si falla, los eventos siguen pendientes. Ningún relé
+     * publica un evento de una orden mientras otro tenga pendiente uno anterior de esa misma orden.
+     *
+     * @param batchSize el número máximo de eventos del lote
+     * @param publisher el destino de los eventos
+     * @return el número de eventos publicados (0 si no había pendientes)
+     */
+    int publishPending(int batchSize, PaymentOrderEventPublisher publisher);
+}
@@ -1,31 +1,233 @@
 package com.bank.paymentinitiation.domain.port.out;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
 
 /**
  * Puerto de salida (repositorio) para persistir y recuperar órdenes de pago.
  * 
  * <p>Este puerto define las operaciones de persistencia del dominio,
  * sin depender de detalles de implementación (JPA, MongoDB, etc.).
+ * 
+ * <p>Las operaciones de escritura registran el evento correspondiente (ver PaymentOrderEvent)
+ * en la bandeja de salida dentro de la misma transacción que la orden; PaymentOrderOutbox
+ * se encarga después de publicarlo.
  */
 public interface PaymentOrderRepository {
 
     /**
      * Guarda una orden de pago (crea o actualiza).
+     * 
+     * <p>Si la orden es nueva registra un evento INITIATED; si ya existía y su estado cambia,
+     * un evento STATUS_CHANGED.
+     * 
+     * <p>Si la orden trae versión, la actualización solo se aplica si sigue siendo la versión
+     * persistida; si otra escritura se adelantó, falla con PaymentOrderConflictException en lugar
+     * de sobrescribirla.
      *
      * @param order la orden de pago a guardar
-     * @return la orden de pago guardada
+     * @return la orden de pago guardada, con su nueva versión
+     * @throws com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException si la versión
+     *         de la orden ya no es la persistida
      */
     PaymentOrder save(PaymentOrder order);
 
     /**
-     * Busca una orden de pago por su referencia.
+     * Inserta una orden de pago nueva.
+     * 
+     * <p>A diferencia de {@link #save(PaymentOrder)}, no comprueba si la orden ya existe:
+     * está pensado para órdenes recién iniciadas y cuesta una única sentencia (INSERT).
+     * Si la referencia o la clave de idempotencia ya existen, la restricción de unicidad de la
+     * base de datos lo rechaza.
+     * 
+     * <p>Registra el evento INITIATED de la orden en la misma transacción.
+     *
+     * @param order la orden de pago nueva
+     * @return la orden de pago insertada, con su versión inicial
+     * @throws com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException
+     *         si la orden choca con una existente
+     */
+    PaymentOrder insert(PaymentOrder order);
+
+    /**
+     * Inserta un bloque de órdenes de pago nuevas en una única transacción.
+     * 
+     * <p>Las inserciones se envían a la base de datos en lotes JDBC. Si alguna falla,
+     * no se persiste ninguna orden del bloque (ni ningún evento INITIATED).
+     *
+     * @param orders las órdenes de pago nuevas
+     * @return las órdenes de pago insertadas, con su versión inicial
+     */
+    List<PaymentOrder> insertAll(List<PaymentOrder> orders);
+
+    /**
+     * Registra una referencia alternativa de una orden existente.
+     * 
+     * <p>La iniciación asíncrona la usa cuando una orden aceptada (con su referencia ya entregada al
+     * cliente) resulta ser el reintento de otra orden persistida: {@link #findByReference} y
+     * {@link #findStatusByReference} resuelven la referencia alternativa a la orden original.
+     * Registrar dos veces el mismo alias no falla.
+     *
+     * @param aliasReference        la referencia entregada que no llegó a persistirse
+     * @param paymentOrderReference la referencia de la orden original
+     */
+    void addReferenceAlias(String aliasReference, String paymentOrderReference);
+
+    /**
+     * Busca una orden de pago por su referencia o por una referencia alternativa suya.
      *
      * @param paymentOrderReference la referencia de la orden de pago
      * @return la orden de pago encontrada, o Optional.empty() si no existe
      */
     Optional<PaymentOrder> findByReference(String paymentOrderReference);
-}
 
+    /**
+     * Busca solo el estado de una orden de pago por su referencia o por una referencia alternativa suya.
+     * 
+     * <p>Las implementaciones deben leer únicamente referencia, estado, fecha de actualización y versión,
+     * sin materializar la orden completa.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la vista de estado, o Optional.empty() si no existe
+     */
+    Optional<PaymentOrderStatusSnapshot> findStatusByReference(String paymentOrderReference);
+
+    /**
+     * Busca el estado de varias órdenes de pago con una única consulta.
+     * 
+     * <p>Como {@link #findStatusByReference(String)}, las implementaciones deben leer únicamente
+     * referencia, estado, fecha de actualización y versión. Las referencias que no existen se omiten.
+     *
+     * @param paymentOrderReferences las referencias de las órdenes de pago
+     * @return las vistas de estado encontradas, sin orden definido
+     */
+    List<PaymentOrderStatusSnapshot> findStatusesByReferences(Collection<String> paymentOrderReferences);
+
+    /**
+     * Busca las referencias de las órdenes en un estado cuya fecha de ejecución solicitada ya llegó.
+     *
+     * @param status        el estado de las órdenes
+     * @param executionDate la fecha de ejecución máxima (inclusive)
+     * @param limit         el número máximo de referencias
+     * @return como mucho {@code limit} referencias, de la fecha de ejecución más antigua a la más reciente
+     */
+    List<String> findReferencesDueForExecution(PaymentStatus status, LocalDate executionDate, int limit);
+
+    /**
+     * Cambia el estado de un bloque de órdenes sin cargarlas, solo si siguen en {@code from}.
+     * 
+     * <p>Las implementaciones deben resolverlo con una única actualización condicionada al estado
+     * de origen (control optimista: las órdenes que otra escritura ya movió no se tocan) y
+     * registrar un evento STATUS_CHANGED por cada orden cambiada, en la misma transacción.
+     * La validez de la transición la comprueba el llamante.
+     *
+     * @param from                   el estado de origen esperado
+     * @param to                     el estado destino
+     * @param paymentOrderReferences las referencias de las órdenes
+     * @param changedAt              la nueva fecha de actualización de las órdenes
+     * @return las referencias de las órdenes cambiadas
+     */
+    List<String> changeStatus(PaymentStatus from, PaymentStatus to, Collection<String> paymentOrderReferences,
+            LocalDateTime changedAt);
+
+    /**
+     * Cambia el estado de una orden solo si sigue en el estado y la versión esperados (compare-and-set).
+     * 
+     * <p>Las implementaciones deben resolverlo con una única actualización condicionada a
+     * (referencia, estado esperado, versión esperada), sin bloquear la fila, que además incremente
+     * la versión y registre el evento STATUS_CHANGED en la misma transacción. La validez de la
+     * transición la comprueba el llamante.
+     *
+     * @param paymentOrderReference la referencia de la orden
+     * @param expectedStatus        el estado leído
+     * @param expectedVersion       la versión leída
+     * @param newStatus             el estado destino
+     * @param changedAt             la nueva fecha de actualización
+     * @return true si la orden se actualizó; false si otra escritura la cambió entre medias
+     */
+    boolean compareAndSetStatus(String paymentOrderReference, PaymentStatus expectedStatus, long expectedVersion,
+            PaymentStatus newStatus, LocalDateTime changedAt);
+
+    /**
+     * Busca la orden de pago creada con una clave de idempotencia.
+     *
+     * @param idempotencyKey la clave de idempotencia
+     * @return la orden de pago encontrada, o Optional.empty() si no existe
+     */
+    Optional<PaymentOrder> findByIdempotencyKey(IdempotencyKey idempotencyKey);
+
+    /**
+     * Busca la orden de pago creada con una clave de idempotencia solo si la clave está en memoria,
+     * sin consultar la base de datos por la clave.
+     *
+     * <p>Por defecto no conoce ninguna; los decoradores con caché la resuelven desde ella.
+     *
+     * @param idempotencyKey la clave de idempotencia
+     * @return la orden de pago, o Optional.empty() si la clave no está en memoria
+     */
+    default Optional<PaymentOrder> findCachedByIdempotencyKey(final IdempotencyKey idempotencyKey) {
+        return Optional.empty();
+    }
+
+    /**
+     * Busca órdenes de pago filtradas, ordenadas por (createdAt, paymentOrderReference) descendente.
+     * 
+     * <p>Las implementaciones deben resolver la posición con una condición sobre la clave de
+     * ordenación (keyset), no con un desplazamiento, de modo que el coste de cada página no
+     * dependa de cuántas se hayan recorrido antes.
+     *
+     * @param criteria los filtros de la búsqueda
+     * @param after la posición a partir de la cual continuar (exclusive), o null desde el principio
+     * @param limit el número máximo de órdenes a devolver
+     * @return como mucho {@code limit} órdenes, en orden
+     */
+    List<PaymentOrder> search(PaymentOrderSearchCriteria criteria, PaymentOrderCursor after, int limit);
+
+    /**
+     * Recorre las órdenes de pago filtradas, ordenadas por (createdAt, paymentOrderReference) ascendente.
+     * 
+     * <p>Las implementaciones deben leer las órdenes de forma incremental y no retenerlas después de
+     * entregarlas, de modo que la memoria usada no dependa del número de órdenes recorridas.
+     *
+     * @param criteria los filtros del recorrido
+     * @param action el consumidor de cada orden
+     * @return el número de órdenes recorridas
+     */
+    long forEach(PaymentOrderSearchCriteria criteria, Consumer<PaymentOrder> action);
+
+    /**
+     * Recorre las referencias de las órdenes persistidas a partir de un instante, sin cargar las órdenes.
+     * 
+     * <p>El instante de persistencia lo fija la base de datos al insertar la orden, con su propio reloj:
+     * una orden aceptada hace tiempo e insertada ahora (p. ej. al reproducir el journal de ingesta) se
+     * recorre aunque su createdAt sea antiguo. Como {@link #forEach}, no debe retener las referencias
+     * entregadas.
+     *
+     * @param persistedFrom instante de persistencia a partir del cual recorrer (inclusive), o null para
+     *                      todas
+     * @param action el consumidor de cada referencia
+     * @return el número de referencias recorridas
+     */
+    long forEachReference(LocalDateTime persistedFrom, Consumer<String> action);
+
+    /**
+     * Busca el instante de persistencia de la última orden insertada, según el reloj de la base de datos.
+     * 
+     * <p>Sirve de marca de agua para {@link #forEachReference}: compararla con el reloj de la aplicación
+     * sería sensible a su desfase y a la zona horaria de la base de datos.
+     *
+     * @return el instante, o vacío si no hay órdenes
+     */
+    Optional<LocalDateTime> findLastPersistedAt();
+}
@@ -0,0 +1,25 @@
+package com.bank.paymentinitiation.domain.port.out;
+
+import java.util.List;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+
+/**
+ * Puerto de salida para avisar, dentro del proceso, de los cambios de estado de órdenes de pago.
+ *
+ * <p>El repositorio lo invoca después de confirmar cada cambio de estado (save, changeStatus o
+ * compareAndSetStatus). A diferencia de los eventos de la bandeja de salida, el aviso no es
+ * duradero ni sale de la instancia: sirve para que los observadores conectados a ella no tengan
+ * que consultar el estado periódicamente.
+ */
+public interface PaymentOrderStatusNotifier {
+
+    /**
+     * Avisa de los cambios de estado confirmados.
+     *
+     * <p>Se invoca en el hilo que confirmó la transacción: las implementaciones no deben bloquear.
+     *
+     * @param snapshots el nuevo estado de cada orden cambiada
+     */
+    void statusChanged(List<PaymentOrderStatusSnapshot> snapshots);
+}
@@ -0,0 +1,51 @@
+package com.bank.paymentinitiation.domain.port.out;
+
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida no bloqueante para persistir y recuperar órdenes de pago (modo reactivo).
+ * 
+ * <p>Contraparte de PaymentOrderRepository para las operaciones que usan los casos de uso
+ * reactivos: las mismas garantías (inserción con su evento INITIATED en la misma transacción,
+ * unicidad de referencia y clave de idempotencia), pero sin bloquear el hilo que las invoca.
+ * Una búsqueda sin resultado completa el Mono vacío.
+ */
+public interface ReactivePaymentOrderRepository {
+
+    /**
+     * Inserta una orden de pago nueva y registra su evento INITIATED en la misma transacción.
+     *
+     * @param order la orden de pago nueva
+     * @return la orden de pago insertada, con su versión inicial; falla con
+     *         {@link com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException}
+     *         si la orden choca con una existente
+     */
+    Mono<PaymentOrder> insert(PaymentOrder order);
+
+    /**
+     * Busca una orden de pago por su referencia de negocio.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la orden de pago, o vacío si no existe
+     */
+    Mono<PaymentOrder> findByReference(String paymentOrderReference);
+
+    /**
+     * Busca una orden de pago por su clave de idempotencia.
+     *
+     * @param idempotencyKey la clave de idempotencia
+     * @return la orden de pago, o vacío si no existe
+     */
+    Mono<PaymentOrder> findByIdempotencyKey(IdempotencyKey idempotencyKey);
+
+    /**
+     * Busca la vista de estado (referencia, estado, última actualización y versión) de una orden.
+     *
+     * @param paymentOrderReference la referencia de la orden de pago
+     * @return la vista de estado, o vacío si la orden no existe
+     */
+    Mono<PaymentOrderStatusSnapshot> findStatusByReference(String paymentOrderReference);
+}
@@ -4,9 +4,14 @@
  * <p>Este paquete contiene las interfaces que definen cómo el dominio persiste y recupera datos:
  * <ul>
  *   <li>PaymentOrderRepository: Repositorio para persistir y recuperar PaymentOrder</li>
+ *   <li>ReactivePaymentOrderRepository: Contraparte no bloqueante de PaymentOrderRepository (modo reactivo)</li>
+ *   <li>PaymentOrderOutbox: Bandeja de salida de eventos, escrita junto con las órdenes</li>
+ *   <li>PaymentOrderEventPublisher: Destino al que se publican los eventos</li>
+ *   <li>PaymentOrderJournal: Journal local de las órdenes aceptadas y aún no persistidas</li>
+ *   <li>PaymentOrderStatusNotifier: Aviso en proceso de cada cambio de estado confirmado</li>
  * </ul>
  * 
- * <p>Estas interfaces son implementadas por los adaptadores de persistencia.
+ * <p>Estas interfaces son implementadas por los adaptadores de persistencia y de eventos.
  */
 package com.bank.paymentinitiation.domain.port.out;
 
@@ -20,21 +20,22 @@ import com.bank.paymentinitiation.domain.model.PaymentOrder;
 @Component
 public class PaymentOrderDomainService {
 
+    private final SnowflakeReferenceGenerator referenceGenerator;
+
+    public PaymentOrderDomainService(final SnowflakeReferenceGenerator referenceGenerator) {
+        this.referenceGenerator = referenceGenerator;
+    }
+
     /**
      * Genera una referencia única para una orden de pago.
      * 
-     * <p>El formato es "PO-{número}" donde el número es generado
-     * usando timestamp y número aleatorio para garantizar unicidad.
+     * <p>El formato es "PO-{número}" donde el número es un identificador
+     * Snowflake (timestamp + nodo + secuencia) único por nodo.
      *
      * @return una referencia única en formato "PO-{número}"
      */
     public String generateReference() {
-        // Genera un identificador numérico usando timestamp (últimos 10 dígitos) + aleatorio (6 dígitos)
-        // Esto asegura unicidad mientras cumple el patrón ^PO-[0-9]+$
-        long timestamp = System.currentTimeMillis();
-        long random = (long) (Math.random() * 1000000); // 6 dígitos
-        String numericId = String.format("%010d%06d", timestamp % 10000000000L, random);
-        return "PO-" + numericId;
+        return referenceGenerator.nextReference();
     }
 
     /**
@@ -58,7 +59,7 @@ public class PaymentOrderDomainService {
         // Validar que la fecha de ejecución solicitada no esté en el pasado
         LocalDate requestedDate = order.getRequestedExecutionDate();
         if (requestedDate != null && requestedDate.isBefore(LocalDate.now())) {
-            throw new InvalidPaymentException(
+            throw InvalidPaymentException.withoutStackTrace(
                     "Requested execution date cannot be in the past: " + requestedDate);
         }
     }
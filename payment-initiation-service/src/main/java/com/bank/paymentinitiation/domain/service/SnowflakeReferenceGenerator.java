@@ -0,0 +1,145 @@
+package com.bank.paymentinitiation.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generador de referencias "PO-{número}" de estilo Snowflake, sin bloqueos.
+ * 
+ * <p>El número es un entero de 63 bits compuesto por:
+ * <ul>
+ *   <li>41 bits: milisegundos desde {@link #EPOCH} (cubre ~69 años)</li>
+ *   <li>10 bits: identificador de nodo (0-1023)</li>
+ *   <li>12 bits: secuencia dentro del milisegundo (4096 referencias/ms por nodo)</li>
+ * </ul>
+ * 
+ * <p>El último timestamp y la secuencia se guardan empaquetados en un único {@link AtomicLong}
+ * que se avanza con CAS, de modo que el generador es thread-safe sin locks. Si la secuencia
+ * se agota dentro de un milisegundo, o si el reloj retrocede, el generador sigue avanzando
+ * sobre su propio reloj lógico en lugar de esperar: las referencias son siempre
+ * estrictamente crecientes y únicas por nodo.
+ * 
+ * <p>El número se renderiza directamente en un buffer de tamaño fijo, sin {@code String.format}
+ * ni objetos intermedios. El resultado cumple el patrón del OpenAPI {@code ^PO-[0-9]+$}.
+ */
+public final class SnowflakeReferenceGenerator {
+
+    /**
+     * Época propia del generador (2025-01-01T00:00:00Z).
+     */
+    public static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String PREFIX = "PO-";
+    private static final int MAX_LENGTH = PREFIX.length() + 19; // Long.MAX_VALUE tiene 19 dígitos
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Crea un generador para el nodo indicado usando el reloj del sistema.
+     *
+     * @param nodeId identificador del nodo (0-1023), único por instancia desplegada
+     * @throws IllegalArgumentException si el nodeId está fuera de rango
+     */
+    public SnowflakeReferenceGenerator(final long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeReferenceGenerator(final long nodeId, final LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * Genera una referencia única en formato "PO-{número}".
+     *
+     * @return una referencia que cumple el patrón ^PO-[0-9]+$
+     */
+    public String nextReference() {
+        return render(nextId());
+    }
+
+    /**
+     * Genera el siguiente identificador numérico.
+     *
+     * @return un identificador positivo, único y creciente para este nodo
+     */
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long next;
+            if (now > lastTimestamp) {
+                // Nuevo milisegundo: la secuencia vuelve a 0
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                // Mismo milisegundo (o reloj atrasado): siguiente secuencia
+                next = current + 1;
+            } else {
+                // Secuencia agotada: se toma prestado el siguiente milisegundo lógico
+                next = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * Retorna el instante en que se generó una referencia "PO-{número}".
+     *
+     * <p>Las referencias anteriores a este generador también son numéricas: su instante sale
+     * anterior a {@link #EPOCH} o sin sentido, pero nunca en el futuro cercano.
+     *
+     * @param reference la referencia
+     * @return milisegundos desde 1970-01-01T00:00:00Z, o -1 si no tiene el formato "PO-{número}"
+     */
+    public static long timestampOf(final String reference) {
+        if (reference == null || !reference.startsWith(PREFIX) || reference.length() > MAX_LENGTH
+                || reference.length() == PREFIX.length()) {
+            return -1;
+        }
+        for (int i = PREFIX.length(); i < reference.length(); i++) {
+            if (reference.charAt(i) < '0' || reference.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        try {
+            long id = Long.parseLong(reference, PREFIX.length(), reference.length(), 10);
+            return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+        } catch (NumberFormatException ex) {
+            return -1; // Más de Long.MAX_VALUE
+        }
+    }
+
+    static String render(final long id) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        int position = MAX_LENGTH;
+        long remaining = id;
+        do {
+            buffer[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        for (int i = PREFIX.length() - 1; i >= 0; i--) {
+            buffer[--position] = (byte) PREFIX.charAt(i);
+        }
+        return new String(buffer, position, MAX_LENGTH - position, StandardCharsets.ISO_8859_1);
+    }
+}
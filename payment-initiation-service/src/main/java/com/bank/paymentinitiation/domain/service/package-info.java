@@ -6,6 +6,7 @@
  * <ul>
  *   <li>PaymentOrderDomainService: Servicios de dominio para PaymentOrder
  *       (validaciones, generación de referencias, etc.)</li>
+ *   <li>SnowflakeReferenceGenerator: Generador lock-free de referencias "PO-{número}"</li>
  * </ul>
  * 
  * <p>Los servicios de dominio operan sobre agregados y value objects del dominio.
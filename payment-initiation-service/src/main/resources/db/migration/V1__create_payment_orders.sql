@@ -0,0 +1,33 @@
+-- Órdenes de pago (PaymentOrderEntity).
+-- SQL común a H2 y PostgreSQL: UUID, NUMERIC y TIMESTAMP(6) existen en ambos con el mismo significado.
+
+CREATE TABLE payment_orders (
+    id                       UUID           NOT NULL,
+    payment_order_reference  VARCHAR(100)   NOT NULL,
+    external_reference       VARCHAR(100)   NOT NULL,
+    payer_reference          VARCHAR(100)   NOT NULL,
+    payee_reference          VARCHAR(100)   NOT NULL,
+    amount                   NUMERIC(19, 2) NOT NULL,
+    currency                 VARCHAR(3)     NOT NULL,
+    remittance_information   VARCHAR(500),
+    requested_execution_date DATE           NOT NULL,
+    status                   VARCHAR(20)    NOT NULL,
+    created_at               TIMESTAMP(6)   NOT NULL,
+    updated_at               TIMESTAMP(6)   NOT NULL,
+    idempotency_key          VARCHAR(300),
+    version                  BIGINT         NOT NULL,
+    CONSTRAINT pk_payment_orders PRIMARY KEY (id),
+    CONSTRAINT uk_payment_orders_reference UNIQUE (payment_order_reference),
+    CONSTRAINT uk_payment_orders_idempotency_key UNIQUE (idempotency_key)
+);
+
+-- Listado paginado por keyset: (created_at, payment_order_reference) con y sin filtro de igualdad
+CREATE INDEX idx_payment_orders_created ON payment_orders (created_at, payment_order_reference);
+CREATE INDEX idx_payment_orders_status_created ON payment_orders (status, created_at, payment_order_reference);
+CREATE INDEX idx_payment_orders_payer_created ON payment_orders (payer_reference, created_at, payment_order_reference);
+CREATE INDEX idx_payment_orders_payee_created ON payment_orders (payee_reference, created_at, payment_order_reference);
+
+-- Filtro por fecha de ejecución y barrido de órdenes vencidas
+CREATE INDEX idx_payment_orders_execution_date ON payment_orders (requested_execution_date);
+CREATE INDEX idx_payment_orders_status_execution_date
+    ON payment_orders (status, requested_execution_date, payment_order_reference);
@@ -0,0 +1,14 @@
+-- Bandeja de salida de eventos (PaymentOrderEventEntity): solo contiene eventos pendientes de publicar.
+
+CREATE TABLE payment_order_outbox (
+    id                      UUID         NOT NULL,
+    event_type              VARCHAR(30)  NOT NULL,
+    payment_order_reference VARCHAR(100) NOT NULL,
+    status                  VARCHAR(20)  NOT NULL,
+    previous_status         VARCHAR(20),
+    occurred_at             TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_payment_order_outbox PRIMARY KEY (id)
+);
+
+-- Orden en el que el relé reclama los eventos
+CREATE INDEX idx_payment_order_outbox_occurred ON payment_order_outbox (occurred_at, id);
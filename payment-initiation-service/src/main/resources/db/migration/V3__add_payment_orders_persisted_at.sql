@@ -0,0 +1,10 @@
+-- Instante en que la base de datos insertó la orden (LOCALTIMESTAMP, del reloj de la base de datos).
+-- A diferencia de created_at, que fija la aplicación al aceptar la orden, sigue el orden de inserción aunque
+-- la orden se persista mucho después (reproducción del journal, reintentos): el filtro de referencias se
+-- resincroniza por esta columna. Las filas existentes toman el instante de la migración.
+-- LOCALTIMESTAMP existe en H2 y PostgreSQL y devuelve TIMESTAMP sin zona, como created_at.
+
+ALTER TABLE payment_orders ADD COLUMN persisted_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+
+-- Resincronización incremental del filtro de referencias y su marca de agua (MAX), solo con el índice
+CREATE INDEX idx_payment_orders_persisted ON payment_orders (persisted_at, payment_order_reference);
@@ -0,0 +1,15 @@
+-- Referencias alternativas de una orden (PaymentOrderReferenceAliasEntity).
+-- La iniciación asíncrona responde 202 con una referencia antes de persistir la orden; si al persistirla
+-- su clave de idempotencia ya pertenece a otra orden (el mismo reintento aceptado en otra instancia), la
+-- referencia entregada se registra aquí y las consultas por referencia la resuelven a la orden original.
+
+CREATE TABLE payment_order_reference_aliases (
+    alias_reference         VARCHAR(100) NOT NULL,
+    payment_order_reference VARCHAR(100) NOT NULL,
+    persisted_at            TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL,
+    CONSTRAINT pk_payment_order_reference_aliases PRIMARY KEY (alias_reference)
+);
+
+-- Resincronización incremental del filtro de referencias, como idx_payment_orders_persisted
+CREATE INDEX idx_payment_order_reference_aliases_persisted
+    ON payment_order_reference_aliases (persisted_at, alias_reference);
@@ -0,0 +1,2 @@
+-- El relé reclama por orden de pago: localiza el evento pendiente más antiguo de cada orden
+CREATE INDEX idx_payment_order_outbox_order ON payment_order_outbox (payment_order_reference, occurred_at, id);
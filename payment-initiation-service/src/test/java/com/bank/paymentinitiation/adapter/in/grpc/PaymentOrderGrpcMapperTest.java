@@ -0,0 +1,120 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.grpc.BatchPaymentOrderResult;
+import com.bank.paymentinitiation.generated.grpc.CreditorAccount;
+import com.bank.paymentinitiation.generated.grpc.DebtorAccount;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentOrderGrpcMapper Tests")
+class PaymentOrderGrpcMapperTest {
+
+    private static InitiatePaymentOrderRequest.Builder request() {
+        return InitiatePaymentOrderRequest.newBuilder()
+                .setExternalReference("EXT-1")
+                .setDebtorAccount(DebtorAccount.newBuilder().setIban("EC123456789012345678"))
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban("EC987654321098765432"))
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("150.75").setCurrency("USD"))
+                .setRequestedExecutionDate("2025-12-31");
+    }
+
+    @Test
+    @DisplayName("Should map a request to the domain, keying retries by external reference by default")
+    void shouldMapRequestToDomain() {
+        // Act
+        PaymentOrder order = PaymentOrderGrpcMapper.toDomain(request().build(), "PO-1");
+
+        // Assert
+        assertThat(order.getPaymentOrderReference()).isEqualTo("PO-1");
+        assertThat(order.getExternalReference()).isEqualTo(new ExternalReference("EXT-1"));
+        assertThat(order.getPayerReference()).isEqualTo(new PayerReference("EC123456789012345678"));
+        assertThat(order.getPayeeReference()).isEqualTo(new PayeeReference("EC987654321098765432"));
+        assertThat(order.getInstructedAmount()).isEqualTo(PaymentAmount.of(new BigDecimal("150.75"), "USD"));
+        assertThat(order.getRemittanceInformation()).isNull();
+        assertThat(order.getRequestedExecutionDate()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(order.getIdempotencyKey()).isNull();
+        assertThat(PaymentOrderGrpcMapper.toDomain(request().setIdempotencyKey("key-1").build(), "PO-1")
+                .getIdempotencyKey()).isEqualTo(IdempotencyKey.ofClientKey("key-1"));
+    }
+
+    @Test
+    @DisplayName("Should reject requests that break the openapi.yaml constraints")
+    void shouldRejectInvalidRequests() {
+        // Act & Assert
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request().setExternalReference(" ").build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("external_reference");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request()
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban("EC98")).build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("creditor_account.iban");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request()
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("1,5").setCurrency("USD")).build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("instructed_amount.amount");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request()
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("0.001").setCurrency("USD")).build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("greater than or equal to 0.01");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request()
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("150.75").setCurrency("XYZ")).build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("unsupported currency 'XYZ'");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request()
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("150.75").setCurrency("123")).build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("instructed_amount.currency");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request().setRemittanceInformation("x".repeat(501))
+                .build(), "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("remittance_information");
+        assertThatThrownBy(() -> PaymentOrderGrpcMapper.toDomain(request().clearRequestedExecutionDate().build(),
+                "PO-1"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("requested_execution_date");
+    }
+
+    @Test
+    @DisplayName("Should map an order and a rejected batch result to protobuf")
+    void shouldMapDomainToProtobuf() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 30, 16, 25, 30, 123_000_000);
+        PaymentOrder order = PaymentOrderGrpcMapper.toDomain(request().build(), "PO-1").toBuilder()
+                .status(PaymentStatus.PENDING)
+                .updatedAt(updatedAt)
+                .build();
+
+        // Act
+        RetrievePaymentOrderResponse response = PaymentOrderGrpcMapper.toRetrieveResponse(order);
+        BatchPaymentOrderResult rejected = PaymentOrderGrpcMapper.toBatchResult(7,
+                PaymentOrderInitiationResult.rejected(0, "Invalid amount"));
+
+        // Assert
+        assertThat(response.getPaymentOrderId()).isEqualTo("PO-1");
+        assertThat(response.getInstructedAmount().getAmount()).isEqualTo("150.75");
+        assertThat(response.getStatus()).isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.PENDING);
+        assertThat(response.getRequestedExecutionDate()).isEqualTo("2025-12-31");
+        assertThat(response.getRemittanceInformation()).isEmpty();
+        assertThat(response.getLastUpdate().getSeconds()).isEqualTo(updatedAt.toEpochSecond(ZoneOffset.UTC));
+        assertThat(response.getLastUpdate().getNanos()).isEqualTo(123_000_000);
+        assertThat(rejected.getIndex()).isEqualTo(7);
+        assertThat(rejected.getError().getStatus()).isEqualTo(400);
+        assertThat(rejected.getError().getDetail()).isEqualTo("Invalid amount");
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.generated.grpc.CreditorAccount;
+import com.bank.paymentinitiation.generated.grpc.DebtorAccount;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrdersResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentAmount;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrdersGrpc;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.grpc.WatchPaymentOrderStatusRequest;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:grpctest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.grpc.enabled=true",
+        "payment.grpc.port=0"})
+@DisplayName("PaymentOrderGrpcServer Tests")
+class PaymentOrderGrpcServerTest {
+
+    @Autowired
+    private PaymentOrderGrpcServer server;
+
+    @Autowired
+    private PaymentOrderGrpcStatusWatches watches;
+
+    @Autowired
+    private ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
+
+    private ManagedChannel channel;
+    private PaymentOrdersGrpc.PaymentOrdersBlockingStub blockingStub;
+
+    @BeforeEach
+    void setUp() {
+        channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+        blockingStub = PaymentOrdersGrpc.newBlockingStub(channel).withDeadlineAfter(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    private static InitiatePaymentOrderRequest request(final String externalReference) {
+        return InitiatePaymentOrderRequest.newBuilder()
+                .setExternalReference(externalReference)
+                .setDebtorAccount(DebtorAccount.newBuilder().setIban("EC123456789012345678"))
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban("EC987654321098765432"))
+                .setInstructedAmount(PaymentAmount.newBuilder().setAmount("150.75").setCurrency("USD"))
+                .setRemittanceInformation("Factura gRPC")
+                .setRequestedExecutionDate(LocalDate.now().plusDays(1).toString())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should initiate a payment order and retrieve it and its status over gRPC")
+    void shouldInitiateAndRetrieve() {
+        // Act
+        InitiatePaymentOrderResponse created = blockingStub.initiatePaymentOrder(request("EXT-GRPC-1"));
+        InitiatePaymentOrderResponse retried = blockingStub.initiatePaymentOrder(request("EXT-GRPC-1"));
+        RetrievePaymentOrderResponse order = blockingStub.retrievePaymentOrder(
+                RetrievePaymentOrderRequest.newBuilder().setPaymentOrderId(created.getPaymentOrderId()).build());
+        PaymentOrderStatusResponse status = blockingStub.retrievePaymentOrderStatus(
+                RetrievePaymentOrderStatusRequest.newBuilder().setPaymentOrderId(created.getPaymentOrderId()).build());
+
+        // Assert
+        assertThat(created.getPaymentOrderId()).matches("^PO-[0-9]+$");
+        assertThat(retried.getPaymentOrderId()).isEqualTo(created.getPaymentOrderId());
+        assertThat(order.getExternalReference()).isEqualTo("EXT-GRPC-1");
+        assertThat(order.getInstructedAmount().getAmount()).isEqualTo("150.75");
+        assertThat(order.getLastUpdate().getSeconds()).isPositive();
+        assertThat(status.getStatus()).isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.INITIATED);
+        assertThatThrownBy(() -> blockingStub.retrievePaymentOrder(
+                RetrievePaymentOrderRequest.newBuilder().setPaymentOrderId("PO-404").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        ex -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should persist the payment orders of a client stream")
+    void shouldInitiateClientStream() throws Exception {
+        // Arrange
+        CompletableFuture<InitiatePaymentOrdersResponse> response = new CompletableFuture<>();
+        StreamObserver<InitiatePaymentOrderRequest> requests = PaymentOrdersGrpc.newStub(channel)
+                .initiatePaymentOrders(new StreamObserver<>() {
+                    @Override
+                    public void onNext(final InitiatePaymentOrdersResponse value) {
+                        response.complete(value);
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        response.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        // La respuesta llega en onNext
+                    }
+                });
+
+        // Act
+        for (int i = 0; i < 250; i++) {
+            requests.onNext(request("EXT-GRPC-STREAM-" + i));
+        }
+        requests.onCompleted();
+
+        // Assert
+        InitiatePaymentOrdersResponse result = response.get(30, TimeUnit.SECONDS);
+        assertThat(result.getSucceeded()).isEqualTo(250);
+        assertThat(result.getFailed()).isZero();
+        String lastId = result.getResults(249).getPaymentOrderId();
+        assertThat(blockingStub.retrievePaymentOrderStatus(
+                RetrievePaymentOrderStatusRequest.newBuilder().setPaymentOrderId(lastId).build()).getStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.INITIATED);
+    }
+
+    @Test
+    @DisplayName("Should stream the current status and its changes until the order is final")
+    void shouldWatchStatusUntilFinal() {
+        // Arrange
+        String paymentOrderId = blockingStub.initiatePaymentOrder(request("EXT-GRPC-WATCH")).getPaymentOrderId();
+
+        // Act
+        Iterator<PaymentOrderStatusResponse> events = blockingStub.watchPaymentOrderStatus(
+                WatchPaymentOrderStatusRequest.newBuilder().addPaymentOrderIds(paymentOrderId).build());
+        PaymentOrderStatusResponse first = events.next();
+        changePaymentOrderStatusUseCase.changeStatus(paymentOrderId, PaymentStatus.CANCELLED);
+        PaymentOrderStatusResponse second = events.next();
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.INITIATED);
+        assertThat(second.getStatus()).isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.CANCELLED);
+        assertThat(events.hasNext()).isFalse();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> watches.size() == 0);
+        assertThatThrownBy(() -> blockingStub.watchPaymentOrderStatus(
+                WatchPaymentOrderStatusRequest.newBuilder().addAllPaymentOrderIds(List.of("PO-404")).build()).next())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        ex -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+}
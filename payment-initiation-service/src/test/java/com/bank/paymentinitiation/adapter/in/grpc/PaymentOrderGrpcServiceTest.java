@@ -0,0 +1,267 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.WatchPaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.generated.grpc.CreditorAccount;
+import com.bank.paymentinitiation.generated.grpc.DebtorAccount;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.grpc.InitiatePaymentOrdersResponse;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrdersGrpc;
+import com.bank.paymentinitiation.generated.grpc.RetrievePaymentOrderRequest;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderGrpcService Tests")
+class PaymentOrderGrpcServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_STREAM_ORDERS = 5;
+
+    @Mock
+    private InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+
+    @Mock
+    private RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+
+    @Mock
+    private RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+
+    @Mock
+    private WatchPaymentOrderStatusUseCase watchPaymentOrderStatusUseCase;
+
+    @Mock
+    private PaymentOrderReferenceGenerator referenceGenerator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new PaymentOrderGrpcService(initiatePaymentOrderUseCase, retrievePaymentOrderUseCase,
+                        retrievePaymentOrderStatusUseCase, referenceGenerator,
+                        new PaymentOrderGrpcStatusWatches(watchPaymentOrderStatusUseCase), meterRegistry,
+                        CHUNK_SIZE, MAX_STREAM_ORDERS))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static InitiatePaymentOrderRequest request(final String externalReference) {
+        return InitiatePaymentOrderRequest.newBuilder()
+                .setExternalReference(externalReference)
+                .setDebtorAccount(DebtorAccount.newBuilder().setIban("EC123456789012345678"))
+                .setCreditorAccount(CreditorAccount.newBuilder().setIban("EC987654321098765432"))
+                .setInstructedAmount(com.bank.paymentinitiation.generated.grpc.PaymentAmount.newBuilder()
+                        .setAmount("150.75").setCurrency("USD"))
+                .setRemittanceInformation("Factura gRPC")
+                .setRequestedExecutionDate(LocalDate.now().plusDays(1).toString())
+                .build();
+    }
+
+    private static PaymentOrder initiated(final String reference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should initiate a payment order with the client idempotency key")
+    void shouldInitiatePaymentOrder() {
+        // Arrange
+        when(referenceGenerator.generate()).thenReturn("PO-1");
+        when(initiatePaymentOrderUseCase.initiate(any(PaymentOrder.class))).thenReturn(initiated("PO-1"));
+
+        // Act
+        InitiatePaymentOrderResponse response = PaymentOrdersGrpc.newBlockingStub(channel)
+                .initiatePaymentOrder(request("EXT-1").toBuilder().setIdempotencyKey("key-1").build());
+
+        // Assert
+        assertThat(response.getPaymentOrderId()).isEqualTo("PO-1");
+        assertThat(response.getStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.INITIATED);
+        ArgumentCaptor<PaymentOrder> order = ArgumentCaptor.forClass(PaymentOrder.class);
+        verify(initiatePaymentOrderUseCase).initiate(order.capture());
+        assertThat(order.getValue().getPaymentOrderReference()).isEqualTo("PO-1");
+        assertThat(order.getValue().getIdempotencyKey()).isEqualTo(IdempotencyKey.ofClientKey("key-1"));
+        assertThat(order.getValue().getInstructedAmount().getValue()).isEqualByComparingTo("150.75");
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid request with INVALID_ARGUMENT without calling the use case")
+    void shouldRejectInvalidRequest() {
+        // Arrange
+        InitiatePaymentOrderRequest invalid = request("EXT-1").toBuilder().clearDebtorAccount().build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> PaymentOrdersGrpc.newBlockingStub(channel).initiatePaymentOrder(invalid))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(ex.getStatus().getDescription()).contains("debtor_account.iban");
+                });
+        verify(initiatePaymentOrderUseCase, never()).initiate(any(PaymentOrder.class));
+        assertThat(meterRegistry.counter(PaymentOrderGrpcErrors.ERROR_COUNTER,
+                "exception", "IllegalArgumentException", "code", "INVALID_ARGUMENT").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should answer NOT_FOUND for an unknown payment order")
+    void shouldAnswerNotFound() {
+        // Arrange
+        when(retrievePaymentOrderUseCase.retrieve("PO-404"))
+                .thenThrow(PaymentOrderNotFoundException.forReference("PO-404"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> PaymentOrdersGrpc.newBlockingStub(channel)
+                .retrievePaymentOrder(RetrievePaymentOrderRequest.newBuilder().setPaymentOrderId("PO-404").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        ex -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should persist a client stream in chunks and report every order in sending order")
+    void shouldInitiateStreamInChunks() throws Exception {
+        // Arrange
+        List<String> references = new ArrayList<>(List.of("PO-1", "PO-2", "PO-3", "PO-4", "PO-5"));
+        when(referenceGenerator.generate()).thenAnswer(invocation -> references.remove(0));
+        when(initiatePaymentOrderUseCase.initiateAll(anyList())).thenAnswer(invocation -> {
+            List<PaymentOrder> chunk = invocation.getArgument(0);
+            return IntStream.range(0, chunk.size())
+                    .mapToObj(i -> PaymentOrderInitiationResult.initiated(i,
+                            initiated(chunk.get(i).getPaymentOrderReference())))
+                    .toList();
+        });
+        CompletableFuture<InitiatePaymentOrdersResponse> response = new CompletableFuture<>();
+
+        // Act
+        StreamObserver<InitiatePaymentOrderRequest> requests = PaymentOrdersGrpc.newStub(channel)
+                .initiatePaymentOrders(observer(response));
+        requests.onNext(request("EXT-1"));
+        requests.onNext(request("EXT-2").toBuilder().setRequestedExecutionDate("31/12/2025").build());
+        requests.onNext(request("EXT-3"));
+        requests.onNext(request("EXT-4"));
+        requests.onNext(request("EXT-5"));
+        requests.onCompleted();
+
+        // Assert
+        InitiatePaymentOrdersResponse result = response.get(5, TimeUnit.SECONDS);
+        assertThat(result.getSucceeded()).isEqualTo(4);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResultsList()).extracting(r -> r.getIndex()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(result.getResults(1).getError().getStatus()).isEqualTo(400);
+        assertThat(result.getResults(1).getError().getDetail()).contains("requested_execution_date");
+        assertThat(result.getResults(3).getPaymentOrderId()).isEqualTo("PO-4");
+        verify(initiatePaymentOrderUseCase, times(2)).initiateAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should end a client stream with RESOURCE_EXHAUSTED past the per-call limit")
+    void shouldLimitStreamSize() {
+        // Arrange
+        when(referenceGenerator.generate()).thenReturn("PO-1");
+        when(initiatePaymentOrderUseCase.initiateAll(anyList())).thenReturn(List.of(
+                PaymentOrderInitiationResult.initiated(0, initiated("PO-1")),
+                PaymentOrderInitiationResult.initiated(1, initiated("PO-1"))));
+        CompletableFuture<InitiatePaymentOrdersResponse> response = new CompletableFuture<>();
+
+        // Act
+        StreamObserver<InitiatePaymentOrderRequest> requests = PaymentOrdersGrpc.newStub(channel)
+                .initiatePaymentOrders(observer(response));
+        for (int i = 0; i <= MAX_STREAM_ORDERS; i++) {
+            requests.onNext(request("EXT-" + i));
+        }
+        requests.onCompleted();
+
+        // Assert
+        assertThat(response).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        ex -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+    }
+
+    private static <T> StreamObserver<T> observer(final CompletableFuture<T> result) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(final T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                result.complete(null);
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.bank.paymentinitiation.adapter.in.grpc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.grpc.PaymentOrderStatusResponse;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderStatusWatchCall Tests")
+class PaymentOrderStatusWatchCallTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 10, 30, 12, 0);
+
+    @Mock
+    private ServerCallStreamObserver<PaymentOrderStatusResponse> observer;
+
+    private final List<PaymentOrderStatusWatchCall> closed = new ArrayList<>();
+    private PaymentOrderStatusWatchCall call;
+    private Runnable onReady;
+    private Runnable onCancel;
+
+    @BeforeEach
+    void setUp() {
+        call = new PaymentOrderStatusWatchCall(observer, List.of("PO-1", "PO-2"), closed::add);
+        ArgumentCaptor<Runnable> readyHandler = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Runnable> cancelHandler = ArgumentCaptor.forClass(Runnable.class);
+        verify(observer).setOnReadyHandler(readyHandler.capture());
+        verify(observer).setOnCancelHandler(cancelHandler.capture());
+        onReady = readyHandler.getValue();
+        onCancel = cancelHandler.getValue();
+    }
+
+    private static PaymentOrderStatusSnapshot snapshot(final String reference, final PaymentStatus status,
+            final int minutes) {
+        return new PaymentOrderStatusSnapshot(reference, status, T0.plusMinutes(minutes), null);
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest pending status per order while the client is not ready")
+    void shouldCoalesceWhileNotReady() {
+        // Arrange
+        when(observer.isReady()).thenReturn(false);
+
+        // Act
+        call.accept(snapshot("PO-1", PaymentStatus.INITIATED, 0));
+        call.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        call.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        int pendingWhileBlocked = call.pendingSize();
+        when(observer.isReady()).thenReturn(true);
+        onReady.run();
+
+        // Assert
+        assertThat(pendingWhileBlocked).isEqualTo(1);
+        ArgumentCaptor<PaymentOrderStatusResponse> sent = ArgumentCaptor.forClass(PaymentOrderStatusResponse.class);
+        verify(observer, times(1)).onNext(sent.capture());
+        assertThat(sent.getValue().getStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.grpc.PaymentStatus.PENDING);
+        assertThat(call.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should complete the call once every payment order reaches a final status")
+    void shouldCompleteWhenAllOrdersAreFinal() {
+        // Arrange
+        when(observer.isReady()).thenReturn(true);
+
+        // Act
+        call.accept(snapshot("PO-1", PaymentStatus.COMPLETED, 1));
+        boolean closedAfterFirst = call.isClosed();
+        call.accept(snapshot("PO-1", PaymentStatus.FAILED, 2));
+        call.accept(snapshot("PO-2", PaymentStatus.CANCELLED, 1));
+
+        // Assert
+        assertThat(closedAfterFirst).isFalse();
+        verify(observer, times(2)).onNext(any(PaymentOrderStatusResponse.class));
+        verify(observer).onCompleted();
+        assertThat(call.isClosed()).isTrue();
+        assertThat(closed).containsExactly(call);
+    }
+
+    @Test
+    @DisplayName("Should release the call without responding when the client cancels it")
+    void shouldReleaseOnCancel() {
+        // Act
+        onCancel.run();
+        call.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        call.close(Status.UNAVAILABLE);
+
+        // Assert
+        assertThat(closed).containsExactly(call);
+        verify(observer, never()).onNext(any(PaymentOrderStatusResponse.class));
+        verify(observer, never()).onError(any(Throwable.class));
+        verify(observer, never()).onCompleted();
+    }
+
+    @Test
+    @DisplayName("Should terminate the stream under the same lock that serializes onNext")
+    void shouldTerminateUnderTheSendLock() {
+        // Arrange
+        AtomicBoolean lockedOnError = new AtomicBoolean();
+        doAnswer(invocation -> {
+            lockedOnError.set(Thread.holdsLock(call));
+            return null;
+        }).when(observer).onError(any(Throwable.class));
+
+        // Act
+        call.close(Status.UNAVAILABLE);
+
+        // Assert
+        assertThat(lockedOnError).isTrue();
+        assertThat(closed).containsExactly(call);
+    }
+}
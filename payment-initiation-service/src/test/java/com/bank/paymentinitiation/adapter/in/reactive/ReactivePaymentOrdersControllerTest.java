@@ -0,0 +1,188 @@
+package com.bank.paymentinitiation.adapter.in.reactive;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.bank.paymentinitiation.adapter.in.rest.PaymentOrdersController;
+import com.bank.paymentinitiation.adapter.in.soap.PaymentOrderSoapEndpoint;
+import com.bank.paymentinitiation.adapter.in.sse.PaymentOrderStatusStreamController;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactivetest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.r2dbc.url=r2dbc:h2:mem:///reactivetest?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.reference.node-id=1",
+        // El relé publicaría y borraría el evento INITIATED que comprueba el test
+        "payment.outbox.relay-enabled=false"})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+@DisplayName("ReactivePaymentOrdersController Tests")
+class ReactivePaymentOrdersControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private Map<String, Object> createRequest(final String externalReference) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("externalReference", externalReference);
+        request.put("debtorAccount", Map.of("iban", "EC123456789012345678"));
+        request.put("creditorAccount", Map.of("iban", "EC987654321098765432"));
+        request.put("instructedAmount", Map.of("amount", 150.75, "currency", "USD"));
+        request.put("remittanceInformation", "Factura reactiva");
+        request.put("requestedExecutionDate", LocalDate.now().plusDays(1).toString());
+        return request;
+    }
+
+    private InitiatePaymentOrderResponse initiate(final Map<String, Object> request) {
+        return webTestClient.post()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Test
+    @DisplayName("Should initiate a payment order over R2DBC and retrieve it and its status")
+    void shouldInitiateAndRetrievePaymentOrder() {
+        // Arrange & Act
+        InitiatePaymentOrderResponse created = initiate(createRequest("EXT-REACTIVE-1"));
+
+        // Assert
+        assertThat(created.getPaymentOrderId()).matches("^PO-[0-9]+$");
+        webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_PATH, created.getPaymentOrderId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.paymentOrderId").isEqualTo(created.getPaymentOrderId())
+                .jsonPath("$.externalReference").isEqualTo("EXT-REACTIVE-1")
+                .jsonPath("$.status").isEqualTo("INITIATED");
+        webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_STATUS_PATH, created.getPaymentOrderId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("INITIATED");
+        // El evento INITIATED queda en la bandeja de salida, visible por JDBC (misma base de datos)
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payment_order_outbox WHERE payment_order_reference = ?",
+                Long.class, created.getPaymentOrderId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should return the original payment order when the same Idempotency-Key is retried")
+    void shouldReturnOriginalOrderOnRetry() {
+        // Arrange
+        String firstId = webTestClient.post()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDERS_PATH)
+                .header("Idempotency-Key", "reactive-retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest("EXT-REACTIVE-2"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getPaymentOrderId();
+
+        // Act & Assert
+        webTestClient.post()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDERS_PATH)
+                .header("Idempotency-Key", "reactive-retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest("EXT-REACTIVE-2"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").isEqualTo(firstId);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 Not Modified to a conditional GET with the current ETag")
+    void shouldAnswerNotModified() {
+        // Arrange
+        String paymentOrderId = initiate(createRequest("EXT-REACTIVE-3")).getPaymentOrderId();
+        String eTag = webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_STATUS_PATH, paymentOrderId)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_PATH, paymentOrderId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer ProblemDetail errors for invalid requests and unknown orders")
+    void shouldAnswerProblemDetailErrors() {
+        // Arrange
+        Map<String, Object> invalid = createRequest("EXT-REACTIVE-4");
+        invalid.remove("debtorAccount");
+
+        // Act & Assert
+        webTestClient.post()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(invalid)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON)
+                .expectBody()
+                .jsonPath("$.detail").value(detail -> assertThat(detail.toString()).contains("debtorAccount"));
+        webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_PATH, "PO-404")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Payment Order Not Found");
+        webTestClient.get()
+                .uri(ReactivePaymentOrdersController.PAYMENT_ORDER_STATUS_PATH, "not-a-reference")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should not load the servlet-only adapters in the reactive mode")
+    void shouldNotLoadServletAdapters() {
+        // Assert
+        assertThat(context.getBeansOfType(ReactivePaymentOrdersController.class)).hasSize(1);
+        assertThat(context.getBeansOfType(PaymentOrdersController.class)).isEmpty();
+        assertThat(context.getBeansOfType(PaymentOrderSoapEndpoint.class)).isEmpty();
+        assertThat(context.getBeansOfType(PaymentOrderStatusStreamController.class)).isEmpty();
+    }
+}
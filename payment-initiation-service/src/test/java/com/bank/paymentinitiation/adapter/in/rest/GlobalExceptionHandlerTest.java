@@ -1,22 +1,42 @@
 package com.bank.paymentinitiation.adapter.in.rest;
 
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
 import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentStatusTransitionException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
 import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
-    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
 
     @Test
     @DisplayName("Should handle PaymentOrderNotFoundException with 404")
@@ -170,5 +190,233 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getTitle()).isEqualTo("Bad Request");
         assertThat(response.getBody().getDetail()).isEqualTo("Request body is not readable or has invalid format");
     }
-}
 
+
+    @Test
+    @DisplayName("Should handle database unavailability with 503 and Retry-After")
+    void shouldHandleDatabaseUnavailableException() {
+        // Arrange
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction");
+
+        // Act
+        var response = handler.handleDatabaseUnavailableException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Service Unavailable");
+    }
+
+
+    @Test
+    @DisplayName("Should handle a full ingestion queue with 429 and Retry-After")
+    void shouldHandlePaymentOrderQueueFullException() {
+        // Arrange
+        PaymentOrderQueueFullException ex = new PaymentOrderQueueFullException(100);
+
+        // Act
+        var response = handler.handlePaymentOrderQueueFullException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Too Many Requests");
+        assertThat(response.getBody().getDetail())
+                .isEqualTo("Payment order ingestion queue is full (capacity 100), please retry");
+    }
+
+
+    @Test
+    @DisplayName("Should handle DuplicatePaymentOrderException with 409")
+    void shouldHandleDuplicatePaymentOrderException() {
+        // Arrange
+        DuplicatePaymentOrderException ex = new DuplicatePaymentOrderException("Payment order already exists");
+
+        // Act
+        var response = handler.handleDuplicatePaymentOrderException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Duplicate Payment Order");
+        assertThat(response.getBody().getDetail()).isEqualTo("Payment order already exists");
+    }
+
+    @Test
+    @DisplayName("Should handle ConstraintViolationException with 400")
+    void shouldHandleConstraintViolationException() {
+        // Arrange
+        ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("initiatePaymentOrder.idempotencyKey");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("size must be between 1 and 255");
+        ConstraintViolationException ex = new ConstraintViolationException(Set.of(violation));
+
+        // Act
+        var response = handler.handleConstraintViolationException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Bad Request");
+        assertThat(response.getBody().getDetail())
+                .isEqualTo("initiatePaymentOrder.idempotencyKey: size must be between 1 and 255");
+    }
+
+    @Test
+    @DisplayName("Should handle ConstraintViolationException without violations")
+    void shouldHandleConstraintViolationExceptionWithoutViolations() {
+        // Arrange
+        ConstraintViolationException ex = new ConstraintViolationException(Set.of());
+
+        // Act
+        var response = handler.handleConstraintViolationException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getDetail()).isEqualTo("Validation failed");
+    }
+
+
+    @Test
+    @DisplayName("Should handle InvalidPaymentOrderQueryException with 400")
+    void shouldHandleInvalidPaymentOrderQueryException() {
+        // Arrange
+        InvalidPaymentOrderQueryException ex = new InvalidPaymentOrderQueryException("Invalid cursor: abc");
+
+        // Act
+        var response = handler.handleInvalidPaymentOrderQueryException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Invalid Payment Order Query");
+        assertThat(response.getBody().getDetail()).isEqualTo("Invalid cursor: abc");
+    }
+
+    @Test
+    @DisplayName("Should handle MethodArgumentTypeMismatchException with 400")
+    void shouldHandleMethodArgumentTypeMismatchException() {
+        // Arrange
+        MethodArgumentTypeMismatchException ex = new MethodArgumentTypeMismatchException(
+                "UNKNOWN", null, "status", null, new IllegalArgumentException("No enum constant"));
+
+        // Act
+        var response = handler.handleMethodArgumentTypeMismatchException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Bad Request");
+        assertThat(response.getBody().getDetail()).isEqualTo("Invalid value for parameter 'status': UNKNOWN");
+    }
+
+    @Test
+    @DisplayName("Should handle MissingServletRequestParameterException with 400")
+    void shouldHandleMissingServletRequestParameterException() {
+        // Arrange
+        MissingServletRequestParameterException ex =
+                new MissingServletRequestParameterException("createdTo", "OffsetDateTime");
+
+        // Act
+        var response = handler.handleMissingServletRequestParameterException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Bad Request");
+        assertThat(response.getBody().getDetail()).isEqualTo("Missing required parameter 'createdTo'");
+    }
+
+
+    @Test
+    @DisplayName("Should handle InvalidPaymentStatusTransitionException with 409")
+    void shouldHandleInvalidPaymentStatusTransitionException() {
+        // Arrange
+        InvalidPaymentStatusTransitionException ex = new InvalidPaymentStatusTransitionException(
+                "Cannot change status from final state: COMPLETED");
+
+        // Act
+        var response = handler.handleInvalidPaymentStatusTransitionException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Invalid Status Transition");
+        assertThat(response.getBody().getDetail()).isEqualTo("Cannot change status from final state: COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should handle PaymentOrderConflictException with 409")
+    void shouldHandlePaymentOrderConflictException() {
+        // Arrange
+        PaymentOrderConflictException ex = new PaymentOrderConflictException("Payment order was modified concurrently");
+
+        // Act
+        var response = handler.handlePaymentOrderConflictException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Concurrent Status Change");
+        assertThat(response.getBody().getDetail()).isEqualTo("Payment order was modified concurrently");
+    }
+
+    @Test
+    @DisplayName("Should handle OptimisticLockingFailureException with 409 without exposing the JPA message")
+    void shouldHandleOptimisticLockingFailureException() {
+        // Arrange
+        ObjectOptimisticLockingFailureException ex =
+                new ObjectOptimisticLockingFailureException("PaymentOrderEntity", "42");
+
+        // Act
+        var response = handler.handleOptimisticLockingFailureException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("Concurrent Status Change");
+        assertThat(response.getBody().getDetail()).doesNotContain("PaymentOrderEntity");
+    }
+
+
+    @Test
+    @DisplayName("Should count every handled error by exception type and status")
+    void shouldCountHandledErrors() {
+        // Act
+        handler.handlePaymentOrderNotFoundException(new PaymentOrderNotFoundException("missing"));
+        handler.handlePaymentOrderNotFoundException(new PaymentOrderNotFoundException("missing"));
+        handler.handlePaymentOrderConflictException(new PaymentOrderConflictException("conflict"));
+
+        // Assert
+        assertThat(meterRegistry.get(GlobalExceptionHandler.ERROR_COUNTER)
+                .tags("exception", "PaymentOrderNotFoundException", "status", "404")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get(GlobalExceptionHandler.ERROR_COUNTER)
+                .tags("exception", "PaymentOrderConflictException", "status", "409")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+
+    @Test
+    @DisplayName("Should build the 404 detail from a stackless not-found exception")
+    void shouldHandleStacklessPaymentOrderNotFoundException() {
+        // Arrange
+        PaymentOrderNotFoundException ex = PaymentOrderNotFoundException.forReference("PO-404");
+
+        // Act
+        var response = handler.handlePaymentOrderNotFoundException(ex);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getDetail()).isEqualTo("Payment order not found with reference: PO-404");
+        assertThat(meterRegistry.get(GlobalExceptionHandler.ERROR_COUNTER)
+                .tags("exception", "PaymentOrderNotFoundException", "status", "404")
+                .counter().count()).isEqualTo(1.0);
+    }
+}
@@ -1,7 +1,9 @@
 package com.bank.paymentinitiation.adapter.in.rest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,17 +12,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderJpaRepository;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.generated.model.PaymentOrderListResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebTestClient
 @DisplayName("Payment Initiation Integration Tests")
 class PaymentInitiationIntegrationTest {
 
+    private static final String EXPORT_URI = "/payment-initiation/payment-orders:export";
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -30,9 +40,17 @@ class PaymentInitiationIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private Cache<String, PaymentOrder> paymentOrderCache;
+
+    @Autowired
+    private Cache<String, String> paymentOrderIdempotencyCache;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll(); // Limpiar estado entre tests
+        paymentOrderCache.invalidateAll(); // deleteAll no pasa por la caché
+        paymentOrderIdempotencyCache.invalidateAll();
     }
 
     private Map<String, Object> createValidRequest() {
@@ -158,6 +176,66 @@ class PaymentInitiationIntegrationTest {
                 .jsonPath("$.lastUpdate").exists();
     }
 
+    @Test
+    @DisplayName("Should answer conditional GETs with 304 until the payment order changes")
+    void shouldAnswerConditionalGets() throws Exception {
+        // Arrange - Crear orden y leer sus validadores
+        String[] paymentOrderId = new String[1];
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(createValidRequest()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").value(id -> paymentOrderId[0] = (String) id);
+        HttpHeaders orderHeaders = webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}", paymentOrderId[0])
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .returnResult(String.class)
+                .getResponseHeaders();
+        String eTag = orderHeaders.getETag();
+
+        // Act & Assert - Sin cambios: 304 sin cuerpo en la orden y en su estado
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}", paymentOrderId[0])
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().isEmpty();
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .header(HttpHeaders.IF_MODIFIED_SINCE, orderHeaders.getFirst(HttpHeaders.LAST_MODIFIED))
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // Act & Assert - Tras un cambio de estado: 200 con un ETag nuevo
+        webTestClient.put()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(Map.of("status", "PENDING")))
+                .exchange()
+                .expectStatus().isOk();
+        String changedETag = webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertThat(changedETag).isNotNull().isNotEqualTo(eTag);
+    }
+
     @Test
     @DisplayName("Should return 404 when payment order not found")
     void shouldReturn404WhenPaymentOrderNotFound() {
@@ -287,5 +365,400 @@ class PaymentInitiationIntegrationTest {
                 .jsonPath("$.title").isEqualTo("Invalid Payment Order")
                 .jsonPath("$.detail").exists();
     }
-}
 
+    @Test
+    @DisplayName("Should initiate payment orders batch with per-item results via POST")
+    void shouldInitiatePaymentOrdersBatchWithPerItemResults() throws Exception {
+        // Arrange - dos órdenes válidas y una con fecha en el pasado
+        Map<String, Object> pastDated = createValidRequest();
+        pastDated.put("requestedExecutionDate", LocalDate.now().minusDays(1).toString());
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("paymentOrders", List.of(createValidRequest(), pastDated, createValidRequest()));
+        String requestJson = objectMapper.writeValueAsString(batch);
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.succeeded").isEqualTo(2)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results.length()").isEqualTo(3)
+                .jsonPath("$.results[0].status").isEqualTo("INITIATED")
+                .jsonPath("$.results[1].index").isEqualTo(1)
+                .jsonPath("$.results[1].error.status").isEqualTo(400)
+                .jsonPath("$.results[2].paymentOrderId").exists();
+
+        assert repository.count() == 2;
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        // Arrange
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("paymentOrders", List.of());
+        String requestJson = objectMapper.writeValueAsString(batch);
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should change payment orders status in batch and report invalid transitions")
+    void shouldChangePaymentOrdersStatusInBatch() throws Exception {
+        // Arrange - Crear orden primero
+        String[] paymentOrderId = new String[1];
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(createValidRequest()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").value(id -> paymentOrderId[0] = (String) id);
+        Map<String, Object> batch = Map.of("changes", List.of(
+                Map.of("paymentOrderId", paymentOrderId[0], "status", "PENDING"),
+                Map.of("paymentOrderId", "PO-9999", "status", "PENDING")));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders:changeStatus")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(batch))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.succeeded").isEqualTo(1)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results[0].previousStatus").isEqualTo("INITIATED")
+                .jsonPath("$.results[0].status").isEqualTo("PENDING")
+                .jsonPath("$.results[1].error.status").isEqualTo(404);
+
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated retrievals from the cache and expose its metrics")
+    void shouldServeRetrievalsFromCacheAndExposeMetrics() throws Exception {
+        // Arrange
+        String requestJson = objectMapper.writeValueAsString(createValidRequest());
+        String[] paymentOrderId = new String[1];
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").value(id -> paymentOrderId[0] = (String) id);
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get()
+                    .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        // Assert
+        assert paymentOrderCache.getIfPresent(paymentOrderId[0]) != null;
+        webTestClient.get()
+                .uri("/actuator/metrics/cache.gets?tag=cache:paymentOrders&tag=result:hit")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.measurements[0].value").value(hits -> {
+                    assert ((Number) hits).doubleValue() >= 2;
+                });
+    }
+
+    @Test
+    @DisplayName("Should return the same payment order when the Idempotency-Key is replayed")
+    void shouldReturnSameOrderWhenIdempotencyKeyIsReplayed() throws Exception {
+        // Arrange
+        String requestJson = objectMapper.writeValueAsString(createValidRequest());
+
+        // Act
+        String firstId = initiateWithIdempotencyKey(requestJson, "retry-1");
+        String secondId = initiateWithIdempotencyKey(requestJson, "retry-1");
+
+        // Assert
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should deduplicate by externalReference when no Idempotency-Key is sent")
+    void shouldDeduplicateByExternalReferenceWithoutHeader() throws Exception {
+        // Arrange
+        String requestJson = objectMapper.writeValueAsString(createValidRequest());
+
+        // Act
+        String firstId = initiateWithIdempotencyKey(requestJson, null);
+        paymentOrderCache.invalidateAll(); // Forzar la búsqueda en base de datos
+        paymentOrderIdempotencyCache.invalidateAll();
+        String secondId = initiateWithIdempotencyKey(requestJson, null);
+
+        // Assert
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create distinct payment orders for distinct Idempotency-Keys")
+    void shouldCreateDistinctOrdersForDistinctKeys() throws Exception {
+        // Arrange
+        String requestJson = objectMapper.writeValueAsString(createValidRequest());
+
+        // Act
+        String firstId = initiateWithIdempotencyKey(requestJson, "retry-1");
+        String secondId = initiateWithIdempotencyKey(requestJson, "retry-2");
+
+        // Assert
+        assertThat(secondId).isNotEqualTo(firstId);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the Idempotency-Key is too long")
+    void shouldReturn400WhenIdempotencyKeyIsTooLong() throws Exception {
+        // Arrange
+        String requestJson = objectMapper.writeValueAsString(createValidRequest());
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "k".repeat(256))
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Bad Request");
+
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page through payment orders with the cursor")
+    void shouldPageThroughPaymentOrdersWithCursor() throws Exception {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            Map<String, Object> request = createValidRequest();
+            request.put("externalReference", "EXT-" + i);
+            initiateWithIdempotencyKey(objectMapper.writeValueAsString(request), null);
+        }
+
+        // Act
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String uri = "/payment-initiation/payment-orders?limit=2" + (cursor == null ? "" : "&cursor=" + cursor);
+            PaymentOrderListResponse page = webTestClient.get()
+                    .uri(uri)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(PaymentOrderListResponse.class)
+                    .returnResult()
+                    .getResponseBody();
+            assertThat(page).isNotNull();
+            page.getItems().forEach(item -> listed.add(item.getExternalReference()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertThat(pages).isEqualTo(3);
+        assertThat(listed).containsExactlyInAnyOrder("EXT-1", "EXT-2", "EXT-3", "EXT-4", "EXT-5");
+    }
+
+    @Test
+    @DisplayName("Should filter listed payment orders by status and debtor IBAN")
+    void shouldFilterListedPaymentOrders() throws Exception {
+        // Arrange
+        initiateWithIdempotencyKey(objectMapper.writeValueAsString(createValidRequest()), null);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?status=INITIATED&debtorIban=EC123456789012345678")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].externalReference").isEqualTo("EXT-1")
+                .jsonPath("$.nextCursor").doesNotExist();
+
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?status=COMPLETED")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid cursor or filter")
+    void shouldReturn400ForInvalidListQuery() {
+        // Act & Assert
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Payment Order Query");
+
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?status=UNKNOWN")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Bad Request");
+
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?limit=500")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should export payment orders as NDJSON, one order per line")
+    void shouldExportPaymentOrdersAsNdjson() throws Exception {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            Map<String, Object> request = createValidRequest();
+            request.put("externalReference", "EXT-" + i);
+            initiateWithIdempotencyKey(objectMapper.writeValueAsString(request), null);
+        }
+
+        // Act
+        String body = webTestClient.get()
+                .uri(EXPORT_URI + "?createdFrom=2000-01-01T00:00:00Z&createdTo=2100-01-01T00:00:00Z")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertThat(body).isNotNull();
+        List<String> exported = new ArrayList<>();
+        for (String line : body.lines().toList()) {
+            exported.add(objectMapper.readTree(line).get("externalReference").asText());
+        }
+        assertThat(exported).containsExactly("EXT-1", "EXT-2", "EXT-3");
+    }
+
+    @Test
+    @DisplayName("Should export payment orders as CSV when requested")
+    void shouldExportPaymentOrdersAsCsv() throws Exception {
+        // Arrange
+        initiateWithIdempotencyKey(objectMapper.writeValueAsString(createValidRequest()), null);
+
+        // Act
+        String body = webTestClient.get()
+                .uri(EXPORT_URI + "?createdFrom=2000-01-01T00:00:00Z&createdTo=2100-01-01T00:00:00Z&status=INITIATED")
+                .accept(MediaType.parseMediaType("text/csv"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("text/csv")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertThat(body).isNotNull();
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("paymentOrderId,externalReference");
+        assertThat(lines[1]).contains(",EXT-1,EC123456789012345678,EC987654321098765432,150.75,USD,");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the export range is missing or empty")
+    void shouldReturn400ForInvalidExportRange() {
+        // Act & Assert
+        webTestClient.get()
+                .uri(EXPORT_URI + "?createdFrom=2025-10-31T00:00:00Z&createdTo=2025-10-30T00:00:00Z")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Payment Order Query");
+
+        webTestClient.get()
+                .uri(EXPORT_URI + "?createdFrom=2025-10-30T00:00:00Z")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.detail").isEqualTo("Missing required parameter 'createdTo'");
+    }
+
+    private String initiateWithIdempotencyKey(final String requestJson, final String idempotencyKey) {
+        String[] paymentOrderId = new String[1];
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set("Idempotency-Key", idempotencyKey);
+                    }
+                })
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").value(id -> paymentOrderId[0] = (String) id);
+        return paymentOrderId[0];
+    }
+
+
+    @Test
+    @DisplayName("Should change a single payment order status and answer 409 for an invalid transition")
+    void shouldChangePaymentOrderStatus() throws Exception {
+        // Arrange - Crear orden primero
+        String[] paymentOrderId = new String[1];
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(createValidRequest()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").value(id -> paymentOrderId[0] = (String) id);
+
+        // Act & Assert
+        webTestClient.put()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(Map.of("status", "CANCELLED")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.paymentOrderId").isEqualTo(paymentOrderId[0])
+                .jsonPath("$.status").isEqualTo("CANCELLED");
+
+        webTestClient.put()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId[0])
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(Map.of("status", "PENDING")))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Status Transition");
+    }
+}
@@ -0,0 +1,156 @@
+package com.bank.paymentinitiation.adapter.in.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("PaymentOrderExportWriter Tests")
+class PaymentOrderExportWriterTest {
+
+    @Autowired
+    private PaymentOrderExportWriter exportWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private PaymentOrder createOrder(final String reference, final String remittanceInformation) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-" + reference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation(remittanceInformation)
+                .requestedExecutionDate(LocalDate.of(2025, 11, 1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.of(2025, 10, 30, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 10, 30, 10, 0))
+                .build();
+    }
+
+    private PaymentOrderExport exportOf(final PaymentOrder... orders) {
+        return sink -> {
+            for (PaymentOrder order : orders) {
+                sink.accept(order);
+            }
+            return orders.length;
+        };
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldWriteOneJsonDocumentPerLine() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportWriter.writeNdjson(
+                exportOf(createOrder("PO-1", "Factura 1"), createOrder("PO-2", "Factura 2")), out);
+
+        // Assert
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("paymentOrderId").asText()).isEqualTo("PO-1");
+        assertThat(first.get("debtorAccount").get("iban").asText()).isEqualTo("EC123456789012345678");
+        assertThat(objectMapper.readTree(lines.get(1)).get("paymentOrderId").asText()).isEqualTo("PO-2");
+    }
+
+    @Test
+    @DisplayName("Should terminate every NDJSON line and flush the body once, not once per order")
+    void shouldFlushNdjsonOnceForTheWholeExport() throws IOException {
+        // Arrange
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        PaymentOrder[] orders = new PaymentOrder[100];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = createOrder("PO-" + i, "Factura " + i);
+        }
+
+        // Act
+        long count = exportWriter.writeNdjson(exportOf(orders), out);
+
+        // Assert
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(100);
+        assertThat(body).endsWith("}\n");
+        assertThat(body.lines()).hasSize(100);
+        assertThat(flushes.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header followed by one escaped row per order")
+    void shouldWriteCsvWithHeaderAndEscapedRows() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportWriter.writeCsv(exportOf(createOrder("PO-1", "Factura \"A\", lote 2")), out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines[0]).isEqualTo(PaymentOrderExportWriter.CSV_HEADER);
+        assertThat(lines[1])
+                .startsWith("PO-1,EXT-PO-1,EC123456789012345678,EC987654321098765432,150.75,USD,")
+                .contains(",\"Factura \"\"A\"\", lote 2\",2025-11-01,INITIATED,");
+    }
+
+    @Test
+    @DisplayName("Should propagate write failures as IOException")
+    void shouldPropagateWriteFailures() {
+        // Arrange
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportWriter.writeNdjson(exportOf(createOrder("PO-1", "Factura")), failing))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields only when required")
+    void shouldQuoteCsvFieldsOnlyWhenRequired() {
+        // Act & Assert
+        assertThat(PaymentOrderExportWriter.csv(null)).isEmpty();
+        assertThat(PaymentOrderExportWriter.csv("Factura 1")).isEqualTo("Factura 1");
+        assertThat(PaymentOrderExportWriter.csv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(PaymentOrderExportWriter.csv("línea\nnueva")).isEqualTo("\"línea\nnueva\"");
+        assertThat(PaymentOrderExportWriter.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+    }
+}
@@ -0,0 +1,135 @@
+package com.bank.paymentinitiation.adapter.in.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.port.in.ExportPaymentOrdersUseCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderExportsController Tests")
+class PaymentOrderExportsControllerTest {
+
+    private static final OffsetDateTime FROM = OffsetDateTime.of(2025, 10, 30, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    private ExportPaymentOrdersUseCase exportPaymentOrdersUseCase;
+
+    @Mock
+    private PaymentOrderRestMapper mapper;
+
+    @Mock
+    private PaymentOrderExportWriter exportWriter;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private PaymentOrderExportsController controller;
+
+    private PaymentOrderSearchCriteria criteria() {
+        return PaymentOrderSearchCriteria.builder()
+                .createdFrom(LocalDateTime.of(2025, 10, 30, 0, 0))
+                .createdTo(LocalDateTime.of(2025, 10, 31, 0, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON by default")
+    void shouldStreamNdjsonByDefault() throws IOException {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = criteria();
+        PaymentOrderExport export = sink -> 0;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(mapper.toSearchCriteria(null, null, null, null, null, FROM, TO)).thenReturn(criteria);
+        when(exportPaymentOrdersUseCase.export(criteria)).thenReturn(export);
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn(null);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.exportPaymentOrders(FROM, TO, null);
+        result.getBody().writeTo(out);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getContentType()).isEqualTo(PaymentOrderExportWriter.APPLICATION_NDJSON);
+        assertThat(result.getHeaders().getContentDisposition().getFilename()).isEqualTo("payment-orders.ndjson");
+        verify(exportWriter).writeNdjson(export, out);
+        verify(exportWriter, never()).writeCsv(export, out);
+    }
+
+    @Test
+    @DisplayName("Should stream CSV when the client asks for it")
+    void shouldStreamCsvWhenRequested() throws IOException {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = criteria();
+        PaymentOrderExport export = sink -> 0;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(mapper.toSearchCriteria(null, null, null, null, null, FROM, TO)).thenReturn(criteria);
+        when(exportPaymentOrdersUseCase.export(criteria)).thenReturn(export);
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("text/csv");
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.exportPaymentOrders(FROM, TO, null);
+        result.getBody().writeTo(out);
+
+        // Assert
+        assertThat(result.getHeaders().getContentType()).isEqualTo(PaymentOrderExportWriter.TEXT_CSV);
+        assertThat(result.getHeaders().getContentDisposition().getFilename()).isEqualTo("payment-orders.csv");
+        verify(exportWriter).writeCsv(export, out);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid filters before streaming")
+    void shouldRejectInvalidFiltersBeforeStreaming() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = criteria();
+        when(mapper.toSearchCriteria(null, null, null, null, null, TO, FROM)).thenReturn(criteria);
+        when(exportPaymentOrdersUseCase.export(criteria))
+                .thenThrow(new InvalidPaymentOrderQueryException("createdFrom must be before createdTo"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.exportPaymentOrders(TO, FROM, null))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        verifyNoInteractions(exportWriter);
+    }
+
+    @Test
+    @DisplayName("Should pick the export format from the first concrete Accept type")
+    void shouldPickFormatFromAcceptHeader() {
+        // Act & Assert
+        assertThat(PaymentOrderExportsController.prefersCsv(null)).isFalse();
+        assertThat(PaymentOrderExportsController.prefersCsv(" ")).isFalse();
+        assertThat(PaymentOrderExportsController.prefersCsv("*/*")).isFalse();
+        assertThat(PaymentOrderExportsController.prefersCsv("text/csv")).isTrue();
+        assertThat(PaymentOrderExportsController.prefersCsv("*/*, text/csv;q=0.9")).isTrue();
+        assertThat(PaymentOrderExportsController.prefersCsv("application/x-ndjson, text/csv")).isFalse();
+        assertThat(PaymentOrderExportsController.prefersCsv("application/json")).isFalse();
+    }
+}
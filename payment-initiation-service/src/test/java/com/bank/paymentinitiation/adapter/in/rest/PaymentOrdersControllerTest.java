@@ -3,33 +3,57 @@ package com.bank.paymentinitiation.adapter.in.rest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
 import com.bank.paymentinitiation.application.service.PaymentOrderReferenceGenerator;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.in.IngestPaymentOrderUseCase;
 import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.ListPaymentOrdersUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderStatusUseCase;
 import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusResponse;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchRequest;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderListResponse;
 import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
 import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,12 +66,24 @@ class PaymentOrdersControllerTest {
     @Mock
     private RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
 
+    @Mock
+    private RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+
+    @Mock
+    private ListPaymentOrdersUseCase listPaymentOrdersUseCase;
+
+    @Mock
+    private ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
+
     @Mock
     private PaymentOrderRestMapper mapper;
 
     @Mock
     private PaymentOrderReferenceGenerator referenceGenerator;
 
+    @Mock
+    private ObjectProvider<IngestPaymentOrderUseCase> ingestPaymentOrderUseCase;
+
     @InjectMocks
     private PaymentOrdersController controller;
 
@@ -84,7 +120,7 @@ class PaymentOrdersControllerTest {
         when(mapper.toInitiateResponse(initiatedOrder)).thenReturn(response);
 
         // Act
-        ResponseEntity<InitiatePaymentOrderResponse> result = controller.initiatePaymentOrder(request);
+        ResponseEntity<InitiatePaymentOrderResponse> result = controller.initiatePaymentOrder(request, null);
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -96,6 +132,35 @@ class PaymentOrdersControllerTest {
         verify(mapper).toInitiateResponse(initiatedOrder);
     }
 
+    @Test
+    @DisplayName("Should accept payment order with 202 when async initiation is enabled")
+    void shouldAcceptPaymentOrderWhenIngestionEnabled() {
+        // Arrange
+        InitiatePaymentOrderRequest request = new InitiatePaymentOrderRequest();
+        String generatedReference = "PO-1234567890123456";
+        PaymentOrder domainOrder = createValidPaymentOrder();
+        PaymentOrder acceptedOrder = createValidPaymentOrder();
+        IngestPaymentOrderUseCase ingestion = mock(IngestPaymentOrderUseCase.class);
+        InitiatePaymentOrderResponse response = new InitiatePaymentOrderResponse();
+        response.setPaymentOrderId(generatedReference);
+
+        when(ingestPaymentOrderUseCase.getIfAvailable()).thenReturn(ingestion);
+        when(referenceGenerator.generate()).thenReturn(generatedReference);
+        when(mapper.toDomain(request, generatedReference)).thenReturn(domainOrder);
+        when(ingestion.enqueue(domainOrder)).thenReturn(acceptedOrder);
+        when(mapper.toInitiateResponse(acceptedOrder)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InitiatePaymentOrderResponse> result = controller.initiatePaymentOrder(request, null);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(result.getHeaders().getFirst(HttpHeaders.LOCATION))
+                .isEqualTo("/payment-initiation/payment-orders/PO-1234567890123456/status");
+        assertThat(result.getBody()).isSameAs(response);
+        verifyNoInteractions(initiatePaymentOrderUseCase);
+    }
+
     @Test
     @DisplayName("Should retrieve payment order successfully")
     void shouldRetrievePaymentOrderSuccessfully() {
@@ -109,7 +174,7 @@ class PaymentOrdersControllerTest {
         when(mapper.toRetrieveResponse(domainOrder)).thenReturn(response);
 
         // Act
-        ResponseEntity<RetrievePaymentOrderResponse> result = controller.retrievePaymentOrder(paymentOrderId);
+        ResponseEntity<RetrievePaymentOrderResponse> result = controller.retrievePaymentOrder(paymentOrderId, null, null);
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -124,23 +189,228 @@ class PaymentOrdersControllerTest {
     void shouldRetrievePaymentOrderStatusSuccessfully() {
         // Arrange
         String paymentOrderId = "PO-1234567890123456";
-        PaymentOrder domainOrder = createValidPaymentOrder();
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                paymentOrderId, PaymentStatus.INITIATED, LocalDateTime.now(), 0L);
         PaymentOrderStatusResponse response = new PaymentOrderStatusResponse();
         response.setPaymentOrderId(paymentOrderId);
         response.setStatus(com.bank.paymentinitiation.generated.model.PaymentStatus.INITIATED);
 
-        when(retrievePaymentOrderUseCase.retrieve(paymentOrderId)).thenReturn(domainOrder);
-        when(mapper.toStatusResponse(domainOrder)).thenReturn(response);
+        when(retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)).thenReturn(snapshot);
+        when(mapper.toStatusResponse(snapshot)).thenReturn(response);
 
         // Act
-        ResponseEntity<PaymentOrderStatusResponse> result = controller.retrievePaymentOrderStatus(paymentOrderId);
+        ResponseEntity<PaymentOrderStatusResponse> result = controller.retrievePaymentOrderStatus(paymentOrderId, null, null);
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(result.getBody()).isNotNull();
         assertThat(result.getBody().getPaymentOrderId()).isEqualTo(paymentOrderId);
-        verify(retrievePaymentOrderUseCase).retrieve(paymentOrderId);
-        verify(mapper).toStatusResponse(domainOrder);
+        verify(retrievePaymentOrderStatusUseCase).retrieveStatusSnapshot(paymentOrderId);
+        verify(mapper).toStatusResponse(snapshot);
     }
-}
 
+    @Test
+    @DisplayName("Should answer 304 from the status snapshot without loading the full payment order")
+    void shouldAnswerNotModifiedWithoutLoadingPaymentOrder() {
+        // Arrange
+        String paymentOrderId = "PO-1234567890123456";
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                paymentOrderId, PaymentStatus.PENDING, LocalDateTime.of(2025, 10, 30, 12, 0, 0, 500_000_000), 3L);
+        when(retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)).thenReturn(snapshot);
+        String eTag = PaymentOrderConditionalGet.eTag(snapshot);
+
+        // Act
+        ResponseEntity<RetrievePaymentOrderResponse> byETag =
+                controller.retrievePaymentOrder(paymentOrderId, "\"other\", W/" + eTag, null);
+        ResponseEntity<RetrievePaymentOrderResponse> byDate =
+                controller.retrievePaymentOrder(paymentOrderId, null, "Thu, 30 Oct 2025 12:00:00 GMT");
+
+        // Assert
+        assertThat(byETag.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(byETag.getBody()).isNull();
+        assertThat(byETag.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(byETag.getHeaders().getLastModified()).isEqualTo(1761825600000L);
+        assertThat(byETag.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(byDate.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(retrievePaymentOrderUseCase, mapper);
+    }
+
+    @Test
+    @DisplayName("Should return the full payment order with validators when it changed since the client's copy")
+    void shouldReturnPaymentOrderWhenModified() {
+        // Arrange
+        String paymentOrderId = "PO-1234567890123456";
+        PaymentOrder domainOrder = createValidPaymentOrder().toBuilder()
+                .updatedAt(LocalDateTime.of(2025, 10, 30, 12, 0, 1))
+                .version(4L)
+                .build();
+        PaymentOrderStatusSnapshot current = PaymentOrderStatusSnapshot.of(domainOrder);
+        RetrievePaymentOrderResponse response = new RetrievePaymentOrderResponse();
+        when(retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)).thenReturn(current);
+        when(retrievePaymentOrderUseCase.retrieve(paymentOrderId)).thenReturn(domainOrder);
+        when(mapper.toRetrieveResponse(domainOrder)).thenReturn(response);
+
+        // Act
+        ResponseEntity<RetrievePaymentOrderResponse> result = controller.retrievePaymentOrder(
+                paymentOrderId, null, "Thu, 30 Oct 2025 12:00:00 GMT");
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(response);
+        assertThat(result.getHeaders().getETag()).isEqualTo(PaymentOrderConditionalGet.eTag(current));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged status and 200 once the version moves on")
+    void shouldAnswerNotModifiedForUnchangedStatus() {
+        // Arrange
+        String paymentOrderId = "PO-1234567890123456";
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 30, 12, 0);
+        PaymentOrderStatusSnapshot before = new PaymentOrderStatusSnapshot(
+                paymentOrderId, PaymentStatus.INITIATED, updatedAt, 0L);
+        PaymentOrderStatusSnapshot after = new PaymentOrderStatusSnapshot(
+                paymentOrderId, PaymentStatus.PENDING, updatedAt, 1L);
+        PaymentOrderStatusResponse response = new PaymentOrderStatusResponse();
+        when(retrievePaymentOrderStatusUseCase.retrieveStatusSnapshot(paymentOrderId)).thenReturn(before, after);
+        when(mapper.toStatusResponse(after)).thenReturn(response);
+        String eTag = PaymentOrderConditionalGet.eTag(before);
+
+        // Act
+        ResponseEntity<PaymentOrderStatusResponse> unchanged =
+                controller.retrievePaymentOrderStatus(paymentOrderId, eTag, null);
+        ResponseEntity<PaymentOrderStatusResponse> changed =
+                controller.retrievePaymentOrderStatus(paymentOrderId, eTag, null);
+
+        // Assert
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody()).isSameAs(response);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Should initiate payment orders batch successfully")
+    void shouldInitiatePaymentOrdersBatchSuccessfully() {
+        // Arrange
+        InitiatePaymentOrderRequest item = new InitiatePaymentOrderRequest();
+        InitiatePaymentOrdersBatchRequest request = new InitiatePaymentOrdersBatchRequest(List.of(item, item));
+        PaymentOrder domainOrder = createValidPaymentOrder();
+        List<PaymentOrderInitiationResult> results = List.of(
+                PaymentOrderInitiationResult.initiated(0, domainOrder),
+                PaymentOrderInitiationResult.rejected(1, "Invalid"));
+        InitiatePaymentOrdersBatchResponse response = new InitiatePaymentOrdersBatchResponse();
+        response.setSucceeded(1);
+        response.setFailed(1);
+
+        when(referenceGenerator.generate()).thenReturn("PO-1", "PO-2");
+        when(mapper.toDomain(item, "PO-1")).thenReturn(domainOrder);
+        when(mapper.toDomain(item, "PO-2")).thenReturn(domainOrder);
+        when(initiatePaymentOrderUseCase.initiateAll(List.of(domainOrder, domainOrder))).thenReturn(results);
+        when(mapper.toBatchResponse(results)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InitiatePaymentOrdersBatchResponse> result = controller.initiatePaymentOrdersBatch(request);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(response);
+        verify(initiatePaymentOrderUseCase).initiateAll(List.of(domainOrder, domainOrder));
+    }
+
+    @Test
+    @DisplayName("Should attach the Idempotency-Key header to the domain order")
+    void shouldAttachIdempotencyKeyHeader() {
+        // Arrange
+        InitiatePaymentOrderRequest request = new InitiatePaymentOrderRequest();
+        String generatedReference = "PO-1234567890123456";
+        PaymentOrder domainOrder = createValidPaymentOrder();
+        PaymentOrder initiatedOrder = createValidPaymentOrder();
+        InitiatePaymentOrderResponse response = new InitiatePaymentOrderResponse();
+        ArgumentCaptor<PaymentOrder> captor = ArgumentCaptor.forClass(PaymentOrder.class);
+
+        when(referenceGenerator.generate()).thenReturn(generatedReference);
+        when(mapper.toDomain(request, generatedReference)).thenReturn(domainOrder);
+        when(initiatePaymentOrderUseCase.initiate(captor.capture())).thenReturn(initiatedOrder);
+        when(mapper.toInitiateResponse(initiatedOrder)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InitiatePaymentOrderResponse> result = controller.initiatePaymentOrder(request, "retry-1");
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(captor.getValue().getIdempotencyKey()).isEqualTo(IdempotencyKey.ofClientKey("retry-1"));
+    }
+
+    @Test
+    @DisplayName("Should list payment orders with filters and cursor")
+    void shouldListPaymentOrders() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.builder()
+                .status(PaymentStatus.INITIATED)
+                .build();
+        PaymentOrderCursor cursor = new PaymentOrderCursor(LocalDateTime.now(), "PO-1234567890123456");
+        PaymentOrderPage page = new PaymentOrderPage(List.of(createValidPaymentOrder()), null);
+        PaymentOrderListResponse response = new PaymentOrderListResponse();
+
+        when(mapper.toSearchCriteria(com.bank.paymentinitiation.generated.model.PaymentStatus.INITIATED,
+                null, null, null, null, null, null)).thenReturn(criteria);
+        when(mapper.toCursor("token")).thenReturn(cursor);
+        when(listPaymentOrdersUseCase.list(criteria, cursor, 20)).thenReturn(page);
+        when(mapper.toListResponse(page)).thenReturn(response);
+
+        // Act
+        ResponseEntity<PaymentOrderListResponse> result = controller.listPaymentOrders(
+                com.bank.paymentinitiation.generated.model.PaymentStatus.INITIATED,
+                null, null, null, null, null, null, 20, "token");
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(response);
+        verify(listPaymentOrdersUseCase).list(criteria, cursor, 20);
+    }
+
+    @Test
+    @DisplayName("Should change payment orders status in batch")
+    void shouldChangePaymentOrdersStatusInBatch() {
+        // Arrange
+        ChangePaymentOrdersStatusRequest request = new ChangePaymentOrdersStatusRequest();
+        List<PaymentOrderStatusChange> changes = List.of(new PaymentOrderStatusChange("PO-1", PaymentStatus.PENDING));
+        List<PaymentOrderStatusChangeResult> results = List.of(
+                PaymentOrderStatusChangeResult.changed(0, "PO-1", PaymentStatus.INITIATED, PaymentStatus.PENDING));
+        ChangePaymentOrdersStatusResponse response = new ChangePaymentOrdersStatusResponse();
+
+        when(mapper.toStatusChanges(request)).thenReturn(changes);
+        when(changePaymentOrderStatusUseCase.changeStatusAll(changes)).thenReturn(results);
+        when(mapper.toStatusChangeResponse(results)).thenReturn(response);
+
+        // Act
+        ResponseEntity<ChangePaymentOrdersStatusResponse> result = controller.changePaymentOrdersStatus(request);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(response);
+        verify(changePaymentOrderStatusUseCase).changeStatusAll(changes);
+    }
+
+
+    @Test
+    @DisplayName("Should change the status of a single payment order")
+    void shouldChangePaymentOrderStatus() {
+        // Arrange
+        ChangePaymentOrderStatusRequest request = new ChangePaymentOrderStatusRequest();
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                "PO-1", PaymentStatus.PENDING, LocalDateTime.now(), 1L);
+        PaymentOrderStatusResponse response = new PaymentOrderStatusResponse();
+
+        when(mapper.toTargetStatus(request)).thenReturn(PaymentStatus.PENDING);
+        when(changePaymentOrderStatusUseCase.changeStatus("PO-1", PaymentStatus.PENDING)).thenReturn(snapshot);
+        when(mapper.toStatusResponse(snapshot)).thenReturn(response);
+
+        // Act
+        ResponseEntity<PaymentOrderStatusResponse> result = controller.changePaymentOrderStatus("PO-1", request);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(response);
+    }
+}
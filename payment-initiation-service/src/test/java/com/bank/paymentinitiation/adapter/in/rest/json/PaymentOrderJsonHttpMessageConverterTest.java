@@ -0,0 +1,97 @@
+package com.bank.paymentinitiation.adapter.in.rest.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentOrderJsonHttpMessageConverter Tests")
+class PaymentOrderJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new PaymentOrderJsonModule())
+            .build();
+    private final PaymentOrderJsonHttpMessageConverter converter =
+            new PaymentOrderJsonHttpMessageConverter(objectMapper);
+
+    @Test
+    @DisplayName("Should write response DTOs with the precomputed writer without closing the body")
+    void shouldWriteResponseWithPrecomputedWriter() throws Exception {
+        // Arrange
+        PaymentOrderStatusResponse response = new PaymentOrderStatusResponse()
+                .paymentOrderId("PO-1")
+                .status(PaymentStatus.PENDING)
+                .lastUpdate(OffsetDateTime.of(2025, 10, 30, 12, 0, 0, 0, ZoneOffset.UTC));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        output.getBody().write('\n');
+
+        // Assert
+        assertThat(output.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"paymentOrderId\":\"PO-1\",\"status\":\"PENDING\",\"lastUpdate\":\"2025-10-30T12:00:00Z\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should write other types like the default Jackson converter")
+    void shouldDelegateOtherTypes() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(Map.of("status", "UP"), MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"status\":\"UP\"}");
+    }
+
+    @Test
+    @DisplayName("Should read the initiation request with the precomputed reader")
+    void shouldReadInitiationRequest() throws Exception {
+        // Arrange
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "{\"externalReference\":\"EXT-1\",\"unknown\":true}".getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        Object request = converter.read(InitiatePaymentOrderRequest.class, null, input);
+
+        // Assert
+        assertThat(request).isInstanceOf(InitiatePaymentOrderRequest.class);
+        assertThat(((InitiatePaymentOrderRequest) request).getExternalReference()).isEqualTo("EXT-1");
+    }
+
+    @Test
+    @DisplayName("Should translate malformed JSON into HttpMessageNotReadableException")
+    void shouldTranslateMalformedJson() {
+        // Arrange
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "{\"externalReference\":".getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // Act & Assert
+        assertThatThrownBy(() -> converter.read(InitiatePaymentOrderRequest.class, null, input))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasMessageStartingWith("JSON parse error");
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.paymentinitiation.adapter.in.rest.json;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank.paymentinitiation.generated.model.CreditorAccount;
+import com.bank.paymentinitiation.generated.model.DebtorAccount;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.PaymentAmount;
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+import com.bank.paymentinitiation.generated.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentOrderJsonModule Tests")
+class PaymentOrderJsonModuleTest {
+
+    // Misma configuración que el ObjectMapper de Spring Boot, con y sin el módulo
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new PaymentOrderJsonModule())
+            .build();
+
+    static Stream<OffsetDateTime> lastUpdates() {
+        return Stream.of(
+                OffsetDateTime.of(2025, 10, 30, 12, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 500_000_000, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 12, 31, 23, 59, 59, 123_456_000, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 6, 1, 0, 0, 0, 7, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-5)),
+                OffsetDateTime.of(12025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                null);
+    }
+
+    private static RetrievePaymentOrderResponse retrieveResponse(final OffsetDateTime lastUpdate) {
+        return new RetrievePaymentOrderResponse()
+                .paymentOrderId("PO-1234567890123456")
+                .externalReference("EXT-\"1\"\n")
+                .debtorAccount(new DebtorAccount().iban("EC123456789012345678"))
+                .creditorAccount(new CreditorAccount().iban("EC987654321098765432"))
+                .instructedAmount(new PaymentAmount()
+                        .amount(new BigDecimal("150.750"))
+                        .currency(PaymentAmount.CurrencyEnum.USD))
+                .remittanceInformation("Factura 001-123 ñ €")
+                .requestedExecutionDate(LocalDate.of(2025, 10, 31))
+                .status(PaymentStatus.PENDING)
+                .lastUpdate(lastUpdate);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lastUpdates")
+    @DisplayName("Should write the same JSON as reflection for every date shape")
+    void shouldMatchReflectionForDates(final OffsetDateTime lastUpdate) throws Exception {
+        // Arrange
+        RetrievePaymentOrderResponse retrieve = retrieveResponse(lastUpdate);
+        PaymentOrderStatusResponse status = new PaymentOrderStatusResponse()
+                .paymentOrderId("PO-1")
+                .status(PaymentStatus.COMPLETED)
+                .lastUpdate(lastUpdate);
+
+        // Act & Assert
+        assertThat(handWritten.writeValueAsString(retrieve)).isEqualTo(reflective.writeValueAsString(retrieve));
+        assertThat(handWritten.writeValueAsString(status)).isEqualTo(reflective.writeValueAsString(status));
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as reflection for empty and partially filled responses")
+    void shouldMatchReflectionForNulls() throws Exception {
+        // Arrange
+        RetrievePaymentOrderResponse partial = retrieveResponse(null)
+                .creditorAccount(new CreditorAccount())
+                .instructedAmount(new PaymentAmount())
+                .requestedExecutionDate(LocalDate.of(-1, 1, 1));
+        Object[] responses = {
+            new RetrievePaymentOrderResponse(),
+            partial,
+            new PaymentOrderStatusResponse(),
+            new InitiatePaymentOrderResponse(),
+            new InitiatePaymentOrderResponse().paymentOrderId("PO-1").status(PaymentStatus.INITIATED),
+        };
+
+        // Act & Assert
+        for (Object response : responses) {
+            assertThat(handWritten.writeValueAsString(response)).isEqualTo(reflective.writeValueAsString(response));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the JavaTimeModule serializers when dates are written as timestamps")
+    void shouldMatchReflectionWithTimestamps() throws Exception {
+        // Arrange
+        ObjectMapper reflectiveTimestamps = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper handWrittenTimestamps = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new PaymentOrderJsonModule())
+                .build();
+        RetrievePaymentOrderResponse response = retrieveResponse(
+                OffsetDateTime.of(2025, 10, 30, 12, 0, 0, 0, ZoneOffset.UTC));
+
+        // Act & Assert
+        assertThat(handWrittenTimestamps.writeValueAsString(response))
+                .isEqualTo(reflectiveTimestamps.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("Should round-trip through the reflective deserializer")
+    void shouldRoundTrip() throws Exception {
+        // Arrange
+        RetrievePaymentOrderResponse response = retrieveResponse(
+                OffsetDateTime.of(2025, 10, 30, 12, 0, 0, 250_000_000, ZoneOffset.UTC));
+
+        // Act
+        RetrievePaymentOrderResponse read = reflective.readValue(
+                handWritten.writeValueAsBytes(response), RetrievePaymentOrderResponse.class);
+
+        // Assert
+        assertThat(read).isEqualTo(response);
+    }
+}
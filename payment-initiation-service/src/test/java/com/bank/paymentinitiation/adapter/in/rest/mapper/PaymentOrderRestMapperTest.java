@@ -3,26 +3,44 @@ package com.bank.paymentinitiation.adapter.in.rest.mapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrderStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusRequest;
+import com.bank.paymentinitiation.generated.model.ChangePaymentOrdersStatusResponse;
 import com.bank.paymentinitiation.generated.model.CreditorAccount;
 import com.bank.paymentinitiation.generated.model.DebtorAccount;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
 import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrdersBatchResponse;
+import com.bank.paymentinitiation.generated.model.PaymentOrderListResponse;
 import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
 import com.bank.paymentinitiation.generated.model.RetrievePaymentOrderResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @DisplayName("PaymentOrderRestMapper Tests")
@@ -170,5 +188,200 @@ class PaymentOrderRestMapperTest {
         assertThat(response).isNotNull();
         assertThat(response.getLastUpdate()).isNull();
     }
-}
 
+    @Test
+    @DisplayName("Should map batch results to batch response")
+    void shouldMapBatchResultsToBatchResponse() {
+        // Arrange
+        PaymentOrder domain = PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        List<PaymentOrderInitiationResult> results = List.of(
+                PaymentOrderInitiationResult.initiated(0, domain),
+                PaymentOrderInitiationResult.rejected(1, "Requested execution date cannot be in the past"),
+                PaymentOrderInitiationResult.failed(2, "Payment order could not be persisted"));
+
+        // Act
+        InitiatePaymentOrdersBatchResponse response = mapper.toBatchResponse(results);
+
+        // Assert
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).hasSize(3);
+        assertThat(response.getResults().get(0).getPaymentOrderId()).isEqualTo("PO-1234567890123456");
+        assertThat(response.getResults().get(0).getStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.model.PaymentStatus.INITIATED);
+        assertThat(response.getResults().get(0).getError()).isNull();
+        assertThat(response.getResults().get(1).getError().getStatus()).isEqualTo(400);
+        assertThat(response.getResults().get(1).getError().getDetail()).contains("in the past");
+        assertThat(response.getResults().get(2).getError().getStatus()).isEqualTo(500);
+        assertThat(response.getResults().get(2).getIndex()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should map status snapshot to PaymentOrderStatusResponse")
+    void shouldMapStatusSnapshotToStatusResponse() {
+        // Arrange
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                "PO-1234567890123456", PaymentStatus.PENDING, LocalDateTime.now(), 0L);
+
+        // Act
+        PaymentOrderStatusResponse response = mapper.toStatusResponse(snapshot);
+
+        // Assert
+        assertThat(response.getPaymentOrderId()).isEqualTo("PO-1234567890123456");
+        assertThat(response.getStatus().getValue()).isEqualTo("PENDING");
+        assertThat(response.getLastUpdate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should map list filters to search criteria, normalizing creation dates to UTC")
+    void shouldMapListFiltersToSearchCriteria() {
+        // Act
+        PaymentOrderSearchCriteria criteria = mapper.toSearchCriteria(
+                com.bank.paymentinitiation.generated.model.PaymentStatus.COMPLETED,
+                "EC123456789012345678", "EC987654321098765432",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31),
+                OffsetDateTime.of(2025, 10, 1, 2, 0, 0, 0, ZoneOffset.ofHours(2)), null);
+
+        // Assert
+        assertThat(criteria.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(criteria.getPayerReference()).isEqualTo(new PayerReference("EC123456789012345678"));
+        assertThat(criteria.getPayeeReference()).isEqualTo(new PayeeReference("EC987654321098765432"));
+        assertThat(criteria.getRequestedExecutionDateFrom()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(criteria.getRequestedExecutionDateTo()).isEqualTo(LocalDate.of(2025, 10, 31));
+        assertThat(criteria.getCreatedFrom()).isEqualTo(LocalDateTime.of(2025, 10, 1, 0, 0));
+        assertThat(criteria.getCreatedTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map missing list filters to empty criteria")
+    void shouldMapMissingListFiltersToEmptyCriteria() {
+        // Act
+        PaymentOrderSearchCriteria criteria = mapper.toSearchCriteria(null, null, null, null, null, null, null);
+
+        // Assert
+        assertThat(criteria).isEqualTo(PaymentOrderSearchCriteria.none());
+    }
+
+    @Test
+    @DisplayName("Should round-trip the cursor through its opaque token")
+    void shouldRoundTripCursorToken() {
+        // Arrange
+        PaymentOrderCursor cursor = new PaymentOrderCursor(
+                LocalDateTime.of(2025, 10, 30, 16, 25, 30, 123_456_000), "PO-1234567890123456");
+
+        // Act
+        String token = mapper.toCursorToken(cursor);
+
+        // Assert
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(mapper.toCursor(token)).isEqualTo(cursor);
+        assertThat(mapper.toCursor(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor tokens")
+    void shouldRejectMalformedCursorTokens() {
+        // Arrange
+        String notBase64 = "%%%";
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2025-10-30T16:25:30".getBytes());
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|PO-1".getBytes());
+
+        // Act & Assert
+        assertThatThrownBy(() -> mapper.toCursor(notBase64))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> mapper.toCursor(noSeparator))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> mapper.toCursor(badDate))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+    }
+
+    @Test
+    @DisplayName("Should map a page to the list response with its next cursor")
+    void shouldMapPageToListResponse() {
+        // Arrange
+        PaymentOrder order = PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.of(2025, 10, 30, 16, 25, 30))
+                .updatedAt(LocalDateTime.of(2025, 10, 30, 16, 25, 30))
+                .build();
+        PaymentOrderCursor cursor = PaymentOrderCursor.after(order);
+
+        // Act
+        PaymentOrderListResponse withNext = mapper.toListResponse(new PaymentOrderPage(List.of(order), cursor));
+        PaymentOrderListResponse last = mapper.toListResponse(new PaymentOrderPage(List.of(order), null));
+
+        // Assert
+        assertThat(withNext.getItems()).extracting(RetrievePaymentOrderResponse::getPaymentOrderId)
+                .containsExactly("PO-1234567890123456");
+        assertThat(mapper.toCursor(withNext.getNextCursor())).isEqualTo(cursor);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map a status change batch to the domain and each result to its problem detail")
+    void shouldMapStatusChangeBatch() {
+        // Arrange
+        ChangePaymentOrdersStatusRequest request = new ChangePaymentOrdersStatusRequest(List.of(
+                new com.bank.paymentinitiation.generated.model.PaymentOrderStatusChange(
+                        "PO-1", com.bank.paymentinitiation.generated.model.PaymentStatus.PENDING)));
+        List<PaymentOrderStatusChangeResult> results = List.of(
+                PaymentOrderStatusChangeResult.changed(0, "PO-1", PaymentStatus.INITIATED, PaymentStatus.PENDING),
+                PaymentOrderStatusChangeResult.unchanged(1, "PO-2", PaymentStatus.PENDING),
+                PaymentOrderStatusChangeResult.notFound(2, "PO-3"),
+                PaymentOrderStatusChangeResult.rejected(3, "PO-4", PaymentStatus.COMPLETED, "final"),
+                PaymentOrderStatusChangeResult.conflict(4, "PO-5", PaymentStatus.PENDING),
+                PaymentOrderStatusChangeResult.failed(5, "PO-6", PaymentStatus.PENDING, "boom"));
+
+        // Act
+        List<PaymentOrderStatusChange> changes = mapper.toStatusChanges(request);
+        ChangePaymentOrdersStatusResponse response = mapper.toStatusChangeResponse(results);
+
+        // Assert
+        assertThat(changes).containsExactly(new PaymentOrderStatusChange("PO-1", PaymentStatus.PENDING));
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getResults().get(0).getPreviousStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.model.PaymentStatus.INITIATED);
+        assertThat(response.getResults().get(0).getStatus())
+                .isEqualTo(com.bank.paymentinitiation.generated.model.PaymentStatus.PENDING);
+        assertThat(response.getResults().get(0).getError()).isNull();
+        assertThat(response.getResults().get(1).getError()).isNull();
+        assertThat(response.getResults().get(2).getPaymentOrderId()).isEqualTo("PO-3");
+        assertThat(response.getResults().get(2).getStatus()).isNull();
+        assertThat(response.getResults().stream().skip(2).map(item -> item.getError().getStatus()))
+                .containsExactly(404, 409, 409, 500);
+        assertThat(response.getResults().get(4).getError().getTitle()).isEqualTo("Concurrent Status Change");
+        assertThat(response.getResults().get(5).getError().getDetail()).isEqualTo("boom");
+    }
+
+
+    @Test
+    @DisplayName("Should map the target status of a single status change")
+    void shouldMapTargetStatus() {
+        // Arrange
+        ChangePaymentOrderStatusRequest request = new ChangePaymentOrderStatusRequest()
+                .status(com.bank.paymentinitiation.generated.model.PaymentStatus.CANCELLED);
+
+        // Act
+        PaymentStatus status = mapper.toTargetStatus(request);
+
+        // Assert
+        assertThat(status).isEqualTo(PaymentStatus.CANCELLED);
+    }
+}
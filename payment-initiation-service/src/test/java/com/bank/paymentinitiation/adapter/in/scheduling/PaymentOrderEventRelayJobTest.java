@@ -0,0 +1,33 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.port.in.RelayPaymentOrderEventsUseCase;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderEventRelayJob Tests")
+class PaymentOrderEventRelayJobTest {
+
+    @Mock
+    private RelayPaymentOrderEventsUseCase relayPaymentOrderEventsUseCase;
+
+    @InjectMocks
+    private PaymentOrderEventRelayJob job;
+
+    @Test
+    @DisplayName("Should relay pending events on each run")
+    void shouldRelayPendingEventsOnEachRun() {
+        // Act
+        job.run();
+
+        // Assert
+        verify(relayPaymentOrderEventsUseCase).relayPending();
+    }
+}
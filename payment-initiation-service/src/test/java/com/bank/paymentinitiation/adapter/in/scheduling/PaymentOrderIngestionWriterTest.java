@@ -0,0 +1,77 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.port.in.IngestPaymentOrderUseCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderIngestionWriter Tests")
+class PaymentOrderIngestionWriterTest {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(5);
+
+    @Mock
+    private IngestPaymentOrderUseCase ingestPaymentOrderUseCase;
+
+    @Test
+    @DisplayName("Should recover the journal before draining and drain the rest of the queue on stop")
+    void shouldRecoverDrainAndFlushOnStop() {
+        // Arrange
+        PaymentOrderIngestionWriter writer = new PaymentOrderIngestionWriter(ingestPaymentOrderUseCase,
+                POLL_TIMEOUT, Duration.ZERO);
+        when(ingestPaymentOrderUseCase.recover()).thenReturn(3);
+        lenient().when(ingestPaymentOrderUseCase.drain(POLL_TIMEOUT)).thenReturn(0);
+        when(ingestPaymentOrderUseCase.drain(Duration.ZERO)).thenReturn(2, 0);
+
+        // Act
+        writer.start();
+        boolean runningAfterStart = writer.isRunning();
+        verify(ingestPaymentOrderUseCase, timeout(1000).atLeast(1)).drain(POLL_TIMEOUT);
+        writer.stop();
+
+        // Assert
+        assertThat(runningAfterStart).isTrue();
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(writer.getPhase()).isEqualTo(PaymentOrderIngestionWriter.PHASE);
+        var order = inOrder(ingestPaymentOrderUseCase);
+        order.verify(ingestPaymentOrderUseCase).recover();
+        order.verify(ingestPaymentOrderUseCase, atLeast(1)).drain(POLL_TIMEOUT);
+        order.verify(ingestPaymentOrderUseCase, times(2)).drain(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should keep draining after a failed batch and stop flushing at the first failure")
+    void shouldRetryAfterFailedBatch() {
+        // Arrange
+        PaymentOrderIngestionWriter writer = new PaymentOrderIngestionWriter(ingestPaymentOrderUseCase,
+                POLL_TIMEOUT, Duration.ofMillis(1));
+        when(ingestPaymentOrderUseCase.drain(POLL_TIMEOUT))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(0);
+        when(ingestPaymentOrderUseCase.drain(Duration.ZERO)).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        writer.start();
+        verify(ingestPaymentOrderUseCase, timeout(1000).atLeast(2)).drain(POLL_TIMEOUT);
+        writer.stop();
+
+        // Assert
+        assertThat(writer.isRunning()).isFalse();
+        verify(ingestPaymentOrderUseCase).drain(Duration.ZERO);
+    }
+}
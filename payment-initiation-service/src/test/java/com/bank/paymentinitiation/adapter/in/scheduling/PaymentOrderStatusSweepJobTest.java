@@ -0,0 +1,35 @@
+package com.bank.paymentinitiation.adapter.in.scheduling;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderStatusSweepJob Tests")
+class PaymentOrderStatusSweepJobTest {
+
+    @Mock
+    private ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
+
+    @InjectMocks
+    private PaymentOrderStatusSweepJob job;
+
+    @Test
+    @DisplayName("Should release the orders due today on each run")
+    void shouldReleaseOrdersDueToday() {
+        // Act
+        job.run();
+
+        // Assert
+        verify(changePaymentOrderStatusUseCase).releaseDueOrders(LocalDate.now());
+    }
+}
@@ -0,0 +1,212 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.GetPaymentOrderStatus;
+import com.bank.paymentinitiation.adapter.in.soap.LegacySoapRequest.SubmitPaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LegacyPaymentOrderSoapCodec Tests")
+class LegacyPaymentOrderSoapCodecTest {
+
+    // Payloads de Prueba-tecnica-Java-migracion/legacy/samples
+    static final String SUBMIT_PAYLOAD = """
+            <SubmitPaymentOrderRequest xmlns="http://legacy.bank/payments">
+              <externalId>EXT-123</externalId>
+              <debtorIban>EC12DEBTOR</debtorIban>
+              <creditorIban>EC98CREDITOR</creditorIban>
+              <amount>150.75</amount>
+              <currency>USD</currency>
+              <remittanceInfo>Factura 001-123</remittanceInfo>
+              <requestedExecutionDate>2025-10-31</requestedExecutionDate>
+            </SubmitPaymentOrderRequest>""";
+
+    static final String STATUS_PAYLOAD = """
+            <GetPaymentOrderStatusRequest xmlns="http://legacy.bank/payments">
+              <paymentOrderId>PO-0001</paymentOrderId>
+            </GetPaymentOrderStatusRequest>""";
+
+    private final LegacyPaymentOrderSoapCodec codec = new LegacyPaymentOrderSoapCodec();
+
+    static String envelope(final String payload) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soapenv:Header><wsse:Security xmlns:wsse=\"urn:test\"><token>x</token></wsse:Security>"
+                + "</soapenv:Header>"
+                + "<soapenv:Body>" + payload + "</soapenv:Body></soapenv:Envelope>";
+    }
+
+    private LegacySoapRequest read(final String xml) throws XMLStreamException {
+        return codec.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should read SubmitPaymentOrder from a SOAP envelope, skipping the header")
+    void shouldReadSubmitFromEnvelope() throws XMLStreamException {
+        // Act
+        LegacySoapRequest request = read(envelope(SUBMIT_PAYLOAD));
+
+        // Assert
+        assertThat(request).isEqualTo(new SubmitPaymentOrder("EXT-123", "EC12DEBTOR", "EC98CREDITOR",
+                new BigDecimal("150.75"), "USD", "Factura 001-123", LocalDate.of(2025, 10, 31)));
+    }
+
+    @Test
+    @DisplayName("Should read GetPaymentOrderStatus from a bare payload")
+    void shouldReadStatusFromBarePayload() throws XMLStreamException {
+        // Act
+        LegacySoapRequest request = read(STATUS_PAYLOAD);
+
+        // Assert
+        assertThat(request).isEqualTo(new GetPaymentOrderStatus("PO-0001"));
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown elements, accept any field order and an optional remittanceInfo")
+    void shouldIgnoreUnknownElements() throws XMLStreamException {
+        // Arrange
+        String payload = "<p:SubmitPaymentOrderRequest xmlns:p=\"http://legacy.bank/payments\">"
+                + "<requestedExecutionDate>2025-10-31Z</requestedExecutionDate>"
+                + "<extension><nested>1</nested></extension>"
+                + "<externalId>EXT-1</externalId><debtorIban>D</debtorIban><creditorIban>C</creditorIban>"
+                + "<currency>EUR</currency><amount> 10 </amount>"
+                + "</p:SubmitPaymentOrderRequest>";
+
+        // Act
+        SubmitPaymentOrder request = (SubmitPaymentOrder) read(envelope(payload));
+
+        // Assert
+        assertThat(request.amount()).isEqualByComparingTo("10");
+        assertThat(request.requestedExecutionDate()).isEqualTo(LocalDate.of(2025, 10, 31));
+        assertThat(request.remittanceInfo()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject missing elements and invalid decimals or dates as client faults")
+    void shouldRejectMissingOrInvalidElements() {
+        // Act & Assert
+        assertThatThrownBy(() -> read(SUBMIT_PAYLOAD.replace("<debtorIban>EC12DEBTOR</debtorIban>", "")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessage("Missing element 'debtorIban'")
+                .extracting("faultCode").isEqualTo("Client");
+        assertThatThrownBy(() -> read(SUBMIT_PAYLOAD.replace("150.75", "abc")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessageContaining("amount");
+        assertThatThrownBy(() -> read(SUBMIT_PAYLOAD.replace("2025-10-31", "31/10/2025")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessageContaining("requestedExecutionDate");
+        assertThatThrownBy(() -> read(STATUS_PAYLOAD.replace("PO-0001", " ")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessage("Missing element 'paymentOrderId'");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operations, empty bodies and other SOAP versions")
+    void shouldRejectUnknownOperationsAndVersions() {
+        // Act & Assert
+        assertThatThrownBy(() -> read(envelope("<CancelPaymentOrderRequest xmlns=\"http://legacy.bank/payments\"/>")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessage("Unknown operation: CancelPaymentOrderRequest");
+        assertThatThrownBy(() -> read(envelope(STATUS_PAYLOAD.replace("http://legacy.bank/payments", "urn:other"))))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessageStartingWith("Unknown operation: {urn:other}");
+        assertThatThrownBy(() -> read(envelope("")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .hasMessage("Empty SOAP Body");
+        assertThatThrownBy(() -> read(envelope(STATUS_PAYLOAD)
+                .replace("http://schemas.xmlsoap.org/soap/envelope/", "http://www.w3.org/2003/05/soap-envelope")))
+                .isInstanceOf(MalformedSoapRequestException.class)
+                .extracting("faultCode").isEqualTo("VersionMismatch");
+    }
+
+    @Test
+    @DisplayName("Should reject DTDs so external entities are never resolved")
+    void shouldRejectDtd() {
+        // Arrange
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE r [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+                + STATUS_PAYLOAD.replace("PO-0001", "&xxe;");
+
+        // Act & Assert
+        assertThatThrownBy(() -> read(xml)).isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    @DisplayName("Should write SubmitPaymentOrderResponse mapping INITIATED to ACCEPTED")
+    void shouldWriteSubmitResponse() throws XMLStreamException {
+        // Arrange
+        PaymentOrder order = PaymentOrder.builder()
+                .paymentOrderReference("PO-0001")
+                .status(PaymentStatus.INITIATED)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        codec.writeSubmitResponse(order, out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                        + "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body>"
+                        + "<SubmitPaymentOrderResponse xmlns=\"http://legacy.bank/payments\">"
+                        + "<paymentOrderId>PO-0001</paymentOrderId><status>ACCEPTED</status>"
+                        + "</SubmitPaymentOrderResponse></soap:Body></soap:Envelope>");
+    }
+
+    @Test
+    @DisplayName("Should write GetPaymentOrderStatusResponse mapping COMPLETED to SETTLED with a UTC lastUpdate")
+    void shouldWriteStatusResponse() throws XMLStreamException {
+        // Arrange
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                "PO-0001", PaymentStatus.COMPLETED, LocalDateTime.of(2025, 10, 30, 16, 25, 30), 3L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        codec.writeStatusResponse(snapshot, out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains(
+                "<GetPaymentOrderStatusResponse xmlns=\"http://legacy.bank/payments\">"
+                        + "<paymentOrderId>PO-0001</paymentOrderId><status>SETTLED</status>"
+                        + "<lastUpdate>2025-10-30T16:25:30Z</lastUpdate></GetPaymentOrderStatusResponse>");
+    }
+
+    @Test
+    @DisplayName("Should write an escaped SOAP 1.1 fault")
+    void shouldWriteFault() throws XMLStreamException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        codec.writeFault("Client", "Invalid <amount> & currency", out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains(
+                "<soap:Fault><faultcode>soap:Client</faultcode>"
+                        + "<faultstring>Invalid &lt;amount&gt; &amp; currency</faultstring></soap:Fault>");
+    }
+
+    @Test
+    @DisplayName("Should keep BIAN names for statuses without a legacy equivalent")
+    void shouldMapLegacyStatuses() {
+        // Act & Assert
+        assertThat(LegacyPaymentOrderSoapCodec.legacyStatus(PaymentStatus.INITIATED)).isEqualTo("ACCEPTED");
+        assertThat(LegacyPaymentOrderSoapCodec.legacyStatus(PaymentStatus.COMPLETED)).isEqualTo("SETTLED");
+        assertThat(LegacyPaymentOrderSoapCodec.legacyStatus(PaymentStatus.PENDING)).isEqualTo("PENDING");
+        assertThat(LegacyPaymentOrderSoapCodec.legacyStatus(PaymentStatus.CANCELLED)).isEqualTo("CANCELLED");
+    }
+}
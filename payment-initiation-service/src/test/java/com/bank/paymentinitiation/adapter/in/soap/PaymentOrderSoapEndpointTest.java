@@ -0,0 +1,94 @@
+package com.bank.paymentinitiation.adapter.in.soap;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:soaptest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureWebTestClient
+@DisplayName("PaymentOrderSoapEndpoint Tests")
+class PaymentOrderSoapEndpointTest {
+
+    private static final Pattern PAYMENT_ORDER_ID = Pattern.compile("<paymentOrderId>(PO-[^<]+)</paymentOrderId>");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String post(final String body, final int expectedStatus) {
+        return webTestClient.post()
+                .uri(PaymentOrderSoapEndpoint.PATH)
+                .contentType(MediaType.TEXT_XML)
+                .header("SOAPAction", "\"submit\"")
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isEqualTo(expectedStatus)
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_XML)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Test
+    @DisplayName("Should submit a payment order and return its status through SOAP")
+    void shouldSubmitAndRetrieveStatus() {
+        // Arrange
+        String submit = LegacyPaymentOrderSoapCodecTest.envelope(LegacyPaymentOrderSoapCodecTest.SUBMIT_PAYLOAD
+                .replace("2025-10-31", LocalDate.now().plusDays(1).toString()));
+
+        // Act
+        String submitResponse = post(submit, 200);
+        Matcher matcher = PAYMENT_ORDER_ID.matcher(submitResponse);
+        assertThat(matcher.find()).isTrue();
+        String statusResponse = post(LegacyPaymentOrderSoapCodecTest.envelope(
+                LegacyPaymentOrderSoapCodecTest.STATUS_PAYLOAD.replace("PO-0001", matcher.group(1))), 200);
+
+        // Assert
+        assertThat(submitResponse).contains("<status>ACCEPTED</status>");
+        assertThat(statusResponse)
+                .contains("<GetPaymentOrderStatusResponse xmlns=\"http://legacy.bank/payments\">")
+                .contains("<paymentOrderId>" + matcher.group(1) + "</paymentOrderId>")
+                .contains("<status>ACCEPTED</status>")
+                .containsPattern("<lastUpdate>[^<]+Z</lastUpdate>");
+    }
+
+    @Test
+    @DisplayName("Should return a soap:Client fault for unknown orders and past execution dates")
+    void shouldReturnClientFaults() {
+        // Act
+        String notFound = post(LegacyPaymentOrderSoapCodecTest.envelope(
+                LegacyPaymentOrderSoapCodecTest.STATUS_PAYLOAD.replace("PO-0001", "PO-404")), 500);
+        String pastDate = post(LegacyPaymentOrderSoapCodecTest.envelope(
+                LegacyPaymentOrderSoapCodecTest.SUBMIT_PAYLOAD.replace("2025-10-31", "2020-01-01")), 500);
+
+        // Assert
+        assertThat(notFound).contains("<faultcode>soap:Client</faultcode>")
+                .contains("Payment order not found with reference: PO-404");
+        assertThat(pastDate).contains("<faultcode>soap:Client</faultcode>")
+                .contains("Requested execution date cannot be in the past");
+    }
+
+    @Test
+    @DisplayName("Should return a soap:Client fault for malformed XML and invalid amounts")
+    void shouldReturnClientFaultsForInvalidEnvelopes() {
+        // Act
+        String malformed = post("<soapenv:Envelope", 500);
+        String negativeAmount = post(LegacyPaymentOrderSoapCodecTest.envelope(
+                LegacyPaymentOrderSoapCodecTest.SUBMIT_PAYLOAD.replace("150.75", "-1")), 500);
+
+        // Assert
+        assertThat(malformed).contains("<faultcode>soap:Client</faultcode>");
+        assertThat(negativeAmount).contains("<faultcode>soap:Client</faultcode>")
+                .contains("Payment amount must be greater than zero");
+    }
+}
@@ -0,0 +1,149 @@
+package com.bank.paymentinitiation.adapter.in.sse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.bank.paymentinitiation.generated.model.PaymentOrderStatusResponse;
+
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:ssetest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureWebTestClient
+@DisplayName("PaymentOrderStatusStreamController Tests")
+class PaymentOrderStatusStreamControllerTest {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<PaymentOrderStatusResponse>> STATUS_EVENT =
+            new ParameterizedTypeReference<>() { };
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PaymentOrderStatusStreams streams;
+
+    private String createPaymentOrder(final String externalReference) {
+        Map<String, Object> request = Map.of(
+                "externalReference", externalReference,
+                "debtorAccount", Map.of("iban", "EC123456789012345678"),
+                "creditorAccount", Map.of("iban", "EC987654321098765432"),
+                "instructedAmount", Map.of("amount", 150.75, "currency", "USD"),
+                "remittanceInformation", "Factura SSE",
+                "requestedExecutionDate", LocalDate.now().plusDays(1).toString());
+        return webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody()
+                .get("paymentOrderId")
+                .toString();
+    }
+
+    private void changeStatus(final String paymentOrderId, final String status) {
+        webTestClient.put()
+                .uri("/payment-initiation/payment-orders/{id}/status", paymentOrderId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("status", status))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should stream the current status and its changes until the order is final")
+    void shouldStreamStatusUntilFinal() {
+        // Arrange
+        String paymentOrderId = createPaymentOrder("EXT-SSE-1");
+
+        // Act
+        Flux<ServerSentEvent<PaymentOrderStatusResponse>> events = webTestClient.get()
+                .uri(PaymentOrderStatusStreamController.PATH, paymentOrderId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(STATUS_EVENT)
+                .getResponseBody();
+        changeStatus(paymentOrderId, "PENDING");
+        changeStatus(paymentOrderId, "CANCELLED");
+        List<ServerSentEvent<PaymentOrderStatusResponse>> received = events
+                .filter(event -> event.data() != null)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertThat(received).isNotEmpty()
+                .allSatisfy(event -> {
+                    assertThat(event.event()).isEqualTo(PaymentOrderStatusStream.STATUS_EVENT);
+                    assertThat(event.data().getPaymentOrderId()).isEqualTo(paymentOrderId);
+                });
+        assertThat(received.get(received.size() - 1).data().getStatus().getValue()).isEqualTo("CANCELLED");
+        assertThat(streams.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stream several payment orders on one connection")
+    void shouldStreamSeveralPaymentOrders() {
+        // Arrange
+        String first = createPaymentOrder("EXT-SSE-2");
+        String second = createPaymentOrder("EXT-SSE-3");
+        changeStatus(first, "CANCELLED");
+        changeStatus(second, "CANCELLED");
+
+        // Act
+        List<ServerSentEvent<PaymentOrderStatusResponse>> received = webTestClient.get()
+                .uri(uri -> uri.path(PaymentOrderStatusStreamController.MULTI_PATH)
+                        .queryParam("paymentOrderId", first, second)
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(STATUS_EVENT)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertThat(received).extracting(event -> event.data().getPaymentOrderId())
+                .containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("Should answer 404 and 400 ProblemDetails before opening the stream")
+    void shouldRejectUnknownOrdersAndInvalidSubscriptions() {
+        // Act & Assert
+        webTestClient.get()
+                .uri(PaymentOrderStatusStreamController.PATH, "PO-404")
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_PROBLEM_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Payment Order Not Found");
+
+        webTestClient.get()
+                .uri(uri -> uri.path(PaymentOrderStatusStreamController.MULTI_PATH)
+                        .queryParam("paymentOrderId", "PO-1", " ")
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_PROBLEM_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+        assertThat(streams.size()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bank.paymentinitiation.adapter.in.sse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bank.paymentinitiation.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderStatusStream Tests")
+class PaymentOrderStatusStreamTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 10, 30, 12, 0);
+
+    @Mock
+    private PaymentOrderRestMapper mapper;
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final List<PaymentOrderStatusStream> closed = new ArrayList<>();
+
+    private PaymentOrderStatusStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new PaymentOrderStatusStream(emitter, List.of("PO-1", "PO-2"), mapper, executor, closed::add);
+    }
+
+    private static PaymentOrderStatusSnapshot snapshot(final String reference, final PaymentStatus status,
+            final int minutes) {
+        return new PaymentOrderStatusSnapshot(reference, status, T0.plusMinutes(minutes), null);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep one write in flight and coalesce pending statuses per payment order")
+    void shouldCoalescePendingStatuses() throws IOException {
+        // Act
+        stream.accept(snapshot("PO-1", PaymentStatus.INITIATED, 0));
+        stream.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        stream.accept(snapshot("PO-2", PaymentStatus.PENDING, 1));
+        stream.accept(snapshot("PO-1", PaymentStatus.PROCESSED, 2));
+        int pending = stream.pendingSize();
+        int scheduled = tasks.size();
+        runTasks();
+
+        // Assert
+        assertThat(pending).isEqualTo(2);
+        assertThat(scheduled).isEqualTo(1);
+        verify(mapper).toStatusResponse(snapshot("PO-1", PaymentStatus.PROCESSED, 2));
+        verify(mapper).toStatusResponse(snapshot("PO-2", PaymentStatus.PENDING, 1));
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(stream.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop repeated, older and unwatched statuses")
+    void shouldDropStaleStatuses() {
+        // Act
+        stream.accept(snapshot("PO-1", PaymentStatus.PENDING, 5));
+        stream.accept(snapshot("PO-1", PaymentStatus.PENDING, 5));
+        stream.accept(snapshot("PO-1", PaymentStatus.INITIATED, 0));
+        stream.accept(snapshot("PO-9", PaymentStatus.PENDING, 5));
+        runTasks();
+
+        // Assert
+        verify(mapper).toStatusResponse(snapshot("PO-1", PaymentStatus.PENDING, 5));
+        verify(mapper, times(1)).toStatusResponse(any(PaymentOrderStatusSnapshot.class));
+        assertThat(PaymentOrderStatusStream.isStale(
+                new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PENDING, T0, 3L),
+                new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PROCESSED, T0, 2L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should complete the stream once every payment order reaches a final status")
+    void shouldCompleteWhenAllOrdersAreFinal() {
+        // Act
+        stream.accept(snapshot("PO-1", PaymentStatus.COMPLETED, 1));
+        runTasks();
+        boolean closedAfterFirst = stream.isClosed();
+        stream.accept(snapshot("PO-1", PaymentStatus.FAILED, 2));
+        stream.accept(snapshot("PO-2", PaymentStatus.CANCELLED, 1));
+        runTasks();
+
+        // Assert
+        assertThat(closedAfterFirst).isFalse();
+        verify(mapper, never()).toStatusResponse(snapshot("PO-1", PaymentStatus.FAILED, 2));
+        assertThat(stream.isClosed()).isTrue();
+        assertThat(closed).containsExactly(stream);
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("Should send a heartbeat comment only when no write is in flight")
+    void shouldSendHeartbeatWhenIdle() throws IOException {
+        // Act
+        stream.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        stream.heartbeat();
+        runTasks();
+        stream.heartbeat();
+        runTasks();
+
+        // Assert
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should close without completing when the client has disconnected")
+    void shouldCloseWhenClientDisconnects() throws IOException {
+        // Arrange
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // Act
+        stream.accept(snapshot("PO-1", PaymentStatus.PENDING, 1));
+        runTasks();
+        stream.accept(snapshot("PO-2", PaymentStatus.PENDING, 1));
+
+        // Assert
+        assertThat(stream.isClosed()).isTrue();
+        assertThat(closed).containsExactly(stream);
+        assertThat(tasks).isEmpty();
+        verify(emitter, never()).complete();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bank.paymentinitiation.adapter.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimedMethodInterceptor Tests")
+class TimedMethodInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Timed(value = "test.mapper", histogram = true, extraTags = {"layer", "test"})
+    interface SampleMapper {
+
+        String map(String value);
+    }
+
+    static class SampleMapperImpl implements SampleMapper {
+
+        @Override
+        public String map(final String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("value");
+            }
+            return value.toUpperCase();
+        }
+
+        @Override
+        public String toString() {
+            return "SampleMapperImpl";
+        }
+    }
+
+    private SampleMapper proxy() {
+        ProxyFactory factory = new ProxyFactory(new SampleMapperImpl());
+        factory.setProxyTargetClass(true); // Como Spring Boot: subclase CGLIB de la implementación
+        factory.addAdvisor(new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Timed.class, true),
+                new TimedMethodInterceptor(() -> meterRegistry)));
+        return (SampleMapper) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time methods of a class annotated through its interface, tagged with the annotated type")
+    void shouldTimeMethodsAnnotatedOnInterface() {
+        // Arrange
+        SampleMapper mapper = proxy();
+
+        // Act
+        mapper.map("a");
+        mapper.map("b");
+
+        // Assert
+        Timer timer = meterRegistry.get("test.mapper")
+                .tags("class", "SampleMapper", "method", "map", "exception", "none", "layer", "test")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.getMeters()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should record failed calls under the exception type and rethrow")
+    void shouldRecordExceptionTag() {
+        // Arrange
+        SampleMapper mapper = proxy();
+
+        // Act & Assert
+        assertThatThrownBy(() -> mapper.map(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.get("test.mapper").tag("exception", "IllegalArgumentException").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave Object methods untimed")
+    void shouldSkipObjectMethods() {
+        // Arrange
+        SampleMapper mapper = proxy();
+
+        // Act
+        String description = mapper.toString();
+
+        // Assert
+        assertThat(description).isEqualTo("SampleMapperImpl");
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
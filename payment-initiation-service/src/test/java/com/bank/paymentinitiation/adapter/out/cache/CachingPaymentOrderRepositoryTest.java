@@ -0,0 +1,395 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingPaymentOrderRepository Tests")
+class CachingPaymentOrderRepositoryTest {
+
+    private static final String REFERENCE = "PO-1234567890123456";
+
+    @Mock
+    private PaymentOrderRepository delegate;
+
+    private Cache<String, PaymentOrder> cache;
+
+    private Cache<String, String> idempotencyKeys;
+
+    private CachingPaymentOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        idempotencyKeys = Caffeine.newBuilder().maximumSize(100).build();
+        repository = new CachingPaymentOrderRepository(delegate, cache, idempotencyKeys);
+    }
+
+    private PaymentOrder createValidPaymentOrder(final String reference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería consultar el delegado solo en el primer findByReference")
+    void shouldLoadFromDelegateOnlyOnFirstLookup() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        when(delegate.findByReference(REFERENCE)).thenReturn(Optional.of(order));
+
+        // Act
+        Optional<PaymentOrder> first = repository.findByReference(REFERENCE);
+        Optional<PaymentOrder> second = repository.findByReference(REFERENCE);
+
+        // Assert
+        assertThat(first).contains(order);
+        assertThat(second).contains(order);
+        verify(delegate, times(1)).findByReference(REFERENCE);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No debería cachear referencias inexistentes")
+    void shouldNotCacheMissingReferences() {
+        // Arrange
+        when(delegate.findByReference("PO-UNKNOWN")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<PaymentOrder> first = repository.findByReference("PO-UNKNOWN");
+        Optional<PaymentOrder> second = repository.findByReference("PO-UNKNOWN");
+
+        // Assert
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(delegate, times(2)).findByReference("PO-UNKNOWN");
+        assertThat(cache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería poblar la caché al insertar y servir la lectura sin delegado")
+    void shouldPopulateCacheOnInsert() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        when(delegate.insert(order)).thenReturn(order);
+
+        // Act
+        PaymentOrder inserted = repository.insert(order);
+        Optional<PaymentOrder> found = repository.findByReference(REFERENCE);
+
+        // Assert
+        assertThat(inserted).isSameAs(order);
+        assertThat(found).contains(order);
+        verify(delegate, never()).findByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería reemplazar la entrada cacheada al guardar")
+    void shouldReplaceCachedEntryOnSave() {
+        // Arrange
+        PaymentOrder original = createValidPaymentOrder(REFERENCE);
+        PaymentOrder updated = original.changeStatus(PaymentStatus.PENDING);
+        cache.put(REFERENCE, original);
+        when(delegate.save(updated)).thenReturn(updated);
+
+        // Act
+        repository.save(updated);
+        Optional<PaymentOrder> found = repository.findByReference(REFERENCE);
+
+        // Assert
+        assertThat(found).contains(updated);
+        verify(delegate, never()).findByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería poblar la caché con todas las órdenes insertadas por lote")
+    void shouldPopulateCacheOnInsertAll() {
+        // Arrange
+        PaymentOrder first = createValidPaymentOrder("PO-0000000000000001");
+        PaymentOrder second = createValidPaymentOrder("PO-0000000000000002");
+        List<PaymentOrder> orders = List.of(first, second);
+        when(delegate.insertAll(orders)).thenReturn(orders);
+
+        // Act
+        List<PaymentOrder> inserted = repository.insertAll(orders);
+
+        // Assert
+        assertThat(inserted).containsExactly(first, second);
+        assertThat(cache.asMap()).containsKeys("PO-0000000000000001", "PO-0000000000000002");
+    }
+
+    @Test
+    @DisplayName("No debería cachear la orden si la persistencia falla")
+    void shouldNotCacheWhenDelegateFails() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        when(delegate.insert(order)).thenThrow(new IllegalStateException("boom"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> repository.insert(order))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería derivar el estado de la orden cacheada sin consultar el delegado")
+    void shouldDeriveStatusFromCachedOrder() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        cache.put(REFERENCE, order);
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = repository.findStatusByReference(REFERENCE);
+
+        // Assert
+        assertThat(result).contains(PaymentOrderStatusSnapshot.of(order));
+        verify(delegate, never()).findStatusByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería usar la proyección del delegado sin poblar la caché en un fallo")
+    void shouldUseDelegateProjectionOnMiss() {
+        // Arrange
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                REFERENCE, PaymentStatus.PENDING, LocalDateTime.now(), 0L);
+        when(delegate.findStatusByReference(REFERENCE)).thenReturn(Optional.of(snapshot));
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = repository.findStatusByReference(REFERENCE);
+
+        // Assert
+        assertThat(result).contains(snapshot);
+        assertThat(cache.asMap()).isEmpty();
+        verify(delegate, never()).findByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería resolver una clave de idempotencia conocida sin consultar el delegado")
+    void shouldResolveKnownIdempotencyKeyFromCache() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder order = createValidPaymentOrder(REFERENCE).toBuilder().idempotencyKey(key).build();
+        when(delegate.insert(order)).thenReturn(order);
+        repository.insert(order);
+
+        // Act
+        Optional<PaymentOrder> result = repository.findByIdempotencyKey(key);
+
+        // Assert
+        assertThat(result).containsSame(order);
+        assertThat(idempotencyKeys.getIfPresent(key.getValue())).isEqualTo(REFERENCE);
+        verify(delegate, never()).findByIdempotencyKey(key);
+        verify(delegate, never()).findByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería descartar una entrada de idempotencia obsoleta y consultar el delegado")
+    void shouldFallBackToDelegateOnStaleIdempotencyEntry() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-2");
+        idempotencyKeys.put(key.getValue(), REFERENCE);
+        when(delegate.findByReference(REFERENCE)).thenReturn(Optional.empty());
+        when(delegate.findByIdempotencyKey(key)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<PaymentOrder> result = repository.findByIdempotencyKey(key);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(idempotencyKeys.getIfPresent(key.getValue())).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería resolver solo desde memoria la búsqueda de una clave de idempotencia en caché")
+    void shouldResolveCachedIdempotencyKeyWithoutDelegate() {
+        // Arrange
+        IdempotencyKey known = IdempotencyKey.ofClientKey("retry-4");
+        IdempotencyKey unknown = IdempotencyKey.ofClientKey("retry-5");
+        PaymentOrder order = createValidPaymentOrder(REFERENCE).toBuilder().idempotencyKey(known).build();
+        when(delegate.insert(order)).thenReturn(order);
+        repository.insert(order);
+
+        // Act
+        Optional<PaymentOrder> hit = repository.findCachedByIdempotencyKey(known);
+        Optional<PaymentOrder> miss = repository.findCachedByIdempotencyKey(unknown);
+
+        // Assert
+        assertThat(hit).containsSame(order);
+        assertThat(miss).isEmpty();
+        verify(delegate, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+        verify(delegate, never()).findByReference(REFERENCE);
+    }
+
+    @Test
+    @DisplayName("Debería recordar la clave de idempotencia encontrada por el delegado")
+    void shouldRememberIdempotencyKeyFoundByDelegate() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-3");
+        PaymentOrder order = createValidPaymentOrder(REFERENCE).toBuilder().idempotencyKey(key).build();
+        when(delegate.findByIdempotencyKey(key)).thenReturn(Optional.of(order));
+
+        // Act
+        Optional<PaymentOrder> first = repository.findByIdempotencyKey(key);
+        Optional<PaymentOrder> second = repository.findByIdempotencyKey(key);
+
+        // Assert
+        assertThat(first).containsSame(order);
+        assertThat(second).containsSame(order);
+        verify(delegate, times(1)).findByIdempotencyKey(key);
+    }
+
+    @Test
+    @DisplayName("Debería delegar los listados sin cachearlos")
+    void shouldDelegateSearchWithoutCaching() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        when(delegate.search(criteria, null, 10)).thenReturn(List.of(order));
+
+        // Act
+        List<PaymentOrder> result = repository.search(criteria, null, 10);
+
+        // Assert
+        assertThat(result).containsExactly(order);
+        assertThat(cache.getIfPresent(REFERENCE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería delegar las exportaciones sin cachearlas")
+    void shouldDelegateForEachWithoutCaching() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        Consumer<PaymentOrder> action = order -> { };
+        when(delegate.forEach(criteria, action)).thenReturn(5L);
+
+        // Act
+        long count = repository.forEach(criteria, action);
+
+        // Assert
+        assertThat(count).isEqualTo(5);
+        assertThat(cache.getIfPresent(REFERENCE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería invalidar todas las órdenes de un cambio de estado en bloque, cambiadas o no")
+    void shouldInvalidateOrdersOnBulkStatusChange() {
+        // Arrange
+        PaymentOrder changed = createValidPaymentOrder(REFERENCE);
+        PaymentOrder conflicting = createValidPaymentOrder("PO-2");
+        PaymentOrder unrelated = createValidPaymentOrder("PO-3");
+        cache.put(REFERENCE, changed);
+        cache.put("PO-2", conflicting);
+        cache.put("PO-3", unrelated);
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(delegate.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING, List.of(REFERENCE, "PO-2"),
+                changedAt)).thenReturn(List.of(REFERENCE));
+
+        // Act
+        List<String> result = repository.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING,
+                List.of(REFERENCE, "PO-2"), changedAt);
+
+        // Assert
+        assertThat(result).containsExactly(REFERENCE);
+        assertThat(cache.asMap()).containsOnlyKeys("PO-3");
+    }
+
+    @Test
+    @DisplayName("Debería leer del delegado los estados de un lote y las órdenes vencidas, sin usar la caché")
+    void shouldDelegateBatchStatusLookupsAndDueOrders() {
+        // Arrange
+        cache.put(REFERENCE, createValidPaymentOrder(REFERENCE));
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                REFERENCE, PaymentStatus.PENDING, LocalDateTime.now(), 0L);
+        LocalDate today = LocalDate.now();
+        when(delegate.findStatusesByReferences(Set.of(REFERENCE))).thenReturn(List.of(snapshot));
+        when(delegate.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 10))
+                .thenReturn(List.of(REFERENCE));
+
+        // Act
+        List<PaymentOrderStatusSnapshot> statuses = repository.findStatusesByReferences(Set.of(REFERENCE));
+        List<String> due = repository.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 10);
+
+        // Assert
+        assertThat(statuses).containsExactly(snapshot);
+        assertThat(due).containsExactly(REFERENCE);
+    }
+
+
+    @Test
+    @DisplayName("Debería invalidar la orden tras un compare-and-set, se aplique o no")
+    void shouldInvalidateOrderOnCompareAndSet() {
+        // Arrange
+        cache.put(REFERENCE, createValidPaymentOrder(REFERENCE));
+        cache.put("PO-2", createValidPaymentOrder("PO-2"));
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(delegate.compareAndSetStatus(REFERENCE, PaymentStatus.INITIATED, 0L, PaymentStatus.PENDING, changedAt))
+                .thenReturn(false);
+
+        // Act
+        boolean changed = repository.compareAndSetStatus(REFERENCE, PaymentStatus.INITIATED, 0L,
+                PaymentStatus.PENDING, changedAt);
+
+        // Assert
+        assertThat(changed).isFalse();
+        assertThat(cache.asMap()).containsOnlyKeys("PO-2");
+    }
+
+
+    @Test
+    @DisplayName("Debería delegar el recorrido de referencias sin tocar la caché")
+    void shouldDelegateForEachReference() {
+        // Arrange
+        Consumer<String> action = reference -> { };
+        when(delegate.forEachReference(null, action)).thenReturn(2L);
+
+        // Act
+        long count = repository.forEachReference(null, action);
+
+        // Assert
+        assertThat(count).isEqualTo(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,323 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceFilteringPaymentOrderRepository Tests")
+class ReferenceFilteringPaymentOrderRepositoryTest {
+
+    private static final String REFERENCE = "PO-1234567890123456";
+    private static final String UNKNOWN = "PO-0000000000000000";
+
+    @Mock
+    private PaymentOrderRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReferenceFilteringPaymentOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new ReferenceFilteringPaymentOrderRepository(delegate, new ScalableBloomFilter(1_000, 0.01),
+                meterRegistry);
+    }
+
+    private PaymentOrder createValidPaymentOrder(final String reference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void loadReferences(final String... references) {
+        when(delegate.forEachReference(isNull(), any())).thenAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            for (String reference : references) {
+                action.accept(reference);
+            }
+            return (long) references.length;
+        });
+        repository.synchronize();
+    }
+
+    private double lookups(final String result) {
+        return meterRegistry.get(ReferenceFilteringPaymentOrderRepository.LOOKUPS_COUNTER)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Debería descartar sin consultar el delegado una referencia que no se cargó")
+    void shouldShortCircuitUnknownReference() {
+        // Arrange
+        loadReferences(REFERENCE);
+
+        // Act
+        Optional<PaymentOrder> order = repository.findByReference(UNKNOWN);
+        Optional<PaymentOrderStatusSnapshot> status = repository.findStatusByReference(UNKNOWN);
+
+        // Assert
+        assertThat(order).isEmpty();
+        assertThat(status).isEmpty();
+        verify(delegate, never()).findByReference(UNKNOWN);
+        verify(delegate, never()).findStatusByReference(UNKNOWN);
+        assertThat(lookups("negative")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Debería recordar en el filtro un alias registrado en este nodo")
+    void shouldRecognizeRegisteredAlias() {
+        // Arrange
+        loadReferences(REFERENCE);
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        when(delegate.findByReference(UNKNOWN)).thenReturn(Optional.of(order));
+
+        // Act
+        repository.addReferenceAlias(UNKNOWN, REFERENCE);
+        Optional<PaymentOrder> result = repository.findByReference(UNKNOWN);
+
+        // Assert
+        assertThat(result).contains(order);
+        verify(delegate).addReferenceAlias(UNKNOWN, REFERENCE);
+        assertThat(lookups("negative")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería consultar el delegado con una referencia generada después de la última sincronización")
+    void shouldDelegateReferenceNewerThanSynchronization() {
+        // Arrange
+        loadReferences(REFERENCE);
+        // Orden recién creada en otro nodo: todavía no está en el filtro
+        String recent = new SnowflakeReferenceGenerator(1).nextReference();
+        PaymentOrder order = createValidPaymentOrder(recent);
+        when(delegate.findByReference(recent)).thenReturn(Optional.of(order));
+
+        // Act
+        Optional<PaymentOrder> result = repository.findByReference(recent);
+
+        // Assert
+        assertThat(result).contains(order);
+        assertThat(lookups("negative")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería consultar el delegado con una referencia cargada")
+    void shouldDelegateKnownReference() {
+        // Arrange
+        loadReferences(REFERENCE);
+        PaymentOrder order = createValidPaymentOrder(REFERENCE);
+        when(delegate.findByReference(REFERENCE)).thenReturn(Optional.of(order));
+
+        // Act
+        Optional<PaymentOrder> result = repository.findByReference(REFERENCE);
+
+        // Assert
+        assertThat(result).contains(order);
+        assertThat(lookups("positive")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería contar como falso positivo una referencia reconocida que el delegado no encuentra")
+    void shouldCountFalsePositives() {
+        // Arrange
+        loadReferences(REFERENCE);
+        when(delegate.findStatusByReference(REFERENCE)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = repository.findStatusByReference(REFERENCE);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(lookups("false_positive")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería delegar todas las búsquedas hasta completar la primera carga")
+    void shouldNotFilterBeforeFirstLoad() {
+        // Arrange
+        when(delegate.findByReference(UNKNOWN)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<PaymentOrder> result = repository.findByReference(UNKNOWN);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(delegate).findByReference(UNKNOWN);
+        assertThat(lookups("negative")).isZero();
+        assertThat(lookups("false_positive")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería añadir al filtro las órdenes guardadas e insertadas")
+    void shouldAddSavedAndInsertedOrders() {
+        // Arrange
+        loadReferences();
+        PaymentOrder saved = createValidPaymentOrder("PO-1");
+        PaymentOrder inserted = createValidPaymentOrder("PO-2");
+        PaymentOrder batched = createValidPaymentOrder("PO-3");
+        when(delegate.save(saved)).thenReturn(saved);
+        when(delegate.insert(inserted)).thenReturn(inserted);
+        when(delegate.insertAll(List.of(batched))).thenReturn(List.of(batched));
+        when(delegate.findStatusByReference(any())).thenReturn(Optional.empty());
+
+        // Act
+        repository.save(saved);
+        repository.insert(inserted);
+        repository.insertAll(List.of(batched));
+        repository.findStatusByReference("PO-1");
+        repository.findStatusByReference("PO-2");
+        repository.findStatusByReference("PO-3");
+
+        // Assert
+        verify(delegate).findStatusByReference("PO-1");
+        verify(delegate).findStatusByReference("PO-2");
+        verify(delegate).findStatusByReference("PO-3");
+        assertThat(meterRegistry.get("payment.reference.filter.elements").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Debería resincronizar desde la marca de persistencia de la base de datos, con margen")
+    void shouldSynchronizeIncrementally() {
+        // Arrange
+        LocalDateTime watermark = LocalDateTime.of(2025, 10, 30, 12, 0);
+        when(delegate.findLastPersistedAt()).thenReturn(Optional.of(watermark));
+        loadReferences(REFERENCE);
+        ArgumentCaptor<LocalDateTime> persistedFrom = ArgumentCaptor.forClass(LocalDateTime.class);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            action.accept("PO-NEW");
+            return 1L;
+        }).when(delegate).forEachReference(any(LocalDateTime.class), any());
+
+        // Act
+        long read = repository.synchronize();
+
+        // Assert
+        assertThat(read).isEqualTo(1);
+        verify(delegate, times(2)).forEachReference(persistedFrom.capture(), any());
+        assertThat(persistedFrom.getAllValues().get(0)).isNull();
+        assertThat(persistedFrom.getAllValues().get(1))
+                .isEqualTo(watermark.minus(ReferenceFilteringPaymentOrderRepository.SYNC_OVERLAP));
+        when(delegate.findByReference("PO-NEW")).thenReturn(Optional.empty());
+        repository.findByReference("PO-NEW");
+        verify(delegate).findByReference("PO-NEW");
+    }
+
+    @Test
+    @DisplayName("Debería recoger una orden antigua persistida después de la sincronización anterior")
+    void shouldPickUpOldReferencePersistedLate() {
+        // Arrange
+        when(delegate.findLastPersistedAt()).thenReturn(Optional.of(LocalDateTime.of(2025, 10, 30, 12, 0)));
+        loadReferences(REFERENCE);
+        // Generada antes de la carga, insertada después (p. ej. al reproducir el journal de ingesta)
+        String replayed = "PO-0000000000000001";
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            action.accept(replayed);
+            return 1L;
+        }).when(delegate).forEachReference(any(LocalDateTime.class), any());
+        PaymentOrder order = createValidPaymentOrder(replayed);
+        when(delegate.findByReference(replayed)).thenReturn(Optional.of(order));
+
+        // Act
+        repository.synchronize();
+        Optional<PaymentOrder> result = repository.findByReference(replayed);
+
+        // Assert
+        assertThat(result).contains(order);
+    }
+
+    @Test
+    @DisplayName("No debería contar como falso positivo una referencia reciente que el filtro no reconoce")
+    void shouldNotCountRecentMissAsFalsePositive() {
+        // Arrange
+        loadReferences(REFERENCE);
+        String recent = new SnowflakeReferenceGenerator(1).nextReference();
+        when(delegate.findStatusByReference(recent)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = repository.findStatusByReference(recent);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(delegate).findStatusByReference(recent);
+        assertThat(lookups("false_positive")).isZero();
+        assertThat(lookups("negative")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería delegar sin filtrar las operaciones de escritura y de lote")
+    void shouldDelegateUnfilteredOperations() {
+        // Arrange
+        loadReferences();
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(delegate.findStatusesByReferences(List.of(UNKNOWN))).thenReturn(List.of());
+        when(delegate.compareAndSetStatus(UNKNOWN, PaymentStatus.INITIATED, 0L, PaymentStatus.PENDING, changedAt))
+                .thenReturn(false);
+        when(delegate.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), eq(List.of(UNKNOWN)),
+                eq(changedAt))).thenReturn(List.of());
+
+        // Act
+        repository.findStatusesByReferences(List.of(UNKNOWN));
+        repository.compareAndSetStatus(UNKNOWN, PaymentStatus.INITIATED, 0L, PaymentStatus.PENDING, changedAt);
+        repository.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING, List.of(UNKNOWN), changedAt);
+        repository.findReferencesDueForExecution(PaymentStatus.INITIATED, LocalDate.now(), 10);
+        repository.findByIdempotencyKey(null);
+        repository.search(null, null, 10);
+        repository.forEach(null, order -> { });
+        repository.forEachReference(null, reference -> { });
+        repository.findLastPersistedAt();
+
+        // Assert
+        verify(delegate).findStatusesByReferences(List.of(UNKNOWN));
+        verify(delegate).compareAndSetStatus(UNKNOWN, PaymentStatus.INITIATED, 0L, PaymentStatus.PENDING,
+                changedAt);
+        verify(delegate).findReferencesDueForExecution(PaymentStatus.INITIATED, LocalDate.now(), 10);
+        verify(delegate).findByIdempotencyKey(null);
+        verify(delegate).search(null, null, 10);
+    }
+}
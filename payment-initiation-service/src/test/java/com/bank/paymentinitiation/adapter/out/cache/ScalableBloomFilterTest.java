@@ -0,0 +1,99 @@
+package com.bank.paymentinitiation.adapter.out.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScalableBloomFilter Tests")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("Debería reconocer siempre los valores añadidos, también después de crecer")
+    void shouldHaveNoFalseNegatives() {
+        // Arrange
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            filter.put("PO-" + i);
+        }
+
+        // Assert
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(filter.mightContain("PO-" + i)).isTrue();
+        }
+        assertThat(filter.stageCount()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Debería mantener la tasa de falsos positivos por debajo de la configurada al crecer")
+    void shouldBoundFalsePositiveRateWhileGrowing() {
+        // Arrange
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("PO-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("PO-UNKNOWN-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert: la estimación queda por debajo de la cota; la medida, dentro del margen estadístico
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(filter.falsePositiveRate());
+        assertThat((double) falsePositives / probes).isLessThan(filter.falsePositiveRate() * 1.2);
+    }
+
+    @Test
+    @DisplayName("Debería ignorar los valores que ya reconoce y no crecer por ellos")
+    void shouldNotCountRepeatedValues() {
+        // Arrange
+        ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.01);
+
+        // Act
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                filter.put("PO-" + i);
+            }
+        }
+
+        // Assert
+        assertThat(filter.size()).isEqualTo(10);
+        assertThat(filter.stageCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería informar la memoria ocupada por todas las etapas")
+    void shouldReportMemory() {
+        // Arrange
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        long initialMemory = filter.memoryBytes();
+
+        // Act
+        for (int i = 0; i < 2_000; i++) {
+            filter.put("PO-" + i);
+        }
+
+        // Assert: la primera etapa lleva la mitad de la tasa (0.5%), ~11 bits por elemento
+        assertThat(initialMemory).isBetween(1_000L * 10 / 8, 1_000L * 12 / 8);
+        assertThat(filter.memoryBytes()).isGreaterThan(initialMemory);
+        assertThat(filter.size()).isBetween(1_980L, 2_000L); // Un falso positivo al añadir no ocupa capacidad
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una capacidad o una tasa de falsos positivos inválidas")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.bank.paymentinitiation.adapter.out.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank.paymentinitiation.config.PaymentOutboxProperties;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEventType;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentOrderEventPublisher Implementations Tests")
+class PaymentOrderEventPublishersTest {
+
+    // Misma configuración de fechas que el ObjectMapper de Spring Boot (ISO-8601, no timestamps)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private PaymentOrderEvent createEvent(final String reference) {
+        return PaymentOrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .type(PaymentOrderEventType.STATUS_CHANGED)
+                .paymentOrderReference(reference)
+                .status(PaymentStatus.PENDING)
+                .previousStatus(PaymentStatus.INITIATED)
+                .occurredAt(LocalDateTime.of(2025, 10, 30, 10, 15))
+                .build();
+    }
+
+    private PaymentOutboxProperties fileProperties(final Path path) {
+        return new PaymentOutboxProperties(true, Duration.ofSeconds(1), 100, 50, "file", path);
+    }
+
+    @Test
+    @DisplayName("In-memory publisher should keep events in publication order")
+    void inMemoryPublisherShouldKeepEventsInOrder() {
+        // Arrange
+        InMemoryPaymentOrderEventPublisher publisher = new InMemoryPaymentOrderEventPublisher();
+        PaymentOrderEvent first = createEvent("PO-1");
+        PaymentOrderEvent second = createEvent("PO-2");
+
+        // Act
+        publisher.publish(List.of(first));
+        publisher.publish(List.of(second));
+
+        // Assert
+        assertThat(publisher.published()).containsExactly(first, second);
+        publisher.clear();
+        assertThat(publisher.published()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("File publisher should append one JSON line per event across batches")
+    void filePublisherShouldAppendJsonLines(@TempDir final Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("events/out.ndjson");
+        FilePaymentOrderEventPublisher publisher =
+                new FilePaymentOrderEventPublisher(fileProperties(file), objectMapper);
+        PaymentOrderEvent event = createEvent("PO-1");
+
+        // Act
+        publisher.publish(List.of(event, createEvent("PO-2")));
+        publisher.publish(List.of(createEvent("PO-3")));
+
+        // Assert
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode json = objectMapper.readTree(lines.get(0));
+        assertThat(json.get("eventId").asText()).isEqualTo(event.getEventId().toString());
+        assertThat(json.get("type").asText()).isEqualTo("STATUS_CHANGED");
+        assertThat(json.get("previousStatus").asText()).isEqualTo("INITIATED");
+        assertThat(json.get("occurredAt").asText()).isEqualTo("2025-10-30T10:15:00");
+        assertThat(objectMapper.readTree(lines.get(2)).get("paymentOrderReference").asText()).isEqualTo("PO-3");
+    }
+
+    @Test
+    @DisplayName("File publisher should fail the batch when the file cannot be written")
+    void filePublisherShouldFailWhenFileCannotBeWritten(@TempDir final Path dir) throws IOException {
+        // Arrange
+        Path directory = Files.createDirectory(dir.resolve("not-a-file"));
+        FilePaymentOrderEventPublisher publisher =
+                new FilePaymentOrderEventPublisher(fileProperties(directory), objectMapper);
+
+        // Act & Assert
+        assertThatThrownBy(() -> publisher.publish(List.of(createEvent("PO-1"))))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("not-a-file");
+    }
+
+    @Test
+    @DisplayName("Logging publisher should accept any batch")
+    void loggingPublisherShouldAcceptAnyBatch() {
+        // Arrange
+        LoggingPaymentOrderEventPublisher publisher = new LoggingPaymentOrderEventPublisher();
+
+        // Act & Assert
+        assertThatCode(() -> publisher.publish(List.of(createEvent("PO-1")))).doesNotThrowAnyException();
+    }
+}
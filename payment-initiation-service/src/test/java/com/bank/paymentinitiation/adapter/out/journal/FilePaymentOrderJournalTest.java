@@ -0,0 +1,223 @@
+package com.bank.paymentinitiation.adapter.out.journal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal.Entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FilePaymentOrderJournal Tests")
+class FilePaymentOrderJournalTest {
+
+    private static final long SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    private Path directory;
+
+    private PaymentOrder order(final String reference, final String idempotencyKey) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 30, 16, 25, 30);
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-" + reference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.of(2025, 12, 31))
+                .idempotencyKey(idempotencyKey == null ? null : IdempotencyKey.ofClientKey(idempotencyKey))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover synced orders after a restart with all their fields")
+    void shouldRecoverSyncedOrders() throws IOException {
+        // Arrange
+        PaymentOrder first = order("PO-1", "key-1");
+        PaymentOrder second = order("PO-2", null).toBuilder()
+                .remittanceInformation(null)
+                .requestedExecutionDate(null)
+                .build();
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            assertThat(journal.recover()).isEmpty();
+            journal.append(first);
+            journal.sync(journal.append(second));
+        }
+
+        // Act
+        List<Entry> recovered;
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            recovered = journal.recover();
+        }
+
+        // Assert
+        assertThat(recovered).extracting(Entry::sequence).containsExactly(1L, 2L);
+        assertThat(recovered.get(0).order()).usingRecursiveComparison().isEqualTo(first);
+        assertThat(recovered.get(1).order()).usingRecursiveComparison().isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Should skip checkpointed orders and continue the sequence after a restart")
+    void shouldSkipCheckpointedOrders() throws IOException {
+        // Arrange
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            journal.append(order("PO-1", null));
+            journal.append(order("PO-2", null));
+            journal.sync(journal.append(order("PO-3", null)));
+            journal.checkpoint(2);
+        }
+
+        // Act
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            List<Entry> recovered = journal.recover();
+            long next = journal.append(order("PO-4", null));
+
+            // Assert
+            assertThat(recovered).extracting(entry -> entry.order().getPaymentOrderReference())
+                    .containsExactly("PO-3");
+            assertThat(next).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the tail and keep appending after the valid ones")
+    void shouldDiscardTornTail() throws IOException {
+        // Arrange
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            journal.sync(journal.append(order("PO-1", null)));
+        }
+        Path segment = segments().get(0);
+        byte[] torn = FilePaymentOrderJournal.encodeOrder(2, order("PO-2", null));
+        Files.write(segment, new byte[] {0, 0, 0, (byte) torn.length, 1, 2}, StandardOpenOption.APPEND);
+
+        // Act
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            journal.sync(journal.append(order("PO-3", null)));
+        }
+        List<Entry> recovered;
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            recovered = journal.recover();
+        }
+
+        // Assert
+        assertThat(recovered).extracting(entry -> entry.order().getPaymentOrderReference())
+                .containsExactly("PO-1", "PO-3");
+        assertThat(recovered).extracting(Entry::sequence).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should refuse to open when a segment other than the last one is corrupt")
+    void shouldFailOnCorruptionBeforeTheLastSegment() throws IOException {
+        // Arrange
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, 1)) {
+            journal.sync(journal.append(order("PO-1", null)));
+            journal.sync(journal.append(order("PO-2", null)));
+        }
+        Path first = segments().get(0);
+        byte[] bytes = Files.readAllBytes(first);
+        bytes[bytes.length - 1] ^= 1; // CRC incorrecto en una orden ya aceptada
+        Files.write(first, bytes);
+
+        // Act & Assert
+        assertThatThrownBy(() -> new FilePaymentOrderJournal(directory, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(first.toString());
+    }
+
+    @Test
+    @DisplayName("Should keep rejected orders on disk outside recovery and checkpoints")
+    void shouldKeepRejectedOrders() throws IOException {
+        // Arrange
+        PaymentOrder rejected = order("PO-1", "key-1");
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            long sequence = journal.append(rejected);
+            journal.sync(sequence);
+
+            // Act
+            journal.reject(new Entry(sequence, rejected));
+            journal.checkpoint(sequence);
+        }
+
+        // Assert
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            assertThat(journal.recover()).isEmpty();
+        }
+        Path rejectedFile = directory.resolve("rejected.log");
+        assertThat(rejectedFile).exists();
+        assertThat(Files.size(rejectedFile))
+                .isEqualTo(Integer.BYTES * 2 + FilePaymentOrderJournal.encodeOrder(1, rejected).length);
+    }
+
+    @Test
+    @DisplayName("Should roll segments and delete the closed ones once their orders are checkpointed")
+    void shouldRollAndDeleteSegments() throws IOException {
+        // Arrange
+        long lastSequence = 0;
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, 1)) {
+            for (int i = 1; i <= 3; i++) {
+                lastSequence = journal.append(order("PO-" + i, null));
+                journal.sync(lastSequence); // Cada volcado cierra el segmento: segmentSize de 1 byte
+            }
+            assertThat(segments()).hasSize(4);
+
+            // Act
+            journal.checkpoint(2);
+            List<Path> afterFirstCheckpoint = segments();
+            journal.checkpoint(lastSequence);
+
+            // Assert
+            assertThat(afterFirstCheckpoint).hasSize(2);
+            assertThat(segments()).hasSize(1);
+        }
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, 1)) {
+            assertThat(journal.recover()).isEmpty();
+            assertThat(journal.append(order("PO-4", null))).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Should group concurrent appends into a single sync")
+    void shouldSkipSyncWhenAlreadySynced() throws IOException {
+        // Arrange
+        try (FilePaymentOrderJournal journal = new FilePaymentOrderJournal(directory, SEGMENT_SIZE)) {
+            long first = journal.append(order("PO-1", null));
+            long second = journal.append(order("PO-2", null));
+
+            // Act
+            journal.sync(second);
+            journal.sync(first); // Ya volcado por el anterior: no hace nada
+
+            // Assert
+            assertThat(segments()).singleElement()
+                    .satisfies(segment -> assertThat(Files.size(segment)).isPositive());
+        }
+    }
+}
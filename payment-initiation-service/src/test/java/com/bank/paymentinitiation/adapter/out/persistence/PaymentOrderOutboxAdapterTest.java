@@ -0,0 +1,203 @@
+package com.bank.paymentinitiation.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.adapter.out.event.InMemoryPaymentOrderEventPublisher;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderEventJpaRepository;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderJpaRepository;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEventType;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RelayPaymentOrderEventsUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        // Base propia: los relés programados de otros contextos de test drenarían la bandeja compartida
+        "spring.datasource.url=jdbc:h2:mem:outboxtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.outbox.relay-enabled=false", // Los tests drenan la bandeja explícitamente
+        "payment.outbox.sink=memory"
+})
+@DisplayName("PaymentOrderOutboxAdapter Tests")
+class PaymentOrderOutboxAdapterTest {
+
+    @Autowired
+    private PaymentOrderOutboxAdapter outbox;
+
+    @Autowired
+    private PaymentOrderRepository repository;
+
+    @Autowired
+    private InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+
+    @Autowired
+    private RelayPaymentOrderEventsUseCase relayPaymentOrderEventsUseCase;
+
+    @Autowired
+    private InMemoryPaymentOrderEventPublisher publisher;
+
+    @Autowired
+    private PaymentOrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private PaymentOrderEventJpaRepository eventJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventJpaRepository.deleteAllInBatch();
+        orderJpaRepository.deleteAllInBatch();
+        publisher.clear();
+    }
+
+    private PaymentOrder createOrder(final String reference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-" + reference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build()
+                .initiate();
+    }
+
+    private PaymentOrderEventEntity createEvent(final UUID id, final String reference,
+                                                final LocalDateTime occurredAt) {
+        return PaymentOrderEventEntity.builder()
+                .id(id)
+                .eventType(PaymentOrderEventType.STATUS_CHANGED.name())
+                .paymentOrderReference(reference)
+                .status(PaymentStatus.PENDING.name())
+                .previousStatus(PaymentStatus.INITIATED.name())
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should publish initiated and status changed events in order, then remove them")
+    void shouldPublishEventsInOrderAndRemoveThem() {
+        // Arrange
+        PaymentOrder order = repository.insert(createOrder("PO-1000000000000001"));
+        repository.save(order.changeStatus(PaymentStatus.PENDING));
+
+        // Act
+        int published = outbox.publishPending(10, publisher);
+
+        // Assert
+        assertThat(published).isEqualTo(2);
+        assertThat(publisher.published())
+                .extracting(PaymentOrderEvent::getType)
+                .containsExactly(PaymentOrderEventType.INITIATED, PaymentOrderEventType.STATUS_CHANGED);
+        assertThat(publisher.published().get(1).getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(eventJpaRepository.count()).isZero();
+        assertThat(outbox.publishPending(10, publisher)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record one event per order of a batch in the same transaction")
+    void shouldRecordOneEventPerBatchOrder() {
+        // Act
+        repository.insertAll(List.of(createOrder("PO-1000000000000002"), createOrder("PO-1000000000000003")));
+
+        // Assert
+        assertThat(eventJpaRepository.findAll())
+                .extracting(PaymentOrderEventEntity::getPaymentOrderReference)
+                .containsExactlyInAnyOrder("PO-1000000000000002", "PO-1000000000000003");
+    }
+
+    @Test
+    @DisplayName("Should keep events pending when the publisher fails")
+    void shouldKeepEventsWhenPublisherFails() {
+        // Arrange
+        repository.insert(createOrder("PO-1000000000000004"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> outbox.publishPending(10, events -> {
+            throw new IllegalStateException("Broker unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(eventJpaRepository.count()).isEqualTo(1);
+        assertThat(outbox.publishPending(10, publisher)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should publish at most the batch size, oldest events first")
+    void shouldPublishAtMostBatchSizeOldestFirst() {
+        // Arrange
+        for (int i = 5; i <= 7; i++) {
+            repository.insert(createOrder("PO-100000000000000" + i));
+        }
+
+        // Act
+        int first = outbox.publishPending(2, publisher);
+        int second = outbox.publishPending(2, publisher);
+
+        // Assert
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(publisher.published())
+                .extracting(PaymentOrderEvent::getPaymentOrderReference)
+                .containsExactly("PO-1000000000000005", "PO-1000000000000006", "PO-1000000000000007");
+    }
+
+    @Test
+    @DisplayName("Should claim the events of each order from its oldest pending one, in occurrence order")
+    void shouldClaimEventsPerOrderInOccurrenceOrder() {
+        // Arrange
+        LocalDateTime occurredAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+        eventJpaRepository.saveAll(List.of(
+                createEvent(new UUID(0, 3), "PO-1000000000000010", occurredAt.plusSeconds(2)),
+                createEvent(new UUID(0, 2), "PO-1000000000000011", occurredAt.plusSeconds(1)),
+                // Mismo instante: desempata el id
+                createEvent(new UUID(0, 4), "PO-1000000000000010", occurredAt),
+                createEvent(new UUID(0, 1), "PO-1000000000000010", occurredAt)));
+
+        // Act
+        int first = outbox.publishPending(3, publisher);
+        int second = outbox.publishPending(3, publisher);
+
+        // Assert
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(1);
+        assertThat(publisher.published())
+                .extracting(PaymentOrderEvent::getEventId)
+                .containsExactly(new UUID(0, 1), new UUID(0, 4), new UUID(0, 2), new UUID(0, 3));
+    }
+
+    @Test
+    @DisplayName("Should relay events of initiated orders to the configured sink")
+    void shouldRelayEventsOfInitiatedOrders() {
+        // Arrange
+        PaymentOrder initiated = initiatePaymentOrderUseCase.initiate(createOrder("PO-1000000000000009"));
+
+        // Act
+        int relayed = relayPaymentOrderEventsUseCase.relayPending();
+
+        // Assert
+        assertThat(relayed).isEqualTo(1);
+        assertThat(publisher.published()).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getPaymentOrderReference()).isEqualTo(initiated.getPaymentOrderReference());
+                    assertThat(event.getType()).isEqualTo(PaymentOrderEventType.INITIATED);
+                });
+    }
+}
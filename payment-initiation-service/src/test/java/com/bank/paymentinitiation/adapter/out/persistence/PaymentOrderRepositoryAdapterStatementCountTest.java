@@ -0,0 +1,134 @@
+package com.bank.paymentinitiation.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderJpaRepository;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "payment.outbox.relay-enabled=false" // El relé contaría sus propias sentencias
+})
+@DisplayName("PaymentOrderRepositoryAdapter Statement Count Tests")
+class PaymentOrderRepositoryAdapterStatementCountTest {
+
+    @Autowired
+    private PaymentOrderRepositoryAdapter adapter;
+
+    @Autowired
+    private PaymentOrderJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private PaymentOrder createValidPaymentOrder(final String reference) {
+        LocalDateTime now = LocalDateTime.now();
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Insert should cost one statement for the order and one for its outbox event")
+    void insertShouldCostOneStatementPerRow() {
+        // Act
+        adapter.insert(createValidPaymentOrder("PO-1000000000000001"));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(jpaRepository.findByPaymentOrderReference("PO-1000000000000001")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Save of a new order should cost more statements than insert")
+    void saveOfNewOrderShouldCostMoreStatementsThanInsert() {
+        // Act
+        adapter.save(createValidPaymentOrder("PO-1000000000000002"));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+    }
+
+
+    @Test
+    @DisplayName("Status lookup should run one query without loading the entity")
+    void statusLookupShouldNotLoadTheEntity() {
+        // Arrange
+        adapter.insert(createValidPaymentOrder("PO-1000000000000003"));
+        statistics.clear();
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> snapshot = adapter.findStatusByReference("PO-1000000000000003");
+
+        // Assert
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+
+    @Test
+    @DisplayName("A page after a cursor should run one query")
+    void pageAfterCursorShouldRunOneQuery() {
+        // Arrange
+        PaymentOrder first = createValidPaymentOrder("PO-1000000000000004");
+        adapter.insert(first);
+        adapter.insert(createValidPaymentOrder("PO-1000000000000005").toBuilder()
+                .externalReference(new ExternalReference("EXT-2"))
+                .build());
+        statistics.clear();
+
+        // Act
+        List<PaymentOrder> page = adapter.search(PaymentOrderSearchCriteria.none(),
+                new PaymentOrderCursor(first.getCreatedAt().plusSeconds(1), "PO-9999999999999999"), 1);
+
+        // Assert
+        assertThat(page).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -3,28 +3,58 @@ package com.bank.paymentinitiation.adapter.out.persistence;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderEventJpaRepository;
 import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderJpaRepository;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView;
 import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEventType;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderStatusNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +68,15 @@ class PaymentOrderRepositoryAdapterTest {
     @Mock
     private PaymentOrderPersistenceMapper mapper;
 
+    @Mock
+    private PaymentOrderEventJpaRepository eventRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private PaymentOrderStatusNotifier statusNotifier;
+
     @InjectMocks
     private PaymentOrderRepositoryAdapter adapter;
 
@@ -68,8 +107,11 @@ class PaymentOrderRepositoryAdapterTest {
         when(jpaRepository.findByPaymentOrderReference("PO-1234567890123456"))
                 .thenReturn(Optional.empty());
         when(mapper.toEntity(order)).thenReturn(entity);
-        when(jpaRepository.save(entity)).thenReturn(entity);
+        when(jpaRepository.saveAndFlush(entity)).thenReturn(entity);
         when(mapper.toDomain(entity)).thenReturn(order);
+        PaymentOrderEventEntity eventEntity = new PaymentOrderEventEntity();
+        ArgumentCaptor<PaymentOrderEvent> event = ArgumentCaptor.forClass(PaymentOrderEvent.class);
+        when(mapper.toEventEntity(event.capture())).thenReturn(eventEntity);
 
         // Act
         PaymentOrder result = adapter.save(order);
@@ -78,8 +120,10 @@ class PaymentOrderRepositoryAdapterTest {
         assertThat(result).isNotNull();
         verify(jpaRepository).findByPaymentOrderReference("PO-1234567890123456");
         verify(mapper).toEntity(order);
-        verify(jpaRepository).save(entity);
+        verify(jpaRepository).saveAndFlush(entity);
         verify(mapper).toDomain(entity);
+        verify(eventRepository).append(eventEntity);
+        assertThat(event.getValue().getType()).isEqualTo(PaymentOrderEventType.INITIATED);
     }
 
     @Test
@@ -91,14 +135,16 @@ class PaymentOrderRepositoryAdapterTest {
         PaymentOrderEntity existingEntity = new PaymentOrderEntity();
         existingEntity.setId(existingId);
         existingEntity.setPaymentOrderReference("PO-1234567890123456");
+        existingEntity.setStatus("INITIATED");
         
         PaymentOrderEntity newEntity = new PaymentOrderEntity();
         newEntity.setPaymentOrderReference("PO-1234567890123456");
+        newEntity.setStatus("INITIATED");
         
         when(jpaRepository.findByPaymentOrderReference("PO-1234567890123456"))
                 .thenReturn(Optional.of(existingEntity));
         when(mapper.toEntity(order)).thenReturn(newEntity);
-        when(jpaRepository.save(any(PaymentOrderEntity.class))).thenAnswer(invocation -> {
+        when(jpaRepository.saveAndFlush(any(PaymentOrderEntity.class))).thenAnswer(invocation -> {
             PaymentOrderEntity saved = invocation.getArgument(0);
             saved.setId(existingId);
             return saved;
@@ -112,8 +158,63 @@ class PaymentOrderRepositoryAdapterTest {
         assertThat(result).isNotNull();
         verify(jpaRepository).findByPaymentOrderReference("PO-1234567890123456");
         verify(mapper).toEntity(order);
-        verify(jpaRepository).save(any(PaymentOrderEntity.class));
+        verify(jpaRepository).saveAndFlush(any(PaymentOrderEntity.class));
         assertThat(newEntity.getId()).isEqualTo(existingId); // ID preservado
+        verify(eventRepository, never()).append(any()); // Sin cambio de estado no hay evento
+    }
+
+    @Test
+    @DisplayName("Should record a status changed event when saving a new status")
+    void shouldRecordStatusChangedEventWhenStatusChanges() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder().changeStatus(PaymentStatus.PENDING);
+        PaymentOrderEntity existingEntity = new PaymentOrderEntity();
+        existingEntity.setId(UUID.randomUUID());
+        existingEntity.setStatus("INITIATED");
+        PaymentOrderEntity newEntity = new PaymentOrderEntity();
+        newEntity.setStatus("PENDING");
+        PaymentOrderEventEntity eventEntity = new PaymentOrderEventEntity();
+        ArgumentCaptor<PaymentOrderEvent> event = ArgumentCaptor.forClass(PaymentOrderEvent.class);
+        when(jpaRepository.findByPaymentOrderReference(order.getPaymentOrderReference()))
+                .thenReturn(Optional.of(existingEntity));
+        when(mapper.toEntity(order)).thenReturn(newEntity);
+        when(jpaRepository.saveAndFlush(newEntity)).thenReturn(newEntity);
+        when(mapper.toDomain(newEntity)).thenReturn(order);
+        when(mapper.toEventEntity(event.capture())).thenReturn(eventEntity);
+
+        // Act
+        adapter.save(order);
+
+        // Assert
+        verify(eventRepository).append(eventEntity);
+        assertThat(event.getValue().getType()).isEqualTo(PaymentOrderEventType.STATUS_CHANGED);
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(event.getValue().getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(statusNotifier).statusChanged(List.of(PaymentOrderStatusSnapshot.of(order)));
+    }
+
+    @Test
+    @DisplayName("Should insert new payment order without looking it up first")
+    void shouldInsertNewPaymentOrderWithoutLookup() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        entity.setPaymentOrderReference("PO-1234567890123456");
+        when(mapper.toEntity(order)).thenReturn(entity);
+        PaymentOrderEventEntity eventEntity = new PaymentOrderEventEntity();
+        ArgumentCaptor<PaymentOrderEvent> event = ArgumentCaptor.forClass(PaymentOrderEvent.class);
+        when(mapper.toEventEntity(event.capture())).thenReturn(eventEntity);
+
+        // Act
+        PaymentOrder result = adapter.insert(order);
+
+        // Assert
+        assertThat(result).isEqualTo(order);
+        verify(jpaRepository).persist(entity, eventEntity);
+        assertThat(event.getValue().getType()).isEqualTo(PaymentOrderEventType.INITIATED);
+        assertThat(event.getValue().getPaymentOrderReference()).isEqualTo(order.getPaymentOrderReference());
+        verify(jpaRepository, never()).findByPaymentOrderReference(any());
+        verify(jpaRepository, never()).saveAndFlush(any(PaymentOrderEntity.class));
     }
 
     @Test
@@ -154,5 +255,429 @@ class PaymentOrderRepositoryAdapterTest {
         assertThat(result).isEmpty();
         verify(jpaRepository).findByPaymentOrderReference(reference);
     }
-}
 
+    @Test
+    @DisplayName("Should resolve an alias reference to the original payment order")
+    void shouldResolveAliasReferenceToOriginalOrder() {
+        // Arrange
+        String alias = "PO-ALIAS";
+        String original = "PO-1234567890123456";
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        PaymentOrder order = createValidPaymentOrder();
+        when(jpaRepository.findByPaymentOrderReference(alias)).thenReturn(Optional.empty());
+        when(jpaRepository.findAliasTarget(alias)).thenReturn(Optional.of(original));
+        when(jpaRepository.findByPaymentOrderReference(original)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(order);
+
+        // Act
+        var result = adapter.findByReference(alias);
+
+        // Assert
+        assertThat(result).contains(order);
+    }
+
+    @Test
+    @DisplayName("Should resolve the status of an alias reference through the original order")
+    void shouldResolveStatusOfAliasReference() {
+        // Arrange
+        String alias = "PO-ALIAS";
+        String original = "PO-1234567890123456";
+        PaymentOrderStatusView view = new PaymentOrderStatusView(original, "INITIATED", LocalDateTime.now(), 0L);
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                original, PaymentStatus.INITIATED, view.updatedAt(), 0L);
+        when(jpaRepository.findStatusByPaymentOrderReference(alias)).thenReturn(Optional.empty());
+        when(jpaRepository.findAliasTarget(alias)).thenReturn(Optional.of(original));
+        when(jpaRepository.findStatusByPaymentOrderReference(original)).thenReturn(Optional.of(view));
+        when(mapper.toStatusSnapshot(view)).thenReturn(snapshot);
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = adapter.findStatusByReference(alias);
+
+        // Assert
+        assertThat(result).contains(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should persist a reference alias pointing to the original order")
+    void shouldPersistReferenceAlias() {
+        // Arrange
+        ArgumentCaptor<PaymentOrderReferenceAliasEntity> alias =
+                ArgumentCaptor.forClass(PaymentOrderReferenceAliasEntity.class);
+
+        // Act
+        adapter.addReferenceAlias("PO-ALIAS", "PO-1234567890123456");
+
+        // Assert
+        verify(jpaRepository).persistAlias(alias.capture());
+        assertThat(alias.getValue().getAliasReference()).isEqualTo("PO-ALIAS");
+        assertThat(alias.getValue().getPaymentOrderReference()).isEqualTo("PO-1234567890123456");
+    }
+
+    @Test
+    @DisplayName("Should insert all payment orders in a single call")
+    void shouldInsertAllPaymentOrdersInSingleCall() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        when(mapper.toEntity(order)).thenReturn(entity);
+        PaymentOrderEventEntity eventEntity = new PaymentOrderEventEntity();
+        when(mapper.toEventEntity(any(PaymentOrderEvent.class))).thenReturn(eventEntity);
+
+        // Act
+        List<PaymentOrder> result = adapter.insertAll(List.of(order, order));
+
+        // Assert
+        assertThat(result).containsExactly(order, order);
+        verify(jpaRepository).persistAll(List.of(entity, entity), List.of(eventEntity, eventEntity));
+        verify(jpaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should find status through the projection without loading the entity")
+    void shouldFindStatusByReferenceUsingProjection() {
+        // Arrange
+        String reference = "PO-1234567890123456";
+        PaymentOrderStatusView view = new PaymentOrderStatusView(reference, "INITIATED", LocalDateTime.now(), 0L);
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                reference, PaymentStatus.INITIATED, view.updatedAt(), 0L);
+        when(jpaRepository.findStatusByPaymentOrderReference(reference)).thenReturn(Optional.of(view));
+        when(mapper.toStatusSnapshot(view)).thenReturn(snapshot);
+
+        // Act
+        Optional<PaymentOrderStatusSnapshot> result = adapter.findStatusByReference(reference);
+
+        // Assert
+        assertThat(result).contains(snapshot);
+        verify(jpaRepository, never()).findByPaymentOrderReference(reference);
+    }
+
+    @Test
+    @DisplayName("Should find payment order by idempotency key")
+    void shouldFindPaymentOrderByIdempotencyKey() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        when(jpaRepository.findByIdempotencyKey(key.getValue())).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(order);
+
+        // Act
+        Optional<PaymentOrder> result = adapter.findByIdempotencyKey(key);
+
+        // Assert
+        assertThat(result).contains(order);
+    }
+
+    @Test
+    @DisplayName("Should translate a unique constraint violation on insert")
+    void shouldTranslateUniqueViolationOnInsert() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        when(mapper.toEntity(order)).thenReturn(entity);
+        doThrow(new DataIntegrityViolationException("unique")).when(jpaRepository).persist(eq(entity), any());
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.insert(order))
+                .isInstanceOf(DuplicatePaymentOrderException.class)
+                .hasMessageContaining(order.getPaymentOrderReference());
+    }
+
+    @Test
+    @DisplayName("Should translate a unique constraint violation on batch insert")
+    void shouldTranslateUniqueViolationOnInsertAll() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        when(mapper.toEntity(order)).thenReturn(entity);
+        doThrow(new DataIntegrityViolationException("unique")).when(jpaRepository)
+                .persistAll(eq(List.of(entity)), anyList());
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.insertAll(List.of(order)))
+                .isInstanceOf(DuplicatePaymentOrderException.class);
+    }
+
+    @Test
+    @DisplayName("Should map searched entities to domain, preserving order")
+    void shouldSearchAndMapToDomain() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        PaymentOrderCursor after = new PaymentOrderCursor(LocalDateTime.now(), "PO-9999999999999999");
+        PaymentOrderEntity first = new PaymentOrderEntity();
+        PaymentOrderEntity second = new PaymentOrderEntity();
+        PaymentOrder firstOrder = createValidPaymentOrder();
+        PaymentOrder secondOrder = createValidPaymentOrder().toBuilder().paymentOrderReference("PO-2").build();
+        when(jpaRepository.search(criteria, after, 2)).thenReturn(List.of(first, second));
+        when(mapper.toDomain(first)).thenReturn(firstOrder);
+        when(mapper.toDomain(second)).thenReturn(secondOrder);
+
+        // Act
+        List<PaymentOrder> result = adapter.search(criteria, after, 2);
+
+        // Assert
+        assertThat(result).containsExactly(firstOrder, secondOrder);
+    }
+
+    @Test
+    @DisplayName("Should map each streamed entity to domain before handing it over")
+    void shouldMapStreamedEntitiesToDomain() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        PaymentOrder order = createValidPaymentOrder();
+        when(mapper.toDomain(entity)).thenReturn(order);
+        when(jpaRepository.forEach(eq(criteria), any())).thenAnswer(invocation -> {
+            Consumer<PaymentOrderEntity> action = invocation.getArgument(1);
+            action.accept(entity);
+            return 1L;
+        });
+        List<PaymentOrder> received = new ArrayList<>();
+
+        // Act
+        long count = adapter.forEach(criteria, received::add);
+
+        // Assert
+        assertThat(count).isEqualTo(1);
+        assertThat(received).containsExactly(order);
+    }
+
+    @Test
+    @DisplayName("Should read the statuses of several orders from the projection")
+    void shouldFindStatusesByReferences() {
+        // Arrange
+        PaymentOrderStatusView view = new PaymentOrderStatusView("PO-1", "PENDING", LocalDateTime.now(), 0L);
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                "PO-1", PaymentStatus.PENDING, view.updatedAt(), 0L);
+        when(jpaRepository.findStatusesByPaymentOrderReferences(List.of("PO-1", "PO-2"))).thenReturn(List.of(view));
+        when(mapper.toStatusSnapshot(view)).thenReturn(snapshot);
+
+        // Act
+        List<PaymentOrderStatusSnapshot> result = adapter.findStatusesByReferences(List.of("PO-1", "PO-2"));
+
+        // Assert
+        assertThat(result).containsExactly(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should look up due orders by the stored status name")
+    void shouldFindReferencesDueForExecution() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        when(jpaRepository.findReferencesDueForExecution("INITIATED", today, 50)).thenReturn(List.of("PO-1"));
+
+        // Act
+        List<String> result = adapter.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 50);
+
+        // Assert
+        assertThat(result).containsExactly("PO-1");
+    }
+
+    @Test
+    @DisplayName("Should trust the update count when every order was still in the source status")
+    void shouldChangeStatusWithoutExtraQueryWhenAllRowsMatch() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<String> references = List.of("PO-1", "PO-2");
+        when(jpaRepository.updateStatus("INITIATED", "PENDING", references, changedAt)).thenReturn(2);
+        when(mapper.toEventEntity(any())).thenReturn(new PaymentOrderEventEntity());
+        ArgumentCaptor<PaymentOrderEvent> events = ArgumentCaptor.forClass(PaymentOrderEvent.class);
+
+        // Act
+        List<String> changed = adapter.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING, references,
+                changedAt);
+
+        // Assert
+        assertThat(changed).containsExactly("PO-1", "PO-2");
+        verify(jpaRepository, never()).findReferencesChangedAt(any(), any(), any());
+        verify(eventRepository, times(2)).append(any());
+        verify(mapper, times(2)).toEventEntity(events.capture());
+        assertThat(events.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getType()).isEqualTo(PaymentOrderEventType.STATUS_CHANGED);
+            assertThat(event.getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+            assertThat(event.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            assertThat(event.getOccurredAt()).isEqualTo(changedAt);
+        });
+        assertThat(events.getAllValues()).extracting(PaymentOrderEvent::getPaymentOrderReference)
+                .containsExactly("PO-1", "PO-2");
+        verify(statusNotifier).statusChanged(List.of(
+                new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PENDING, changedAt, null),
+                new PaymentOrderStatusSnapshot("PO-2", PaymentStatus.PENDING, changedAt, null)));
+    }
+
+    @Test
+    @DisplayName("Should record events only for the orders the guarded update actually changed")
+    void shouldChangeStatusOnlyForMatchingRows() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<String> references = List.of("PO-1", "PO-2");
+        when(jpaRepository.updateStatus("PENDING", "PROCESSED", references, changedAt)).thenReturn(1);
+        when(jpaRepository.findReferencesChangedAt("PROCESSED", references, changedAt)).thenReturn(List.of("PO-2"));
+        when(mapper.toEventEntity(any())).thenReturn(new PaymentOrderEventEntity());
+
+        // Act
+        List<String> changed = adapter.changeStatus(PaymentStatus.PENDING, PaymentStatus.PROCESSED, references,
+                changedAt);
+
+        // Assert
+        assertThat(changed).containsExactly("PO-2");
+        verify(eventRepository, times(1)).append(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the stored version when saving an order that carries none")
+    void shouldKeepStoredVersionWhenOrderHasNoVersion() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity existingEntity = new PaymentOrderEntity();
+        existingEntity.setId(UUID.randomUUID());
+        existingEntity.setStatus("INITIATED");
+        existingEntity.setVersion(4L);
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        entity.setStatus("INITIATED");
+        when(jpaRepository.findByPaymentOrderReference(order.getPaymentOrderReference()))
+                .thenReturn(Optional.of(existingEntity));
+        when(mapper.toEntity(order)).thenReturn(entity);
+        when(jpaRepository.saveAndFlush(entity)).thenReturn(entity);
+        when(mapper.toDomain(entity)).thenReturn(order);
+
+        // Act
+        adapter.save(order);
+
+        // Assert
+        assertThat(entity.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should translate a stale version on save into a payment order conflict")
+    void shouldTranslateOptimisticLockFailureOnSave() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder().toBuilder().version(1L).build();
+        PaymentOrderEntity existingEntity = new PaymentOrderEntity();
+        existingEntity.setId(UUID.randomUUID());
+        existingEntity.setStatus("INITIATED");
+        existingEntity.setVersion(2L);
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        entity.setStatus("INITIATED");
+        entity.setVersion(1L);
+        when(jpaRepository.findByPaymentOrderReference(order.getPaymentOrderReference()))
+                .thenReturn(Optional.of(existingEntity));
+        when(mapper.toEntity(order)).thenReturn(entity);
+        when(jpaRepository.saveAndFlush(entity))
+                .thenThrow(new ObjectOptimisticLockingFailureException(PaymentOrderEntity.class, entity.getId()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.save(order))
+                .isInstanceOf(PaymentOrderConflictException.class)
+                .hasMessageContaining(order.getPaymentOrderReference());
+        verify(eventRepository, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("Should record a status changed event when the compare-and-set matches")
+    void shouldCompareAndSetStatus() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.now();
+        PaymentOrderEventEntity eventEntity = new PaymentOrderEventEntity();
+        ArgumentCaptor<PaymentOrderEvent> event = ArgumentCaptor.forClass(PaymentOrderEvent.class);
+        when(jpaRepository.compareAndSetStatus("PO-1", "PENDING", 3L, "PROCESSED", changedAt)).thenReturn(1);
+        when(mapper.toEventEntity(event.capture())).thenReturn(eventEntity);
+
+        // Act
+        boolean changed = adapter.compareAndSetStatus("PO-1", PaymentStatus.PENDING, 3L, PaymentStatus.PROCESSED,
+                changedAt);
+
+        // Assert
+        assertThat(changed).isTrue();
+        verify(eventRepository).append(eventEntity);
+        assertThat(event.getValue().getType()).isEqualTo(PaymentOrderEventType.STATUS_CHANGED);
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(event.getValue().getStatus()).isEqualTo(PaymentStatus.PROCESSED);
+        verify(statusNotifier).statusChanged(List.of(
+                new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PROCESSED, changedAt, 4L)));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when the compare-and-set finds a newer version")
+    void shouldNotRecordEventWhenCompareAndSetMisses() {
+        // Arrange
+        when(jpaRepository.compareAndSetStatus(anyString(), anyString(), anyLong(), anyString(), any()))
+                .thenReturn(0);
+
+        // Act
+        boolean changed = adapter.compareAndSetStatus("PO-1", PaymentStatus.PENDING, 3L, PaymentStatus.PROCESSED,
+                LocalDateTime.now());
+
+        // Assert
+        assertThat(changed).isFalse();
+        verify(eventRepository, never()).append(any());
+        verify(statusNotifier, never()).statusChanged(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return inserted orders with the version assigned on persist")
+    void shouldReturnInitialVersionFromInsert() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        PaymentOrderEntity entity = new PaymentOrderEntity();
+        when(mapper.toEntity(order)).thenReturn(entity);
+        when(mapper.toEventEntity(any())).thenReturn(new PaymentOrderEventEntity());
+        doAnswer(invocation -> {
+            entity.setVersion(0L); // Lo que hace Hibernate al persistir una entidad versionada
+            return null;
+        }).when(jpaRepository).persist(eq(entity), any());
+
+        // Act
+        PaymentOrder result = adapter.insert(order);
+
+        // Assert
+        assertThat(result.getVersion()).isZero();
+        assertThat(result.getPaymentOrderReference()).isEqualTo(order.getPaymentOrderReference());
+    }
+
+
+    @Test
+    @DisplayName("Should count the orders moved into each status")
+    void shouldCountOrdersPerStatus() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        when(mapper.toEntity(order)).thenReturn(new PaymentOrderEntity());
+        when(mapper.toEventEntity(any())).thenReturn(new PaymentOrderEventEntity());
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(jpaRepository.updateStatus("INITIATED", "PENDING", List.of("PO-1", "PO-2"), changedAt)).thenReturn(2);
+        when(jpaRepository.compareAndSetStatus("PO-1", "PENDING", 1L, "PROCESSED", changedAt)).thenReturn(1);
+
+        // Act
+        adapter.insert(order);
+        adapter.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING, List.of("PO-1", "PO-2"), changedAt);
+        adapter.compareAndSetStatus("PO-1", PaymentStatus.PENDING, 1L, PaymentStatus.PROCESSED, changedAt);
+
+        // Assert
+        assertThat(statusCount(PaymentStatus.INITIATED)).isEqualTo(1.0);
+        assertThat(statusCount(PaymentStatus.PENDING)).isEqualTo(2.0);
+        assertThat(statusCount(PaymentStatus.PROCESSED)).isEqualTo(1.0);
+        assertThat(statusCount(PaymentStatus.COMPLETED)).isZero();
+    }
+
+    private double statusCount(final PaymentStatus status) {
+        return meterRegistry.get(PaymentOrderRepositoryAdapter.STATUS_COUNTER)
+                .tag("status", status.name())
+                .counter().count();
+    }
+
+
+    @Test
+    @DisplayName("Should stream references straight from the JPA projection")
+    void shouldDelegateForEachReference() {
+        // Arrange
+        LocalDateTime persistedFrom = LocalDateTime.now();
+        Consumer<String> action = reference -> { };
+        when(jpaRepository.forEachReference(persistedFrom, action)).thenReturn(3L);
+
+        // Act
+        long count = adapter.forEachReference(persistedFrom, action);
+
+        // Assert
+        assertThat(count).isEqualTo(3);
+    }
+}
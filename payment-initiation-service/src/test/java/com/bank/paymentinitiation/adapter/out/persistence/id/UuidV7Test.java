@@ -0,0 +1,71 @@
+package com.bank.paymentinitiation.adapter.out.persistence.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should generate version 7, IETF variant UUIDs carrying the current time")
+    void shouldGenerateVersion7Uuid() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7.next();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs, also within the same millisecond")
+    void shouldGenerateIncreasingUuids() {
+        // Arrange
+        List<UUID> generated = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(UuidV7.next());
+        }
+
+        // Assert: el orden de generación coincide con el orden de bytes (el de un índice UUID)
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(Long.compareUnsigned(generated.get(i).getMostSignificantBits(),
+                    generated.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not repeat UUIDs across concurrent threads")
+    void shouldBeUniqueAcrossThreads() {
+        // Arrange
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+        // Act
+        IntStream.range(0, 100_000).parallel().forEach(i -> generated.add(UuidV7.next()));
+
+        // Assert
+        assertThat(generated).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("Should reject reading the timestamp of a non version 7 UUID")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
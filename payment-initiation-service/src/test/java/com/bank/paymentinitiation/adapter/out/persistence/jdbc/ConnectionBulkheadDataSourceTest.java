@@ -0,0 +1,151 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionBulkheadDataSource Tests")
+class ConnectionBulkheadDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionBulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionBulkheadDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should take a permit per borrowed connection and release it on close")
+    void shouldReleasePermitOnClose() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection borrowed = dataSource.getConnection();
+        int availableWhileBorrowed = dataSource.getAvailablePermits();
+        borrowed.close();
+
+        // Assert
+        assertThat(availableWhileBorrowed).isEqualTo(1);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should release the permit only once when close is called twice")
+    void shouldReleasePermitOnlyOnce() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection borrowed = dataSource.getConnection();
+
+        // Act
+        borrowed.close();
+        borrowed.close();
+
+        // Assert
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should delegate other calls to the real connection")
+    void shouldDelegateCallsToRealConnection() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // Act
+        Connection borrowed = dataSource.getConnection();
+
+        // Assert
+        assertThat(borrowed.getAutoCommit()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should propagate SQLExceptions thrown by the real connection")
+    void shouldPropagateSqlExceptionsFromConnection() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenThrow(new SQLException("closed"));
+        Connection borrowed = dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(borrowed::getAutoCommit)
+                .isInstanceOf(SQLException.class)
+                .hasMessage("closed");
+    }
+
+    @Test
+    @DisplayName("Should fail fast when every permit is taken")
+    void shouldFailWhenNoPermitAvailable() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("No database connection available");
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when the pool fails to provide a connection")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLException.class)
+                .hasMessage("pool exhausted");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply the bulkhead to connections with explicit credentials")
+    void shouldApplyBulkheadWithCredentials() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection("sa", "")).thenReturn(connection);
+
+        // Act
+        Connection borrowed = dataSource.getConnection("sa", "");
+
+        // Assert
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        borrowed.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a non positive limit")
+    void shouldRejectNonPositiveLimit() {
+        // Act & Assert
+        assertThatThrownBy(() -> new ConnectionBulkheadDataSource(targetDataSource, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
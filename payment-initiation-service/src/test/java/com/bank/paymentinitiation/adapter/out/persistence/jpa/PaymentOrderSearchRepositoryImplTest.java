@@ -0,0 +1,267 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderReferenceAliasEntity;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("PaymentOrderSearchRepository Tests")
+class PaymentOrderSearchRepositoryImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final String PAYER = "EC123456789012345678";
+    private static final String OTHER_PAYER = "EC111111111111111111";
+
+    @Autowired
+    private PaymentOrderJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        jdbcTemplate.update("DELETE FROM payment_order_reference_aliases");
+    }
+
+    private PaymentOrderEntity createEntity(final String reference, final LocalDateTime createdAt,
+                                            final String status, final String payer) {
+        return PaymentOrderEntity.builder()
+                .paymentOrderReference(reference)
+                .externalReference("EXT-" + reference)
+                .payerReference(payer)
+                .payeeReference("EC987654321098765432")
+                .amount(new BigDecimal("150.75"))
+                .currency("USD")
+                .requestedExecutionDate(createdAt.toLocalDate().plusDays(1))
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private List<String> references(final List<PaymentOrderEntity> entities) {
+        return entities.stream().map(PaymentOrderEntity::getPaymentOrderReference).toList();
+    }
+
+    @Test
+    @DisplayName("Should return newest orders first, breaking ties by reference")
+    void shouldOrderByCreatedAtThenReferenceDescending() {
+        // Arrange
+        repository.saveAll(List.of(
+                createEntity("PO-1", BASE, "INITIATED", PAYER),
+                createEntity("PO-2", BASE.plusMinutes(1), "INITIATED", PAYER),
+                createEntity("PO-3", BASE.plusMinutes(1), "INITIATED", PAYER)));
+
+        // Act
+        List<PaymentOrderEntity> result = repository.search(PaymentOrderSearchCriteria.none(), null, 10);
+
+        // Assert
+        assertThat(references(result)).containsExactly("PO-3", "PO-2", "PO-1");
+    }
+
+    @Test
+    @DisplayName("Should walk every order exactly once following the cursor, including ties")
+    void shouldWalkAllOrdersWithCursor() {
+        // Arrange: varias órdenes comparten createdAt para ejercitar el desempate por referencia
+        List<PaymentOrderEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            entities.add(createEntity("PO-" + i, BASE.plusMinutes(i / 3), "INITIATED", PAYER));
+        }
+        repository.saveAll(entities);
+
+        // Act
+        List<String> walked = new ArrayList<>();
+        PaymentOrderCursor cursor = null;
+        List<PaymentOrderEntity> page;
+        do {
+            page = repository.search(PaymentOrderSearchCriteria.none(), cursor, 2);
+            walked.addAll(references(page));
+            if (!page.isEmpty()) {
+                PaymentOrderEntity last = page.get(page.size() - 1);
+                cursor = new PaymentOrderCursor(last.getCreatedAt(), last.getPaymentOrderReference());
+            }
+        } while (page.size() == 2);
+
+        // Assert
+        assertThat(walked).containsExactly("PO-6", "PO-5", "PO-4", "PO-3", "PO-2", "PO-1", "PO-0");
+    }
+
+    @Test
+    @DisplayName("Should apply status, payer and payee filters")
+    void shouldApplyEqualityFilters() {
+        // Arrange
+        repository.saveAll(List.of(
+                createEntity("PO-1", BASE, "INITIATED", PAYER),
+                createEntity("PO-2", BASE.plusMinutes(1), "COMPLETED", PAYER),
+                createEntity("PO-3", BASE.plusMinutes(2), "INITIATED", OTHER_PAYER)));
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.builder()
+                .status(PaymentStatus.INITIATED)
+                .payerReference(new PayerReference(PAYER))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .build();
+
+        // Act
+        List<PaymentOrderEntity> result = repository.search(criteria, null, 10);
+
+        // Assert
+        assertThat(references(result)).containsExactly("PO-1");
+    }
+
+    @Test
+    @DisplayName("Should apply execution-date and creation ranges")
+    void shouldApplyRanges() {
+        // Arrange
+        repository.saveAll(List.of(
+                createEntity("PO-1", BASE, "INITIATED", PAYER),
+                createEntity("PO-2", BASE.plusDays(1), "INITIATED", PAYER),
+                createEntity("PO-3", BASE.plusDays(2), "INITIATED", PAYER),
+                createEntity("PO-4", BASE.plusDays(3), "INITIATED", PAYER)));
+        PaymentOrderSearchCriteria byExecutionDate = PaymentOrderSearchCriteria.builder()
+                .requestedExecutionDateFrom(LocalDate.of(2025, 10, 3))
+                .requestedExecutionDateTo(LocalDate.of(2025, 10, 4))
+                .build();
+        PaymentOrderSearchCriteria byCreation = PaymentOrderSearchCriteria.builder()
+                .createdFrom(BASE.plusDays(1))
+                .createdTo(BASE.plusDays(3))
+                .build();
+
+        // Act
+        List<PaymentOrderEntity> executionResult = repository.search(byExecutionDate, null, 10);
+        List<PaymentOrderEntity> creationResult = repository.search(byCreation, null, 10);
+
+        // Assert
+        assertThat(references(executionResult)).containsExactly("PO-3", "PO-2");
+        assertThat(references(creationResult)).containsExactly("PO-3", "PO-2");
+    }
+
+    @Test
+    @DisplayName("Should stream matching orders oldest first, detaching each one after use")
+    void shouldStreamOldestFirstAndDetach() {
+        // Arrange
+        repository.saveAll(List.of(
+                createEntity("PO-1", BASE, "INITIATED", PAYER),
+                createEntity("PO-2", BASE.plusMinutes(1), "COMPLETED", PAYER),
+                createEntity("PO-3", BASE.plusMinutes(1), "INITIATED", PAYER),
+                createEntity("PO-4", BASE.plusMinutes(2), "INITIATED", PAYER)));
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.builder()
+                .status(PaymentStatus.INITIATED)
+                .createdFrom(BASE)
+                .createdTo(BASE.plusMinutes(2))
+                .build();
+        List<String> streamed = new ArrayList<>();
+        List<Boolean> previousStillManaged = new ArrayList<>();
+        PaymentOrderEntity[] previous = new PaymentOrderEntity[1];
+
+        // Act
+        long count = repository.forEach(criteria, entity -> {
+            if (previous[0] != null) {
+                previousStillManaged.add(entityManager.contains(previous[0]));
+            }
+            streamed.add(entity.getPaymentOrderReference());
+            previous[0] = entity;
+        });
+
+        // Assert
+        assertThat(count).isEqualTo(2);
+        assertThat(streamed).containsExactly("PO-1", "PO-3");
+        assertThat(previousStillManaged).containsOnly(false);
+    }
+
+
+    @Test
+    @DisplayName("Should stream the references persisted since an instant, whatever their creation time")
+    void shouldStreamReferencesPersistedSince() throws InterruptedException {
+        // Arrange
+        repository.saveAll(List.of(
+                createEntity("PO-1", BASE, "INITIATED", PAYER),
+                createEntity("PO-2", BASE.plusMinutes(1), "PENDING", PAYER)));
+        LocalDateTime lastPersistedAt = repository.findLastPersistedAt().orElseThrow();
+        Thread.sleep(5);
+        // Aceptada antes que las anteriores pero insertada después (p. ej. al reproducir el journal)
+        repository.save(createEntity("PO-3", BASE.minusDays(1), "INITIATED", OTHER_PAYER));
+        List<String> all = new ArrayList<>();
+        List<String> recent = new ArrayList<>();
+
+        // Act
+        long allCount = repository.forEachReference(null, all::add);
+        long recentCount = repository.forEachReference(lastPersistedAt.plusNanos(1_000), recent::add);
+
+        // Assert
+        assertThat(allCount).isEqualTo(3);
+        assertThat(all).containsExactlyInAnyOrder("PO-1", "PO-2", "PO-3");
+        assertThat(recentCount).isEqualTo(1);
+        assertThat(recent).containsExactly("PO-3");
+        assertThat(repository.findLastPersistedAt()).get().matches(last -> last.isAfter(lastPersistedAt));
+    }
+
+    @Test
+    @DisplayName("Should report no last persistence instant on an empty table")
+    void shouldReportNoLastPersistedAtWhenEmpty() {
+        // Act & Assert
+        assertThat(repository.findLastPersistedAt()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve and stream alias references alongside order references")
+    void shouldResolveAndStreamAliasReferences() {
+        // Arrange
+        repository.save(createEntity("PO-1", BASE, "INITIATED", PAYER));
+        PaymentOrderReferenceAliasEntity alias = PaymentOrderReferenceAliasEntity.builder()
+                .aliasReference("PO-ALIAS")
+                .paymentOrderReference("PO-1")
+                .build();
+        List<String> references = new ArrayList<>();
+
+        // Act
+        repository.persistAlias(alias);
+        repository.persistAlias(alias); // reproducir el journal no duplica el alias
+        long count = repository.forEachReference(null, references::add);
+
+        // Assert
+        assertThat(repository.findAliasTarget("PO-ALIAS")).contains("PO-1");
+        assertThat(repository.findAliasTarget("PO-1")).isEmpty();
+        assertThat(count).isEqualTo(2);
+        assertThat(references).containsExactly("PO-1", "PO-ALIAS");
+        assertThat(repository.findLastPersistedAt()).isPresent();
+    }
+
+
+    @Test
+    @DisplayName("Should assign time-ordered version 7 ids on insert")
+    void shouldAssignTimeOrderedIds() {
+        // Act
+        PaymentOrderEntity first = repository.saveAndFlush(createEntity("PO-1", BASE, "INITIATED", PAYER));
+        PaymentOrderEntity second = repository.saveAndFlush(createEntity("PO-2", BASE, "INITIATED", PAYER));
+
+        // Assert
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(second.getId().version()).isEqualTo(7);
+        assertThat(Long.compareUnsigned(second.getId().getMostSignificantBits(),
+                first.getId().getMostSignificantBits())).isPositive();
+    }
+}
@@ -0,0 +1,260 @@
+package com.bank.paymentinitiation.adapter.out.persistence.jpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEventType;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult.Outcome;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.in.ChangePaymentOrderStatusUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        // Misma base que PaymentOrderOutboxAdapterTest: sin relés de otros contextos que borren los eventos
+        "spring.datasource.url=jdbc:h2:mem:outboxtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.outbox.relay-enabled=false", // Los eventos se comprueban en la bandeja
+        "payment.outbox.sink=memory"
+})
+@DisplayName("PaymentOrderStatusTransitionRepository Tests")
+class PaymentOrderStatusTransitionRepositoryImplTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private PaymentOrderRepository repository;
+
+    @Autowired
+    private ChangePaymentOrderStatusUseCase changePaymentOrderStatusUseCase;
+
+    @Autowired
+    private PaymentOrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private PaymentOrderEventJpaRepository eventJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventJpaRepository.deleteAllInBatch();
+        orderJpaRepository.deleteAllInBatch();
+    }
+
+    private PaymentOrder insertOrder(final String reference, final LocalDate requestedExecutionDate) {
+        PaymentOrder order = PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference("EXT-" + reference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(requestedExecutionDate)
+                .build()
+                .initiate();
+        return repository.insert(order);
+    }
+
+    private List<PaymentOrderEventEntity> statusChangedEvents() {
+        return eventJpaRepository.findAll().stream()
+                .filter(event -> PaymentOrderEventType.STATUS_CHANGED.name().equals(event.getEventType()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should release only the INITIATED orders whose execution date has arrived")
+    void shouldReleaseDueOrders() {
+        // Arrange
+        insertOrder("PO-1", TODAY.minusDays(2));
+        insertOrder("PO-2", TODAY);
+        insertOrder("PO-3", TODAY.plusDays(1));
+
+        // Act
+        int released = changePaymentOrderStatusUseCase.releaseDueOrders(TODAY);
+
+        // Assert
+        assertThat(released).isEqualTo(2);
+        assertThat(repository.findByReference("PO-1").orElseThrow().getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(repository.findByReference("PO-2").orElseThrow().getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(repository.findByReference("PO-3").orElseThrow().getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(statusChangedEvents()).extracting(PaymentOrderEventEntity::getPaymentOrderReference)
+                .containsExactlyInAnyOrder("PO-1", "PO-2");
+        assertThat(changePaymentOrderStatusUseCase.releaseDueOrders(TODAY)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return due references oldest execution date first, up to the limit")
+    void shouldFindDueReferencesInExecutionOrder() {
+        // Arrange
+        insertOrder("PO-B", TODAY.minusDays(1));
+        insertOrder("PO-A", TODAY.minusDays(1));
+        insertOrder("PO-C", TODAY.minusDays(3));
+
+        // Act
+        List<String> due = orderJpaRepository.findReferencesDueForExecution("INITIATED", TODAY, 2);
+
+        // Assert
+        assertThat(due).containsExactly("PO-C", "PO-A");
+    }
+
+    @Test
+    @DisplayName("Should skip orders that are no longer in the source status and report only the changed ones")
+    void shouldSkipOrdersMovedConcurrently() {
+        // Arrange
+        insertOrder("PO-1", TODAY.plusDays(1));
+        PaymentOrder moved = insertOrder("PO-2", TODAY.plusDays(1));
+        repository.save(moved.changeStatus(PaymentStatus.CANCELLED)); // Otra escritura se adelanta
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        List<String> changed = repository.changeStatus(PaymentStatus.INITIATED, PaymentStatus.PENDING,
+                List.of("PO-1", "PO-2"), changedAt);
+
+        // Assert
+        assertThat(changed).containsExactly("PO-1");
+        PaymentOrder order = repository.findByReference("PO-1").orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(order.getUpdatedAt()).isEqualTo(changedAt);
+        assertThat(repository.findByReference("PO-2").orElseThrow().getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(statusChangedEvents()).extracting(PaymentOrderEventEntity::getPaymentOrderReference)
+                .containsExactlyInAnyOrder("PO-1", "PO-2"); // PO-2: el evento de su cancelación
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of lifecycle changes end to end")
+    void shouldApplyBatchOfChanges() {
+        // Arrange
+        insertOrder("PO-1", TODAY.plusDays(1));
+        insertOrder("PO-2", TODAY.plusDays(1));
+        repository.findByReference("PO-1"); // Calentar la caché para comprobar que se invalida
+
+        // Act
+        List<PaymentOrderStatusChangeResult> results = changePaymentOrderStatusUseCase.changeStatusAll(List.of(
+                new PaymentOrderStatusChange("PO-1", PaymentStatus.PENDING),
+                new PaymentOrderStatusChange("PO-2", PaymentStatus.COMPLETED),
+                new PaymentOrderStatusChange("PO-404", PaymentStatus.PENDING)));
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.CHANGED, Outcome.REJECTED, Outcome.NOT_FOUND);
+        assertThat(repository.findByReference("PO-1").orElseThrow().getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(repository.findStatusByReference("PO-2").orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.INITIATED);
+    }
+
+    @Test
+    @DisplayName("Should apply a compare-and-set only on the expected version and bump it")
+    void shouldCompareAndSetOnExpectedVersion() {
+        // Arrange
+        insertOrder("PO-0000000000000601", TODAY);
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        boolean stale = repository.compareAndSetStatus("PO-0000000000000601", PaymentStatus.INITIATED, 7L,
+                PaymentStatus.PENDING, changedAt);
+        boolean applied = repository.compareAndSetStatus("PO-0000000000000601", PaymentStatus.INITIATED, 0L,
+                PaymentStatus.PENDING, changedAt);
+
+        // Assert
+        assertThat(stale).isFalse();
+        assertThat(applied).isTrue();
+        PaymentOrderStatusSnapshot snapshot = repository.findStatusesByReferences(List.of("PO-0000000000000601"))
+                .get(0);
+        assertThat(snapshot.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+        assertThat(statusChangedEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several concurrent compare-and-sets on the same version win")
+    void shouldLetOneConcurrentCompareAndSetWin() throws Exception {
+        // Arrange
+        insertOrder("PO-0000000000000602", TODAY);
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Callable<Boolean>> writers = IntStream.range(0, 8)
+                .<Callable<Boolean>>mapToObj(i -> () -> repository.compareAndSetStatus("PO-0000000000000602",
+                        PaymentStatus.INITIATED, 0L, i % 2 == 0 ? PaymentStatus.PENDING : PaymentStatus.CANCELLED,
+                        changedAt))
+                .toList();
+
+        // Act
+        long winners;
+        ExecutorService executor = Executors.newFixedThreadPool(writers.size());
+        try {
+            winners = executor.invokeAll(writers).stream()
+                    .filter(result -> {
+                        try {
+                            return result.get();
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    })
+                    .count();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(winners).isEqualTo(1);
+        assertThat(repository.findStatusesByReferences(List.of("PO-0000000000000602")).get(0).getVersion())
+                .isEqualTo(1L);
+        assertThat(statusChangedEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject saving an order read at a version that is no longer current")
+    void shouldRejectSaveOfStaleVersion() {
+        // Arrange
+        insertOrder("PO-0000000000000603", TODAY);
+        PaymentOrder stale = repository.findByReference("PO-0000000000000603").orElseThrow();
+        changePaymentOrderStatusUseCase.changeStatus("PO-0000000000000603", PaymentStatus.PENDING);
+
+        // Act & Assert
+        assertThatThrownBy(() -> repository.save(stale.changeStatus(PaymentStatus.CANCELLED)))
+                .isInstanceOf(PaymentOrderConflictException.class);
+        assertThat(repository.findStatusesByReferences(List.of("PO-0000000000000603")).get(0).getStatus())
+                .isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should bump the version of every order changed in bulk")
+    void shouldBumpVersionOnBulkChange() {
+        // Arrange
+        insertOrder("PO-0000000000000604", TODAY);
+
+        // Act
+        changePaymentOrderStatusUseCase.releaseDueOrders(TODAY);
+        PaymentOrderStatusSnapshot changed =
+                changePaymentOrderStatusUseCase.changeStatus("PO-0000000000000604", PaymentStatus.PROCESSED);
+
+        // Assert
+        assertThat(changed.getVersion()).isEqualTo(2L);
+        assertThat(repository.findStatusesByReferences(List.of("PO-0000000000000604")).get(0))
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.getStatus()).isEqualTo(PaymentStatus.PROCESSED);
+                    assertThat(snapshot.getVersion()).isEqualTo(2L);
+                });
+    }
+}
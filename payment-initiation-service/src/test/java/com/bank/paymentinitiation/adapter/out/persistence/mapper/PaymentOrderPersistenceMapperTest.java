@@ -11,11 +11,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.entity.PaymentOrderEventEntity;
+import com.bank.paymentinitiation.adapter.out.persistence.jpa.PaymentOrderStatusView;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderEvent;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -117,5 +122,68 @@ class PaymentOrderPersistenceMapperTest {
             assertThat(mappedOrder.getStatus()).isEqualTo(status);
         }
     }
-}
 
+    @Test
+    @DisplayName("Should map status projection to status snapshot")
+    void shouldMapStatusViewToStatusSnapshot() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.now();
+        PaymentOrderStatusView view = new PaymentOrderStatusView("PO-1234567890123456", "COMPLETED", updatedAt, 3L);
+
+        // Act
+        PaymentOrderStatusSnapshot snapshot = mapper.toStatusSnapshot(view);
+
+        // Assert
+        assertThat(snapshot.getPaymentOrderReference()).isEqualTo("PO-1234567890123456");
+        assertThat(snapshot.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(snapshot.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(snapshot.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should map idempotency key in both directions")
+    void shouldMapIdempotencyKeyRoundTrip() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder domain = createValidPaymentOrder().toBuilder().idempotencyKey(key).build();
+
+        // Act
+        PaymentOrderEntity entity = mapper.toEntity(domain);
+        PaymentOrder mappedBack = mapper.toDomain(entity);
+
+        // Assert
+        assertThat(entity.getIdempotencyKey()).isEqualTo(key.getValue());
+        assertThat(mappedBack.getIdempotencyKey()).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("Should keep a missing idempotency key as null")
+    void shouldKeepMissingIdempotencyKeyAsNull() {
+        // Act
+        PaymentOrderEntity entity = mapper.toEntity(createValidPaymentOrder());
+        PaymentOrder mappedBack = mapper.toDomain(entity);
+
+        // Assert
+        assertThat(entity.getIdempotencyKey()).isNull();
+        assertThat(mappedBack.getIdempotencyKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map outbox events to entity and back")
+    void shouldMapOutboxEventsToEntityAndBack() {
+        // Arrange
+        PaymentOrderEvent event = PaymentOrderEvent.statusChanged(
+                createValidPaymentOrder().changeStatus(PaymentStatus.PENDING), PaymentStatus.INITIATED);
+
+        // Act
+        PaymentOrderEventEntity entity = mapper.toEventEntity(event);
+        PaymentOrderEvent roundTrip = mapper.toEvent(entity);
+
+        // Assert
+        assertThat(entity.getId()).isEqualTo(event.getEventId());
+        assertThat(entity.getEventType()).isEqualTo("STATUS_CHANGED");
+        assertThat(entity.getStatus()).isEqualTo("PENDING");
+        assertThat(entity.getPreviousStatus()).isEqualTo("INITIATED");
+        assertThat(roundTrip).isEqualTo(event);
+    }
+}
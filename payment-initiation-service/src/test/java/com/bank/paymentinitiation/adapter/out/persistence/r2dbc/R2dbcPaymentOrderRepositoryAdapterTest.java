@@ -0,0 +1,178 @@
+package com.bank.paymentinitiation.adapter.out.persistence.r2dbc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.bank.paymentinitiation.adapter.out.persistence.mapper.PaymentOrderPersistenceMapperImpl;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("R2dbcPaymentOrderRepositoryAdapter Tests")
+class R2dbcPaymentOrderRepositoryAdapterTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:r2dbcadapter;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String R2DBC_URL =
+            "r2dbc:h2:mem:///r2dbcadapter?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConnectionFactory connectionFactory;
+
+    private DatabaseClient databaseClient;
+    private SimpleMeterRegistry meterRegistry;
+    private R2dbcPaymentOrderRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void createSchema() {
+        // El esquema lo crean las migraciones de Flyway por JDBC, igual que al arrancar la aplicación
+        Flyway.configure().dataSource(JDBC_URL, "sa", "").load().migrate();
+        connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(R2DBC_URL).mutate()
+                .option(ConnectionFactoryOptions.USER, "sa")
+                .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new R2dbcPaymentOrderRepositoryAdapter(databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                new PaymentOrderPersistenceMapperImpl(), meterRegistry);
+    }
+
+    private PaymentOrder createInitiatedPaymentOrder(final String reference, final String externalReference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference(reference)
+                .externalReference(new ExternalReference(externalReference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation(null)
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .idempotencyKey(IdempotencyKey.ofExternalReference(new ExternalReference(externalReference)))
+                .build()
+                .initiate();
+    }
+
+    private long countOutboxEvents(final String reference) {
+        return databaseClient.sql("SELECT COUNT(*) FROM payment_order_outbox WHERE payment_order_reference = :reference")
+                .bind("reference", reference)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    @Test
+    @DisplayName("Should insert the order with its INITIATED event and read it back by reference and key")
+    void shouldInsertAndFindPaymentOrder() {
+        // Arrange
+        PaymentOrder order = createInitiatedPaymentOrder("PO-1001", "EXT-R2DBC-1");
+
+        // Act
+        StepVerifier.create(adapter.insert(order))
+                .assertNext(inserted -> assertThat(inserted.getVersion())
+                        .isEqualTo(R2dbcPaymentOrderRepositoryAdapter.INITIAL_VERSION))
+                .verifyComplete();
+
+        // Assert
+        StepVerifier.create(adapter.findByReference("PO-1001"))
+                .assertNext(found -> {
+                    assertThat(found.getExternalReference().getValue()).isEqualTo("EXT-R2DBC-1");
+                    assertThat(found.getInstructedAmount()).isEqualTo(order.getInstructedAmount());
+                    assertThat(found.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+                    assertThat(found.getRemittanceInformation()).isNull();
+                    assertThat(found.getVersion()).isZero();
+                })
+                .verifyComplete();
+        StepVerifier.create(adapter.findByIdempotencyKey(IdempotencyKey.ofExternalReference(new ExternalReference("EXT-R2DBC-1"))))
+                .assertNext(found -> assertThat(found.getPaymentOrderReference()).isEqualTo("PO-1001"))
+                .verifyComplete();
+        assertThat(countOutboxEvents("PO-1001")).isEqualTo(1);
+        assertThat(meterRegistry.counter("payment.orders.status", "status", "INITIATED").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate idempotency key and roll back its event")
+    void shouldRejectDuplicateAndRollBack() {
+        // Arrange
+        StepVerifier.create(adapter.insert(createInitiatedPaymentOrder("PO-2001", "EXT-R2DBC-2")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(adapter.insert(createInitiatedPaymentOrder("PO-2002", "EXT-R2DBC-2")))
+                .expectError(DuplicatePaymentOrderException.class)
+                .verify();
+        StepVerifier.create(adapter.findByReference("PO-2002")).verifyComplete();
+        assertThat(countOutboxEvents("PO-2002")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read only the status view of an order")
+    void shouldFindStatusByReference() {
+        // Arrange
+        PaymentOrder order = createInitiatedPaymentOrder("PO-3001", "EXT-R2DBC-3");
+        StepVerifier.create(adapter.insert(order)).expectNextCount(1).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(adapter.findStatusByReference("PO-3001"))
+                .assertNext(snapshot -> {
+                    assertThat(snapshot.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+                    // TIMESTAMP(6): la columna guarda microsegundos
+                    assertThat(snapshot.getUpdatedAt()).isCloseTo(order.getUpdatedAt(), within(1, ChronoUnit.MICROS));
+                    assertThat(snapshot.getVersion()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the order does not exist")
+    void shouldCompleteEmptyWhenNotFound() {
+        // Act & Assert
+        StepVerifier.create(adapter.findByReference("PO-404")).verifyComplete();
+        StepVerifier.create(adapter.findStatusByReference("PO-404")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should resolve an alias reference to the original order")
+    void shouldResolveAliasReference() {
+        // Arrange
+        PaymentOrder order = createInitiatedPaymentOrder("PO-4001", "EXT-R2DBC-4");
+        StepVerifier.create(adapter.insert(order)).expectNextCount(1).verifyComplete();
+        databaseClient.sql("INSERT INTO payment_order_reference_aliases (alias_reference, payment_order_reference) "
+                        + "VALUES ('PO-4002', 'PO-4001')")
+                .then()
+                .block();
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByReference("PO-4002"))
+                .assertNext(found -> assertThat(found.getPaymentOrderReference()).isEqualTo("PO-4001"))
+                .verifyComplete();
+        StepVerifier.create(adapter.findStatusByReference("PO-4002"))
+                .assertNext(snapshot -> assertThat(snapshot.getPaymentOrderReference()).isEqualTo("PO-4001"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,345 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.config.PaymentLifecycleProperties;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentStatusTransitionException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderConflictException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChange;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusChangeResult.Outcome;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangePaymentOrderStatusService Tests")
+class ChangePaymentOrderStatusServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 10, 30, 16, 25, 30);
+
+    @Mock
+    private PaymentOrderRepository repository;
+
+    private ChangePaymentOrderStatusService service(final int chunkSize, final int maxChunksPerRun) {
+        return new ChangePaymentOrderStatusService(repository,
+                new PaymentLifecycleProperties(chunkSize, false, Duration.ofMinutes(5), maxChunksPerRun, 3,
+                        Duration.ZERO));
+    }
+
+    private static PaymentOrderStatusSnapshot snapshot(final String reference, final PaymentStatus status) {
+        return new PaymentOrderStatusSnapshot(reference, status, UPDATED_AT, 0L);
+    }
+
+    private static PaymentOrderStatusChange change(final String reference, final PaymentStatus target) {
+        return new PaymentOrderStatusChange(reference, target);
+    }
+
+    @Test
+    @DisplayName("Should validate every change and apply the valid ones grouped by transition")
+    void shouldValidateAndApplyChangesGroupedByTransition() {
+        // Arrange
+        List<PaymentOrderStatusChange> changes = List.of(
+                change("PO-1", PaymentStatus.PENDING),
+                change("PO-2", PaymentStatus.CANCELLED),
+                change("PO-3", PaymentStatus.PENDING),
+                change("PO-4", PaymentStatus.COMPLETED),
+                change("PO-5", PaymentStatus.PENDING),
+                change("PO-6", PaymentStatus.PROCESSED),
+                change("PO-404", PaymentStatus.PENDING));
+        when(repository.findStatusesByReferences(anyCollection())).thenReturn(List.of(
+                snapshot("PO-1", PaymentStatus.INITIATED),
+                snapshot("PO-2", PaymentStatus.INITIATED),
+                snapshot("PO-3", PaymentStatus.INITIATED),
+                snapshot("PO-4", PaymentStatus.INITIATED),
+                snapshot("PO-5", PaymentStatus.PENDING),
+                snapshot("PO-6", PaymentStatus.CANCELLED)));
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), anyCollection(), any()))
+                .thenReturn(List.of("PO-1", "PO-3"));
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.CANCELLED), anyCollection(),
+                any())).thenReturn(List.of("PO-2"));
+
+        // Act
+        List<PaymentOrderStatusChangeResult> results = service(100, 10).changeStatusAll(changes);
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getIndex)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getOutcome).containsExactly(
+                Outcome.CHANGED, Outcome.CHANGED, Outcome.CHANGED, Outcome.REJECTED,
+                Outcome.UNCHANGED, Outcome.REJECTED, Outcome.NOT_FOUND);
+        assertThat(results.get(0).getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(results.get(0).getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(results.get(3).getFailureReason()).isEqualTo("Invalid status transition from INITIATED to COMPLETED");
+        assertThat(results.get(5).getFailureReason()).isEqualTo("Cannot change status from final state: CANCELLED");
+        assertThat(results.get(6).getFailureReason()).contains("PO-404");
+        verify(repository, times(2)).changeStatus(any(), any(), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should report orders moved by another write as conflicts")
+    void shouldReportConcurrentChangesAsConflicts() {
+        // Arrange
+        when(repository.findStatusesByReferences(anyCollection())).thenReturn(List.of(
+                snapshot("PO-1", PaymentStatus.PENDING), snapshot("PO-2", PaymentStatus.PENDING)));
+        when(repository.changeStatus(eq(PaymentStatus.PENDING), eq(PaymentStatus.PROCESSED), anyCollection(), any()))
+                .thenReturn(List.of("PO-2"));
+
+        // Act
+        List<PaymentOrderStatusChangeResult> results = service(100, 10).changeStatusAll(List.of(
+                change("PO-1", PaymentStatus.PROCESSED), change("PO-2", PaymentStatus.PROCESSED)));
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.CONFLICT, Outcome.CHANGED);
+        assertThat(results.get(0).getPreviousStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(results.get(0).getFailureReason()).contains("changed concurrently");
+        assertThat(results.get(0).isSuccessful()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a second change of the same order in one batch")
+    void shouldRejectDuplicateReferences() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-1"))).thenReturn(List.of(
+                snapshot("PO-1", PaymentStatus.INITIATED)));
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), anyCollection(), any()))
+                .thenReturn(List.of("PO-1"));
+
+        // Act
+        List<PaymentOrderStatusChangeResult> results = service(100, 10).changeStatusAll(List.of(
+                change("PO-1", PaymentStatus.PENDING), change("PO-1", PaymentStatus.CANCELLED)));
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.CHANGED, Outcome.REJECTED);
+        assertThat(results.get(1).getFailureReason()).isEqualTo("Payment order appears more than once in the batch");
+    }
+
+    @Test
+    @DisplayName("Should split reads and updates into chunks and fail only the chunk that could not be updated")
+    @SuppressWarnings("unchecked")
+    void shouldChunkAndIsolateFailures() {
+        // Arrange
+        when(repository.findStatusesByReferences(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream()
+                        .map(reference -> snapshot(reference, PaymentStatus.INITIATED))
+                        .toList());
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), anyCollection(), any()))
+                .thenReturn(List.of("PO-1", "PO-2"))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        // Act
+        List<PaymentOrderStatusChangeResult> results = service(2, 10).changeStatusAll(List.of(
+                change("PO-1", PaymentStatus.PENDING), change("PO-2", PaymentStatus.PENDING),
+                change("PO-3", PaymentStatus.PENDING)));
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.CHANGED, Outcome.CHANGED, Outcome.FAILED);
+        assertThat(results.get(2).getFailureReason())
+                .isEqualTo(ChangePaymentOrderStatusService.CHANGE_FAILED_REASON)
+                .doesNotContain("database unavailable");
+        ArgumentCaptor<Collection<String>> references = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(2)).findStatusesByReferences(references.capture());
+        assertThat(references.getAllValues()).containsExactly(List.of("PO-1", "PO-2"), List.of("PO-3"));
+    }
+
+    @Test
+    @DisplayName("Should change all orders of a transition with the same timestamp, truncated to microseconds")
+    @SuppressWarnings("unchecked")
+    void shouldUseOneMicrosecondTimestampPerBatch() {
+        // Arrange
+        when(repository.findStatusesByReferences(anyCollection())).thenReturn(List.of(
+                snapshot("PO-1", PaymentStatus.INITIATED), snapshot("PO-2", PaymentStatus.INITIATED)));
+        when(repository.changeStatus(any(), any(), anyCollection(), any())).thenReturn(List.of("PO-1", "PO-2"));
+        ArgumentCaptor<LocalDateTime> changedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // Act
+        service(100, 10).changeStatusAll(List.of(
+                change("PO-1", PaymentStatus.PENDING), change("PO-2", PaymentStatus.PENDING)));
+
+        // Assert
+        verify(repository).changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING),
+                eq(List.of("PO-1", "PO-2")), changedAt.capture());
+        assertThat(changedAt.getValue().getNano() % 1_000).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release due orders chunk by chunk until a chunk comes back short")
+    void shouldReleaseDueOrdersUntilChunkIsShort() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 10, 30);
+        when(repository.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 2))
+                .thenReturn(List.of("PO-1", "PO-2"), List.of("PO-3"));
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), anyCollection(), any()))
+                .thenReturn(List.of("PO-1", "PO-2"), List.of());
+
+        // Act
+        int released = service(2, 10).releaseDueOrders(today);
+
+        // Assert
+        assertThat(released).isEqualTo(2);
+        verify(repository, times(2)).findReferencesDueForExecution(PaymentStatus.INITIATED, today, 2);
+    }
+
+    @Test
+    @DisplayName("Should stop releasing after the maximum number of chunks per run")
+    void shouldStopReleasingAfterMaxChunks() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 10, 30);
+        when(repository.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 2))
+                .thenReturn(List.of("PO-1", "PO-2"), List.of("PO-3", "PO-4"));
+        when(repository.changeStatus(eq(PaymentStatus.INITIATED), eq(PaymentStatus.PENDING), anyCollection(), any()))
+                .thenReturn(List.of("PO-1", "PO-2"), List.of("PO-3", "PO-4"));
+
+        // Act
+        int released = service(2, 2).releaseDueOrders(today);
+
+        // Assert
+        assertThat(released).isEqualTo(4);
+        verify(repository, times(2)).findReferencesDueForExecution(PaymentStatus.INITIATED, today, 2);
+    }
+
+    @Test
+    @DisplayName("Should not update anything when no order is due")
+    void shouldNotUpdateWhenNothingIsDue() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 10, 30);
+        when(repository.findReferencesDueForExecution(PaymentStatus.INITIATED, today, 500)).thenReturn(List.of());
+
+        // Act
+        int released = service(500, 10).releaseDueOrders(today);
+
+        // Assert
+        assertThat(released).isZero();
+        verify(repository, never()).changeStatus(any(), any(), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should change a single order with a compare-and-set on the status and version read")
+    void shouldChangeSingleOrderWithCompareAndSet() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-1")))
+                .thenReturn(List.of(new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PENDING, UPDATED_AT, 4L)));
+        when(repository.compareAndSetStatus(eq("PO-1"), eq(PaymentStatus.PENDING), eq(4L),
+                eq(PaymentStatus.PROCESSED), any())).thenReturn(true);
+
+        // Act
+        PaymentOrderStatusSnapshot result = service(500, 10).changeStatus("PO-1", PaymentStatus.PROCESSED);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(PaymentStatus.PROCESSED);
+        assertThat(result.getVersion()).isEqualTo(5L);
+        assertThat(result.getUpdatedAt()).isAfter(UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("Should re-read and retry when another writer wins the compare-and-set")
+    void shouldRetryCompareAndSetAfterConcurrentChange() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-1"))).thenReturn(
+                List.of(new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.INITIATED, UPDATED_AT, 0L)),
+                List.of(new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PENDING, UPDATED_AT, 1L)));
+        when(repository.compareAndSetStatus(eq("PO-1"), eq(PaymentStatus.INITIATED), eq(0L),
+                eq(PaymentStatus.PENDING), any())).thenReturn(false);
+
+        // Act
+        PaymentOrderStatusSnapshot result = service(500, 10).changeStatus("PO-1", PaymentStatus.PENDING);
+
+        // Assert: en el segundo intento la orden ya está en PENDING, no hay nada que cambiar
+        assertThat(result.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(repository, times(1)).compareAndSetStatus(anyString(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should give up with a conflict once every compare-and-set attempt has lost")
+    void shouldThrowConflictWhenAttemptsAreExhausted() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-1")))
+                .thenReturn(List.of(new PaymentOrderStatusSnapshot("PO-1", PaymentStatus.PENDING, UPDATED_AT, 2L)));
+        when(repository.compareAndSetStatus(anyString(), any(), anyLong(), any(), any())).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service(500, 10).changeStatus("PO-1", PaymentStatus.PROCESSED))
+                .isInstanceOf(PaymentOrderConflictException.class)
+                .hasMessageContaining("PO-1")
+                .hasMessageContaining("3 attempts");
+        verify(repository, times(3)).compareAndSetStatus(anyString(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a single change that the state machine does not allow")
+    void shouldRejectInvalidSingleChange() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-1")))
+                .thenReturn(List.of(snapshot("PO-1", PaymentStatus.COMPLETED)));
+        when(repository.findStatusesByReferences(List.of("PO-2")))
+                .thenReturn(List.of(snapshot("PO-2", PaymentStatus.INITIATED)));
+        ChangePaymentOrderStatusService service = service(500, 10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.changeStatus("PO-1", PaymentStatus.PENDING))
+                .isInstanceOf(InvalidPaymentStatusTransitionException.class)
+                .hasMessage("Cannot change status from final state: COMPLETED");
+        assertThatThrownBy(() -> service.changeStatus("PO-2", PaymentStatus.COMPLETED))
+                .isInstanceOf(InvalidPaymentStatusTransitionException.class)
+                .hasMessage("Invalid status transition from INITIATED to COMPLETED");
+        verify(repository, never()).compareAndSetStatus(anyString(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a single change of an unknown order as not found")
+    void shouldThrowNotFoundForUnknownSingleOrder() {
+        // Arrange
+        when(repository.findStatusesByReferences(List.of("PO-404"))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> service(500, 10).changeStatus("PO-404", PaymentStatus.PENDING))
+                .isInstanceOf(PaymentOrderNotFoundException.class)
+                .hasMessageContaining("PO-404");
+    }
+
+    @Test
+    @DisplayName("Should back off between compare-and-set attempts when a backoff is configured")
+    void shouldBackOffBetweenAttempts() {
+        // Arrange
+        ChangePaymentOrderStatusService service = new ChangePaymentOrderStatusService(repository,
+                new PaymentLifecycleProperties(500, false, Duration.ofMinutes(5), 10, 2, Duration.ofMillis(1)));
+        when(repository.findStatusesByReferences(List.of("PO-1")))
+                .thenReturn(List.of(snapshot("PO-1", PaymentStatus.PENDING)));
+        when(repository.compareAndSetStatus(anyString(), any(), anyLong(), any(), any())).thenReturn(false, true);
+
+        // Act
+        PaymentOrderStatusSnapshot result = service.changeStatus("PO-1", PaymentStatus.FAILED);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        verify(repository, times(2)).compareAndSetStatus(anyString(), any(), anyLong(), any(), any());
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderExport;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportPaymentOrdersService Tests")
+class ExportPaymentOrdersServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 10, 30, 0, 0);
+
+    @Mock
+    private PaymentOrderRepository repository;
+
+    @InjectMocks
+    private ExportPaymentOrdersService service;
+
+    @Test
+    @DisplayName("Should defer reading until the export is written")
+    void shouldDeferReadingUntilWritten() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.builder()
+                .createdFrom(FROM)
+                .createdTo(FROM.plusDays(1))
+                .build();
+        Consumer<PaymentOrder> sink = order -> { };
+        when(repository.forEach(criteria, sink)).thenReturn(3L);
+
+        // Act
+        PaymentOrderExport export = service.export(criteria);
+
+        // Assert
+        verify(repository, never()).forEach(any(), any());
+        assertThat(export.writeTo(sink)).isEqualTo(3L);
+        verify(repository).forEach(criteria, sink);
+    }
+
+    @Test
+    @DisplayName("Should require a bounded creation range")
+    void shouldRequireBoundedCreationRange() {
+        // Arrange
+        PaymentOrderSearchCriteria unbounded = PaymentOrderSearchCriteria.builder().createdFrom(FROM).build();
+        PaymentOrderSearchCriteria empty = PaymentOrderSearchCriteria.builder()
+                .createdFrom(FROM)
+                .createdTo(FROM)
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.export(unbounded))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class)
+                .hasMessageContaining("createdTo");
+        assertThatThrownBy(() -> service.export(PaymentOrderSearchCriteria.none()))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> service.export(empty))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class)
+                .hasMessageContaining("empty");
+    }
+}
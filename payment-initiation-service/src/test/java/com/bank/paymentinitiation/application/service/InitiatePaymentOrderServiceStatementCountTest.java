@@ -0,0 +1,86 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Sin trabajos en segundo plano que cuenten sus propias sentencias
+        "payment.outbox.relay-enabled=false",
+        "payment.lifecycle.sweep-enabled=false",
+        "payment.reference-filter.enabled=false"
+})
+@DisplayName("InitiatePaymentOrderService Statement Count Tests")
+class InitiatePaymentOrderServiceStatementCountTest {
+
+    @Autowired
+    private InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private PaymentOrder createValidPaymentOrder(final String externalReference) {
+        return PaymentOrder.builder()
+                .externalReference(new ExternalReference(externalReference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("A new order should cost only the inserts of the order and its outbox event")
+    void newOrderShouldCostOnlyTheInserts() {
+        // Act
+        PaymentOrder initiated = initiatePaymentOrderUseCase.initiate(createValidPaymentOrder("EXT-STMT-1"));
+
+        // Assert
+        assertThat(initiated.getPaymentOrderReference()).startsWith("PO-");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A retry of a recent order should be answered from the cache without statements")
+    void recentRetryShouldNotRunStatements() {
+        // Arrange
+        PaymentOrder original = initiatePaymentOrderUseCase.initiate(createValidPaymentOrder("EXT-STMT-2"));
+        statistics.clear();
+
+        // Act
+        PaymentOrder retried = initiatePaymentOrderUseCase.initiate(createValidPaymentOrder("EXT-STMT-2"));
+
+        // Assert
+        assertThat(retried.getPaymentOrderReference()).isEqualTo(original.getPaymentOrderReference());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -2,6 +2,8 @@ package com.bank.paymentinitiation.application.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,12 +12,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bank.paymentinitiation.config.PaymentBatchProperties;
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
 import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
 import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
 import com.bank.paymentinitiation.domain.model.PayeeReference;
 import com.bank.paymentinitiation.domain.model.PayerReference;
 import com.bank.paymentinitiation.domain.model.PaymentAmount;
 import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderInitiationResult;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
 import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
 import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
@@ -23,8 +29,10 @@ import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,7 +66,7 @@ class InitiatePaymentOrderServiceTest {
     void shouldInitiatePaymentOrderSuccessfully() {
         // Arrange
         PaymentOrder order = createValidPaymentOrder();
-        when(repository.save(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         PaymentOrder result = service.initiate(order);
@@ -69,7 +77,7 @@ class InitiatePaymentOrderServiceTest {
         assertThat(result.getCreatedAt()).isNotNull();
         assertThat(result.getUpdatedAt()).isNotNull();
         verify(paymentOrderDomainService).validate(any(PaymentOrder.class));
-        verify(repository).save(any(PaymentOrder.class));
+        verify(repository).insert(any(PaymentOrder.class));
     }
 
     @Test
@@ -84,7 +92,7 @@ class InitiatePaymentOrderServiceTest {
         assertThatThrownBy(() -> service.initiate(order))
                 .isInstanceOf(InvalidPaymentException.class)
                 .hasMessageContaining("Invalid payment order");
-        verify(repository, never()).save(any(PaymentOrder.class));
+        verify(repository, never()).insert(any(PaymentOrder.class));
     }
 
     @Test
@@ -92,7 +100,7 @@ class InitiatePaymentOrderServiceTest {
     void shouldUseExistingPaymentOrderReference() {
         // Arrange
         PaymentOrder order = createValidPaymentOrder();
-        when(repository.save(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         PaymentOrder result = service.initiate(order);
@@ -100,7 +108,7 @@ class InitiatePaymentOrderServiceTest {
         // Assert
         assertThat(result.getPaymentOrderReference()).isEqualTo("PO-1234567890123456");
         verify(paymentOrderDomainService, never()).generateReference();
-        verify(repository).save(any(PaymentOrder.class));
+        verify(repository).insert(any(PaymentOrder.class));
     }
 
     @Test
@@ -111,7 +119,7 @@ class InitiatePaymentOrderServiceTest {
                 .paymentOrderReference(null)
                 .build();
         when(paymentOrderDomainService.generateReference()).thenReturn("PO-GENERATED-123");
-        when(repository.save(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         PaymentOrder result = service.initiate(order);
@@ -119,7 +127,7 @@ class InitiatePaymentOrderServiceTest {
         // Assert
         assertThat(result.getPaymentOrderReference()).isEqualTo("PO-GENERATED-123");
         verify(paymentOrderDomainService).generateReference();
-        verify(repository).save(any(PaymentOrder.class));
+        verify(repository).insert(any(PaymentOrder.class));
     }
 
     @Test
@@ -133,7 +141,263 @@ class InitiatePaymentOrderServiceTest {
         // Act & Assert
         assertThatThrownBy(() -> service.initiate(order))
                 .isInstanceOf(IllegalStateException.class);
-        verify(repository, never()).save(any(PaymentOrder.class));
+        verify(repository, never()).insert(any(PaymentOrder.class));
     }
-}
 
+    @Test
+    @DisplayName("Should initiate all valid orders and reject invalid ones in a batch")
+    void shouldInitiateAllValidOrdersAndRejectInvalidOnes() {
+        // Arrange
+        InitiatePaymentOrderService batchService = new InitiatePaymentOrderService(
+                repository, paymentOrderDomainService, new PaymentBatchProperties(100));
+        PaymentOrder valid = createValidPaymentOrder();
+        PaymentOrder invalid = createValidPaymentOrder().toBuilder()
+                .paymentOrderReference("PO-2")
+                .externalReference(null)
+                .build();
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<PaymentOrderInitiationResult> results = batchService.initiateAll(List.of(valid, invalid));
+
+        // Assert
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getOutcome()).isEqualTo(PaymentOrderInitiationResult.Outcome.INITIATED);
+        assertThat(results.get(0).getPaymentOrder().getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(results.get(1).getOutcome()).isEqualTo(PaymentOrderInitiationResult.Outcome.REJECTED);
+        assertThat(results.get(1).getIndex()).isEqualTo(1);
+        verify(repository).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should persist batch in chunks and report failed chunk")
+    void shouldPersistBatchInChunksAndReportFailedChunk() {
+        // Arrange
+        InitiatePaymentOrderService batchService = new InitiatePaymentOrderService(
+                repository, paymentOrderDomainService, new PaymentBatchProperties(2));
+        List<PaymentOrder> orders = List.of(
+                createValidPaymentOrder().toBuilder().paymentOrderReference("PO-1").build(),
+                createValidPaymentOrder().toBuilder().paymentOrderReference("PO-2").build(),
+                createValidPaymentOrder().toBuilder().paymentOrderReference("PO-3").build());
+        when(repository.insertAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new IllegalStateException("duplicate key"));
+
+        // Act
+        List<PaymentOrderInitiationResult> results = batchService.initiateAll(orders);
+
+        // Assert
+        assertThat(results).extracting(PaymentOrderInitiationResult::getOutcome).containsExactly(
+                PaymentOrderInitiationResult.Outcome.INITIATED,
+                PaymentOrderInitiationResult.Outcome.INITIATED,
+                PaymentOrderInitiationResult.Outcome.FAILED);
+        assertThat(results.get(2).getFailureReason())
+                .isEqualTo(InitiatePaymentOrderService.PERSISTENCE_FAILED_REASON)
+                .doesNotContain("duplicate key");
+        verify(repository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report a fixed reason when a batch chunk collides with existing orders")
+    void shouldReportFixedReasonForDuplicateChunk() {
+        // Arrange
+        InitiatePaymentOrderService batchService = new InitiatePaymentOrderService(
+                repository, paymentOrderDomainService, new PaymentBatchProperties(2));
+        when(repository.insertAll(anyList())).thenThrow(new DuplicatePaymentOrderException(
+                "could not execute statement [Unique index or primary key violation: UK_PAYMENT_ORDERS_REFERENCE]"));
+
+        // Act
+        List<PaymentOrderInitiationResult> results = batchService.initiateAll(List.of(createValidPaymentOrder()));
+
+        // Assert
+        assertThat(results).singleElement()
+                .satisfies(result -> assertThat(result.getFailureReason())
+                        .isEqualTo(InitiatePaymentOrderService.DUPLICATE_REASON));
+    }
+
+    @Test
+    @DisplayName("Should not touch repository when every order in the batch is rejected")
+    void shouldNotTouchRepositoryWhenEveryOrderIsRejected() {
+        // Arrange
+        InitiatePaymentOrderService batchService = new InitiatePaymentOrderService(
+                repository, paymentOrderDomainService, new PaymentBatchProperties(0));
+        doThrow(new InvalidPaymentException("Requested execution date cannot be in the past"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+
+        // Act
+        List<PaymentOrderInitiationResult> results = batchService.initiateAll(List.of(createValidPaymentOrder()));
+
+        // Assert
+        assertThat(results).singleElement()
+                .satisfies(result -> assertThat(result.getFailureReason()).contains("in the past"));
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return the cached original order on a retry without touching the database")
+    void shouldReturnCachedOriginalOrderOnRetry() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder retry = createValidPaymentOrder().toBuilder().idempotencyKey(key).build();
+        PaymentOrder original = createValidPaymentOrder().toBuilder()
+                .paymentOrderReference("PO-0000000000000001")
+                .idempotencyKey(key)
+                .build()
+                .initiate();
+        when(repository.findCachedByIdempotencyKey(key)).thenReturn(Optional.of(original));
+
+        // Act
+        PaymentOrder result = service.initiate(retry);
+
+        // Assert
+        assertThat(result).isSameAs(original);
+        verify(repository, never()).insert(any(PaymentOrder.class));
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+        verify(paymentOrderDomainService, never()).validate(any(PaymentOrder.class));
+    }
+
+    @Test
+    @DisplayName("Should return the persisted original order when the insert of a retry collides")
+    void shouldReturnPersistedOriginalOrderOnRetry() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder retry = createValidPaymentOrder().toBuilder().idempotencyKey(key).build();
+        PaymentOrder original = retry.toBuilder().paymentOrderReference("PO-0000000000000001").build().initiate();
+        when(repository.insert(any(PaymentOrder.class)))
+                .thenThrow(new DuplicatePaymentOrderException("Payment order already exists"));
+        when(repository.findByIdempotencyKey(key)).thenReturn(Optional.of(original));
+
+        // Act
+        PaymentOrder result = service.initiate(retry);
+
+        // Assert
+        assertThat(result).isSameAs(original);
+    }
+
+    @Test
+    @DisplayName("Should return the original order on a late retry that is no longer valid")
+    void shouldReturnOriginalOrderOnLateRetry() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-3");
+        PaymentOrder retry = createValidPaymentOrder().toBuilder()
+                .idempotencyKey(key)
+                .requestedExecutionDate(LocalDate.now().minusDays(1))
+                .build();
+        // Guardada con escala distinta: el importe se compara por valor
+        PaymentOrder original = retry.toBuilder()
+                .paymentOrderReference("PO-0000000000000003")
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.750"), "USD"))
+                .build()
+                .initiate();
+        doThrow(new InvalidPaymentException("Requested execution date cannot be in the past"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+        when(repository.findByIdempotencyKey(key)).thenReturn(Optional.of(original));
+
+        // Act
+        PaymentOrder result = service.initiate(retry);
+
+        // Assert
+        assertThat(result).isSameAs(original);
+        verify(repository, never()).insert(any(PaymentOrder.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a late retry whose payment details differ from the stored order")
+    void shouldRejectLateRetryWithDifferentDetails() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-4");
+        PaymentOrder retry = createValidPaymentOrder().toBuilder()
+                .idempotencyKey(key)
+                .requestedExecutionDate(LocalDate.now().minusDays(1))
+                .build();
+        PaymentOrder other = retry.toBuilder()
+                .paymentOrderReference("PO-0000000000000004")
+                .instructedAmount(PaymentAmount.of(new BigDecimal("999.00"), "USD"))
+                .build()
+                .initiate();
+        InvalidPaymentException invalid = new InvalidPaymentException("Requested execution date cannot be in the past");
+        doThrow(invalid).when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+        when(repository.findByIdempotencyKey(key)).thenReturn(Optional.of(other));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.initiate(retry)).isSameAs(invalid);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid order that reuses an external reference without looking it up")
+    void shouldRejectInvalidOrderKeyedByExternalReference() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder().toBuilder()
+                .requestedExecutionDate(LocalDate.now().minusDays(1))
+                .build();
+        doThrow(new InvalidPaymentException("Requested execution date cannot be in the past"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.initiate(order)).isInstanceOf(InvalidPaymentException.class);
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("Should not treat an invalid order with a future execution date as a late retry")
+    void shouldNotTreatOtherValidationFailuresAsLateRetry() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder().toBuilder()
+                .idempotencyKey(IdempotencyKey.ofClientKey("retry-5"))
+                .build();
+        doThrow(new InvalidPaymentException("Invalid payment order"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.initiate(order)).isInstanceOf(InvalidPaymentException.class);
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("Should derive the idempotency key from externalReference when none is given")
+    void shouldDeriveIdempotencyKeyFromExternalReference() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        IdempotencyKey expectedKey = IdempotencyKey.ofExternalReference(order.getExternalReference());
+        when(repository.insert(any(PaymentOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PaymentOrder result = service.initiate(order);
+
+        // Assert
+        assertThat(result.getIdempotencyKey()).isEqualTo(expectedKey);
+        // Una orden nueva solo cuesta la inserción: la clave no se busca en la base de datos
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("Should return the winning order when a concurrent retry inserts first")
+    void shouldReturnWinningOrderOnConcurrentDuplicate() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-2");
+        PaymentOrder order = createValidPaymentOrder().toBuilder().idempotencyKey(key).build();
+        PaymentOrder winner = order.toBuilder().paymentOrderReference("PO-0000000000000002").build().initiate();
+        when(repository.findByIdempotencyKey(key)).thenReturn(Optional.of(winner));
+        when(repository.insert(any(PaymentOrder.class)))
+                .thenThrow(new DuplicatePaymentOrderException("Payment order already exists"));
+
+        // Act
+        PaymentOrder result = service.initiate(order);
+
+        // Assert
+        assertThat(result).isSameAs(winner);
+        verify(repository, times(1)).findByIdempotencyKey(key);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the duplicate when no order holds the idempotency key")
+    void shouldRethrowDuplicateWhenKeyIsFree() {
+        // Arrange
+        PaymentOrder order = createValidPaymentOrder();
+        DuplicatePaymentOrderException duplicate = new DuplicatePaymentOrderException("Payment order already exists");
+        when(repository.insert(any(PaymentOrder.class))).thenThrow(duplicate);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.initiate(order)).isSameAs(duplicate);
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderCursor;
+import com.bank.paymentinitiation.domain.model.PaymentOrderPage;
+import com.bank.paymentinitiation.domain.model.PaymentOrderSearchCriteria;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListPaymentOrdersService Tests")
+class ListPaymentOrdersServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private PaymentOrderRepository repository;
+
+    @InjectMocks
+    private ListPaymentOrdersService service;
+
+    private PaymentOrder createOrder(final int minute) {
+        return PaymentOrder.builder()
+                .paymentOrderReference("PO-" + minute)
+                .externalReference(new ExternalReference("EXT-" + minute))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.of(2025, 10, 2))
+                .status(PaymentStatus.INITIATED)
+                .createdAt(BASE.plusMinutes(minute))
+                .updatedAt(BASE.plusMinutes(minute))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return the last page without cursor when fewer rows than limit + 1 come back")
+    void shouldReturnLastPageWithoutCursor() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        List<PaymentOrder> rows = List.of(createOrder(2), createOrder(1));
+        when(repository.search(criteria, null, 3)).thenReturn(rows);
+
+        // Act
+        PaymentOrderPage page = service.list(criteria, null, 2);
+
+        // Assert
+        assertThat(page.getItems()).containsExactlyElementsOf(rows);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should trim the extra row and point the cursor at the last returned order")
+    void shouldTrimExtraRowAndReturnCursor() {
+        // Arrange
+        PaymentOrderSearchCriteria criteria = PaymentOrderSearchCriteria.none();
+        PaymentOrderCursor after = new PaymentOrderCursor(BASE.plusMinutes(9), "PO-9");
+        when(repository.search(criteria, after, 3))
+                .thenReturn(List.of(createOrder(3), createOrder(2), createOrder(1)));
+
+        // Act
+        PaymentOrderPage page = service.list(criteria, after, 2);
+
+        // Assert
+        assertThat(page.getItems()).extracting(PaymentOrder::getPaymentOrderReference)
+                .containsExactly("PO-3", "PO-2");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(new PaymentOrderCursor(BASE.plusMinutes(2), "PO-2"));
+    }
+
+    @Test
+    @DisplayName("Should reject a limit outside 1..100")
+    void shouldRejectInvalidLimit() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.list(PaymentOrderSearchCriteria.none(), null, 0))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> service.list(PaymentOrderSearchCriteria.none(), null,
+                ListPaymentOrdersService.MAX_LIMIT + 1))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        verify(repository, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject empty date ranges")
+    void shouldRejectEmptyRanges() {
+        // Arrange
+        PaymentOrderSearchCriteria executionDates = PaymentOrderSearchCriteria.builder()
+                .requestedExecutionDateFrom(LocalDate.of(2025, 10, 5))
+                .requestedExecutionDateTo(LocalDate.of(2025, 10, 1))
+                .build();
+        PaymentOrderSearchCriteria created = PaymentOrderSearchCriteria.builder()
+                .createdFrom(BASE.plusDays(1))
+                .createdTo(BASE)
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.list(executionDates, null, 10))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class)
+                .hasMessageContaining("requestedExecutionDate");
+        assertThatThrownBy(() -> service.list(created, null, 10))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class)
+                .hasMessageContaining("created");
+        verify(repository, never()).search(any(), any(), anyInt());
+    }
+}
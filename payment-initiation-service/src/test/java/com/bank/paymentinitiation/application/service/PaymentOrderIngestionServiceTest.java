@@ -0,0 +1,338 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderQueueFullException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderJournal.Entry;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOrderIngestionService Tests")
+class PaymentOrderIngestionServiceTest {
+
+    private static final int CAPACITY = 2;
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private PaymentOrderRepository repository;
+
+    @Mock
+    private PaymentOrderDomainService paymentOrderDomainService;
+
+    @Mock
+    private PaymentOrderJournal journal;
+
+    private PaymentOrderIngestionService service;
+
+    private long nextSequence;
+
+    @BeforeEach
+    void setUp() {
+        service = new PaymentOrderIngestionService(repository, paymentOrderDomainService, journal, CAPACITY,
+                BATCH_SIZE);
+        nextSequence = 0;
+    }
+
+    private PaymentOrder createValidPaymentOrder(final String externalReference) {
+        return PaymentOrder.builder()
+                .paymentOrderReference("PO-" + externalReference)
+                .externalReference(new ExternalReference(externalReference))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+
+    private void journalAssignsSequences() {
+        when(journal.append(any(PaymentOrder.class))).thenAnswer(invocation -> ++nextSequence);
+    }
+
+    @Test
+    @DisplayName("Should accept an order after appending it to the journal and syncing it")
+    void shouldAcceptOrder() {
+        // Arrange
+        journalAssignsSequences();
+
+        // Act
+        PaymentOrder accepted = service.enqueue(createValidPaymentOrder("EXT-1"));
+
+        // Assert
+        assertThat(accepted.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(accepted.getIdempotencyKey())
+                .isEqualTo(IdempotencyKey.ofExternalReference(new ExternalReference("EXT-1")));
+        assertThat(service.backlog()).isEqualTo(1);
+        verify(paymentOrderDomainService).validate(accepted);
+        verify(journal).sync(1);
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should generate a reference when the order has none")
+    void shouldGenerateReference() {
+        // Arrange
+        journalAssignsSequences();
+        when(paymentOrderDomainService.generateReference()).thenReturn("PO-GENERATED");
+
+        // Act
+        PaymentOrder accepted = service.enqueue(createValidPaymentOrder("EXT-1").toBuilder()
+                .paymentOrderReference(null)
+                .build());
+
+        // Assert
+        assertThat(accepted.getPaymentOrderReference()).isEqualTo("PO-GENERATED");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid orders without taking a queue slot")
+    void shouldRejectInvalidOrders() {
+        // Arrange
+        doThrow(new InvalidPaymentException("Invalid payment order"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.enqueue(createValidPaymentOrder("EXT-1")))
+                .isInstanceOf(InvalidPaymentException.class);
+        assertThat(service.backlog()).isZero();
+        verify(journal, never()).append(any(PaymentOrder.class));
+    }
+
+    @Test
+    @DisplayName("Should throw PaymentOrderQueueFullException when the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        // Arrange
+        journalAssignsSequences();
+        service.enqueue(createValidPaymentOrder("EXT-1"));
+        service.enqueue(createValidPaymentOrder("EXT-2"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.enqueue(createValidPaymentOrder("EXT-3")))
+                .isInstanceOf(PaymentOrderQueueFullException.class)
+                .extracting("capacity").isEqualTo(CAPACITY);
+        assertThat(service.backlog()).isEqualTo(CAPACITY);
+        assertThat(service.capacity()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should return the queued order for a retry with the same idempotency key")
+    void shouldReturnQueuedOrderForRetry() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder first = service.enqueue(createValidPaymentOrder("EXT-1"));
+
+        // Act
+        PaymentOrder retried = service.enqueue(createValidPaymentOrder("EXT-1").toBuilder()
+                .paymentOrderReference("PO-OTHER")
+                .build());
+
+        // Assert
+        assertThat(retried).isSameAs(first);
+        assertThat(service.backlog()).isEqualTo(1);
+        verify(journal, times(1)).append(any(PaymentOrder.class));
+    }
+
+    @Test
+    @DisplayName("Should return the cached persisted order for a retry without querying the database")
+    void shouldReturnPersistedOrderForRetry() {
+        // Arrange
+        PaymentOrder persisted = createValidPaymentOrder("EXT-1");
+        when(repository.findCachedByIdempotencyKey(
+                IdempotencyKey.ofExternalReference(new ExternalReference("EXT-1"))))
+                .thenReturn(Optional.of(persisted));
+
+        // Act
+        PaymentOrder retried = service.enqueue(createValidPaymentOrder("EXT-1"));
+
+        // Assert
+        assertThat(retried).isSameAs(persisted);
+        verify(journal, never()).append(any(PaymentOrder.class));
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("Should release the slot when the journal append fails")
+    void shouldReleaseSlotWhenAppendFails() {
+        // Arrange
+        when(journal.append(any(PaymentOrder.class))).thenThrow(new IllegalStateException("disk full"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.enqueue(createValidPaymentOrder("EXT-1")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(service.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drain queued orders in one batch, checkpoint them and release their slots")
+    void shouldDrainQueuedOrders() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder first = service.enqueue(createValidPaymentOrder("EXT-1"));
+        PaymentOrder second = service.enqueue(createValidPaymentOrder("EXT-2"));
+
+        // Act
+        int drained = service.drain(Duration.ZERO);
+
+        // Assert
+        assertThat(drained).isEqualTo(2);
+        assertThat(service.backlog()).isZero();
+        verify(repository).insertAll(List.of(first, second));
+        verify(journal).checkpoint(2);
+        assertThat(service.drain(Duration.ZERO)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should insert one by one and skip duplicates when the batch collides")
+    void shouldSkipDuplicatesWhenBatchCollides() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder first = service.enqueue(createValidPaymentOrder("EXT-1"));
+        PaymentOrder second = service.enqueue(createValidPaymentOrder("EXT-2"));
+        when(repository.insertAll(anyList())).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        when(repository.insert(first)).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        when(repository.findByReference(first.getPaymentOrderReference())).thenReturn(Optional.of(first));
+
+        // Act
+        int drained = service.drain(Duration.ZERO);
+
+        // Assert
+        assertThat(drained).isEqualTo(2);
+        verify(repository).insert(second);
+        verify(journal, never()).reject(any(Entry.class));
+        verify(journal).checkpoint(2);
+        assertThat(service.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resolve the reference of a retry of a persisted order to the original order")
+    void shouldAliasRetryOfPersistedOrder() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder accepted = service.enqueue(createValidPaymentOrder("EXT-1"));
+        when(repository.insertAll(anyList())).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        when(repository.insert(accepted)).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        // El mismo reintento, aceptado en otra instancia con otra referencia, ocupa la clave de idempotencia
+        PaymentOrder original = createValidPaymentOrder("EXT-1").toBuilder()
+                .paymentOrderReference("PO-ORIGINAL")
+                .idempotencyKey(accepted.getIdempotencyKey())
+                .build();
+        when(repository.findByReference(accepted.getPaymentOrderReference())).thenReturn(Optional.empty());
+        when(repository.findByIdempotencyKey(accepted.getIdempotencyKey())).thenReturn(Optional.of(original));
+
+        // Act
+        int drained = service.drain(Duration.ZERO);
+
+        // Assert
+        assertThat(drained).isEqualTo(1);
+        verify(repository).addReferenceAlias(accepted.getPaymentOrderReference(), "PO-ORIGINAL");
+        verify(journal, never()).reject(any(Entry.class));
+        verify(journal).checkpoint(1);
+        assertThat(service.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep an order whose reference belongs to a different order before checkpointing it")
+    void shouldKeepOrderThatCollidesWithAnotherOrder() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder accepted = service.enqueue(createValidPaymentOrder("EXT-1"));
+        when(repository.insertAll(anyList())).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        when(repository.insert(accepted)).thenThrow(new DuplicatePaymentOrderException("duplicate"));
+        // Otra orden ocupa la referencia y nadie tiene su clave de idempotencia
+        when(repository.findByReference(accepted.getPaymentOrderReference()))
+                .thenReturn(Optional.of(createValidPaymentOrder("EXT-OTHER").toBuilder()
+                        .paymentOrderReference(accepted.getPaymentOrderReference())
+                        .build()));
+        when(repository.findByIdempotencyKey(accepted.getIdempotencyKey())).thenReturn(Optional.empty());
+
+        // Act
+        int drained = service.drain(Duration.ZERO);
+
+        // Assert
+        assertThat(drained).isEqualTo(1);
+        assertThat(service.rejected()).isEqualTo(1);
+        verify(repository, never()).addReferenceAlias(any(), any());
+        InOrder inOrder = inOrder(journal);
+        inOrder.verify(journal).reject(new Entry(1, accepted));
+        inOrder.verify(journal).checkpoint(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a failed batch and retry it on the next drain")
+    void shouldRetryFailedBatch() {
+        // Arrange
+        journalAssignsSequences();
+        PaymentOrder first = service.enqueue(createValidPaymentOrder("EXT-1"));
+        when(repository.insertAll(anyList()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(List.of(first));
+
+        // Act
+        assertThatThrownBy(() -> service.drain(Duration.ZERO)).isInstanceOf(IllegalStateException.class);
+        int backlogAfterFailure = service.backlog();
+        PaymentOrder retried = service.enqueue(createValidPaymentOrder("EXT-1"));
+        int drained = service.drain(Duration.ZERO);
+
+        // Assert
+        assertThat(backlogAfterFailure).isEqualTo(1);
+        assertThat(retried).isSameAs(first);
+        assertThat(drained).isEqualTo(1);
+        verify(repository, times(2)).insertAll(List.of(first));
+        verify(journal, times(1)).checkpoint(1);
+        assertThat(service.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should persist the journal backlog in batches on recovery")
+    void shouldPersistJournalBacklogOnRecovery() {
+        // Arrange
+        PaymentOrder first = createValidPaymentOrder("EXT-1").initiate();
+        PaymentOrder second = createValidPaymentOrder("EXT-2").initiate();
+        when(journal.recover()).thenReturn(List.of(new Entry(7, first), new Entry(8, second)));
+        service = new PaymentOrderIngestionService(repository, paymentOrderDomainService, journal, CAPACITY, 1);
+
+        // Act
+        int recovered = service.recover();
+
+        // Assert
+        assertThat(recovered).isEqualTo(2);
+        verify(repository).insertAll(List.of(first));
+        verify(repository).insertAll(List.of(second));
+        verify(journal).checkpoint(7);
+        verify(journal).checkpoint(8);
+    }
+}
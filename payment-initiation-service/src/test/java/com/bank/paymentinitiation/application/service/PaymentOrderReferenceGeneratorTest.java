@@ -3,12 +3,15 @@ package com.bank.paymentinitiation.application.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.bank.paymentinitiation.domain.service.SnowflakeReferenceGenerator;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("PaymentOrderReferenceGenerator Tests")
 class PaymentOrderReferenceGeneratorTest {
 
-    private final PaymentOrderReferenceGenerator generator = new PaymentOrderReferenceGenerator();
+    private final PaymentOrderReferenceGenerator generator = new PaymentOrderReferenceGenerator(
+            new SnowflakeReferenceGenerator(0));
 
     @Test
     @DisplayName("Should generate reference in correct format")
@@ -0,0 +1,151 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.DuplicatePaymentOrderException;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.IdempotencyKey;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+import com.bank.paymentinitiation.domain.service.PaymentOrderDomainService;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveInitiatePaymentOrderService Tests")
+class ReactiveInitiatePaymentOrderServiceTest {
+
+    private static final IdempotencyKey EXTERNAL_KEY =
+            IdempotencyKey.ofExternalReference(new ExternalReference("EXT-1"));
+
+    @Mock
+    private ReactivePaymentOrderRepository repository;
+
+    @Mock
+    private PaymentOrderDomainService paymentOrderDomainService;
+
+    @InjectMocks
+    private ReactiveInitiatePaymentOrderService service;
+
+    private PaymentOrder createValidPaymentOrder() {
+        return PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should initiate, validate and insert a new payment order keyed by its external reference")
+    void shouldInitiateNewPaymentOrder() {
+        // Arrange
+        when(repository.insert(any(PaymentOrder.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.initiate(createValidPaymentOrder()))
+                .assertNext(result -> {
+                    assertThat(result.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+                    assertThat(result.getCreatedAt()).isNotNull();
+                    assertThat(result.getIdempotencyKey()).isEqualTo(EXTERNAL_KEY);
+                })
+                .verifyComplete();
+        verify(paymentOrderDomainService).validate(any(PaymentOrder.class));
+        // Una orden nueva solo cuesta la inserción: la clave no se busca en la base de datos
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve a retry rejected by the unique index to the stored order")
+    void shouldResolveRetryToStoredOrder() {
+        // Arrange
+        PaymentOrder original = createValidPaymentOrder().initiate();
+        when(repository.insert(any(PaymentOrder.class)))
+                .thenReturn(Mono.error(new DuplicatePaymentOrderException("Payment order already exists")));
+        when(repository.findByIdempotencyKey(EXTERNAL_KEY)).thenReturn(Mono.just(original));
+
+        // Act & Assert
+        StepVerifier.create(service.initiate(createValidPaymentOrder().toBuilder()
+                        .paymentOrderReference("PO-999")
+                        .build()))
+                .expectNext(original)
+                .verifyComplete();
+        verify(repository, times(1)).findByIdempotencyKey(EXTERNAL_KEY);
+    }
+
+    @Test
+    @DisplayName("Should signal the duplicate when no order holds the idempotency key")
+    void shouldSignalDuplicateWhenKeyIsFree() {
+        // Arrange
+        DuplicatePaymentOrderException duplicate = new DuplicatePaymentOrderException("Payment order already exists");
+        when(repository.insert(any(PaymentOrder.class))).thenReturn(Mono.error(duplicate));
+        when(repository.findByIdempotencyKey(EXTERNAL_KEY)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.initiate(createValidPaymentOrder()))
+                .expectErrorMatches(error -> error == duplicate)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should signal the validation error without looking up the key or inserting")
+    void shouldSignalValidationErrorWithoutInserting() {
+        // Arrange
+        doThrow(new InvalidPaymentException("Invalid payment order"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+
+        // Act & Assert
+        StepVerifier.create(service.initiate(createValidPaymentOrder()))
+                .expectError(InvalidPaymentException.class)
+                .verify();
+        verify(repository, never()).findByIdempotencyKey(any(IdempotencyKey.class));
+        verify(repository, never()).insert(any(PaymentOrder.class));
+    }
+
+    @Test
+    @DisplayName("Should return the original order on a late retry that is no longer valid")
+    void shouldReturnOriginalOrderOnLateRetry() {
+        // Arrange
+        IdempotencyKey key = IdempotencyKey.ofClientKey("retry-1");
+        PaymentOrder retry = createValidPaymentOrder().toBuilder()
+                .idempotencyKey(key)
+                .requestedExecutionDate(LocalDate.now().minusDays(1))
+                .build();
+        PaymentOrder original = retry.toBuilder().paymentOrderReference("PO-0000000000000001").build().initiate();
+        doThrow(new InvalidPaymentException("Requested execution date cannot be in the past"))
+                .when(paymentOrderDomainService).validate(any(PaymentOrder.class));
+        when(repository.findByIdempotencyKey(key)).thenReturn(Mono.just(original));
+
+        // Act & Assert
+        StepVerifier.create(service.initiate(retry))
+                .expectNext(original)
+                .verifyComplete();
+        verify(repository, never()).insert(any(PaymentOrder.class));
+    }
+}
@@ -0,0 +1,81 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRetrievePaymentOrderService Tests")
+class ReactiveRetrievePaymentOrderServiceTest {
+
+    @Mock
+    private ReactivePaymentOrderRepository repository;
+
+    @InjectMocks
+    private ReactiveRetrievePaymentOrderService service;
+
+    @Test
+    @DisplayName("Should retrieve payment order successfully")
+    void shouldRetrievePaymentOrderSuccessfully() {
+        // Arrange
+        PaymentOrder order = PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build()
+                .initiate();
+        when(repository.findByReference("PO-1234567890123456")).thenReturn(Mono.just(order));
+
+        // Act & Assert
+        StepVerifier.create(service.retrieve("PO-1234567890123456"))
+                .expectNext(order)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal PaymentOrderNotFoundException when the order does not exist")
+    void shouldSignalNotFound() {
+        // Arrange
+        when(repository.findByReference("PO-404")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.retrieve("PO-404"))
+                .expectError(PaymentOrderNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should signal IllegalArgumentException for a blank reference without querying")
+    void shouldRejectBlankReference() {
+        // Act & Assert
+        StepVerifier.create(service.retrieve(" "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(repository, never()).findByReference(anyString());
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.ReactivePaymentOrderRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRetrievePaymentOrderStatusService Tests")
+class ReactiveRetrievePaymentOrderStatusServiceTest {
+
+    @Mock
+    private ReactivePaymentOrderRepository repository;
+
+    @InjectMocks
+    private ReactiveRetrievePaymentOrderStatusService service;
+
+    @Test
+    @DisplayName("Should retrieve the status snapshot without loading the full order")
+    void shouldRetrieveStatusSnapshot() {
+        // Arrange
+        PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+                "PO-1234567890123456", PaymentStatus.INITIATED, LocalDateTime.now(), 0L);
+        when(repository.findStatusByReference("PO-1234567890123456")).thenReturn(Mono.just(snapshot));
+
+        // Act & Assert
+        StepVerifier.create(service.retrieveStatusSnapshot("PO-1234567890123456"))
+                .expectNext(snapshot)
+                .verifyComplete();
+        verify(repository, never()).findByReference(any());
+    }
+
+    @Test
+    @DisplayName("Should signal PaymentOrderNotFoundException when the order does not exist")
+    void shouldSignalNotFound() {
+        // Arrange
+        when(repository.findStatusByReference("PO-404")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.retrieveStatusSnapshot("PO-404"))
+                .expectError(PaymentOrderNotFoundException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.config.PaymentOutboxProperties;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderEventPublisher;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderOutbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RelayPaymentOrderEventsService Tests")
+class RelayPaymentOrderEventsServiceTest {
+
+    @Mock
+    private PaymentOrderOutbox outbox;
+
+    @Mock
+    private PaymentOrderEventPublisher publisher;
+
+    private RelayPaymentOrderEventsService service(final int batchSize, final int maxBatchesPerRun) {
+        PaymentOutboxProperties properties = new PaymentOutboxProperties(true, Duration.ofSeconds(1), batchSize,
+                maxBatchesPerRun, "memory", Path.of("events.ndjson"));
+        return new RelayPaymentOrderEventsService(outbox, publisher, properties);
+    }
+
+    @Test
+    @DisplayName("Should keep draining while batches come back full")
+    void shouldDrainUntilBatchIsNotFull() {
+        // Arrange
+        when(outbox.publishPending(10, publisher)).thenReturn(10, 10, 3);
+
+        // Act
+        int relayed = service(10, 50).relayPending();
+
+        // Assert
+        assertThat(relayed).isEqualTo(23);
+        verify(outbox, times(3)).publishPending(10, publisher);
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of batches per run")
+    void shouldStopAfterMaxBatchesPerRun() {
+        // Arrange
+        when(outbox.publishPending(10, publisher)).thenReturn(10);
+
+        // Act
+        int relayed = service(10, 2).relayPending();
+
+        // Assert
+        assertThat(relayed).isEqualTo(20);
+        verify(outbox, times(2)).publishPending(10, publisher);
+    }
+
+    @Test
+    @DisplayName("Should do a single lookup when the outbox is empty")
+    void shouldDoSingleLookupWhenEmpty() {
+        // Arrange
+        when(outbox.publishPending(10, publisher)).thenReturn(0);
+
+        // Act
+        int relayed = service(10, 50).relayPending();
+
+        // Assert
+        assertThat(relayed).isZero();
+        verify(outbox, times(1)).publishPending(10, publisher);
+    }
+}
@@ -1,8 +1,7 @@
 package com.bank.paymentinitiation.application.service;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,16 +11,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
-import com.bank.paymentinitiation.domain.model.ExternalReference;
-import com.bank.paymentinitiation.domain.model.PayeeReference;
-import com.bank.paymentinitiation.domain.model.PayerReference;
-import com.bank.paymentinitiation.domain.model.PaymentAmount;
-import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
 import com.bank.paymentinitiation.domain.model.PaymentStatus;
-import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,24 +26,14 @@ import static org.mockito.Mockito.when;
 class RetrievePaymentOrderStatusServiceTest {
 
     @Mock
-    private RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+    private PaymentOrderRepository repository;
 
     @InjectMocks
     private RetrievePaymentOrderStatusService service;
 
-    private PaymentOrder createValidPaymentOrder() {
-        return PaymentOrder.builder()
-                .paymentOrderReference("PO-1234567890123456")
-                .externalReference(new ExternalReference("EXT-1"))
-                .payerReference(new PayerReference("EC123456789012345678"))
-                .payeeReference(new PayeeReference("EC987654321098765432"))
-                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
-                .remittanceInformation("Factura 001-123")
-                .requestedExecutionDate(LocalDate.now().plusDays(1))
-                .status(PaymentStatus.INITIATED)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    private PaymentOrderStatusSnapshot createSnapshot() {
+        return new PaymentOrderStatusSnapshot(
+                "PO-1234567890123456", PaymentStatus.INITIATED, LocalDateTime.now(), 0L);
     }
 
     @Test
@@ -55,8 +41,7 @@ class RetrievePaymentOrderStatusServiceTest {
     void shouldRetrievePaymentOrderStatusSuccessfully() {
         // Arrange
         String reference = "PO-1234567890123456";
-        PaymentOrder order = createValidPaymentOrder();
-        when(retrievePaymentOrderUseCase.retrieve(reference)).thenReturn(order);
+        when(repository.findStatusByReference(reference)).thenReturn(Optional.of(createSnapshot()));
 
         // Act
         PaymentStatus result = service.retrieveStatus(reference);
@@ -64,7 +49,7 @@ class RetrievePaymentOrderStatusServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(PaymentStatus.INITIATED);
-        verify(retrievePaymentOrderUseCase).retrieve(reference);
+        verify(repository).findStatusByReference(reference);
     }
 
     @Test
@@ -72,14 +57,38 @@ class RetrievePaymentOrderStatusServiceTest {
     void shouldThrowWhenOrderNotFound() {
         // Arrange
         String reference = "PO-NOT-FOUND";
-        when(retrievePaymentOrderUseCase.retrieve(reference))
-                .thenThrow(new PaymentOrderNotFoundException("Payment order not found"));
+        when(repository.findStatusByReference(reference)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> service.retrieveStatus(reference))
                 .isInstanceOf(PaymentOrderNotFoundException.class)
                 .hasMessageContaining("Payment order not found");
-        verify(retrievePaymentOrderUseCase).retrieve(reference);
+        verify(repository).findStatusByReference(reference);
+    }
+
+    @Test
+    @DisplayName("Should retrieve status snapshot without loading the full order")
+    void shouldRetrieveStatusSnapshot() {
+        // Arrange
+        String reference = "PO-1234567890123456";
+        PaymentOrderStatusSnapshot snapshot = createSnapshot();
+        when(repository.findStatusByReference(reference)).thenReturn(Optional.of(snapshot));
+
+        // Act
+        PaymentOrderStatusSnapshot result = service.retrieveStatusSnapshot(reference);
+
+        // Assert
+        assertThat(result).isEqualTo(snapshot);
+        verify(repository, never()).findByReference(reference);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when reference is blank")
+    void shouldThrowWhenReferenceIsBlank() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.retrieveStatusSnapshot(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be null or blank");
     }
 }
 
@@ -0,0 +1,148 @@
+package com.bank.paymentinitiation.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bank.paymentinitiation.config.PaymentStatusStreamProperties;
+import com.bank.paymentinitiation.domain.exception.InvalidPaymentOrderQueryException;
+import com.bank.paymentinitiation.domain.exception.PaymentOrderNotFoundException;
+import com.bank.paymentinitiation.domain.model.PaymentOrderStatusSnapshot;
+import com.bank.paymentinitiation.domain.model.PaymentStatus;
+import com.bank.paymentinitiation.domain.port.out.PaymentOrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WatchPaymentOrderStatusService Tests")
+class WatchPaymentOrderStatusServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 10, 30, 12, 0);
+
+    @Mock
+    private PaymentOrderRepository repository;
+
+    private final PaymentOrderStatusWatchRegistry registry = new PaymentOrderStatusWatchRegistry();
+    private final List<PaymentOrderStatusSnapshot> received = new ArrayList<>();
+    private final Consumer<PaymentOrderStatusSnapshot> listener = received::add;
+
+    private WatchPaymentOrderStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WatchPaymentOrderStatusService(repository, registry,
+                new PaymentStatusStreamProperties(3, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    private static PaymentOrderStatusSnapshot snapshot(final String reference, final PaymentStatus status) {
+        return new PaymentOrderStatusSnapshot(reference, status, UPDATED_AT, 0L);
+    }
+
+    @Test
+    @DisplayName("Should return the current statuses in request order and deliver later changes")
+    void shouldReturnCurrentStatusesAndDeliverChanges() {
+        // Arrange
+        when(repository.findStatusesByReferences(Set.of("PO-1", "PO-2"))).thenReturn(List.of(
+                snapshot("PO-2", PaymentStatus.PENDING), snapshot("PO-1", PaymentStatus.INITIATED)));
+
+        // Act
+        List<PaymentOrderStatusSnapshot> current = service.watch(List.of("PO-1", "PO-2", "PO-1"), listener);
+        registry.statusChanged(List.of(
+                snapshot("PO-2", PaymentStatus.PROCESSED), snapshot("PO-3", PaymentStatus.PENDING)));
+
+        // Assert
+        assertThat(current).extracting(PaymentOrderStatusSnapshot::getPaymentOrderReference)
+                .containsExactly("PO-1", "PO-2");
+        assertThat(received).containsExactly(snapshot("PO-2", PaymentStatus.PROCESSED));
+        assertThat(registry.references()).containsExactlyInAnyOrder("PO-1", "PO-2");
+    }
+
+    @Test
+    @DisplayName("Should stop delivering changes and forget references once unwatched")
+    void shouldStopDeliveringAfterUnwatch() {
+        // Arrange
+        when(repository.findStatusesByReferences(anyCollection()))
+                .thenReturn(List.of(snapshot("PO-1", PaymentStatus.INITIATED)));
+        Consumer<PaymentOrderStatusSnapshot> other = snapshot -> { };
+        service.watch(List.of("PO-1"), listener);
+        service.watch(List.of("PO-1"), other);
+
+        // Act
+        service.unwatch(List.of("PO-1"), listener);
+        registry.statusChanged(List.of(snapshot("PO-1", PaymentStatus.PENDING)));
+        List<String> stillWatched = registry.references();
+        service.unwatch(List.of("PO-1"), other);
+
+        // Assert
+        assertThat(received).isEmpty();
+        assertThat(stillWatched).containsExactly("PO-1");
+        assertThat(registry.references()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should unwatch and throw when a payment order does not exist")
+    void shouldUnwatchWhenPaymentOrderDoesNotExist() {
+        // Arrange
+        when(repository.findStatusesByReferences(anyCollection()))
+                .thenReturn(List.of(snapshot("PO-1", PaymentStatus.INITIATED)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.watch(List.of("PO-1", "PO-404"), listener))
+                .isInstanceOf(PaymentOrderNotFoundException.class)
+                .hasMessageContaining("PO-404");
+        assertThat(registry.references()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject empty, blank and oversized subscriptions without querying")
+    void shouldRejectInvalidSubscriptions() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.watch(List.of(), listener))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> service.watch(List.of("PO-1", " "), listener))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class);
+        assertThatThrownBy(() -> service.watch(List.of("PO-1", "PO-2", "PO-3", "PO-4"), listener))
+                .isInstanceOf(InvalidPaymentOrderQueryException.class)
+                .hasMessageContaining("more than 3");
+        verify(repository, never()).findStatusesByReferences(any());
+        assertThat(registry.references()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should re-read watched statuses in chunks and deliver them")
+    void shouldRefreshWatchedStatusesInChunks() {
+        // Arrange
+        List<String> references = IntStream.range(0, WatchPaymentOrderStatusService.REFRESH_CHUNK_SIZE + 1)
+                .mapToObj(i -> "PO-" + i)
+                .toList();
+        references.forEach(reference -> registry.add(reference, listener));
+        when(repository.findStatusesByReferences(anyCollection()))
+                .thenReturn(List.of(snapshot("PO-7", PaymentStatus.COMPLETED)), List.of());
+
+        // Act
+        int refreshed = service.refresh();
+
+        // Assert
+        assertThat(refreshed).isEqualTo(references.size());
+        verify(repository, times(2)).findStatusesByReferences(anyCollection());
+        assertThat(received).containsExactly(snapshot("PO-7", PaymentStatus.COMPLETED));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bank.paymentinitiation.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ApplicationConfig Tests")
+class ApplicationConfigTest {
+
+    @Test
+    @DisplayName("Should use the configured node id")
+    void shouldUseConfiguredNodeId() {
+        // Act
+        long nodeId = ApplicationConfig.resolveNodeId(" 7 ", "docker", "durable");
+
+        // Assert
+        assertThat(nodeId).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should default the node id to 0 in the default profile")
+    void shouldDefaultNodeIdInDefaultProfile() {
+        // Act
+        long nodeId = ApplicationConfig.resolveNodeId("");
+
+        // Assert
+        assertThat(nodeId).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the node id is missing outside the default profile")
+    void shouldFailWhenNodeIdIsMissing() {
+        // Act & Assert
+        assertThatThrownBy(() -> ApplicationConfig.resolveNodeId(null, "docker", "durable"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PAYMENT_NODE_ID")
+                .hasMessageContaining("docker,durable");
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.paymentinitiation.config;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.bank.paymentinitiation.adapter.out.persistence.jdbc.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@DisplayName("DataSourceBulkheadConfig Tests")
+class DataSourceBulkheadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should wrap the Hikari pool with as many permits as pooled connections")
+    void shouldWrapHikariPoolWithPoolSizedBulkhead() {
+        // Assert
+        assertThat(dataSource).isInstanceOf(ConnectionBulkheadDataSource.class);
+        ConnectionBulkheadDataSource bulkhead = (ConnectionBulkheadDataSource) dataSource;
+        HikariDataSource hikari = (HikariDataSource) bulkhead.getTargetDataSource();
+        assertThat(bulkhead.getMaxConcurrentConnections()).isEqualTo(hikari.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("Should leave the DataSource unwrapped with platform threads")
+    void shouldNotRegisterBulkheadWithPlatformThreads() {
+        // Act & Assert
+        new ApplicationContextRunner()
+                .withUserConfiguration(DataSourceBulkheadConfig.class)
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean("connectionBulkheadPostProcessor"));
+        new ApplicationContextRunner()
+                .withUserConfiguration(DataSourceBulkheadConfig.class)
+                .run(context -> assertThat(context).doesNotHaveBean("connectionBulkheadPostProcessor"));
+    }
+
+    @Test
+    @DisplayName("Should prefer an explicit limit over the pool size")
+    void shouldPreferExplicitLimit() {
+        // Arrange
+        DataSourceBulkheadProperties properties = new DataSourceBulkheadProperties(true, 4, null);
+
+        // Act
+        int limit = DataSourceBulkheadConfig.maxConcurrentConnections(new HikariDataSource(), properties);
+
+        // Assert
+        assertThat(limit).isEqualTo(4);
+        assertThat(properties.acquireTimeout()).isEqualTo(DataSourceBulkheadProperties.DEFAULT_ACQUIRE_TIMEOUT);
+    }
+}
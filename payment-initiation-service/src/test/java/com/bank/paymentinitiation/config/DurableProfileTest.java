@@ -0,0 +1,76 @@
+package com.bank.paymentinitiation.config;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank.paymentinitiation.PaymentInitiationServiceApplication;
+import com.bank.paymentinitiation.domain.model.ExternalReference;
+import com.bank.paymentinitiation.domain.model.PayeeReference;
+import com.bank.paymentinitiation.domain.model.PayerReference;
+import com.bank.paymentinitiation.domain.model.PaymentAmount;
+import com.bank.paymentinitiation.domain.model.PaymentOrder;
+import com.bank.paymentinitiation.domain.port.in.InitiatePaymentOrderUseCase;
+import com.bank.paymentinitiation.domain.port.in.RetrievePaymentOrderUseCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Durable Profile Tests")
+class DurableProfileTest {
+
+    @TempDir
+    private Path dataDirectory;
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(PaymentInitiationServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("durable")
+                .properties(
+                        "PAYMENT_DB_PATH=" + dataDirectory.resolve("paymentdb"),
+                        "PAYMENT_NODE_ID=1",
+                        "server.port=0",
+                        "spring.jpa.hibernate.ddl-auto=validate", // El mapeo JPA debe coincidir con las migraciones
+                        "payment.outbox.relay-enabled=false",
+                        "payment.lifecycle.sweep-enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    @Test
+    @DisplayName("Should keep payment orders across restarts, applying the migrations only once")
+    void shouldPersistOrdersAcrossRestarts() {
+        // Arrange
+        PaymentOrder order = PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build();
+        try (ConfigurableApplicationContext context = start()) {
+            context.getBean(InitiatePaymentOrderUseCase.class).initiate(order);
+        }
+
+        // Act
+        try (ConfigurableApplicationContext context = start()) {
+            PaymentOrder retrieved = context.getBean(RetrievePaymentOrderUseCase.class)
+                    .retrieve("PO-1234567890123456");
+            List<MigrationInfo> applied = List.of(context.getBean(Flyway.class).info().applied());
+
+            // Assert
+            assertThat(retrieved.getInstructedAmount().getValue()).isEqualByComparingTo("150.75");
+            assertThat(applied).extracting(info -> info.getVersion().getVersion()).containsExactly("1", "2", "3", "4", "5");
+        }
+    }
+}
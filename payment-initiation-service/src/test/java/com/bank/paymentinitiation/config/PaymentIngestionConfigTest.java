@@ -0,0 +1,100 @@
+package com.bank.paymentinitiation.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestiontest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "payment.ingestion.enabled=true",
+        "payment.ingestion.poll-timeout=10ms"})
+@AutoConfigureWebTestClient
+@DisplayName("PaymentIngestionConfig Tests")
+class PaymentIngestionConfigTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void journalDirectory(final DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("ingestion-journal").toString();
+        registry.add("payment.ingestion.journal-directory", () -> directory);
+    }
+
+    @Test
+    @DisplayName("Should accept a payment order with 202 and persist it shortly after")
+    void shouldAcceptAndPersistPaymentOrder() throws InterruptedException {
+        // Arrange
+        Map<String, Object> request = Map.of(
+                "externalReference", "EXT-ASYNC-1",
+                "debtorAccount", Map.of("iban", "EC123456789012345678"),
+                "creditorAccount", Map.of("iban", "EC987654321098765432"),
+                "instructedAmount", Map.of("amount", 150.75, "currency", "USD"),
+                "requestedExecutionDate", LocalDate.now().plusDays(1).toString());
+
+        // Act
+        var accepted = webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult();
+        String location = accepted.getResponseHeaders().getLocation().toString();
+        int status = HttpStatus.NOT_FOUND.value();
+        for (int attempt = 0; attempt < 100 && status != HttpStatus.OK.value(); attempt++) {
+            Thread.sleep(50); // La etapa de escritura persiste la orden en segundo plano
+            status = webTestClient.get().uri(location).exchange()
+                    .returnResult(String.class).getStatus().value();
+        }
+
+        // Assert
+        assertThat(accepted.getResponseBody()).isNotNull();
+        assertThat(accepted.getResponseBody().getPaymentOrderId()).startsWith("PO-");
+        assertThat(location).isEqualTo("/payment-initiation/payment-orders/"
+                + accepted.getResponseBody().getPaymentOrderId() + "/status");
+        assertThat(status).isEqualTo(HttpStatus.OK.value());
+        assertThat(meterRegistry.get("payment.ingestion.capacity").gauge().value())
+                .isEqualTo(PaymentIngestionProperties.DEFAULT_CAPACITY);
+        assertThat(meterRegistry.get("payment.ingestion.backlog").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to defaults for missing ingestion properties")
+    void shouldFallBackToDefaults() {
+        // Act
+        PaymentIngestionProperties properties = new PaymentIngestionProperties(false, 0, -1, Duration.ZERO,
+                null, null, null);
+
+        // Assert
+        assertThat(properties.capacity()).isEqualTo(PaymentIngestionProperties.DEFAULT_CAPACITY);
+        assertThat(properties.batchSize()).isEqualTo(PaymentIngestionProperties.DEFAULT_BATCH_SIZE);
+        assertThat(properties.pollTimeout()).isEqualTo(PaymentIngestionProperties.DEFAULT_POLL_TIMEOUT);
+        assertThat(properties.retryBackoff()).isEqualTo(PaymentIngestionProperties.DEFAULT_RETRY_BACKOFF);
+        assertThat(properties.journalDirectory()).isEqualTo(PaymentIngestionProperties.DEFAULT_JOURNAL_DIRECTORY);
+        assertThat(properties.segmentSize()).isEqualTo(PaymentIngestionProperties.DEFAULT_SEGMENT_SIZE);
+    }
+}
@@ -0,0 +1,68 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.scheduling.PaymentOrderStatusSweepJob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("PaymentLifecycleConfig Tests")
+class PaymentLifecycleConfigTest {
+
+    private final PaymentOrderStatusSweepJob job = mock(PaymentOrderStatusSweepJob.class);
+
+    @Test
+    @DisplayName("Should schedule the sweep with the configured interval as delay and initial delay")
+    void shouldScheduleSweepWithFixedDelay() {
+        // Arrange
+        PaymentLifecycleProperties properties = new PaymentLifecycleProperties(100, true, Duration.ofMinutes(2), 10, 3,
+                Duration.ZERO);
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        new PaymentLifecycleConfig(properties, job).configureTasks(registrar);
+
+        // Assert
+        assertThat(registrar.getFixedDelayTaskList()).singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getRunnable()).isSameAs(job);
+                    assertThat(task.getIntervalDuration()).isEqualTo(Duration.ofMinutes(2));
+                    assertThat(task.getInitialDelayDuration()).isEqualTo(Duration.ofMinutes(2));
+                });
+    }
+
+    @Test
+    @DisplayName("Should not schedule the sweep when it is disabled")
+    void shouldNotScheduleSweepWhenDisabled() {
+        // Arrange
+        PaymentLifecycleProperties properties = new PaymentLifecycleProperties(0, false, null, 0, 0, null);
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        new PaymentLifecycleConfig(properties, job).configureTasks(registrar);
+
+        // Assert
+        assertThat(registrar.getFixedDelayTaskList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to defaults for missing lifecycle properties")
+    void shouldFallBackToDefaults() {
+        // Act
+        PaymentLifecycleProperties properties = new PaymentLifecycleProperties(0, null, Duration.ZERO, -1, 0,
+                Duration.ofMillis(-1));
+
+        // Assert
+        assertThat(properties.chunkSize()).isEqualTo(PaymentLifecycleProperties.DEFAULT_CHUNK_SIZE);
+        assertThat(properties.sweepEnabled()).isTrue();
+        assertThat(properties.sweepInterval()).isEqualTo(PaymentLifecycleProperties.DEFAULT_SWEEP_INTERVAL);
+        assertThat(properties.maxChunksPerRun()).isEqualTo(PaymentLifecycleProperties.DEFAULT_MAX_CHUNKS_PER_RUN);
+        assertThat(properties.casMaxAttempts()).isEqualTo(PaymentLifecycleProperties.DEFAULT_CAS_MAX_ATTEMPTS);
+        assertThat(properties.casBackoff()).isEqualTo(PaymentLifecycleProperties.DEFAULT_CAS_BACKOFF);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bank.paymentinitiation.config;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.bank.paymentinitiation.generated.model.CreditorAccount;
+import com.bank.paymentinitiation.generated.model.DebtorAccount;
+import com.bank.paymentinitiation.generated.model.InitiatePaymentOrderRequest;
+import com.bank.paymentinitiation.generated.model.PaymentAmount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability(tracing = false) // Sin esto los tests usan un registro simple, sin Prometheus
+@DisplayName("PaymentMetricsConfig Tests")
+class PaymentMetricsConfigTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should expose use case, persistence, mapper, status and error metrics for Prometheus")
+    void shouldExposeApplicationMetricsForPrometheus() throws Exception {
+        // Arrange
+        InitiatePaymentOrderRequest request = new InitiatePaymentOrderRequest()
+                .externalReference("EXT-METRICS")
+                .debtorAccount(new DebtorAccount().iban("EC123456789012345678"))
+                .creditorAccount(new CreditorAccount().iban("EC987654321098765432"))
+                .instructedAmount(new PaymentAmount().amount(new BigDecimal("10.00"))
+                        .currency(PaymentAmount.CurrencyEnum.USD))
+                .requestedExecutionDate(LocalDate.now().plusDays(1));
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", "PO-404404404")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // Act
+        String scrape = webTestClient.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertThat(scrape)
+                .contains("payment_use_case_seconds_bucket{class=\"InitiatePaymentOrderService\"")
+                .contains("payment_persistence_seconds_count{class=\"PaymentOrderRepositoryAdapter\"")
+                .contains("payment_mapper_seconds_count{class=\"PaymentOrderRestMapper\"")
+                .contains("payment_reference_generation_seconds_count{class=\"PaymentOrderReferenceGenerator\"")
+                .contains("payment_orders_status_total{status=\"INITIATED\"")
+                .contains("payment_api_errors_total{exception=\"PaymentOrderNotFoundException\",status=\"404\"");
+    }
+}
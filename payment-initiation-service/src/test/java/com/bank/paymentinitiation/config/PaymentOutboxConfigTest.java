@@ -0,0 +1,67 @@
+package com.bank.paymentinitiation.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.scheduling.PaymentOrderEventRelayJob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("PaymentOutboxConfig Tests")
+class PaymentOutboxConfigTest {
+
+    private final PaymentOrderEventRelayJob job = mock(PaymentOrderEventRelayJob.class);
+
+    @Test
+    @DisplayName("Should schedule the relay with the configured fixed delay")
+    void shouldScheduleRelayWithFixedDelay() {
+        // Arrange
+        PaymentOutboxProperties properties = new PaymentOutboxProperties(true, Duration.ofMillis(250), 10, 5,
+                "log", null);
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        new PaymentOutboxConfig(properties, job).configureTasks(registrar);
+
+        // Assert
+        assertThat(registrar.getFixedDelayTaskList()).singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getRunnable()).isSameAs(job);
+                    assertThat(task.getIntervalDuration()).isEqualTo(Duration.ofMillis(250));
+                });
+    }
+
+    @Test
+    @DisplayName("Should not schedule the relay when it is disabled")
+    void shouldNotScheduleRelayWhenDisabled() {
+        // Arrange
+        PaymentOutboxProperties properties = new PaymentOutboxProperties(false, null, 0, 0, null, null);
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        new PaymentOutboxConfig(properties, job).configureTasks(registrar);
+
+        // Assert
+        assertThat(registrar.getFixedDelayTaskList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to defaults for missing outbox properties")
+    void shouldFallBackToDefaults() {
+        // Act
+        PaymentOutboxProperties properties = new PaymentOutboxProperties(null, Duration.ZERO, 0, -1, " ", null);
+
+        // Assert
+        assertThat(properties.relayEnabled()).isTrue();
+        assertThat(properties.pollInterval()).isEqualTo(PaymentOutboxProperties.DEFAULT_POLL_INTERVAL);
+        assertThat(properties.batchSize()).isEqualTo(PaymentOutboxProperties.DEFAULT_BATCH_SIZE);
+        assertThat(properties.maxBatchesPerRun()).isEqualTo(PaymentOutboxProperties.DEFAULT_MAX_BATCHES_PER_RUN);
+        assertThat(properties.sink()).isEqualTo(PaymentOutboxProperties.DEFAULT_SINK);
+        assertThat(properties.filePath()).isEqualTo(Path.of("payment-order-events.ndjson"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.bank.paymentinitiation.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.bank.paymentinitiation.adapter.in.sse.PaymentOrderStatusStreams;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PaymentStatusStreamConfig Tests")
+class PaymentStatusStreamConfigTest {
+
+    private final PaymentOrderStatusStreams streams = mock(PaymentOrderStatusStreams.class);
+
+    @Test
+    @DisplayName("Should schedule the heartbeat with the configured interval and publish the connection gauge")
+    void shouldScheduleHeartbeat() {
+        // Arrange
+        PaymentStatusStreamProperties properties = new PaymentStatusStreamProperties(10, Duration.ofSeconds(5),
+                Duration.ofMinutes(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        when(streams.size()).thenReturn(3);
+
+        // Act
+        new PaymentStatusStreamConfig(properties, streams, meterRegistry).configureTasks(registrar);
+        registrar.getFixedDelayTaskList().get(0).getRunnable().run();
+
+        // Assert
+        assertThat(registrar.getFixedDelayTaskList()).singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getIntervalDuration()).isEqualTo(Duration.ofSeconds(5));
+                    assertThat(task.getInitialDelayDuration()).isEqualTo(Duration.ofSeconds(5));
+                });
+        verify(streams).heartbeat();
+        assertThat(meterRegistry.get("payment.status-stream.connections").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should fall back to defaults for missing status stream properties")
+    void shouldFallBackToDefaults() {
+        // Act
+        PaymentStatusStreamProperties properties = new PaymentStatusStreamProperties(0, Duration.ZERO, null);
+
+        // Assert
+        assertThat(properties.maxReferences()).isEqualTo(PaymentStatusStreamProperties.DEFAULT_MAX_REFERENCES);
+        assertThat(properties.heartbeatInterval()).isEqualTo(PaymentStatusStreamProperties.DEFAULT_HEARTBEAT_INTERVAL);
+        assertThat(properties.timeout()).isEqualTo(PaymentStatusStreamProperties.DEFAULT_TIMEOUT);
+    }
+}
@@ -39,5 +39,99 @@ class ExceptionConstructorsTest {
         assertThat(ex.getMessage()).isEqualTo(message);
         assertThat(ex.getCause()).isEqualTo(cause);
     }
-}
 
+    @Test
+    @DisplayName("DuplicatePaymentOrderException should support constructors with message and cause")
+    void duplicatePaymentOrderExceptionShouldSupportConstructors() {
+        // Arrange
+        Throwable cause = new RuntimeException("Root cause");
+
+        // Act
+        DuplicatePaymentOrderException withCause = new DuplicatePaymentOrderException("Duplicate", cause);
+        DuplicatePaymentOrderException withoutCause = new DuplicatePaymentOrderException("Duplicate");
+
+        // Assert
+        assertThat(withCause.getMessage()).isEqualTo("Duplicate");
+        assertThat(withCause.getCause()).isEqualTo(cause);
+        assertThat(withoutCause.getCause()).isNull();
+    }
+
+
+    @Test
+    @DisplayName("InvalidPaymentOrderQueryException should support constructor with message and cause")
+    void invalidPaymentOrderQueryExceptionShouldSupportConstructorWithMessageAndCause() {
+        // Arrange
+        Throwable cause = new RuntimeException("Root cause");
+        String message = "Invalid cursor";
+
+        // Act
+        InvalidPaymentOrderQueryException ex = new InvalidPaymentOrderQueryException(message, cause);
+
+        // Assert
+        assertThat(ex).isNotNull();
+        assertThat(ex.getMessage()).isEqualTo(message);
+        assertThat(ex.getCause()).isEqualTo(cause);
+    }
+
+
+    @Test
+    @DisplayName("InvalidPaymentStatusTransitionException should support constructors with message and cause")
+    void invalidPaymentStatusTransitionExceptionShouldSupportConstructors() {
+        // Arrange
+        Throwable cause = new RuntimeException("Root cause");
+
+        // Act
+        InvalidPaymentStatusTransitionException withCause = new InvalidPaymentStatusTransitionException(
+                "Invalid transition", cause);
+        InvalidPaymentStatusTransitionException withoutCause = new InvalidPaymentStatusTransitionException(
+                "Invalid transition");
+
+        // Assert
+        assertThat(withCause.getMessage()).isEqualTo("Invalid transition");
+        assertThat(withCause.getCause()).isEqualTo(cause);
+        assertThat(withoutCause.getCause()).isNull();
+    }
+
+    @Test
+    @DisplayName("PaymentOrderConflictException should support constructors with message and cause")
+    void paymentOrderConflictExceptionShouldSupportConstructors() {
+        // Arrange
+        Throwable cause = new RuntimeException("Root cause");
+
+        // Act
+        PaymentOrderConflictException withCause = new PaymentOrderConflictException("Conflict", cause);
+        PaymentOrderConflictException withoutCause = new PaymentOrderConflictException("Conflict");
+
+        // Assert
+        assertThat(withCause.getMessage()).isEqualTo("Conflict");
+        assertThat(withCause.getCause()).isEqualTo(cause);
+        assertThat(withoutCause.getCause()).isNull();
+    }
+
+
+    @Test
+    @DisplayName("PaymentOrderNotFoundException.forReference should skip the stack trace and build the message lazily")
+    void paymentOrderNotFoundExceptionForReferenceShouldBeStackless() {
+        // Act
+        PaymentOrderNotFoundException ex = PaymentOrderNotFoundException.forReference("PO-404");
+
+        // Assert
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getPaymentOrderReference()).isEqualTo("PO-404");
+        assertThat(ex.getMessage()).isEqualTo("Payment order not found with reference: PO-404");
+        assertThat(new PaymentOrderNotFoundException("Custom").getMessage()).isEqualTo("Custom");
+        assertThat(new PaymentOrderNotFoundException("Custom").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("InvalidPaymentException.withoutStackTrace should keep the message and skip the stack trace")
+    void invalidPaymentExceptionWithoutStackTraceShouldBeStackless() {
+        // Act
+        InvalidPaymentException ex = InvalidPaymentException.withoutStackTrace("Invalid payment");
+
+        // Assert
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getMessage()).isEqualTo("Invalid payment");
+        assertThat(ex.getCause()).isNull();
+    }
+}
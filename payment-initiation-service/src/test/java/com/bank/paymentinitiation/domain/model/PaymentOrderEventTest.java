@@ -0,0 +1,85 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentOrderEvent Tests")
+class PaymentOrderEventTest {
+
+    private PaymentOrder createInitiatedPaymentOrder() {
+        return PaymentOrder.builder()
+                .paymentOrderReference("PO-1234567890123456")
+                .externalReference(new ExternalReference("EXT-1"))
+                .payerReference(new PayerReference("EC123456789012345678"))
+                .payeeReference(new PayeeReference("EC987654321098765432"))
+                .instructedAmount(PaymentAmount.of(new BigDecimal("150.75"), "USD"))
+                .remittanceInformation("Factura 001-123")
+                .requestedExecutionDate(LocalDate.now().plusDays(1))
+                .build()
+                .initiate();
+    }
+
+    @Test
+    @DisplayName("Should describe an initiated order at its creation time")
+    void shouldCreateInitiatedEvent() {
+        // Arrange
+        PaymentOrder order = createInitiatedPaymentOrder();
+
+        // Act
+        PaymentOrderEvent event = PaymentOrderEvent.initiated(order);
+
+        // Assert
+        assertThat(event.getEventId()).isNotNull();
+        assertThat(event.getType()).isEqualTo(PaymentOrderEventType.INITIATED);
+        assertThat(event.getPaymentOrderReference()).isEqualTo("PO-1234567890123456");
+        assertThat(event.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(event.getPreviousStatus()).isNull();
+        assertThat(event.getOccurredAt()).isEqualTo(order.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should describe a status change with the previous status")
+    void shouldCreateStatusChangedEvent() {
+        // Arrange
+        PaymentOrder order = createInitiatedPaymentOrder().toBuilder()
+                .updatedAt(LocalDateTime.now().plusMinutes(1))
+                .build()
+                .changeStatus(PaymentStatus.PENDING);
+
+        // Act
+        PaymentOrderEvent event = PaymentOrderEvent.statusChanged(order, PaymentStatus.INITIATED);
+
+        // Assert
+        assertThat(event.getType()).isEqualTo(PaymentOrderEventType.STATUS_CHANGED);
+        assertThat(event.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(event.getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(event.getOccurredAt()).isEqualTo(order.getUpdatedAt());
+        assertThat(event.getEventId()).isNotEqualTo(PaymentOrderEvent.statusChanged(order, PaymentStatus.INITIATED)
+                .getEventId());
+    }
+
+    @Test
+    @DisplayName("Should describe a bulk status change without loading the order")
+    void shouldCreateStatusChangedEventFromReference() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.of(2025, 10, 30, 16, 25, 30);
+
+        // Act
+        PaymentOrderEvent event = PaymentOrderEvent.statusChanged("PO-1", PaymentStatus.INITIATED,
+                PaymentStatus.PENDING, changedAt);
+
+        // Assert
+        assertThat(event.getEventId()).isNotNull();
+        assertThat(event.getType()).isEqualTo(PaymentOrderEventType.STATUS_CHANGED);
+        assertThat(event.getPaymentOrderReference()).isEqualTo("PO-1");
+        assertThat(event.getPreviousStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(event.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(event.getOccurredAt()).isEqualTo(changedAt);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.paymentinitiation.domain.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentStatus Tests")
+class PaymentStatusTest {
+
+    private static Set<PaymentStatus> targetsOf(final PaymentStatus status) {
+        Set<PaymentStatus> targets = EnumSet.noneOf(PaymentStatus.class);
+        for (PaymentStatus target : PaymentStatus.values()) {
+            if (status.canTransitionTo(target)) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    @Test
+    @DisplayName("Should allow only the lifecycle transitions")
+    void shouldAllowOnlyLifecycleTransitions() {
+        // Act & Assert
+        assertThat(targetsOf(PaymentStatus.INITIATED))
+                .containsExactlyInAnyOrder(PaymentStatus.PENDING, PaymentStatus.CANCELLED);
+        assertThat(targetsOf(PaymentStatus.PENDING))
+                .containsExactlyInAnyOrder(PaymentStatus.PROCESSED, PaymentStatus.FAILED, PaymentStatus.CANCELLED);
+        assertThat(targetsOf(PaymentStatus.PROCESSED))
+                .containsExactlyInAnyOrder(PaymentStatus.COMPLETED, PaymentStatus.FAILED);
+        assertThat(targetsOf(PaymentStatus.COMPLETED)).isEmpty();
+        assertThat(targetsOf(PaymentStatus.FAILED)).isEmpty();
+        assertThat(targetsOf(PaymentStatus.CANCELLED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should flag only COMPLETED, FAILED and CANCELLED as final")
+    void shouldFlagFinalStatuses() {
+        // Act & Assert
+        assertThat(EnumSet.allOf(PaymentStatus.class).stream().filter(PaymentStatus::isFinal))
+                .containsExactlyInAnyOrder(PaymentStatus.COMPLETED, PaymentStatus.FAILED, PaymentStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should not treat staying in the same status as a transition")
+    void shouldNotTreatSameStatusAsTransition() {
+        // Act & Assert
+        for (PaymentStatus status : PaymentStatus.values()) {
+            assertThat(status.canTransitionTo(status)).isFalse();
+        }
+    }
+}
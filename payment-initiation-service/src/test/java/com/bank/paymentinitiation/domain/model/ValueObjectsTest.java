@@ -89,5 +89,37 @@ class ValueObjectsTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Payment amount must be greater than zero");
     }
-}
 
+    @Test
+    @DisplayName("IdempotencyKey should keep client keys and external references apart")
+    void idempotencyKeyShouldSeparateClientKeysFromExternalReferences() {
+        // Arrange
+        IdempotencyKey clientKey = IdempotencyKey.ofClientKey("EXT-1");
+        IdempotencyKey sameClientKey = IdempotencyKey.ofClientKey("EXT-1");
+        IdempotencyKey externalReferenceKey = IdempotencyKey.ofExternalReference(new ExternalReference("EXT-1"));
+
+        // Assert
+        assertThat(clientKey).isEqualTo(sameClientKey);
+        assertThat(clientKey.hashCode()).isEqualTo(sameClientKey.hashCode());
+        assertThat(clientKey).isNotEqualTo(externalReferenceKey);
+        assertThat(IdempotencyKey.fromValue(clientKey.getValue())).isEqualTo(clientKey);
+        assertThat(clientKey.toString()).contains("EXT-1");
+        assertThat(clientKey.isClientKey()).isTrue();
+        assertThat(externalReferenceKey.isClientKey()).isFalse();
+        assertThat(IdempotencyKey.fromValue(clientKey.getValue()).isClientKey()).isTrue();
+    }
+
+    @Test
+    @DisplayName("IdempotencyKey should reject blank, oversized or missing values")
+    void idempotencyKeyShouldRejectInvalidValues() {
+        // Act & Assert
+        assertThatThrownBy(() -> IdempotencyKey.ofClientKey(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdempotencyKey.ofClientKey("k".repeat(IdempotencyKey.MAX_CLIENT_KEY_LENGTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdempotencyKey.ofExternalReference(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdempotencyKey.fromValue(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -21,7 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("PaymentOrderDomainService Tests")
 class PaymentOrderDomainServiceTest {
 
-    private final PaymentOrderDomainService service = new PaymentOrderDomainService();
+    private final PaymentOrderDomainService service = new PaymentOrderDomainService(new SnowflakeReferenceGenerator(0));
 
     private PaymentOrder createValidPaymentOrder() {
         return PaymentOrder.builder()
@@ -0,0 +1,154 @@
+package com.bank.paymentinitiation.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeReferenceGenerator Tests")
+class SnowflakeReferenceGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate reference matching OpenAPI pattern")
+    void shouldGenerateReferenceMatchingOpenApiPattern() {
+        // Arrange
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(7);
+
+        // Act
+        String reference = generator.nextReference();
+
+        // Assert
+        assertThat(reference).matches("^PO-[0-9]+$");
+        assertThat(reference.length()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Should encode node id and sequence in the identifier")
+    void shouldEncodeNodeIdAndSequence() {
+        // Arrange
+        long fixedTime = SnowflakeReferenceGenerator.EPOCH + 1_000L;
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(5, () -> fixedTime);
+
+        // Act
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // Assert
+        assertThat((first >>> SnowflakeReferenceGenerator.SEQUENCE_BITS) & SnowflakeReferenceGenerator.MAX_NODE_ID)
+                .isEqualTo(5);
+        assertThat(first >>> (SnowflakeReferenceGenerator.NODE_BITS + SnowflakeReferenceGenerator.SEQUENCE_BITS))
+                .isEqualTo(1_000L);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when sequence is exhausted within a millisecond")
+    void shouldKeepIncreasingWhenSequenceIsExhausted() {
+        // Arrange
+        long fixedTime = SnowflakeReferenceGenerator.EPOCH + 1_000L;
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(0, () -> fixedTime);
+
+        // Act
+        long previous = -1;
+        for (int i = 0; i < 3 * (SnowflakeReferenceGenerator.SEQUENCE_MASK + 1); i++) {
+            long id = generator.nextId();
+
+            // Assert
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when clock moves backwards")
+    void shouldKeepIncreasingWhenClockMovesBackwards() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(SnowflakeReferenceGenerator.EPOCH + 10_000L);
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(0, clock::get);
+
+        // Act
+        long beforeDrift = generator.nextId();
+        clock.addAndGet(-5_000L);
+        long afterDrift = generator.nextId();
+
+        // Assert
+        assertThat(afterDrift).isGreaterThan(beforeDrift);
+    }
+
+    @Test
+    @DisplayName("Should generate unique references across threads")
+    void shouldGenerateUniqueReferencesAcrossThreads() throws Exception {
+        // Arrange
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(1);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    references.add(generator.nextReference());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(references).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should reject node id out of range")
+    void shouldRejectNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeReferenceGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeReferenceGenerator(SnowflakeReferenceGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should render identifier as decimal digits")
+    void shouldRenderIdentifierAsDecimalDigits() {
+        assertThat(SnowflakeReferenceGenerator.render(0L)).isEqualTo("PO-0");
+        assertThat(SnowflakeReferenceGenerator.render(1234567890123456L)).isEqualTo("PO-1234567890123456");
+        assertThat(SnowflakeReferenceGenerator.render(Long.MAX_VALUE)).isEqualTo("PO-" + Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should read the generation time back from a reference")
+    void shouldReadTimestampFromReference() {
+        // Arrange
+        long fixedTime = SnowflakeReferenceGenerator.EPOCH + 123_456_789L;
+        SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator(1023, () -> fixedTime);
+
+        // Act & Assert
+        assertThat(SnowflakeReferenceGenerator.timestampOf(generator.nextReference())).isEqualTo(fixedTime);
+        assertThat(SnowflakeReferenceGenerator.timestampOf("PO-0")).isEqualTo(SnowflakeReferenceGenerator.EPOCH);
+        assertThat(SnowflakeReferenceGenerator.timestampOf("PO-ABC")).isEqualTo(-1);
+        assertThat(SnowflakeReferenceGenerator.timestampOf("PO-")).isEqualTo(-1);
+        assertThat(SnowflakeReferenceGenerator.timestampOf("PO-99999999999999999999")).isEqualTo(-1);
+        assertThat(SnowflakeReferenceGenerator.timestampOf(null)).isEqualTo(-1);
+    }
+}